@@ -0,0 +1,263 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.processor;
+
+import com.sabre.oss.yare.core.accessor.CollectionFactAccessor;
+import com.sabre.oss.yare.core.accessor.FactAccessor;
+import com.sabre.oss.yare.core.accessor.FactAccessorProvider;
+
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Generates source of {@link FactAccessorProvider} of one fact type. Each path is accessed by a static method
+ * of the provider, mirroring code generated by the engine at runtime: unresolvable path gives {@code null},
+ * {@code null} elements of traversed collections are skipped.
+ */
+final class AccessorSourceGenerator {
+    private static final String INDENT = "    ";
+
+    private final Types types;
+
+    AccessorSourceGenerator(Types types) {
+        this.types = types;
+    }
+
+    /**
+     * Returns source of the provider class.
+     *
+     * @param packageName package of the provider
+     * @param className   simple name of the provider
+     * @param factType    fact type name, as used in sources
+     * @param paths       property paths of the fact type
+     * @return Java source
+     */
+    String generate(String packageName, String className, String factType, List<List<Property>> paths) {
+        List<String> accessors = new ArrayList<>();
+        StringBuilder methods = new StringBuilder();
+        Map<String, Integer> keys = new LinkedHashMap<>();
+        List<Integer> simple = new ArrayList<>();
+        List<Integer> traversing = new ArrayList<>();
+        for (List<Property> path : paths) {
+            String key = toKey(path);
+            Property last = path.get(path.size() - 1);
+            if (isChaining(path)) {
+                keys.put(key, addTraversing(accessors, traversing, methods, factType, path, false));
+                if (last.isCollection()) {
+                    keys.put(key + "[*]", addTraversing(accessors, traversing, methods, factType, path, true));
+                }
+            } else {
+                int id = accessors.size();
+                accessors.add(String.format("new Simple(%d, %s.class)", id, types.erasure(last.getType())));
+                simple.add(id);
+                appendGetMethod(methods, id, factType, path);
+                keys.put(key, id);
+                if (last.isCollection()) {
+                    keys.put(key + "[*]", id);
+                }
+            }
+        }
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+                .append(" * Accessors of {@link ").append(factType).append("} generated by {@code ")
+                .append(FactAccessorProcessor.class.getName()).append("}.\n")
+                .append(" */\n")
+                .append("public final class ").append(className).append(" implements ")
+                .append(FactAccessorProvider.class.getCanonicalName()).append(" {\n")
+                .append(line(1, "private static final " + FactAccessor.class.getCanonicalName() + "[] ACCESSORS = {"))
+                .append(accessors.stream().map(accessor -> line(2, accessor + ",")).collect(Collectors.joining()))
+                .append(line(1, "};"))
+                .append('\n')
+                .append(line(1, "@Override"))
+                .append(line(1, "public Class<?> getFactType() {"))
+                .append(line(2, "return " + factType + ".class;"))
+                .append(line(1, "}"))
+                .append('\n')
+                .append(line(1, "@Override"))
+                .append(line(1, "public " + FactAccessor.class.getCanonicalName() + " getAccessor(String path) {"))
+                .append(line(2, "switch (path) {"));
+        for (Map.Entry<String, Integer> entry : keys.entrySet()) {
+            source.append(line(3, String.format("case \"%s\":", entry.getKey())))
+                    .append(line(4, String.format("return ACCESSORS[%d];", entry.getValue())));
+        }
+        source.append(line(3, "default:"))
+                .append(line(4, "return null;"))
+                .append(line(2, "}"))
+                .append(line(1, "}"))
+                .append(methods)
+                .append('\n')
+                .append(dispatchingClass("Simple", FactAccessor.class.getCanonicalName(), "Class<?> type", "super(type);",
+                        "public Object get(Object fact)", "get%d(fact)", simple))
+                .append('\n')
+                .append(dispatchingClass("Traversing", CollectionFactAccessor.class.getCanonicalName(), "", "",
+                        "protected Boolean traverse(Object fact, java.util.function.Predicate<Object> visitor)", "traverse%d(fact, visitor)", traversing))
+                .append("}\n");
+        return source.toString();
+    }
+
+    private int addTraversing(List<String> accessors, List<Integer> traversing, StringBuilder methods,
+                              String factType, List<Property> path, boolean flatten) {
+        int id = accessors.size();
+        accessors.add(String.format("new Traversing(%d)", id));
+        traversing.add(id);
+        appendTraverseMethod(methods, id, factType, path, flatten);
+        return id;
+    }
+
+    private static String toKey(List<Property> path) {
+        StringBuilder key = new StringBuilder();
+        for (Property property : path) {
+            if (key.length() > 0) {
+                key.append('.');
+            }
+            key.append(property.getName());
+        }
+        return key.toString();
+    }
+
+    private static boolean isChaining(List<Property> path) {
+        for (int i = 0; i < path.size() - 1; i++) {
+            if (path.get(i).isCollection()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void appendGetMethod(StringBuilder methods, int id, String factType, List<Property> path) {
+        methods.append('\n')
+                .append(line(1, String.format("private static Object get%d(Object fact) {", id)))
+                .append(line(2, String.format("%s v0 = (%s) fact;", factType, factType)));
+        for (int i = 0; i < path.size() - 1; i++) {
+            String type = types.erasure(path.get(i).getType()).toString();
+            methods.append(line(2, String.format("%s v%d = v%d.%s;", type, i + 1, i, path.get(i).getAccess())))
+                    .append(line(2, String.format("if (v%d == null) {", i + 1)))
+                    .append(line(3, "return null;"))
+                    .append(line(2, "}"));
+        }
+        methods.append(line(2, String.format("return v%d.%s;", path.size() - 1, path.get(path.size() - 1).getAccess())))
+                .append(line(1, "}"));
+    }
+
+    private void appendTraverseMethod(StringBuilder methods, int id, String factType, List<Property> path, boolean flatten) {
+        methods.append('\n')
+                .append(line(1, String.format("private static Boolean traverse%d(Object fact, java.util.function.Predicate<Object> visitor) {", id)))
+                .append(line(2, String.format("%s v0 = (%s) fact;", factType, factType)));
+        appendTraversal(methods, path, 0, 2, false, flatten);
+        methods.append(line(2, "return Boolean.TRUE;"))
+                .append(line(1, "}"));
+    }
+
+    private void appendTraversal(StringBuilder methods, List<Property> path, int index, int depth, boolean inLoop, boolean flatten) {
+        Property property = path.get(index);
+        String owner = "v" + index;
+        String next = "v" + (index + 1);
+        String unresolved = inLoop ? "continue;" : "return null;";
+        if (index == path.size() - 1) {
+            if (flatten) {
+                methods.append(line(depth, String.format("java.util.Collection c%d = %s.%s;", index + 1, owner, property.getAccess())))
+                        .append(line(depth, String.format("if (c%d == null) {", index + 1)))
+                        .append(line(depth + 1, unresolved))
+                        .append(line(depth, "}"))
+                        .append(line(depth, String.format("for (Object e : c%d) {", index + 1)))
+                        .append(line(depth + 1, "if (!visitor.test(e)) {"))
+                        .append(line(depth + 2, "return Boolean.FALSE;"))
+                        .append(line(depth + 1, "}"))
+                        .append(line(depth, "}"));
+            } else {
+                methods.append(line(depth, String.format("if (!visitor.test(%s.%s)) {", owner, property.getAccess())))
+                        .append(line(depth + 1, "return Boolean.FALSE;"))
+                        .append(line(depth, "}"));
+            }
+            return;
+        }
+        if (property.isCollection()) {
+            TypeMirror elementType = types.erasure(property.getElementType());
+            methods.append(line(depth, String.format("java.util.Collection c%d = %s.%s;", index + 1, owner, property.getAccess())))
+                    .append(line(depth, String.format("if (c%d == null) {", index + 1)))
+                    .append(line(depth + 1, unresolved))
+                    .append(line(depth, "}"))
+                    .append(line(depth, String.format("for (Object e%d : c%d) {", index + 1, index + 1)))
+                    .append(line(depth + 1, String.format("if (e%d == null) {", index + 1)))
+                    .append(line(depth + 2, "continue;"))
+                    .append(line(depth + 1, "}"))
+                    .append(line(depth + 1, String.format("%s %s = (%s) e%d;", elementType, next, elementType, index + 1)));
+            appendTraversal(methods, path, index + 1, depth + 1, true, flatten);
+            methods.append(line(depth, "}"));
+        } else {
+            String type = types.erasure(property.getType()).toString();
+            methods.append(line(depth, String.format("%s %s = %s.%s;", type, next, owner, property.getAccess())))
+                    .append(line(depth, String.format("if (%s == null) {", next)))
+                    .append(line(depth + 1, unresolved))
+                    .append(line(depth, "}"));
+            appendTraversal(methods, path, index + 1, depth, inLoop, flatten);
+        }
+    }
+
+    private static String dispatchingClass(String name, String superclass, String parameters, String superCall,
+                                           String method, String call, List<Integer> ids) {
+        StringBuilder source = new StringBuilder()
+                .append(line(1, String.format("private static final class %s extends %s {", name, superclass)))
+                .append(line(2, "private final int id;"))
+                .append('\n')
+                .append(line(2, String.format("private %s(int id%s) {", name, parameters.isEmpty() ? "" : ", " + parameters)));
+        if (!superCall.isEmpty()) {
+            source.append(line(3, superCall));
+        }
+        source.append(line(3, "this.id = id;"))
+                .append(line(2, "}"))
+                .append('\n')
+                .append(line(2, "@Override"))
+                .append(line(2, method + " {"))
+                .append(line(3, "switch (id) {"));
+        for (int id : ids) {
+            source.append(line(4, String.format("case %d:", id)))
+                    .append(line(5, "return " + String.format(call, id) + ";"));
+        }
+        return source.append(line(4, "default:"))
+                .append(line(5, "throw new IllegalStateException(\"Unknown accessor \" + id);"))
+                .append(line(3, "}"))
+                .append(line(2, "}"))
+                .append(line(1, "}"))
+                .toString();
+    }
+
+    private static String line(int depth, String code) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            line.append(INDENT);
+        }
+        return line.append(code).append('\n').toString();
+    }
+}
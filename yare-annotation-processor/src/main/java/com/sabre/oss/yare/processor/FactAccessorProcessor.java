@@ -0,0 +1,147 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.processor;
+
+import com.sabre.oss.yare.core.accessor.FactAccessorProvider;
+import com.sabre.oss.yare.core.accessor.FactType;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Generates {@link FactAccessorProvider}s of types annotated with {@link FactType} and registers them
+ * in {@code META-INF/services}, so the engine uses them instead of accessors generated at runtime.
+ */
+@SupportedAnnotationTypes("com.sabre.oss.yare.core.accessor.FactType")
+public class FactAccessorProcessor extends AbstractProcessor {
+    static final String SERVICE_FILE = "META-INF/services/" + FactAccessorProvider.class.getName();
+    private static final String PROVIDER_SUFFIX = "FactAccessors";
+    private static final int MAX_PATHS = 1024;
+
+    private final Set<String> providers = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (!providers.isEmpty()) {
+                writeServiceFile();
+            }
+            return false;
+        }
+        PropertyPathCollector collector = new PropertyPathCollector(processingEnv.getTypeUtils(), processingEnv.getElementUtils(), MAX_PATHS);
+        for (Element element : roundEnv.getElementsAnnotatedWith(FactType.class)) {
+            if (element.getKind() != ElementKind.CLASS && element.getKind() != ElementKind.INTERFACE) {
+                error(element, "@FactType can be used only with classes and interfaces");
+                continue;
+            }
+            TypeElement factType = (TypeElement) element;
+            PackageElement factPackage = processingEnv.getElementUtils().getPackageOf(factType);
+            if (!collector.isAccessible(factType, factPackage)) {
+                error(element, "@FactType can not be used with private types");
+                continue;
+            }
+            generate(factType, factPackage, collector);
+        }
+        return true;
+    }
+
+    private void generate(TypeElement factType, PackageElement factPackage, PropertyPathCollector collector) {
+        List<List<Property>> paths = collector.collect(factType, factType.getAnnotation(FactType.class).maxDepth());
+        if (paths.size() >= MAX_PATHS) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    String.format("Only %d property paths are generated, others are resolved at runtime", MAX_PATHS), factType);
+        }
+        String packageName = factPackage.isUnnamed() ? "" : factPackage.getQualifiedName().toString();
+        String className = getProviderName(factType, packageName);
+        String qualifiedName = packageName.isEmpty() ? className : packageName + '.' + className;
+        String source = new AccessorSourceGenerator(processingEnv.getTypeUtils())
+                .generate(packageName, className, factType.getQualifiedName().toString(), paths);
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, factType);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+            providers.add(qualifiedName);
+        } catch (IOException e) {
+            error(factType, "Unable to generate accessors: " + e.getMessage());
+        }
+    }
+
+    private static String getProviderName(TypeElement factType, String packageName) {
+        String qualifiedName = factType.getQualifiedName().toString();
+        String nestedName = packageName.isEmpty() ? qualifiedName : qualifiedName.substring(packageName.length() + 1);
+        return nestedName.replace('.', '_') + PROVIDER_SUFFIX;
+    }
+
+    private void writeServiceFile() {
+        Set<String> registered = new TreeSet<>(providers);
+        try {
+            FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+                reader.lines().map(String::trim).filter(line -> !line.isEmpty() && !line.startsWith("#")).forEach(registered::add);
+            }
+        } catch (IOException e) {
+            // no providers registered by previous compilation
+        }
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = file.openWriter()) {
+                for (String provider : registered) {
+                    writer.write(provider);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to register accessors: " + e.getMessage());
+        }
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.processor;
+
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * Property of a fact path, resolved at build time.
+ */
+final class Property {
+    private final String name;
+    private final String access;
+    private final TypeMirror type;
+    private final TypeMirror elementType;
+
+    Property(String name, String access, TypeMirror type, TypeMirror elementType) {
+        this.name = name;
+        this.access = access;
+        this.type = type;
+        this.elementType = elementType;
+    }
+
+    /**
+     * Returns name of the property used in paths.
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Returns Java expression accessing the property of its owner, e.g. {@code getName()}.
+     */
+    String getAccess() {
+        return access;
+    }
+
+    TypeMirror getType() {
+        return type;
+    }
+
+    /**
+     * Returns type of elements when the property is a collection, {@code null} otherwise.
+     */
+    TypeMirror getElementType() {
+        return elementType;
+    }
+
+    boolean isCollection() {
+        return elementType != null;
+    }
+}
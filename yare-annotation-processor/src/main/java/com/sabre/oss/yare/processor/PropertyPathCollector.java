@@ -0,0 +1,258 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.processor;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Collects property paths of a fact type, resolving properties the same way as the engine does at runtime:
+ * public fields first, then {@code getX()} getters and {@code isX()} getters of declared boolean fields.
+ * <p>
+ * Paths are followed through collections to their elements, but not through maps, JDK types and enums,
+ * nor back to a type already visited by the path.
+ */
+final class PropertyPathCollector {
+    private final Types types;
+    private final Elements elements;
+    private final TypeMirror collectionType;
+    private final TypeMirror mapType;
+    private final int maxPaths;
+
+    PropertyPathCollector(Types types, Elements elements, int maxPaths) {
+        this.types = types;
+        this.elements = elements;
+        this.collectionType = types.erasure(elements.getTypeElement(Collection.class.getName()).asType());
+        this.mapType = types.erasure(elements.getTypeElement(Map.class.getName()).asType());
+        this.maxPaths = maxPaths;
+    }
+
+    /**
+     * Returns property paths of given fact type.
+     *
+     * @param factType fact type
+     * @param maxDepth maximal number of properties of a path
+     * @return paths, each given as a list of properties
+     */
+    List<List<Property>> collect(TypeElement factType, int maxDepth) {
+        List<List<Property>> paths = new ArrayList<>();
+        Set<String> visiting = new HashSet<>();
+        visiting.add(factType.getQualifiedName().toString());
+        collect((DeclaredType) factType.asType(), new ArrayList<>(), visiting, maxDepth, getPackage(factType), paths);
+        return paths;
+    }
+
+    /**
+     * Checks whether the type can be named in sources of given package.
+     */
+    boolean isAccessible(TypeMirror type, PackageElement fromPackage) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case CHAR:
+            case FLOAT:
+            case DOUBLE:
+                return true;
+            case ARRAY:
+                return isAccessible(((ArrayType) type).getComponentType(), fromPackage);
+            case DECLARED:
+                return isAccessible((TypeElement) types.asElement(type), fromPackage);
+            default:
+                return false;
+        }
+    }
+
+    boolean isAccessible(TypeElement typeElement, PackageElement fromPackage) {
+        for (Element element = typeElement; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            Set<Modifier> modifiers = element.getModifiers();
+            boolean accessible = modifiers.contains(Modifier.PUBLIC) ||
+                    !modifiers.contains(Modifier.PRIVATE) && getPackage(element).equals(fromPackage);
+            if (!accessible) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void collect(DeclaredType owner, List<Property> prefix, Set<String> visiting, int maxDepth,
+                         PackageElement fromPackage, List<List<Property>> paths) {
+        for (Property property : getProperties(owner, fromPackage)) {
+            if (paths.size() >= maxPaths) {
+                return;
+            }
+            List<Property> path = new ArrayList<>(prefix);
+            path.add(property);
+            paths.add(path);
+            TypeMirror next = property.isCollection() ? property.getElementType() : property.getType();
+            if (path.size() < maxDepth && isNavigable(next, fromPackage)) {
+                String nextName = ((TypeElement) types.asElement(next)).getQualifiedName().toString();
+                if (visiting.add(nextName)) {
+                    collect((DeclaredType) next, path, visiting, maxDepth, fromPackage, paths);
+                    visiting.remove(nextName);
+                }
+            }
+        }
+    }
+
+    private Collection<Property> getProperties(DeclaredType owner, PackageElement fromPackage) {
+        TypeElement ownerElement = (TypeElement) types.asElement(owner);
+        List<? extends Element> members = elements.getAllMembers(ownerElement);
+        Map<String, Property> properties = new LinkedHashMap<>();
+        for (VariableElement field : ElementFilter.fieldsIn(members)) {
+            if (isInstanceMember(field)) {
+                addProperty(properties, field.getSimpleName().toString(), field.getSimpleName().toString(),
+                        types.asMemberOf(owner, field), fromPackage);
+            }
+        }
+        List<ExecutableElement> getters = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(members)) {
+            if (isInstanceMember(method) && method.getParameters().isEmpty() &&
+                    method.getReturnType().getKind() != TypeKind.VOID &&
+                    !Object.class.getName().equals(((TypeElement) method.getEnclosingElement()).getQualifiedName().toString())) {
+                getters.add(method);
+            }
+        }
+        for (ExecutableElement getter : getters) {
+            String name = getter.getSimpleName().toString();
+            if (name.length() > 3 && name.startsWith("get")) {
+                addProperty(properties, decapitalize(name.substring(3)), name + "()", getReturnType(owner, getter), fromPackage);
+            }
+        }
+        for (ExecutableElement getter : getters) {
+            String name = getter.getSimpleName().toString();
+            if (name.length() > 2 && name.startsWith("is")) {
+                for (VariableElement field : ElementFilter.fieldsIn(ownerElement.getEnclosedElements())) {
+                    String fieldName = field.getSimpleName().toString();
+                    if (isBoolean(field.asType()) && name.equals("is" + capitalize(fieldName))) {
+                        addProperty(properties, fieldName, name + "()", getReturnType(owner, getter), fromPackage);
+                    }
+                }
+            }
+        }
+        return properties.values();
+    }
+
+    private void addProperty(Map<String, Property> properties, String name, String access, TypeMirror type, PackageElement fromPackage) {
+        if (properties.containsKey(name) || type.getKind() == TypeKind.TYPEVAR || !isAccessible(types.erasure(type), fromPackage)) {
+            return;
+        }
+        TypeMirror elementType = isCollection(type) ? getElementType(type) : null;
+        properties.put(name, new Property(name, access, type, elementType));
+    }
+
+    private TypeMirror getReturnType(DeclaredType owner, ExecutableElement method) {
+        return ((ExecutableType) types.asMemberOf(owner, method)).getReturnType();
+    }
+
+    private boolean isNavigable(TypeMirror type, PackageElement fromPackage) {
+        if (type == null || type.getKind() != TypeKind.DECLARED || !isAccessible(type, fromPackage) ||
+                isCollection(type) || types.isAssignable(types.erasure(type), mapType)) {
+            return false;
+        }
+        TypeElement element = (TypeElement) types.asElement(type);
+        String name = element.getQualifiedName().toString();
+        return element.getKind() != ElementKind.ENUM && !name.startsWith("java.") && !name.startsWith("javax.");
+    }
+
+    private boolean isCollection(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED && types.isAssignable(types.erasure(type), collectionType);
+    }
+
+    /**
+     * Returns type of collection elements, {@code java.lang.Object} when unknown.
+     */
+    private TypeMirror getElementType(TypeMirror type) {
+        TypeMirror collection = findCollectionSupertype(type);
+        TypeMirror element = collection != null && !((DeclaredType) collection).getTypeArguments().isEmpty()
+                ? ((DeclaredType) collection).getTypeArguments().get(0)
+                : null;
+        if (element instanceof WildcardType) {
+            element = ((WildcardType) element).getExtendsBound();
+        }
+        return element != null && element.getKind() == TypeKind.DECLARED
+                ? element
+                : elements.getTypeElement(Object.class.getName()).asType();
+    }
+
+    private TypeMirror findCollectionSupertype(TypeMirror type) {
+        if (types.isSameType(types.erasure(type), collectionType)) {
+            return type;
+        }
+        for (TypeMirror supertype : types.directSupertypes(type)) {
+            if (isCollection(supertype)) {
+                TypeMirror found = findCollectionSupertype(supertype);
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean isBoolean(TypeMirror type) {
+        return type.getKind() == TypeKind.BOOLEAN ||
+                type.getKind() == TypeKind.DECLARED && Boolean.class.getName().equals(types.erasure(type).toString());
+    }
+
+    private static boolean isInstanceMember(Element element) {
+        return element.getModifiers().contains(Modifier.PUBLIC) && !element.getModifiers().contains(Modifier.STATIC);
+    }
+
+    private PackageElement getPackage(Element element) {
+        return elements.getPackageOf(element);
+    }
+
+    private static String capitalize(String name) {
+        return name.isEmpty() ? name : Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String decapitalize(String name) {
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+}
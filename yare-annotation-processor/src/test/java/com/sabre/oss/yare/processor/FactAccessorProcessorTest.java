@@ -0,0 +1,253 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.processor;
+
+import com.sabre.oss.yare.core.accessor.CollectionFactAccessor;
+import com.sabre.oss.yare.core.accessor.FactAccessor;
+import com.sabre.oss.yare.core.accessor.FactAccessorProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FactAccessorProcessorTest {
+    private static final String BOOKING = "" +
+            "package test;\n" +
+            "@com.sabre.oss.yare.core.accessor.FactType\n" +
+            "public class Booking {\n" +
+            "    public String id;\n" +
+            "    private final java.util.List<Segment> segments;\n" +
+            "    private final Customer customer;\n" +
+            "    private final boolean vip;\n" +
+            "    public Booking(String id, java.util.List<Segment> segments, Customer customer, boolean vip) {\n" +
+            "        this.id = id; this.segments = segments; this.customer = customer; this.vip = vip;\n" +
+            "    }\n" +
+            "    public java.util.List<Segment> getSegments() { return segments; }\n" +
+            "    public Customer getCustomer() { return customer; }\n" +
+            "    public boolean isVip() { return vip; }\n" +
+            "}\n";
+    private static final String SEGMENT = "" +
+            "package test;\n" +
+            "public class Segment {\n" +
+            "    public static int checked;\n" +
+            "    private final String carrier;\n" +
+            "    public java.util.Set<String> codes;\n" +
+            "    public Segment(String carrier, java.util.Set<String> codes) { this.carrier = carrier; this.codes = codes; }\n" +
+            "    public String getCarrier() { checked++; return carrier; }\n" +
+            "}\n";
+    private static final String CUSTOMER = "" +
+            "package test;\n" +
+            "public class Customer {\n" +
+            "    public String name;\n" +
+            "    public Booking booking;\n" +
+            "    public int age;\n" +
+            "}\n";
+
+    private Path output;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        output = Files.createTempDirectory("accessors");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(output)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    void shouldGenerateAccessorsOfReachablePaths() throws Exception {
+        // given
+        compile(BOOKING, SEGMENT, CUSTOMER);
+
+        // when
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            FactAccessorProvider provider = loadProvider(classLoader);
+            Object customer = newCustomer(classLoader, "John", 42);
+            Object booking = newBooking(classLoader, "B1", Arrays.asList(
+                    newSegment(classLoader, "AA", "X", "Y"), null, newSegment(classLoader, null, "Z")), customer, true);
+
+            // then
+            assertThat(provider.getFactType().getName()).isEqualTo("test.Booking");
+            assertThat(get(provider, "id", booking)).isEqualTo("B1");
+            assertThat(get(provider, "vip", booking)).isEqualTo(true);
+            assertThat(get(provider, "customer.name", booking)).isEqualTo("John");
+            assertThat(get(provider, "customer.age", booking)).isEqualTo(42);
+            assertThat(provider.getAccessor("customer.age").getType()).isEqualTo(int.class);
+            assertThat(get(provider, "segments.carrier", booking)).isEqualTo(Arrays.asList("AA", null));
+            assertThat(provider.getAccessor("segments.carrier").getType()).isEqualTo(List.class);
+            assertThat((List<?>) get(provider, "segments.codes[*]", booking)).containsExactlyInAnyOrder("X", "Y", "Z");
+            assertThat((List<?>) get(provider, "segments.codes", booking)).hasSize(2);
+            assertThat(provider.getAccessor("segments[*]")).isSameAs(provider.getAccessor("segments"));
+            assertThat(provider.getAccessor("customer.booking")).isNotNull();
+            assertThat(provider.getAccessor("customer.booking.id")).isNull();
+            assertThat(provider.getAccessor("class")).isNull();
+            assertThat(provider.getAccessor("unknown")).isNull();
+        }
+    }
+
+    @Test
+    void shouldReturnNullWhenPathCanNotBeResolved() throws Exception {
+        // given
+        compile(BOOKING, SEGMENT, CUSTOMER);
+
+        // when
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            FactAccessorProvider provider = loadProvider(classLoader);
+            Object booking = newBooking(classLoader, "B1", null, null, false);
+
+            // then
+            assertThat(get(provider, "customer.name", booking)).isNull();
+            assertThat(get(provider, "segments.carrier", booking)).isNull();
+            assertThat(((CollectionFactAccessor) provider.getAccessor("segments.carrier")).anyMatch(booking, "AA"::equals)).isNull();
+        }
+    }
+
+    @Test
+    void shouldStopTraversalWhenQuantifierIsDecided() throws Exception {
+        // given
+        compile(BOOKING, SEGMENT, CUSTOMER);
+
+        // when
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            FactAccessorProvider provider = loadProvider(classLoader);
+            Object booking = newBooking(classLoader, "B1", Arrays.asList(
+                    newSegment(classLoader, "AA"), newSegment(classLoader, "XX"), newSegment(classLoader, "BB")), null, false);
+            CollectionFactAccessor accessor = (CollectionFactAccessor) provider.getAccessor("segments.carrier");
+
+            // then
+            assertThat(accessor.anyMatch(booking, "XX"::equals)).isTrue();
+            assertThat(classLoader.loadClass("test.Segment").getField("checked").getInt(null)).isEqualTo(2);
+            assertThat(accessor.allMatch(booking, "AA"::equals)).isFalse();
+            assertThat(classLoader.loadClass("test.Segment").getField("checked").getInt(null)).isEqualTo(4);
+        }
+    }
+
+    @Test
+    void shouldRejectPrivateFactTypes() throws Exception {
+        // given
+        String source = "" +
+                "package test;\n" +
+                "public class Outer {\n" +
+                "    @com.sabre.oss.yare.core.accessor.FactType\n" +
+                "    private static class Hidden { public String name; }\n" +
+                "}\n";
+
+        // when
+        List<Diagnostic<? extends JavaFileObject>> errors = compileWithErrors(source);
+
+        // then
+        assertThat(errors).extracting(error -> error.getMessage(null)).containsExactly("@FactType can not be used with private types");
+    }
+
+    private void compile(String... sources) throws IOException {
+        assertThat(compileWithErrors(sources)).isEmpty();
+    }
+
+    private List<Diagnostic<? extends JavaFileObject>> compileWithErrors(String... sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<JavaFileObject> files = new ArrayList<>();
+        for (String source : sources) {
+            String className = source.substring(source.indexOf("class ") + 6, source.indexOf(" {"));
+            files.add(new SourceFile("test/" + className + ".java", source));
+        }
+        List<String> options = Arrays.asList("-d", output.toString(), "-classpath", System.getProperty("java.class.path"));
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, options, null, files);
+        task.setProcessors(Collections.singletonList(new FactAccessorProcessor()));
+        task.call();
+        return diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .collect(Collectors.toList());
+    }
+
+    private static FactAccessorProvider loadProvider(ClassLoader classLoader) {
+        return ServiceLoader.load(FactAccessorProvider.class, classLoader).iterator().next();
+    }
+
+    private static Object get(FactAccessorProvider provider, String path, Object fact) {
+        FactAccessor accessor = provider.getAccessor(path);
+        assertThat(accessor).describedAs(path).isNotNull();
+        return accessor.get(fact);
+    }
+
+    private static Object newBooking(ClassLoader classLoader, String id, List<Object> segments, Object customer, boolean vip) throws Exception {
+        Class<?> customerType = classLoader.loadClass("test.Customer");
+        return classLoader.loadClass("test.Booking").getConstructor(String.class, List.class, customerType, boolean.class)
+                .newInstance(id, segments, customer, vip);
+    }
+
+    private static Object newSegment(ClassLoader classLoader, String carrier, String... codes) throws Exception {
+        return classLoader.loadClass("test.Segment").getConstructor(String.class, java.util.Set.class)
+                .newInstance(carrier, new java.util.LinkedHashSet<>(Arrays.asList(codes)));
+    }
+
+    private static Object newCustomer(ClassLoader classLoader, String name, int age) throws Exception {
+        Object customer = classLoader.loadClass("test.Customer").getConstructor().newInstance();
+        customer.getClass().getField("name").set(customer, name);
+        customer.getClass().getField("age").setInt(customer, age);
+        return customer;
+    }
+
+    private static final class SourceFile extends SimpleJavaFileObject {
+        private final String source;
+
+        private SourceFile(String name, String source) {
+            super(URI.create("string:///" + name), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}
@@ -26,6 +26,9 @@ package com.sabre.oss.yare.core;
 
 import com.sabre.oss.yare.core.internal.BaseExecutionContext;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -85,10 +88,20 @@ public interface ExecutionContext {
     <T> T remove(Key<T> key);
 
     class Key<T> {
+        /**
+         * Index of keys created after {@value #MAX_INDEXED_KEYS} distinct key names were indexed.
+         */
+        public static final int UNINDEXED = -1;
+
+        private static final int MAX_INDEXED_KEYS = 256;
+        private static final Map<String, Integer> INDICES = new ConcurrentHashMap<>();
+
         private final String key;
+        private final int index;
 
         public Key(String key) {
             this.key = requireNonNull(key, "key must not be null");
+            this.index = indexOf(key);
         }
 
         public static <T> Key<T> create(String key) {
@@ -99,6 +112,37 @@ public interface ExecutionContext {
             return create(requireNonNull(clazz, "clazz must not be null").getCanonicalName() + "." + suffix);
         }
 
+        /**
+         * Returns index of this key. Keys of equal names share the index and indices are consecutive
+         * numbers starting from zero, so context implementations can keep values in arrays.
+         * <p>
+         * Only first {@value #MAX_INDEXED_KEYS} distinct key names are indexed, keys of other names
+         * return {@link #UNINDEXED} and have to be looked up by name.
+         *
+         * @return index of the key or {@link #UNINDEXED}
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        private static int indexOf(String key) {
+            Integer index = INDICES.get(key);
+            if (index != null) {
+                return index;
+            }
+            synchronized (INDICES) {
+                index = INDICES.get(key);
+                if (index == null) {
+                    if (INDICES.size() >= MAX_INDEXED_KEYS) {
+                        return UNINDEXED;
+                    }
+                    index = INDICES.size();
+                    INDICES.put(key, index);
+                }
+                return index;
+            }
+        }
+
         public String toString() {
             return key;
         }
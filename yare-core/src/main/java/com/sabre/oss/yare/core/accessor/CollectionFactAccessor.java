@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.core.accessor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Accessor of a property path traversing collections, referring to a list of values.
+ * <p>
+ * Values can be tested one by one while traversing the path, without collecting them.
+ */
+public abstract class CollectionFactAccessor extends FactAccessor {
+
+    protected CollectionFactAccessor() {
+        super(List.class);
+    }
+
+    /**
+     * Passes all values referred by the path of given fact to {@code visitor}, until it returns {@code false}.
+     *
+     * @param fact    fact
+     * @param visitor visitor of values
+     * @return {@code null} when the path can not be resolved, {@code false} when traversal has been stopped
+     * by visitor, {@code true} otherwise
+     */
+    protected abstract Boolean traverse(Object fact, Predicate<Object> visitor);
+
+    @Override
+    public final Object get(Object fact) {
+        List<Object> result = new ArrayList<>();
+        return traverse(fact, result::add) != null ? result : null;
+    }
+
+    /**
+     * Checks whether any of values referred by the path of given fact satisfies the condition.
+     *
+     * @param fact      fact
+     * @param condition condition
+     * @return {@code null} when the path can not be resolved, otherwise whether any value satisfies the condition
+     */
+    public final Boolean anyMatch(Object fact, Predicate<Object> condition) {
+        Boolean exhausted = traverse(fact, value -> !condition.test(value));
+        return exhausted != null ? !exhausted : null;
+    }
+
+    /**
+     * Checks whether all values referred by the path of given fact satisfy the condition.
+     *
+     * @param fact      fact
+     * @param condition condition
+     * @return {@code null} when the path can not be resolved, otherwise whether all values satisfy the condition
+     */
+    public final Boolean allMatch(Object fact, Predicate<Object> condition) {
+        return traverse(fact, condition);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.core.accessor;
+
+/**
+ * Service providing {@link FactAccessor}s of one fact type, generated at build time for types annotated
+ * with {@link FactType}. Implementations are registered in {@code META-INF/services}.
+ */
+public interface FactAccessorProvider {
+
+    /**
+     * Returns fact type whose paths are accessed.
+     *
+     * @return fact type
+     */
+    Class<?> getFactType();
+
+    /**
+     * Returns accessor of given path, e.g. {@code segments.carrier} or {@code segments[*]}. Intermediate
+     * collections are always traversed, so {@code [*]} operator is given only with the last property,
+     * where it flattens the referred collections.
+     *
+     * @param path property path
+     * @return accessor or {@code null} when no accessor has been generated for the path
+     */
+    FactAccessor getAccessor(String path);
+}
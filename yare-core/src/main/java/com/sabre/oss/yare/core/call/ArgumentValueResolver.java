@@ -35,4 +35,14 @@ public interface ArgumentValueResolver {
      * @return resolved argument value
      */
     Object resolve(VariableResolver variableResolver, Argument argument);
+
+    /**
+     * Prepare resolution of {@link Argument} once, so resolving its value later does as little work as possible.
+     *
+     * @param argument argument definition
+     * @return compiled argument
+     */
+    default CompiledArgument compile(Argument argument) {
+        return variableResolver -> resolve(variableResolver, argument);
+    }
 }
@@ -0,0 +1,46 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.core.call;
+
+import java.util.List;
+
+/**
+ * {@code BatchCallable} is implemented by invocations able to evaluate many calls at once more cheaply than
+ * one by one, i.e. when each call crosses a costly boundary such as a script engine.
+ * <p>
+ * When such invocation is used as a function with results cached for the time of a session, the engine collects
+ * its calls made for all facts of a single-type session and evaluates them with {@link #callBatch(List)}.
+ * Otherwise the invocation is called one by one, respecting caching configured for the function.
+ */
+public interface BatchCallable {
+
+    /**
+     * Return results of calls described by {@code arguments}.
+     *
+     * @param arguments argument values of consecutive calls
+     * @return results of the calls, in order of {@code arguments}
+     */
+    List<Object> callBatch(List<List<Object>> arguments);
+}
@@ -68,6 +68,9 @@ public class CallConverter {
                     .collect(Collectors.toList());
             return Argument.valuesOf(values.getName(), values.getType(), arguments);
         }
+        if (param instanceof Expression.Operator) {
+            throw new IllegalArgumentException(String.format("Operator %s not supported in invocations (functions)", ((Expression.Operator) param).getCall()));
+        }
         if (param instanceof Expression.Invocation) {
             Expression.Invocation invocation = (Expression.Invocation) param;
             return convert(rule, invocation);
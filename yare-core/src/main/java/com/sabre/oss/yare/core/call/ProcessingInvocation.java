@@ -26,39 +26,70 @@ package com.sabre.oss.yare.core.call;
 
 import com.sabre.oss.yare.core.invocation.Invocation;
 
-import java.util.List;
 import java.util.Objects;
 
 public abstract class ProcessingInvocation<R> implements Invocation<ProcessingContext, R> {
     protected final Argument.Invocation invocation;
-    private final ArgumentValueResolver argumentValueResolver;
+    private final CompiledArgument[] arguments;
     private final Object[] constantArguments;
 
     protected ProcessingInvocation(Argument.Invocation invocation, ArgumentValueResolver argumentValueResolver) {
         this.invocation = Objects.requireNonNull(invocation);
-        this.argumentValueResolver = Objects.requireNonNull(argumentValueResolver);
+        Objects.requireNonNull(argumentValueResolver);
+        this.arguments = invocation.getArguments().stream()
+                .map(argumentValueResolver::compile)
+                .toArray(CompiledArgument[]::new);
         this.constantArguments = invocation.getArguments().stream().allMatch(a -> a instanceof Argument.Value)
                 ? prepareArgumentValues(null)
                 : null;
     }
 
+    /**
+     * Resolve arguments and call {@link #call(ProcessingContext, Object[])}.
+     * <p>
+     * Subclasses calling with fixed number of arguments may override it and resolve arguments one by one
+     * with {@link #resolveArgument(ProcessingContext, int)}, avoiding the intermediate array.
+     *
+     * @param processingContext processing context
+     * @return result of the call
+     */
     @Override
-    public final R proceed(ProcessingContext processingContext) {
+    public R proceed(ProcessingContext processingContext) {
         return call(processingContext, prepareArgumentValues(processingContext));
     }
 
     public abstract R call(ProcessingContext ctx, Object[] args);
 
+    /**
+     * Return number of arguments of the call.
+     *
+     * @return number of arguments
+     */
+    protected final int getArity() {
+        return arguments.length;
+    }
+
+    /**
+     * Resolve value of argument at {@code index}.
+     *
+     * @param processingContext processing context
+     * @param index             index of the argument
+     * @return argument value
+     */
+    protected final Object resolveArgument(ProcessingContext processingContext, int index) {
+        return constantArguments != null
+                ? constantArguments[index]
+                : arguments[index].resolve(processingContext);
+    }
+
     private Object[] prepareArgumentValues(ProcessingContext processingContext) {
         if (constantArguments != null) {
             return constantArguments;
         }
 
-        List<Argument> arguments = invocation.getArguments();
-        Object[] args = new Object[arguments.size()];
-        int index = 0;
-        for (Argument arg : arguments) {
-            args[index++] = argumentValueResolver.resolve(processingContext, arg);
+        Object[] args = new Object[arguments.length];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = arguments[i].resolve(processingContext);
         }
         return args;
     }
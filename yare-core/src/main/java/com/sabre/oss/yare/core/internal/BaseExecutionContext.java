@@ -26,40 +26,94 @@ package com.sabre.oss.yare.core.internal;
 
 import com.sabre.oss.yare.core.ExecutionContext;
 
-import java.util.LinkedHashMap;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * {@code BaseExecutionContext} keeps values in an array indexed by {@link Key#getIndex()}, and values
+ * of {@link Key#UNINDEXED} keys in a map by key name.
+ * <p>
+ * Instances are not thread-safe. They can be reused by other executions after {@link #clear()}.
+ */
 @SuppressWarnings("unchecked")
 public class BaseExecutionContext implements ExecutionContext {
-    private Map<String, Object> context = new LinkedHashMap<>();
+    private static final Object NULL = new Object();
+
+    private Object[] values = new Object[8];
+    private Map<String, Object> unindexedValues;
 
     @Override
     public <T> boolean contains(Key<T> key) {
-        return context.containsKey(key.toString());
+        return lookup(key) != null;
     }
 
     @Override
     public <T> T get(Key<T> key) throws IllegalStateException {
-        if (context.containsKey(key.toString())) {
-            return (T) context.get(key.toString());
+        Object value = lookup(key);
+        if (value != null) {
+            return unmask(value);
         }
         throw new IllegalStateException("No value for key " + key.toString());
     }
 
     @Override
     public <T> T get(Key<T> key, T defaultValue) {
-        return context.containsKey(key.toString())
-                ? (T) context.get(key.toString())
+        Object value = lookup(key);
+        return value != null
+                ? unmask(value)
                 : defaultValue;
     }
 
     @Override
     public <T> T put(Key<T> key, T value) {
-        return (T) context.put(key.toString(), value);
+        int index = key.getIndex();
+        if (index == Key.UNINDEXED) {
+            if (unindexedValues == null) {
+                unindexedValues = new HashMap<>();
+            }
+            return unmask(unindexedValues.put(key.toString(), value != null ? value : NULL));
+        }
+        if (index >= values.length) {
+            values = Arrays.copyOf(values, Math.max(index + 1, values.length * 2));
+        }
+        Object previous = values[index];
+        values[index] = value != null ? value : NULL;
+        return unmask(previous);
     }
 
     @Override
     public <T> T remove(Key<T> key) {
-        return (T) context.remove(key.toString());
+        int index = key.getIndex();
+        if (index == Key.UNINDEXED) {
+            return unindexedValues != null ? unmask(unindexedValues.remove(key.toString())) : null;
+        }
+        Object previous = lookup(key);
+        if (previous != null) {
+            values[index] = null;
+        }
+        return unmask(previous);
+    }
+
+    /**
+     * Removes all values from this context.
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        if (unindexedValues != null) {
+            unindexedValues.clear();
+        }
+    }
+
+    private Object lookup(Key<?> key) {
+        int index = key.getIndex();
+        if (index == Key.UNINDEXED) {
+            return unindexedValues != null ? unindexedValues.get(key.toString()) : null;
+        }
+        return index < values.length ? values[index] : null;
+    }
+
+    private static <T> T unmask(Object value) {
+        return value == NULL ? null : (T) value;
     }
 }
@@ -33,14 +33,30 @@ import java.util.Collection;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * {@link RuleSession} passing facts and result to the invocation in a new {@link ExecutionContext}.
+ * <p>
+ * When created with {@code reuseContext}, the context is cleared after each execution and reused by the next
+ * execution in the same thread. Invocation must not use the context once the execution is finished then, i.e.
+ * must not keep it or pass it to other threads; {@link DefaultRulesEngine} reuses contexts only if neither its
+ * executor nor any of its interceptors could do that.
+ */
 public class DefaultRuleSession implements RuleSession {
+    private static final ThreadLocal<BaseExecutionContext> idleContext = new ThreadLocal<>();
+
     private final String uri;
     private final Invocation<ExecutionContext, ExecutionContext> invocation;
+    private final boolean reuseContext;
     private final AtomicReference<Object> executionSet = new AtomicReference<>();
 
     public DefaultRuleSession(String uri, Invocation<ExecutionContext, ExecutionContext> invocation) {
+        this(uri, invocation, false);
+    }
+
+    public DefaultRuleSession(String uri, Invocation<ExecutionContext, ExecutionContext> invocation, boolean reuseContext) {
         this.uri = Objects.requireNonNull(uri);
         this.invocation = Objects.requireNonNull(invocation);
+        this.reuseContext = reuseContext;
     }
 
     @Override
@@ -51,14 +67,37 @@ public class DefaultRuleSession implements RuleSession {
     @SuppressWarnings("unchecked")
     @Override
     public <T> T execute(T result, Collection<?> facts) {
-        ExecutionContext inputCtx = new BaseExecutionContext();
-        inputCtx.put(DefaultContextKey.RULE_EXECUTION_SET, executionSet);
-        inputCtx.put(DefaultContextKey.RULE_EXECUTION_SET_URI, uri);
-        inputCtx.put(DefaultContextKey.RESULT, result);
-        inputCtx.put(DefaultContextKey.FACTS, facts);
+        BaseExecutionContext inputCtx = reuseContext ? acquireContext() : new BaseExecutionContext();
+        try {
+            inputCtx.put(DefaultContextKey.RULE_EXECUTION_SET, executionSet);
+            inputCtx.put(DefaultContextKey.RULE_EXECUTION_SET_URI, uri);
+            inputCtx.put(DefaultContextKey.RESULT, result);
+            inputCtx.put(DefaultContextKey.FACTS, facts);
 
-        ExecutionContext outputCtx = invocation.proceed(inputCtx);
+            ExecutionContext outputCtx = invocation.proceed(inputCtx);
+
+            return (T) outputCtx.get(DefaultContextKey.RESULT);
+        } finally {
+            if (reuseContext) {
+                releaseContext(inputCtx);
+            }
+        }
+    }
+
+    /**
+     * Takes context kept by the thread, or creates one when it's already used, i.e. by nested execution.
+     */
+    private static BaseExecutionContext acquireContext() {
+        BaseExecutionContext context = idleContext.get();
+        if (context == null) {
+            return new BaseExecutionContext();
+        }
+        idleContext.set(null);
+        return context;
+    }
 
-        return (T) outputCtx.get(DefaultContextKey.RESULT);
+    private static void releaseContext(BaseExecutionContext context) {
+        context.clear();
+        idleContext.set(context);
     }
 }
@@ -25,6 +25,8 @@
 package com.sabre.oss.yare.core.internal;
 
 import com.sabre.oss.yare.core.*;
+import com.sabre.oss.yare.core.interceptor.ErrorHandlerSetUpInterceptor;
+import com.sabre.oss.yare.core.interceptor.InputOutputLogger;
 import com.sabre.oss.yare.core.invocation.InterceptedInvocation;
 import com.sabre.oss.yare.core.invocation.Interceptor;
 import com.sabre.oss.yare.core.invocation.Invocation;
@@ -33,17 +35,50 @@ import java.util.List;
 import java.util.Objects;
 
 public class DefaultRulesEngine implements RulesEngine, Wrapper {
+    private static final String DEFAULT_RULES_EXECUTOR_CLASS = "com.sabre.oss.yare.engine.executor.DefaultRulesExecutor";
+
     private final RulesExecutor rulesExecutor;
     private final Invocation<ExecutionContext, ExecutionContext> invocation;
+    private final boolean reuseContext;
 
     public DefaultRulesEngine(RulesExecutor rulesExecutor, List<Interceptor<ExecutionContext, ExecutionContext>> interceptors) {
+        this(rulesExecutor, interceptors, isDefaultRulesExecutor(rulesExecutor));
+    }
+
+    /**
+     * Creates engine reusing execution contexts between executions of the same thread if {@code contextConfined}
+     * is set and all interceptors are known not to use the context after the execution is finished.
+     *
+     * @param rulesExecutor   rules executor
+     * @param interceptors    interceptors wrapping the executor
+     * @param contextConfined whether the executor does not use the context after the execution is finished
+     */
+    public DefaultRulesEngine(RulesExecutor rulesExecutor, List<Interceptor<ExecutionContext, ExecutionContext>> interceptors, boolean contextConfined) {
         this.rulesExecutor = Objects.requireNonNull(rulesExecutor, "rulesExecutor must not be null");
         this.invocation = new InterceptedInvocation<>(interceptors, rulesExecutor);
+        this.reuseContext = contextConfined && interceptors.stream().allMatch(DefaultRulesEngine::isContextConfined);
     }
 
     @Override
     public RuleSession createSession(String uri) {
-        return new DefaultRuleSession(uri, invocation);
+        return new DefaultRuleSession(uri, invocation, reuseContext);
+    }
+
+    /**
+     * Checks whether executor is the one of the engine module, which does not use the context after the execution
+     * is finished. Other executors are unknown, so contexts are not reused for them unless requested explicitly.
+     */
+    private static boolean isDefaultRulesExecutor(RulesExecutor rulesExecutor) {
+        return DEFAULT_RULES_EXECUTOR_CLASS.equals(rulesExecutor.getClass().getName());
+    }
+
+    /**
+     * Checks whether interceptor is known not to use the context after the execution is finished. Contexts
+     * are reused between executions only if all interceptors are such.
+     */
+    private static boolean isContextConfined(Interceptor<ExecutionContext, ExecutionContext> interceptor) {
+        Class<?> type = interceptor.getClass();
+        return type == ErrorHandlerSetUpInterceptor.class || type == InputOutputLogger.class;
     }
 
     @Override
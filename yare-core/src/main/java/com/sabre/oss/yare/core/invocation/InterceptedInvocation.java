@@ -32,47 +32,40 @@ import static java.util.Objects.requireNonNull;
  * {@code InterceptedInvocation} delegates {@link #proceed(Object)} method to the
  * {@code interceptedInvocation} delegate but with possibility of intercepting such a call
  * with interceptors.
+ * <p>
+ * The chain of interceptors is linked once, when created, so calls do not allocate.
  *
  * @param <C> context type
  * @param <R> return type
  */
 public class InterceptedInvocation<C, R> implements Invocation<C, R> {
-    private final ChainHelper<C, R> chainHelper;
-    private final Invocation<C, R> interceptedInvocation;
+    private final Invocation<C, R> pipeline;
 
     public InterceptedInvocation(List<Interceptor<C, R>> interceptors, Invocation<C, R> interceptedInvocation) {
-        this(new ChainHelper<>(interceptors), interceptedInvocation);
-    }
-
-    private InterceptedInvocation(ChainHelper<C, R> chainHelper, Invocation<C, R> interceptedInvocation) {
-        this.chainHelper = requireNonNull(chainHelper, "chainHelper must not be null");
-        this.interceptedInvocation = requireNonNull(interceptedInvocation, "interceptedInvocation must not be null");
+        Invocation<C, R> next = requireNonNull(interceptedInvocation, "interceptedInvocation must not be null");
+        for (int i = interceptors.size() - 1; i >= 0; i--) {
+            next = new Stage<>(interceptors.get(i), next);
+        }
+        this.pipeline = next;
     }
 
     @Override
     public R proceed(C context) {
-        return chainHelper.isEmpty()
-                ? interceptedInvocation.proceed(context)
-                : chainHelper.getTopInterceptor().invoke(new InterceptedInvocation<>(chainHelper.nextChainHelper(), interceptedInvocation), context);
+        return pipeline.proceed(context);
     }
 
-    private static final class ChainHelper<C, R> {
-        private final List<Interceptor<C, R>> interceptors;
-
-        private ChainHelper(List<Interceptor<C, R>> interceptors) {
-            this.interceptors = interceptors;
-        }
-
-        private ChainHelper<C, R> nextChainHelper() {
-            return new ChainHelper<>(interceptors.subList(1, interceptors.size()));
-        }
+    private static final class Stage<C, R> implements Invocation<C, R> {
+        private final Interceptor<C, R> interceptor;
+        private final Invocation<C, R> next;
 
-        private Interceptor<C, R> getTopInterceptor() {
-            return interceptors.get(0);
+        private Stage(Interceptor<C, R> interceptor, Invocation<C, R> next) {
+            this.interceptor = requireNonNull(interceptor, "interceptor must not be null");
+            this.next = next;
         }
 
-        private boolean isEmpty() {
-            return interceptors.isEmpty();
+        @Override
+        public R proceed(C context) {
+            return interceptor.invoke(next, context);
         }
     }
 }
@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.core.management;
+
+/**
+ * {@link BoundedCache} is an {@link EvictableCache} which keeps the total weight of its entries
+ * below configurable limit, evicting entries when the limit is exceeded.
+ */
+public interface BoundedCache extends EvictableCache {
+
+    /**
+     * Return current weight of all entries stored in the cache.
+     *
+     * @return current weight
+     */
+    long getWeight();
+
+    /**
+     * Return maximum weight of entries the cache may hold, {@link Long#MAX_VALUE} if the cache is unbounded.
+     *
+     * @return maximum weight
+     */
+    long getMaximumWeight();
+
+    /**
+     * Change maximum weight of entries the cache may hold. Entries exceeding new limit are evicted immediately.
+     *
+     * @param maximumWeight new maximum weight
+     */
+    void setMaximumWeight(long maximumWeight);
+
+    /**
+     * Return number of entries evicted from the cache because of exceeded weight limit.
+     *
+     * @return number of evicted entries
+     */
+    long getEvictionCount();
+
+    /**
+     * Register listener notified each time an entry is evicted because of exceeded weight limit.
+     *
+     * @param listener eviction listener
+     */
+    void addEvictionListener(EvictionListener listener);
+
+    /**
+     * {@link EvictionListener} is notified about entries evicted from {@link BoundedCache}.
+     */
+    @FunctionalInterface
+    interface EvictionListener {
+
+        /**
+         * Called after the entry identified by {@code key} was evicted.
+         *
+         * @param key    key of evicted entry
+         * @param weight weight of evicted entry
+         */
+        void onEviction(Object key, long weight);
+    }
+}
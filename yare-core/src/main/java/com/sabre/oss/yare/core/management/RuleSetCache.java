@@ -0,0 +1,58 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.core.management;
+
+import java.util.Map;
+
+/**
+ * {@link RuleSetCache} is a {@link BoundedCache} of compiled rule sets keyed by rule execution set URI,
+ * which can be inspected and managed per URI at runtime.
+ */
+public interface RuleSetCache extends BoundedCache {
+
+    /**
+     * Return information about rule sets currently held in the cache.
+     *
+     * @return rule set information per URI
+     */
+    Map<String, RuleSetInfo> getRuleSets();
+
+    /**
+     * Load and compile the rule set identified by {@code uri} again, replacing cached one.
+     *
+     * @param uri rule execution set URI
+     * @return true if operation succeed, false otherwise.
+     */
+    boolean refresh(String uri);
+
+    /**
+     * Load and compile the rule set identified by {@code uri} unless it is already cached,
+     * so that first session using it does not pay for compilation.
+     *
+     * @param uri rule execution set URI
+     * @return true if operation succeed, false otherwise.
+     */
+    boolean preload(String uri);
+}
@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.core.management;
+
+import java.beans.ConstructorProperties;
+import java.util.Objects;
+
+/**
+ * {@code RuleSetInfo} is an immutable description of a compiled rule set held by {@link RuleSetCache}.
+ */
+public final class RuleSetInfo {
+    private final String uri;
+    private final int ruleCount;
+    private final long weight;
+    private final long compileTime;
+    private final long loadTimestamp;
+
+    @ConstructorProperties({"uri", "ruleCount", "weight", "compileTime", "loadTimestamp"})
+    public RuleSetInfo(String uri, int ruleCount, long weight, long compileTime, long loadTimestamp) {
+        this.uri = Objects.requireNonNull(uri);
+        this.ruleCount = ruleCount;
+        this.weight = weight;
+        this.compileTime = compileTime;
+        this.loadTimestamp = loadTimestamp;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public int getRuleCount() {
+        return ruleCount;
+    }
+
+    /**
+     * Return weight of the rule set, see {@link BoundedCache#getWeight()}. The weight is the number of rules
+     * plus the number of their predicate nodes, it is not a memory size in bytes.
+     *
+     * @return weight of the rule set
+     */
+    public long getWeight() {
+        return weight;
+    }
+
+    /**
+     * Return time spent loading and compiling the rule set, in nanoseconds.
+     *
+     * @return compile time
+     */
+    public long getCompileTime() {
+        return compileTime;
+    }
+
+    /**
+     * Return time the rule set was loaded at, in milliseconds since the epoch.
+     *
+     * @return load timestamp
+     */
+    public long getLoadTimestamp() {
+        return loadTimestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "RuleSetInfo{" +
+                "uri='" + uri + '\'' +
+                ", ruleCount=" + ruleCount +
+                ", weight=" + weight +
+                ", compileTime=" + compileTime +
+                ", loadTimestamp=" + loadTimestamp +
+                '}';
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.core.observer;
+
+/**
+ * {@code RulesExecutionObserver} is notified about evaluation of rules and invocations of functions, i.e. to collect
+ * metrics. Methods are called on hot paths of execution, concurrently by many sessions, so implementations must be
+ * thread-safe and cheap.
+ * <p>
+ * All methods do nothing by default. Executors check for {@link #NONE} and skip measurements when it's used.
+ */
+public interface RulesExecutionObserver {
+
+    /**
+     * Observer ignoring all notifications.
+     */
+    RulesExecutionObserver NONE = new RulesExecutionObserver() {
+    };
+
+    /**
+     * Called after predicate of the rule has been evaluated for a tuple of facts.
+     *
+     * @param ruleId        rule identifier
+     * @param matched       whether predicate was satisfied, so the rule fires
+     * @param durationNanos evaluation time in nanoseconds
+     */
+    default void onPredicateEvaluated(String ruleId, boolean matched, long durationNanos) {
+    }
+
+    /**
+     * Called after consequence (actions) of the rule has been executed.
+     *
+     * @param ruleId        rule identifier
+     * @param durationNanos execution time in nanoseconds
+     */
+    default void onConsequenceExecuted(String ruleId, long durationNanos) {
+    }
+
+    /**
+     * Called after function has been invoked, whether its result was computed or served from cache.
+     *
+     * @param functionName  function name
+     * @param cacheHit      whether result was served from cache
+     * @param durationNanos invocation time in nanoseconds, including cache lookup
+     */
+    default void onFunctionInvoked(String functionName, boolean cacheHit, long durationNanos) {
+    }
+}
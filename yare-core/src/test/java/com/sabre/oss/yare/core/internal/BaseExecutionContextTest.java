@@ -0,0 +1,146 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.core.internal;
+
+import com.sabre.oss.yare.core.ExecutionContext;
+import com.sabre.oss.yare.core.ExecutionContext.Key;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BaseExecutionContextTest {
+    private static final Key<String> SHARED_KEY = Key.create(BaseExecutionContextTest.class, "shared");
+    private static final Key<String> OTHER_KEY = Key.create(BaseExecutionContextTest.class, "other");
+
+    @Test
+    void shouldShareIndexOfKeysWithEqualNames() {
+        // given
+        Key<String> key = SHARED_KEY;
+        Key<String> sameKey = Key.create(BaseExecutionContextTest.class, "shared");
+        Key<String> otherKey = OTHER_KEY;
+        ExecutionContext context = new BaseExecutionContext();
+
+        // when
+        context.put(key, "value");
+
+        // then
+        assertThat(sameKey.getIndex()).isEqualTo(key.getIndex());
+        assertThat(otherKey.getIndex()).isNotEqualTo(key.getIndex());
+        assertThat(context.get(sameKey)).isEqualTo("value");
+        assertThat(context.contains(otherKey)).isFalse();
+    }
+
+    @Test
+    void shouldDistinguishNullValueFromMissingValue() {
+        // given
+        Key<String> key = Key.create(BaseExecutionContextTest.class, "null");
+        Key<String> missingKey = Key.create(BaseExecutionContextTest.class, "missing");
+        ExecutionContext context = new BaseExecutionContext();
+
+        // when
+        String previous = context.put(key, null);
+
+        // then
+        assertThat(previous).isNull();
+        assertThat(context.contains(key)).isTrue();
+        assertThat(context.get(key)).isNull();
+        assertThat(context.get(missingKey, "default")).isEqualTo("default");
+        assertThatThrownBy(() -> context.get(missingKey))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("No value for key com.sabre.oss.yare.core.internal.BaseExecutionContextTest.missing");
+    }
+
+    @Test
+    void shouldGrowForKeysOfHighIndices() {
+        // given
+        ExecutionContext context = new BaseExecutionContext();
+        Key<Integer> lastKey = null;
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            lastKey = Key.create(BaseExecutionContextTest.class, "key-" + i);
+            context.put(lastKey, i);
+        }
+
+        // then
+        assertThat(context.get(lastKey)).isEqualTo(99);
+    }
+
+    @Test
+    void shouldKeepValuesOfKeysBeyondIndexedOnes() {
+        // given
+        BaseExecutionContext context = new BaseExecutionContext();
+        List<Key<Integer>> keys = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            keys.add(Key.create(BaseExecutionContextTest.class, "unindexed-" + i));
+        }
+        Key<Integer> lastKey = keys.get(keys.size() - 1);
+
+        // when
+        keys.forEach(key -> context.put(key, keys.indexOf(key)));
+        Integer removed = context.remove(keys.get(keys.size() - 2));
+
+        // then
+        assertThat(lastKey.getIndex()).isEqualTo(Key.UNINDEXED);
+        assertThat(Key.create(BaseExecutionContextTest.class, "unindexed-299").getIndex()).isEqualTo(Key.UNINDEXED);
+        assertThat(context.get(lastKey)).isEqualTo(299);
+        assertThat(context.<Integer>get(Key.create(BaseExecutionContextTest.class, "unindexed-299"))).isEqualTo(299);
+        assertThat(removed).isEqualTo(298);
+        assertThat(context.contains(keys.get(keys.size() - 2))).isFalse();
+        assertThat(context.put(lastKey, null)).isEqualTo(299);
+        assertThat(context.contains(lastKey)).isTrue();
+
+        // and when
+        context.clear();
+
+        // then
+        assertThat(context.contains(lastKey)).isFalse();
+        assertThat(context.get(keys.get(0), -1)).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldRemoveValues() {
+        // given
+        Key<String> key = Key.create(BaseExecutionContextTest.class, "removed");
+        Key<String> clearedKey = Key.create(BaseExecutionContextTest.class, "cleared");
+        BaseExecutionContext context = new BaseExecutionContext();
+        context.put(key, "value");
+        context.put(clearedKey, "value");
+
+        // when
+        String removed = context.remove(key);
+        context.clear();
+
+        // then
+        assertThat(removed).isEqualTo("value");
+        assertThat(context.contains(key)).isFalse();
+        assertThat(context.contains(clearedKey)).isFalse();
+        assertThat(context.<String>remove(key)).isNull();
+    }
+}
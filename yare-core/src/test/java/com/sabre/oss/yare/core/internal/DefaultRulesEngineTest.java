@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.core.internal;
+
+import com.sabre.oss.yare.core.DefaultContextKey;
+import com.sabre.oss.yare.core.ExecutionContext;
+import com.sabre.oss.yare.core.RuleSession;
+import com.sabre.oss.yare.core.interceptor.ErrorHandlerSetUpInterceptor;
+import com.sabre.oss.yare.core.interceptor.InputOutputLogger;
+import com.sabre.oss.yare.core.invocation.Interceptor;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DefaultRulesEngineTest {
+    private final List<ExecutionContext> contexts = new ArrayList<>();
+
+    @Test
+    void shouldReuseContextWhenExecutorAndInterceptorsDoNotKeepIt() {
+        // given
+        RuleSession session = new DefaultRulesEngine(this::collect, Arrays.asList(
+                new ErrorHandlerSetUpInterceptor(event -> false),
+                new InputOutputLogger()), true)
+                .createSession("uri");
+
+        // when
+        session.execute("first", Collections.emptyList());
+        session.execute("second", Collections.emptyList());
+
+        // then
+        assertThat(contexts).hasSize(2);
+        assertThat(contexts.get(1)).isSameAs(contexts.get(0));
+        assertThat(contexts.get(0).contains(DefaultContextKey.RESULT)).isFalse();
+    }
+
+    @Test
+    void shouldUseNewContextForEachExecutionWithCustomExecutor() {
+        // given
+        RuleSession session = new DefaultRulesEngine(this::collect, Collections.singletonList(new InputOutputLogger()))
+                .createSession("uri");
+
+        // when
+        session.execute("first", Collections.emptyList());
+        session.execute("second", Collections.emptyList());
+
+        // then
+        assertThat(contexts).hasSize(2);
+        assertThat(contexts.get(1)).isNotSameAs(contexts.get(0));
+        assertThat(contexts.get(0).<Object>get(DefaultContextKey.RESULT)).isEqualTo("first");
+    }
+
+    @Test
+    void shouldUseNewContextForEachExecutionWithCustomInterceptors() {
+        // given
+        List<ExecutionContext> intercepted = new ArrayList<>();
+        Interceptor<ExecutionContext, ExecutionContext> keepingInterceptor = (invocation, context) -> {
+            intercepted.add(context);
+            return invocation.proceed(context);
+        };
+        RuleSession session = new DefaultRulesEngine(this::collect, Collections.singletonList(keepingInterceptor), true)
+                .createSession("uri");
+
+        // when
+        session.execute("first", Collections.emptyList());
+        session.execute("second", Collections.emptyList());
+
+        // then
+        assertThat(intercepted).hasSize(2);
+        assertThat(intercepted.get(1)).isNotSameAs(intercepted.get(0));
+        assertThat(intercepted.get(0).<Object>get(DefaultContextKey.RESULT)).isEqualTo("first");
+        assertThat(intercepted.get(1).<Object>get(DefaultContextKey.RESULT)).isEqualTo("second");
+    }
+
+    @Test
+    void shouldUseNewContextForNestedExecution() {
+        // given
+        RuleSession nested = new DefaultRulesEngine(this::collect, Collections.emptyList()).createSession("nested");
+        RuleSession session = new DefaultRulesEngine(context -> {
+            contexts.add(context);
+            nested.execute("nested", Collections.emptyList());
+            return context;
+        }, Collections.emptyList()).createSession("uri");
+
+        // when
+        String result = session.execute("outer", Collections.emptyList());
+
+        // then
+        assertThat(result).isEqualTo("outer");
+        assertThat(contexts).hasSize(2);
+        assertThat(contexts.get(1)).isNotSameAs(contexts.get(0));
+    }
+
+    private ExecutionContext collect(ExecutionContext context) {
+        contexts.add(context);
+        return context;
+    }
+}
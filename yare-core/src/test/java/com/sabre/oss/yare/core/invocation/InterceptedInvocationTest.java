@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.core.invocation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InterceptedInvocationTest {
+
+    @Test
+    void shouldCallInterceptorsInOrderAroundInvocation() {
+        // given
+        List<String> calls = new ArrayList<>();
+        Invocation<String, String> invocation = new InterceptedInvocation<>(
+                Arrays.asList(tracing("first", calls), tracing("second", calls)),
+                context -> {
+                    calls.add("invocation");
+                    return context + "-done";
+                });
+
+        // when
+        String result = invocation.proceed("context");
+
+        // then
+        assertThat(result).isEqualTo("context-done");
+        assertThat(calls).containsExactly("first:before", "second:before", "invocation", "second:after", "first:after");
+    }
+
+    @Test
+    void shouldAllowInterceptorToSkipInvocation() {
+        // given
+        Invocation<String, String> invocation = new InterceptedInvocation<>(
+                Collections.singletonList((i, context) -> "skipped"),
+                context -> {
+                    throw new IllegalStateException("Should not be called");
+                });
+
+        // when
+        String result = invocation.proceed("context");
+
+        // then
+        assertThat(result).isEqualTo("skipped");
+    }
+
+    @Test
+    void shouldProceedDirectlyWithoutInterceptors() {
+        // given
+        Invocation<String, String> invocation = new InterceptedInvocation<>(Collections.emptyList(), String::toUpperCase);
+
+        // when / then
+        assertThat(invocation.proceed("context")).isEqualTo("CONTEXT");
+    }
+
+    private static Interceptor<String, String> tracing(String name, List<String> calls) {
+        return (invocation, context) -> {
+            calls.add(name + ":before");
+            String result = invocation.proceed(context);
+            calls.add(name + ":after");
+            return result;
+        };
+    }
+}
@@ -559,6 +559,137 @@ public final class RuleDsl {
         return operator(Operator.IS_FALSE, operand);
     }
 
+    /**
+     * Creates operand computed by operator of given name from other operands, i.e. sum of values.
+     *
+     * @param type     operator name (type)
+     * @param operands operands of any types
+     * @param <T>      type of the computed value
+     * @return computed operand
+     */
+    public static <T> ExpressionOperand<T> operation(String type, Operand<?>... operands) {
+        return (name, builder) -> {
+            List<com.sabre.oss.yare.core.model.Expression> expressions = Stream.of(operands)
+                    .map(e -> e.getExpression(null, builder))
+                    .collect(Collectors.toList());
+            return ExpressionFactory.operatorOf(name, com.sabre.oss.yare.core.model.Expression.UNDEFINED, type, expressions);
+        };
+    }
+
+    /**
+     * Creates ADD operand (i.e. {@code left} + {@code right}). Adds numbers, or amount of time given by
+     * {@code right} to temporal {@code left}.
+     *
+     * @param left  left operand
+     * @param right right operand
+     * @param <T>   type of the computed value
+     * @return sum operand
+     */
+    public static <T> ExpressionOperand<T> add(Operand<T> left, Operand<?> right) {
+        return operation(Operator.ADD, left, right);
+    }
+
+    /**
+     * Creates SUBTRACT operand (i.e. {@code left} - {@code right}). Subtracts numbers, or amount of time given by
+     * {@code right} from temporal {@code left}.
+     *
+     * @param left  left operand
+     * @param right right operand
+     * @param <T>   type of the computed value
+     * @return difference operand
+     */
+    public static <T> ExpressionOperand<T> subtract(Operand<T> left, Operand<?> right) {
+        return operation(Operator.SUBTRACT, left, right);
+    }
+
+    /**
+     * Creates MULTIPLY operand (i.e. {@code left} * {@code right}).
+     *
+     * @param left  left operand
+     * @param right right operand
+     * @param <T>   type of the computed value
+     * @return product operand
+     */
+    public static <T> ExpressionOperand<T> multiply(Operand<T> left, Operand<?> right) {
+        return operation(Operator.MULTIPLY, left, right);
+    }
+
+    /**
+     * Creates DIVIDE operand (i.e. {@code left} / {@code right}). Integral numbers are divided as in Java.
+     *
+     * @param left  left operand
+     * @param right right operand
+     * @param <T>   type of the computed value
+     * @return quotient operand
+     */
+    public static <T> ExpressionOperand<T> divide(Operand<T> left, Operand<?> right) {
+        return operation(Operator.DIVIDE, left, right);
+    }
+
+    /**
+     * Creates MIN operand, the least of comparable operands.
+     *
+     * @param left  left operand
+     * @param right right operand
+     * @param <T>   type of operands
+     * @return minimum operand
+     */
+    public static <T> ExpressionOperand<T> min(Operand<T> left, Operand<T> right) {
+        return operation(Operator.MIN, left, right);
+    }
+
+    /**
+     * Creates MAX operand, the greatest of comparable operands.
+     *
+     * @param left  left operand
+     * @param right right operand
+     * @param <T>   type of operands
+     * @return maximum operand
+     */
+    public static <T> ExpressionOperand<T> max(Operand<T> left, Operand<T> right) {
+        return operation(Operator.MAX, left, right);
+    }
+
+    /**
+     * Creates CONCAT operand, joining string representations of operands.
+     *
+     * @param operands operands of any types
+     * @return string operand
+     */
+    public static ExpressionOperand<String> concat(Operand<?>... operands) {
+        return operation(Operator.CONCAT, operands);
+    }
+
+    /**
+     * Creates UPPER CASE operand of given string operand.
+     *
+     * @param operand string operand
+     * @return string operand
+     */
+    public static ExpressionOperand<String> upperCase(Operand<String> operand) {
+        return operation(Operator.UPPER_CASE, operand);
+    }
+
+    /**
+     * Creates LOWER CASE operand of given string operand.
+     *
+     * @param operand string operand
+     * @return string operand
+     */
+    public static ExpressionOperand<String> lowerCase(Operand<String> operand) {
+        return operation(Operator.LOWER_CASE, operand);
+    }
+
+    /**
+     * Creates LENGTH operand, the length of string or size of collection given by {@code operand}.
+     *
+     * @param operand string or collection operand
+     * @return integer operand
+     */
+    public static ExpressionOperand<Integer> length(Operand<?> operand) {
+        return operation(Operator.LENGTH, operand);
+    }
+
     /**
      * Predefined operators.
      */
@@ -574,6 +705,16 @@ public final class RuleDsl {
         String IS_NULL = "is-null";
         String IS_TRUE = "is-true";
         String IS_FALSE = "is-false";
+        String ADD = "add";
+        String SUBTRACT = "subtract";
+        String MULTIPLY = "multiply";
+        String DIVIDE = "divide";
+        String MIN = "min";
+        String MAX = "max";
+        String CONCAT = "concat";
+        String UPPER_CASE = "upper-case";
+        String LOWER_CASE = "lower-case";
+        String LENGTH = "length";
     }
 
     private static <T> Type extractParametrizedType(Class<T> type) {
@@ -613,7 +754,7 @@ public final class RuleDsl {
          * @return this ruleBuilder instance
          */
         public RuleBuilder fact(String identifier, Class<?> type) {
-            facts.add(new Fact(identifier, type));
+            facts.add(Fact.of(identifier, type));
             return this;
         }
 
@@ -626,7 +767,7 @@ public final class RuleDsl {
          */
         public RuleBuilder attribute(String name, Object value) {
             Type type = value != null ? value.getClass() : com.sabre.oss.yare.core.model.Expression.UNDEFINED;
-            attributes.add(new Attribute(name, type, value));
+            attributes.add(Attribute.of(name, type, value));
             return this;
         }
 
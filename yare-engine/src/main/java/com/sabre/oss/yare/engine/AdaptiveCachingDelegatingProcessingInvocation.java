@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine;
+
+import com.sabre.oss.yare.core.call.Argument;
+import com.sabre.oss.yare.core.call.ArgumentValueResolver;
+import com.sabre.oss.yare.core.call.ProcessingContext;
+import com.sabre.oss.yare.core.call.ProcessingInvocation;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * {@code AdaptiveCachingDelegatingProcessingInvocation} class caches results of the underlying {@link ProcessingInvocation}
+ * delegate as long as its {@link FunctionCachingProfile} decides caching pays off. Results cached before caching was
+ * turned off are invalidated, so the cache has to be a {@link ManagedCallInvocationResultCache}.
+ */
+class AdaptiveCachingDelegatingProcessingInvocation<R> extends ProcessingInvocation<R> {
+    private final ProcessingInvocation<R> delegate;
+    private final ManagedCallInvocationResultCache invocationCache;
+    private final FunctionCachingProfile profile;
+
+    AdaptiveCachingDelegatingProcessingInvocation(Argument.Invocation invocation, ArgumentValueResolver argumentValueResolver, ProcessingInvocation<R> delegate,
+                                                  ManagedCallInvocationResultCache invocationCache, FunctionCachingProfile profile) {
+        super(invocation, argumentValueResolver);
+        this.delegate = Objects.requireNonNull(delegate);
+        this.invocationCache = Objects.requireNonNull(invocationCache);
+        this.profile = Objects.requireNonNull(profile);
+    }
+
+    @Override
+    public R call(ProcessingContext ctx, Object[] args) {
+        if (!profile.shouldSample()) {
+            return profile.isCaching()
+                    ? invocationCache.get(invocation.getCall(), args, objects -> delegate.call(ctx, objects))
+                    : delegate.call(ctx, args);
+        }
+        R result = profile.isCaching()
+                ? invocationCache.get(invocation.getCall(), args, objects -> measuredCall(ctx, objects))
+                : measuredCall(ctx, args);
+        if (profile.recordArguments(Arrays.hashCode(args)) && !profile.isCaching()) {
+            invocationCache.invalidate(invocation.getCall());
+        }
+        return result;
+    }
+
+    private R measuredCall(ProcessingContext ctx, Object[] args) {
+        long start = System.nanoTime();
+        R result = delegate.call(ctx, args);
+        profile.recordCost(System.nanoTime() - start);
+        return result;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine;
+
+import com.sabre.oss.yare.engine.executor.ExecutorConfiguration;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@code AdaptiveFunctionCaching} keeps caching profiles of functions whose results are cached adaptively, i.e.
+ * cached only as long as observed invocation cost and argument repetition rate make it worthwhile.
+ * <p>
+ * Only functions configured as cacheable are profiled, so functions which must not be cached never are.
+ */
+public class AdaptiveFunctionCaching {
+    private final ConcurrentMap<String, FunctionCachingProfile> profiles = new ConcurrentHashMap<>();
+    private final ExecutorConfiguration configuration;
+
+    public AdaptiveFunctionCaching(ExecutorConfiguration configuration) {
+        this.configuration = Objects.requireNonNull(configuration);
+    }
+
+    /**
+     * Return current caching decision for the function identified by {@code functionName}.
+     *
+     * @param functionName name of the function
+     * @return caching decision or null when function is not cached adaptively
+     */
+    public FunctionCachingDecision getDecision(String functionName) {
+        FunctionCachingProfile profile = profiles.get(functionName);
+        return profile != null ? profile.getDecision() : null;
+    }
+
+    /**
+     * Return current caching decisions of all adaptively cached functions.
+     *
+     * @return caching decisions per function name
+     */
+    public Map<String, FunctionCachingDecision> getDecisions() {
+        Map<String, FunctionCachingDecision> decisions = new HashMap<>();
+        profiles.forEach((name, profile) -> decisions.put(name, profile.getDecision()));
+        return Collections.unmodifiableMap(decisions);
+    }
+
+    FunctionCachingProfile getProfile(String functionName) {
+        return profiles.computeIfAbsent(functionName, name -> new FunctionCachingProfile(
+                name,
+                true,
+                configuration.getAdaptiveFunctionCachingSampleSize(),
+                configuration.getAdaptiveFunctionCachingMinimalCost().toNanos(),
+                configuration.getAdaptiveFunctionCachingMinimalRepetitionRate()));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine;
+
+import com.sabre.oss.yare.core.call.*;
+import com.sabre.oss.yare.core.invocation.Invocation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * {@code BatchCallMetadata} describes functions able to evaluate many calls at once.
+ * <p>
+ * Before rules are evaluated, {@link com.sabre.oss.yare.engine.executor.DefaultRulesExecutor} collects calls of such
+ * functions made by rules for all facts and dispatches them together. Results are kept for the time of the
+ * execution, calls not collected upfront are dispatched one by one.
+ */
+public final class BatchCallMetadata implements CallMetadata {
+    private final BatchFunction<?> function;
+
+    private BatchCallMetadata(BatchFunction<?> function) {
+        this.function = function;
+    }
+
+    /**
+     * Creates {@link BatchCallMetadata} of function evaluating list of calls in one request.
+     *
+     * @param function batch function
+     * @param <R>      type of the function result
+     * @return {@link BatchCallMetadata}
+     */
+    public static <R> BatchCallMetadata batch(BatchFunction<R> function) {
+        return new BatchCallMetadata(Objects.requireNonNull(function));
+    }
+
+    /**
+     * Creates {@link BatchCallMetadata} of asynchronous function. Collected calls are started at once
+     * and their results are awaited together.
+     *
+     * @param function asynchronous function
+     * @param <R>      type of the function result
+     * @return {@link BatchCallMetadata}
+     */
+    public static <R> BatchCallMetadata async(AsyncFunction<R> function) {
+        return new BatchCallMetadata(startingAll(Objects.requireNonNull(function)));
+    }
+
+    @Override
+    public InvocationFactory getInvocationFactory() {
+        return new InvocationFactory() {
+            @Override
+            public <R> Invocation<ProcessingContext, R> create(Supplier<ArgumentValueResolver> resolver, Argument.Invocation invocation) {
+                return new BatchProcessingInvocation<>(invocation, resolver.get(), function);
+            }
+        };
+    }
+
+    private static <R> BatchFunction<R> startingAll(AsyncFunction<R> function) {
+        return arguments -> {
+            List<CompletableFuture<R>> futures = new ArrayList<>(arguments.size());
+            for (List<Object> call : arguments) {
+                futures.add(function.apply(call));
+            }
+            List<R> results = new ArrayList<>(futures.size());
+            for (CompletableFuture<R> future : futures) {
+                results.add(join(future));
+            }
+            return results;
+        };
+    }
+
+    private static <R> R join(CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+}
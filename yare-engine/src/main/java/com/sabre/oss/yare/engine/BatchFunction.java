@@ -0,0 +1,47 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine;
+
+import java.util.List;
+
+/**
+ * {@code BatchFunction} is a function evaluating many calls at once, i.e. a lookup in a remote system able to serve
+ * many keys in one request.
+ * <p>
+ * Batch functions are mapped with {@link BatchCallMetadata#batch(BatchFunction)}.
+ *
+ * @param <R> type of the function result
+ */
+@FunctionalInterface
+public interface BatchFunction<R> {
+
+    /**
+     * Return results of calls described by {@code arguments}.
+     *
+     * @param arguments argument values of consecutive calls
+     * @return results of the calls, in order of {@code arguments}
+     */
+    List<R> apply(List<List<Object>> arguments);
+}
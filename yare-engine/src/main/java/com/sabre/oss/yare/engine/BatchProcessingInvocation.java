@@ -0,0 +1,170 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine;
+
+import com.sabre.oss.yare.core.call.Argument;
+import com.sabre.oss.yare.core.call.ArgumentValueResolver;
+import com.sabre.oss.yare.core.call.ProcessingContext;
+import com.sabre.oss.yare.core.call.ProcessingInvocation;
+import com.sabre.oss.yare.core.observer.RulesExecutionObserver;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@code BatchProcessingInvocation} class calls function described by {@link BatchCallMetadata}
+ * or implemented by {@link com.sabre.oss.yare.core.call.BatchCallable} invocation.
+ * <p>
+ * Results are looked up in the session cache of {@link PredicateContext} first, where they are put by
+ * {@link #dispatch(List)} of calls collected upfront. Missing results are computed by single element batch.
+ */
+public final class BatchProcessingInvocation<R> extends ProcessingInvocation<R> {
+    private final ArgumentValueResolver argumentValueResolver;
+    private final BatchFunction<?> function;
+    private final boolean singleTypeSessionsOnly;
+    private final boolean resolvableUpfront;
+    private final RulesExecutionObserver observer;
+
+    BatchProcessingInvocation(Argument.Invocation invocation, ArgumentValueResolver argumentValueResolver, BatchFunction<?> function) {
+        this(invocation, argumentValueResolver, function, false);
+    }
+
+    BatchProcessingInvocation(Argument.Invocation invocation, ArgumentValueResolver argumentValueResolver, BatchFunction<?> function,
+                              boolean singleTypeSessionsOnly) {
+        this(invocation, argumentValueResolver, function, singleTypeSessionsOnly, RulesExecutionObserver.NONE);
+    }
+
+    private BatchProcessingInvocation(Argument.Invocation invocation, ArgumentValueResolver argumentValueResolver, BatchFunction<?> function,
+                                      boolean singleTypeSessionsOnly, RulesExecutionObserver observer) {
+        super(invocation, argumentValueResolver);
+        this.argumentValueResolver = argumentValueResolver;
+        this.function = Objects.requireNonNull(function);
+        this.singleTypeSessionsOnly = singleTypeSessionsOnly;
+        this.resolvableUpfront = invocation.getArguments().stream().allMatch(BatchProcessingInvocation::isPlain);
+        this.observer = Objects.requireNonNull(observer);
+    }
+
+    /**
+     * Create copy of this invocation reporting batches and session cache hits to {@code observer}.
+     *
+     * @param observer observer to notify
+     * @return observed invocation
+     */
+    BatchProcessingInvocation<R> observed(RulesExecutionObserver observer) {
+        return new BatchProcessingInvocation<>(invocation, argumentValueResolver, function, singleTypeSessionsOnly, observer);
+    }
+
+    public String getCall() {
+        return invocation.getCall();
+    }
+
+    /**
+     * Checks whether calls are collected upfront in sessions with facts of one type only, as for
+     * {@link com.sabre.oss.yare.core.call.BatchCallable} invocations. Elsewhere they are made while rules are evaluated.
+     *
+     * @return true if calls are collected upfront in single-type sessions only
+     */
+    public boolean isSingleTypeSessionsOnly() {
+        return singleTypeSessionsOnly;
+    }
+
+    /**
+     * Checks whether arguments are constants or references only, so they can be resolved before rules are evaluated
+     * without calling other functions.
+     *
+     * @return true if arguments can be resolved upfront
+     */
+    public boolean isResolvableUpfront() {
+        return resolvableUpfront;
+    }
+
+    private static boolean isPlain(Argument argument) {
+        return argument instanceof Argument.Value || argument instanceof Argument.Reference
+                || argument instanceof Argument.Values && ((Argument.Values) argument).getArguments().stream().allMatch(BatchProcessingInvocation::isPlain);
+    }
+
+    /**
+     * Resolve arguments of the call made in {@code ctx}.
+     *
+     * @param ctx processing context
+     * @return argument values
+     */
+    public Object[] resolveArguments(ProcessingContext ctx) {
+        Object[] args = new Object[getArity()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = resolveArgument(ctx, i);
+        }
+        return args;
+    }
+
+    /**
+     * Evaluate all calls described by {@code arguments} with one batch.
+     *
+     * @param arguments argument values of consecutive calls
+     * @return results, in order of {@code arguments}
+     */
+    public List<Object> dispatch(List<Object[]> arguments) {
+        List<List<Object>> calls = new ArrayList<>(arguments.size());
+        for (Object[] args : arguments) {
+            calls.add(Collections.unmodifiableList(Arrays.asList(args)));
+        }
+        long start = System.nanoTime();
+        List<?> results = function.apply(calls);
+        if (observer != RulesExecutionObserver.NONE) {
+            observer.onFunctionInvoked(invocation.getCall(), false, System.nanoTime() - start);
+        }
+        if (results == null || results.size() != calls.size()) {
+            throw new IllegalStateException(String.format("Batch function '%s' returned %s results for %d calls",
+                    invocation.getCall(), results != null ? results.size() : null, calls.size()));
+        }
+        return new ArrayList<>(results);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R call(ProcessingContext ctx, Object[] args) {
+        CallInvocationResultCache sessionCache = ctx instanceof PredicateContext ? ((PredicateContext) ctx).getSessionCache() : null;
+        if (sessionCache == null) {
+            return (R) dispatch(Collections.singletonList(args)).get(0);
+        }
+        if (observer == RulesExecutionObserver.NONE) {
+            return sessionCache.get(invocation.getCall(), args, objects -> (R) dispatch(Collections.singletonList(objects)).get(0));
+        }
+        long start = System.nanoTime();
+        boolean[] dispatched = new boolean[1];
+        R result = sessionCache.get(invocation.getCall(), args, objects -> {
+            dispatched[0] = true;
+            return (R) dispatch(Collections.singletonList(objects)).get(0);
+        });
+        if (!dispatched[0]) {
+            observer.onFunctionInvoked(invocation.getCall(), true, System.nanoTime() - start);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,495 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine;
+
+import com.google.common.base.Ticker;
+import com.sabre.oss.yare.engine.executor.ExecutorConfiguration;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * {@code BoundedCallInvocationResultCache} keeps results of functions in size bounded caches, one per function.
+ * <p>
+ * Each cache follows W-TinyLFU policy: new entries enter a small LRU window, and when it overflows the oldest
+ * window entry competes for a place in the main segmented LRU with its least recently used entry. The one
+ * requested more frequently (according to a {@link FrequencySketch} of recent requests) stays, so bursts of one-off
+ * arguments do not flush frequently used results. Entries not accessed for the configured expiration time are
+ * removed as well.
+ * <p>
+ * Hits do not lock the cache, their recency is recorded in a lossy buffer applied together with the next update.
+ * Concurrent calls with equal arguments compute the result once, arguments are compared by value (arrays by content).
+ * <p>
+ * Maximum size, expiration time and optional {@link FunctionResultWeigher} are taken from {@link ExecutorConfiguration}.
+ */
+public class BoundedCallInvocationResultCache implements ManagedCallInvocationResultCache {
+    private static final Object NULL = new Object();
+    private static final Object NO_ARGUMENTS = new Object();
+    private static final Duration MAXIMUM_DURATION = Duration.ofNanos(Long.MAX_VALUE);
+
+    private final ConcurrentMap<String, FunctionCache> cachesPerFunction = new ConcurrentHashMap<>();
+    private final ExecutorConfiguration configuration;
+    private final Ticker ticker;
+
+    public BoundedCallInvocationResultCache(ExecutorConfiguration configuration) {
+        this(configuration, Ticker.systemTicker());
+    }
+
+    public BoundedCallInvocationResultCache(ExecutorConfiguration configuration, Ticker ticker) {
+        this.configuration = Objects.requireNonNull(configuration);
+        this.ticker = Objects.requireNonNull(ticker);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(String callName, Object[] args, Function<Object[], T> compute) {
+        FunctionCache cache = cachesPerFunction.get(callName);
+        if (cache == null) {
+            cache = cachesPerFunction.computeIfAbsent(callName, this::createFunctionCache);
+        }
+        Object result = cache.get(args, (Function<Object[], Object>) compute);
+        return result != NULL ? (T) result : null;
+    }
+
+    /**
+     * Return statistics of the function cache identified by {@code callName}.
+     *
+     * @param callName name of the function
+     * @return statistics or null when function was not called yet
+     */
+    @Override
+    public FunctionCacheStats getStats(String callName) {
+        FunctionCache cache = cachesPerFunction.get(callName);
+        return cache != null ? cache.stats() : null;
+    }
+
+    /**
+     * Return statistics of all function caches.
+     *
+     * @return statistics per function name
+     */
+    @Override
+    public Map<String, FunctionCacheStats> getStats() {
+        Map<String, FunctionCacheStats> stats = new HashMap<>();
+        cachesPerFunction.forEach((name, cache) -> stats.put(name, cache.stats()));
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /**
+     * Remove all cached results of the function identified by {@code callName}.
+     *
+     * @param callName name of the function
+     */
+    @Override
+    public void invalidate(String callName) {
+        FunctionCache cache = cachesPerFunction.get(callName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Remove all cached results.
+     */
+    @Override
+    public void invalidateAll() {
+        cachesPerFunction.values().forEach(FunctionCache::clear);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Limit applies to the running cache only, caches created after the configuration is rebuilt use configured size.
+     */
+    @Override
+    public void setMaximumSize(String callName, long maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException(String.format("Maximum size must not be negative, but was %d", maximumSize));
+        }
+        cachesPerFunction.computeIfAbsent(callName, this::createFunctionCache).resize(maximumSize);
+    }
+
+    private FunctionCache createFunctionCache(String callName) {
+        return new FunctionCache(
+                configuration.getFunctionCacheMaximumSize(callName),
+                toNanos(configuration.getFunctionCacheExpirationTime(callName)),
+                configuration.getFunctionCacheWeigher(callName),
+                ticker);
+    }
+
+    private static long toNanos(Duration duration) {
+        return duration.compareTo(MAXIMUM_DURATION) < 0 ? duration.toNanos() : Long.MAX_VALUE;
+    }
+
+    private static Object keyOf(Object[] args) {
+        if (args.length == 0) {
+            return NO_ARGUMENTS;
+        }
+        if (args.length == 1 && args[0] != null && !args[0].getClass().isArray()) {
+            return args[0];
+        }
+        return new Arguments(args);
+    }
+
+    private static final class FunctionCache {
+        private static final int WINDOW = 0;
+        private static final int PROBATION = 1;
+        private static final int PROTECTED = 2;
+        private static final int READ_BUFFER_SIZE = 64;
+
+        private final ConcurrentMap<Object, Node> nodes = new ConcurrentHashMap<>();
+        private final ConcurrentMap<Object, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final AtomicReferenceArray<Node> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+        private final AtomicInteger readCount = new AtomicInteger();
+        private final Node[] queues = {new Node(), new Node(), new Node()};
+        private final long[] queueWeights = new long[3];
+        private final FrequencySketch sketch = new FrequencySketch();
+        private volatile long maximumWeight;
+        private long windowMaximumWeight;
+        private long protectedMaximumWeight;
+        private final long expireAfterAccess;
+        private final FunctionResultWeigher weigher;
+        private final Ticker ticker;
+
+        private final LongAdder hitCount = new LongAdder();
+        private final LongAdder missCount = new LongAdder();
+        private final LongAdder evictionCount = new LongAdder();
+        private final LongAdder loadCount = new LongAdder();
+        private final LongAdder totalLoadTime = new LongAdder();
+
+        private FunctionCache(long maximumWeight, long expireAfterAccess, FunctionResultWeigher weigher, Ticker ticker) {
+            this.expireAfterAccess = expireAfterAccess;
+            this.weigher = weigher;
+            this.ticker = ticker;
+            setLimits(maximumWeight);
+        }
+
+        private void resize(long maximumWeight) {
+            lock.lock();
+            try {
+                setLimits(maximumWeight);
+                evict();
+                while (queueWeights[PROTECTED] > protectedMaximumWeight) {
+                    Node demoted = queues[PROTECTED].next;
+                    unlink(demoted);
+                    link(PROBATION, demoted);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void setLimits(long maximumWeight) {
+            this.maximumWeight = maximumWeight;
+            this.windowMaximumWeight = Math.max(1, maximumWeight / 100);
+            this.protectedMaximumWeight = (long) ((maximumWeight - windowMaximumWeight) * 0.8);
+        }
+
+        /**
+         * Hits are served without locking. Recency and frequency of hits are recorded in a lossy buffer, applied to
+         * the queues and the sketch when the buffer fills up or the next result is stored. Concurrent misses of the
+         * same arguments wait for the first one to compute the result.
+         */
+        private Object get(Object[] args, Function<Object[], Object> compute) {
+            Object key = keyOf(args);
+            long now = ticker.read();
+            Node node = nodes.get(key);
+            if (node != null && now - node.accessTime < expireAfterAccess) {
+                node.accessTime = now;
+                recordRead(node);
+                hitCount.increment();
+                return node.value;
+            }
+
+            CompletableFuture<Object> load = new CompletableFuture<>();
+            CompletableFuture<Object> pending = loading.putIfAbsent(key, load);
+            if (pending != null) {
+                hitCount.increment();
+                return await(pending);
+            }
+            try {
+                node = nodes.get(key);
+                if (node != null && now - node.accessTime < expireAfterAccess) {
+                    node.accessTime = now;
+                    hitCount.increment();
+                    load.complete(node.value);
+                    return node.value;
+                }
+                missCount.increment();
+                Object value = load(key, args, compute, now);
+                load.complete(value);
+                return value;
+            } catch (RuntimeException | Error e) {
+                load.completeExceptionally(e);
+                throw e;
+            } finally {
+                loading.remove(key, load);
+            }
+        }
+
+        private Object load(Object key, Object[] args, Function<Object[], Object> compute, long start) {
+            Object result = compute.apply(args);
+            Object value = result != null ? result : NULL;
+            long now = ticker.read();
+            long loadTime = now - start;
+            loadCount.increment();
+            totalLoadTime.add(loadTime);
+
+            long weight = weigher != null ? weigher.weigh(args, result) : 1;
+            if (weight > maximumWeight) {
+                return value;
+            }
+            int hash = spread(key.hashCode());
+            lock.lock();
+            try {
+                drainReadBuffer();
+                sketch.increment(hash);
+                Node expired = nodes.get(key);
+                if (expired != null) {
+                    remove(expired);
+                    evictionCount.increment();
+                }
+                Node node = new Node(key, hash, value, weight, now);
+                nodes.put(key, node);
+                link(WINDOW, node);
+                sketch.ensureCapacity(nodes.size());
+                expire(now);
+                evict();
+            } finally {
+                lock.unlock();
+            }
+            return value;
+        }
+
+        private static Object await(CompletableFuture<Object> pending) {
+            try {
+                return pending.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        }
+
+        private void recordRead(Node node) {
+            int index = readCount.getAndIncrement();
+            if (index < READ_BUFFER_SIZE) {
+                readBuffer.lazySet(index, node);
+            }
+            if (index >= READ_BUFFER_SIZE - 1 && lock.tryLock()) {
+                try {
+                    drainReadBuffer();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        private void drainReadBuffer() {
+            for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+                Node node = readBuffer.getAndSet(i, null);
+                if (node != null && node.prev != null) {
+                    sketch.increment(node.hash);
+                    onHit(node);
+                }
+            }
+            readCount.set(0);
+        }
+
+        private void clear() {
+            lock.lock();
+            try {
+                for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+                    readBuffer.set(i, null);
+                }
+                readCount.set(0);
+                nodes.clear();
+                for (int queue = 0; queue < queues.length; queue++) {
+                    queues[queue].prev = queues[queue];
+                    queues[queue].next = queues[queue];
+                    queueWeights[queue] = 0;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private FunctionCacheStats stats() {
+            lock.lock();
+            try {
+                return new FunctionCacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum(), loadCount.sum(),
+                        totalLoadTime.sum(), nodes.size(), queueWeights[WINDOW] + queueWeights[PROBATION] + queueWeights[PROTECTED]);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void onHit(Node node) {
+            if (node.queue == PROBATION) {
+                unlink(node);
+                link(PROTECTED, node);
+                while (queueWeights[PROTECTED] > protectedMaximumWeight) {
+                    Node demoted = queues[PROTECTED].next;
+                    unlink(demoted);
+                    link(PROBATION, demoted);
+                }
+            } else {
+                int queue = node.queue;
+                unlink(node);
+                link(queue, node);
+            }
+        }
+
+        private void expire(long now) {
+            for (int queue = 0; queue < queues.length; queue++) {
+                Node head = queues[queue];
+                while (head.next != head && now - head.next.accessTime >= expireAfterAccess) {
+                    remove(head.next);
+                    evictionCount.increment();
+                }
+            }
+        }
+
+        private void evict() {
+            Node candidate = null;
+            while (queueWeights[WINDOW] > windowMaximumWeight) {
+                candidate = queues[WINDOW].next;
+                unlink(candidate);
+                link(PROBATION, candidate);
+            }
+            while (queueWeights[WINDOW] + queueWeights[PROBATION] + queueWeights[PROTECTED] > maximumWeight) {
+                Node victim = queues[PROBATION].next;
+                if (victim == queues[PROBATION]) {
+                    victim = queues[PROTECTED].next != queues[PROTECTED] ? queues[PROTECTED].next : queues[WINDOW].next;
+                } else if (candidate != null && candidate != victim && candidate.queue == PROBATION
+                        && sketch.frequency(candidate.hash) <= sketch.frequency(victim.hash)) {
+                    victim = candidate;
+                    candidate = null;
+                }
+                remove(victim);
+                evictionCount.increment();
+            }
+        }
+
+        private void remove(Node node) {
+            unlink(node);
+            nodes.remove(node.key);
+        }
+
+        private void link(int queue, Node node) {
+            Node head = queues[queue];
+            node.queue = queue;
+            node.prev = head.prev;
+            node.next = head;
+            head.prev.next = node;
+            head.prev = node;
+            queueWeights[queue] += node.weight;
+        }
+
+        private void unlink(Node node) {
+            node.prev.next = node.next;
+            node.next.prev = node.prev;
+            node.prev = null;
+            node.next = null;
+            queueWeights[node.queue] -= node.weight;
+        }
+
+        private static int spread(int hash) {
+            int h = hash * 0x9e3779b9;
+            return h ^ (h >>> 16);
+        }
+    }
+
+    private static final class Node {
+        private final Object key;
+        private final int hash;
+        private final Object value;
+        private final long weight;
+        private volatile long accessTime;
+        private int queue;
+        private Node prev;
+        private Node next;
+
+        private Node() {
+            this(null, 0, null, 0, 0);
+            this.prev = this;
+            this.next = this;
+        }
+
+        private Node(Object key, int hash, Object value, long weight, long accessTime) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+            this.weight = weight;
+            this.accessTime = accessTime;
+        }
+    }
+
+    private static final class Arguments {
+        private final Object[] objects;
+        private final int hashCode;
+
+        private Arguments(Object[] objects) {
+            this.objects = objects;
+            this.hashCode = Arrays.deepHashCode(objects);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Arguments)) {
+                return false;
+            }
+            Arguments that = (Arguments) o;
+            return hashCode == that.hashCode && Arrays.deepEquals(objects, that.objects);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -26,7 +26,9 @@ package com.sabre.oss.yare.engine;
 
 import com.sabre.oss.yare.core.call.*;
 import com.sabre.oss.yare.core.invocation.Invocation;
+import com.sabre.oss.yare.core.observer.RulesExecutionObserver;
 import com.sabre.oss.yare.engine.executor.ExecutorConfiguration;
+import org.apache.commons.lang3.Validate;
 
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -36,15 +38,38 @@ public class CachingDelegatingProcessingInvocationFactory<R> implements Processi
     private final ProcessingInvocationFactory<R> delegate;
     private final CallInvocationResultCache invocationCache;
     private final ExecutorConfiguration configuration;
+    private final AdaptiveFunctionCaching adaptiveFunctionCaching;
+    private final RulesExecutionObserver observer;
 
     public CachingDelegatingProcessingInvocationFactory(ProcessingInvocationFactory<R> delegate,
                                                         Supplier<ArgumentValueResolver> argumentValueResolverSupplier,
                                                         CallInvocationResultCache invocationCache,
                                                         ExecutorConfiguration configuration) {
+        this(delegate, argumentValueResolverSupplier, invocationCache, configuration, new AdaptiveFunctionCaching(configuration));
+    }
+
+    public CachingDelegatingProcessingInvocationFactory(ProcessingInvocationFactory<R> delegate,
+                                                        Supplier<ArgumentValueResolver> argumentValueResolverSupplier,
+                                                        CallInvocationResultCache invocationCache,
+                                                        ExecutorConfiguration configuration,
+                                                        AdaptiveFunctionCaching adaptiveFunctionCaching) {
+        this(delegate, argumentValueResolverSupplier, invocationCache, configuration, adaptiveFunctionCaching, RulesExecutionObserver.NONE);
+    }
+
+    public CachingDelegatingProcessingInvocationFactory(ProcessingInvocationFactory<R> delegate,
+                                                        Supplier<ArgumentValueResolver> argumentValueResolverSupplier,
+                                                        CallInvocationResultCache invocationCache,
+                                                        ExecutorConfiguration configuration,
+                                                        AdaptiveFunctionCaching adaptiveFunctionCaching,
+                                                        RulesExecutionObserver observer) {
+        this.observer = Objects.requireNonNull(observer);
+        this.adaptiveFunctionCaching = Objects.requireNonNull(adaptiveFunctionCaching);
         this.argumentValueResolverSupplier = Objects.requireNonNull(argumentValueResolverSupplier);
         this.delegate = Objects.requireNonNull(delegate);
         this.invocationCache = Objects.requireNonNull(invocationCache);
         this.configuration = Objects.requireNonNull(configuration);
+        Validate.isTrue(!configuration.isAdaptiveFunctionCaching() || invocationCache instanceof ManagedCallInvocationResultCache,
+                "Adaptive function caching requires ManagedCallInvocationResultCache");
     }
 
     @Override
@@ -53,8 +78,35 @@ public class CachingDelegatingProcessingInvocationFactory<R> implements Processi
         if (processingInvocation == null) {
             return null;
         }
-        return configuration.isFunctionCacheable(invocation.getCall()) && processingInvocation instanceof ProcessingInvocation
-                ? new CachingDelegatingProcessingInvocation<>(invocation, argumentValueResolverSupplier.get(), (ProcessingInvocation<R>) processingInvocation, invocationCache)
-                : processingInvocation;
+        if (processingInvocation instanceof BatchCallable && !(processingInvocation instanceof BatchProcessingInvocation)
+                && configuration.isFunctionSessionCacheable(invocation.getCall())) {
+            processingInvocation = new BatchProcessingInvocation<>(invocation, argumentValueResolverSupplier.get(), ((BatchCallable) processingInvocation)::callBatch, true);
+        }
+        if (processingInvocation instanceof BatchProcessingInvocation) {
+            return observer != RulesExecutionObserver.NONE ? ((BatchProcessingInvocation<R>) processingInvocation).observed(observer) : processingInvocation;
+        }
+        if (!(processingInvocation instanceof ProcessingInvocation)) {
+            return processingInvocation;
+        }
+        if (observer == RulesExecutionObserver.NONE) {
+            return wrap(invocation, (ProcessingInvocation<R>) processingInvocation);
+        }
+        ArgumentValueResolver argumentValueResolver = argumentValueResolverSupplier.get();
+        ProcessingInvocation<R> function = ObservedProcessingInvocation.mark(invocation, argumentValueResolver, (ProcessingInvocation<R>) processingInvocation);
+        return new ObservedProcessingInvocation<>(invocation, argumentValueResolver, wrap(invocation, function), observer);
+    }
+
+    private ProcessingInvocation<R> wrap(Argument.Invocation invocation, ProcessingInvocation<R> function) {
+        if (configuration.isFunctionSessionCacheable(invocation.getCall())) {
+            return new SessionCachingDelegatingProcessingInvocation<>(invocation, argumentValueResolverSupplier.get(), function);
+        }
+        if (!configuration.isFunctionCacheable(invocation.getCall())) {
+            return function;
+        }
+        if (configuration.isAdaptiveFunctionCaching()) {
+            return new AdaptiveCachingDelegatingProcessingInvocation<>(invocation, argumentValueResolverSupplier.get(), function,
+                    (ManagedCallInvocationResultCache) invocationCache, adaptiveFunctionCaching.getProfile(invocation.getCall()));
+        }
+        return new CachingDelegatingProcessingInvocation<>(invocation, argumentValueResolverSupplier.get(), function, invocationCache);
     }
 }
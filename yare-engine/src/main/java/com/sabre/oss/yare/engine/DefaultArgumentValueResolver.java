@@ -24,19 +24,37 @@
 
 package com.sabre.oss.yare.engine;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.sabre.oss.yare.core.call.*;
 import com.sabre.oss.yare.core.invocation.Invocation;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
 import com.sabre.oss.yare.engine.executor.runtime.value.FieldReferringClassFactory;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProviderFactory;
 import org.apache.commons.lang3.reflect.TypeUtils;
 
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.List;
 
 import static java.util.Objects.requireNonNull;
 
 public class DefaultArgumentValueResolver implements ArgumentValueResolver {
 
     private final ProcessingInvocationFactory<Object> processingInvocationFactory;
+    // Weak keys are compared by identity. Values are weak too, as compiled invocations refer to their arguments,
+    // so compiled arguments are kept as long as invocations built of them are in use.
+    private final LoadingCache<Argument, CompiledArgument> compiledArguments = CacheBuilder.newBuilder()
+            .weakKeys()
+            .weakValues()
+            .build(new CacheLoader<Argument, CompiledArgument>() {
+                @Override
+                public CompiledArgument load(Argument argument) {
+                    return doCompile(argument);
+                }
+            });
 
     public DefaultArgumentValueResolver(ProcessingInvocationFactory<Object> processingInvocationFactory) {
         this.processingInvocationFactory = requireNonNull(processingInvocationFactory);
@@ -44,42 +62,115 @@ public class DefaultArgumentValueResolver implements ArgumentValueResolver {
 
     @Override
     public Object resolve(VariableResolver variableResolver, Argument argument) {
+        return compile(argument).resolve(variableResolver);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Compiled arguments are reused, so invocations wrapping one another (i.e. to cache results) share nested invocations.
+     */
+    @Override
+    public CompiledArgument compile(Argument argument) {
+        try {
+            return compiledArguments.getUnchecked(argument);
+        } catch (UncheckedExecutionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    private CompiledArgument doCompile(Argument argument) {
         if (argument instanceof Argument.Value) {
-            return ((Argument.Value) argument).getValue();
+            Object value = ((Argument.Value) argument).getValue();
+            return variableResolver -> value;
         }
         if (argument instanceof Argument.Values) {
-            return ((Argument.Values) argument).getArguments().stream()
-                    .map(a -> resolve(variableResolver, a))
-                    .collect(Collectors.toList());
+            CompiledArgument[] values = ((Argument.Values) argument).getArguments().stream()
+                    .map(this::compile)
+                    .toArray(CompiledArgument[]::new);
+            return variableResolver -> {
+                List<Object> result = new ArrayList<>(values.length);
+                for (CompiledArgument value : values) {
+                    result.add(value.resolve(variableResolver));
+                }
+                return result;
+            };
         }
         if (argument instanceof Argument.Reference) {
-            if (!(variableResolver instanceof PredicateContext)) {
-                throw new IllegalArgumentException("Expected PredicateContext as VariableResolver");
-            }
-            Argument.Reference reference = (Argument.Reference) argument;
-            String path = reference.getReference();
-            int dotIndex = path.indexOf(".");
-            if (dotIndex == -1) {
-                return variableResolver.resolve(path);
-            }
-            String identifier = path.substring(0, dotIndex);
-            path = path.substring(dotIndex + 1);
-            Object resolvedValue = variableResolver.resolve(identifier);
-            Class referenceType = TypeUtils.getRawType(reference.getReferenceType(), null);
-            referenceType = resolvedValue != null && Object.class.equals(referenceType)
-                    ? resolvedValue.getClass()
-                    : referenceType;
-            return FieldReferringClassFactory.create(referenceType, identifier, path).get((PredicateContext) variableResolver);
+            return compileReference((Argument.Reference) argument);
         }
         if (argument instanceof Argument.Invocation) {
-            if (!(variableResolver instanceof ProcessingContext)) {
-                throw new IllegalArgumentException("Expected ProcessingContext as VariableResolver");
-            }
-            ProcessingContext processingContext = (ProcessingContext) variableResolver;
-            Invocation<ProcessingContext, Object> value = processingInvocationFactory.create((Argument.Invocation) argument);
-            return value.proceed(processingContext);
+            Invocation<ProcessingContext, Object> invocation = processingInvocationFactory.create((Argument.Invocation) argument);
+            return variableResolver -> {
+                if (!(variableResolver instanceof ProcessingContext)) {
+                    throw new IllegalArgumentException("Expected ProcessingContext as VariableResolver");
+                }
+                return invocation.proceed((ProcessingContext) variableResolver);
+            };
         }
 
         throw new IllegalArgumentException(String.format("Unsupported argument type %s", argument.getClass()));
     }
+
+    private CompiledArgument compileReference(Argument.Reference reference) {
+        String path = reference.getReference();
+        int dotIndex = path.indexOf(".");
+        if (dotIndex == -1) {
+            return variableResolver -> toPredicateContext(variableResolver).resolve(path);
+        }
+        String identifier = path.substring(0, dotIndex);
+        String fieldPath = path.substring(dotIndex + 1);
+        Class<?> referenceType = TypeUtils.getRawType(reference.getReferenceType(), null);
+        if (!Object.class.equals(referenceType)) {
+            ValueProvider valueProvider = ValueProviderFactory.createFromPath(referenceType, identifier, null, fieldPath);
+            return variableResolver -> valueProvider.get(toPredicateContext(variableResolver));
+        }
+        DynamicReference dynamicReference = new DynamicReference(identifier, fieldPath);
+        return variableResolver -> dynamicReference.get(toPredicateContext(variableResolver));
+    }
+
+    private static PredicateContext toPredicateContext(VariableResolver variableResolver) {
+        if (!(variableResolver instanceof PredicateContext)) {
+            throw new IllegalArgumentException("Expected PredicateContext as VariableResolver");
+        }
+        return (PredicateContext) variableResolver;
+    }
+
+    /**
+     * Reference of statically unknown type, accessor is chosen by type of the resolved value.
+     * The last used accessor is remembered, as values referred by one argument are usually of one type.
+     */
+    private static final class DynamicReference {
+        private final String identifier;
+        private final String path;
+        private final FieldReferringClassFactory factory;
+        private volatile Accessor last;
+
+        private DynamicReference(String identifier, String path) {
+            this.identifier = identifier;
+            this.path = path;
+            this.factory = FieldReferringClassFactory.current();
+        }
+
+        private Object get(PredicateContext context) {
+            Object resolvedValue = context.resolve(identifier);
+            Class<?> type = resolvedValue != null ? resolvedValue.getClass() : Object.class;
+            Accessor accessor = last;
+            if (accessor == null || accessor.type != type) {
+                accessor = new Accessor(type, factory.get(type, identifier, path));
+                last = accessor;
+            }
+            return accessor.valueProvider.get(context);
+        }
+    }
+
+    private static final class Accessor {
+        private final Class<?> type;
+        private final ValueProvider valueProvider;
+
+        private Accessor(Class<?> type, ValueProvider valueProvider) {
+            this.type = type;
+            this.valueProvider = valueProvider;
+        }
+    }
 }
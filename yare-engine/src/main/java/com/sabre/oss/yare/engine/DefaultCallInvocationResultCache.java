@@ -26,18 +26,23 @@ package com.sabre.oss.yare.engine;
 
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
 import com.sabre.oss.yare.engine.executor.ExecutorConfiguration;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
-public class DefaultCallInvocationResultCache implements CallInvocationResultCache {
+public class DefaultCallInvocationResultCache implements ManagedCallInvocationResultCache {
     private final ConcurrentMap<String, LoadingCache<ObjectsWrapper, Optional<Object>>> cachesPerFunction = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> maximumSizes = new ConcurrentHashMap<>();
     private final ExecutorConfiguration configuration;
 
     public DefaultCallInvocationResultCache(ExecutorConfiguration configuration) {
@@ -47,19 +52,75 @@ public class DefaultCallInvocationResultCache implements CallInvocationResultCac
     public <T> T get(String callName, Object[] args, Function<Object[], T> compute) {
         LoadingCache<ObjectsWrapper, Optional<Object>> functionResultCache = cachesPerFunction.get(callName);
         if (functionResultCache == null) {
-            functionResultCache = CacheBuilder.<ObjectsWrapper, Optional<Object>>newBuilder()
-                    .expireAfterAccess(configuration.getFunctionCacheExpirationTime(callName).toMillis(), TimeUnit.MILLISECONDS)
-                    .build(new CacheLoader<ObjectsWrapper, Optional<Object>>() {
-                        @Override
-                        public Optional<Object> load(ObjectsWrapper arguments) {
-                            return Optional.ofNullable((compute.apply(arguments.getObjects())));
-                        }
-                    });
-            cachesPerFunction.putIfAbsent(callName, functionResultCache);
+            functionResultCache = createFunctionCache(callName, compute);
+            LoadingCache<ObjectsWrapper, Optional<Object>> existing = cachesPerFunction.putIfAbsent(callName, functionResultCache);
+            functionResultCache = existing != null ? existing : functionResultCache;
         }
         return (T) functionResultCache.getUnchecked(new ObjectsWrapper(args)).orElse(null);
     }
 
+    @Override
+    public FunctionCacheStats getStats(String callName) {
+        LoadingCache<ObjectsWrapper, Optional<Object>> cache = cachesPerFunction.get(callName);
+        return cache != null ? statsOf(cache) : null;
+    }
+
+    @Override
+    public Map<String, FunctionCacheStats> getStats() {
+        Map<String, FunctionCacheStats> stats = new HashMap<>();
+        cachesPerFunction.forEach((name, cache) -> stats.put(name, statsOf(cache)));
+        return Collections.unmodifiableMap(stats);
+    }
+
+    @Override
+    public void invalidate(String callName) {
+        LoadingCache<ObjectsWrapper, Optional<Object>> cache = cachesPerFunction.get(callName);
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        cachesPerFunction.values().forEach(LoadingCache::invalidateAll);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Cached results of the function are dropped, as the size of an existing cache can not be changed.
+     */
+    @Override
+    public void setMaximumSize(String callName, long maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException(String.format("Maximum size must not be negative, but was %d", maximumSize));
+        }
+        maximumSizes.put(callName, maximumSize);
+        cachesPerFunction.remove(callName);
+    }
+
+    private <T> LoadingCache<ObjectsWrapper, Optional<Object>> createFunctionCache(String callName, Function<Object[], T> compute) {
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder()
+                .expireAfterAccess(configuration.getFunctionCacheExpirationTime(callName).toMillis(), TimeUnit.MILLISECONDS)
+                .recordStats();
+        Long maximumSize = maximumSizes.get(callName);
+        if (maximumSize != null) {
+            builder.maximumSize(maximumSize);
+        }
+        return builder.build(new CacheLoader<ObjectsWrapper, Optional<Object>>() {
+            @Override
+            public Optional<Object> load(ObjectsWrapper arguments) {
+                return Optional.ofNullable((compute.apply(arguments.getObjects())));
+            }
+        });
+    }
+
+    private static FunctionCacheStats statsOf(LoadingCache<ObjectsWrapper, Optional<Object>> cache) {
+        CacheStats stats = cache.stats();
+        return new FunctionCacheStats(stats.hitCount(), stats.missCount(), stats.evictionCount(), stats.loadCount(),
+                stats.totalLoadTime(), cache.size(), cache.size());
+    }
+
     private static final class ObjectsWrapper {
         private final Object[] objects;
 
@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine;
+
+/**
+ * {@code FrequencySketch} is a count-min sketch of 4-bit counters estimating how often keys were requested.
+ * Counters are halved periodically, so the estimate reflects recent history. Not thread-safe.
+ */
+final class FrequencySketch {
+    private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final int DEPTH = 4;
+    private static final int MAXIMUM = 15;
+    private static final int MINIMAL_WIDTH = 16;
+    private static final int MAXIMAL_WIDTH = 1 << 24;
+
+    private long[] table;
+    private int width;
+    private int additions;
+    private int sampleSize;
+
+    FrequencySketch() {
+        resize(MINIMAL_WIDTH);
+    }
+
+    /**
+     * Grow the sketch so it is able to track {@code size} keys. Growing resets the counters.
+     */
+    void ensureCapacity(long size) {
+        if (size > width && width < MAXIMAL_WIDTH) {
+            long desired = Math.min(MAXIMAL_WIDTH, Long.highestOneBit(size - 1) << 1);
+            resize((int) desired);
+        }
+    }
+
+    void increment(int hash) {
+        boolean added = false;
+        for (int row = 0; row < DEPTH; row++) {
+            int index = indexOf(hash, row);
+            int shift = (index & 15) << 2;
+            long counter = (table[index >>> 4] >>> shift) & 0xfL;
+            if (counter < MAXIMUM) {
+                table[index >>> 4] += 1L << shift;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            age();
+        }
+    }
+
+    int frequency(int hash) {
+        int frequency = MAXIMUM;
+        for (int row = 0; row < DEPTH; row++) {
+            int index = indexOf(hash, row);
+            int counter = (int) ((table[index >>> 4] >>> ((index & 15) << 2)) & 0xfL);
+            frequency = Math.min(frequency, counter);
+        }
+        return frequency;
+    }
+
+    private int indexOf(int hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        h += h >>> 32;
+        return row * width + ((int) h & (width - 1));
+    }
+
+    private void age() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & 0x7777777777777777L;
+        }
+        additions /= 2;
+    }
+
+    private void resize(int newWidth) {
+        width = newWidth;
+        table = new long[Math.max(1, (width * DEPTH) >>> 4)];
+        sampleSize = 10 * width;
+        additions = 0;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine;
+
+/**
+ * {@code FunctionCachingDecision} is an immutable snapshot of adaptive caching state of single function.
+ */
+public final class FunctionCachingDecision {
+    private final String functionName;
+    private final boolean cached;
+    private final double averageInvocationCost;
+    private final double repetitionRate;
+    private final long evaluationCount;
+    private final long changeCount;
+
+    public FunctionCachingDecision(String functionName, boolean cached, double averageInvocationCost, double repetitionRate,
+                                   long evaluationCount, long changeCount) {
+        this.functionName = functionName;
+        this.cached = cached;
+        this.averageInvocationCost = averageInvocationCost;
+        this.repetitionRate = repetitionRate;
+        this.evaluationCount = evaluationCount;
+        this.changeCount = changeCount;
+    }
+
+    public String getFunctionName() {
+        return functionName;
+    }
+
+    /**
+     * Return whether results of the function are currently cached.
+     *
+     * @return true if results are cached
+     */
+    public boolean isCached() {
+        return cached;
+    }
+
+    /**
+     * Return average cost of the function invocation observed in the last sampling window, in nanoseconds.
+     *
+     * @return average invocation cost
+     */
+    public double getAverageInvocationCost() {
+        return averageInvocationCost;
+    }
+
+    /**
+     * Return ratio of sampled calls repeating arguments of earlier calls in the last sampling window.
+     *
+     * @return repetition rate
+     */
+    public double getRepetitionRate() {
+        return repetitionRate;
+    }
+
+    /**
+     * Return number of completed sampling windows.
+     *
+     * @return number of evaluations
+     */
+    public long getEvaluationCount() {
+        return evaluationCount;
+    }
+
+    /**
+     * Return how many times caching was turned on or off.
+     *
+     * @return number of changes
+     */
+    public long getChangeCount() {
+        return changeCount;
+    }
+
+    @Override
+    public String toString() {
+        return "FunctionCachingDecision{" +
+                "functionName='" + functionName + '\'' +
+                ", cached=" + cached +
+                ", averageInvocationCost=" + averageInvocationCost +
+                ", repetitionRate=" + repetitionRate +
+                ", evaluationCount=" + evaluationCount +
+                ", changeCount=" + changeCount +
+                '}';
+    }
+}
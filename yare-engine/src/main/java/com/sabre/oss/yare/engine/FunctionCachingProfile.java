@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code FunctionCachingProfile} samples invocations of single function and decides whether its results are worth caching.
+ * <p>
+ * Every {@value #SAMPLING_PERIOD}th call is sampled: its arguments are checked against arguments of earlier sampled calls
+ * of the current window and, when the function is actually invoked, its cost is measured. Once a window is complete,
+ * caching is turned on when both the repetition rate and the average cost reach configured thresholds, and turned off
+ * when any of them drops below half of its threshold.
+ */
+final class FunctionCachingProfile {
+    static final int SAMPLING_PERIOD = 8;
+    private static final long OCCUPIED = 1L << 32;
+
+    private final String functionName;
+    private final int sampleSize;
+    private final long minimalInvocationCost;
+    private final double minimalRepetitionRate;
+    private final AtomicLong calls = new AtomicLong();
+    private final long[] recentArguments;
+
+    private volatile boolean caching;
+    private int samples;
+    private int repetitions;
+    private long costSum;
+    private int costSamples;
+    private double averageInvocationCost;
+    private double repetitionRate;
+    private long evaluationCount;
+    private long changeCount;
+
+    FunctionCachingProfile(String functionName, boolean caching, int sampleSize, long minimalInvocationCost, double minimalRepetitionRate) {
+        this.functionName = functionName;
+        this.caching = caching;
+        this.sampleSize = sampleSize;
+        this.minimalInvocationCost = minimalInvocationCost;
+        this.minimalRepetitionRate = minimalRepetitionRate;
+        this.recentArguments = new long[Integer.highestOneBit(Math.max(sampleSize, 1)) << 2];
+    }
+
+    boolean isCaching() {
+        return caching;
+    }
+
+    boolean shouldSample() {
+        return (calls.getAndIncrement() & (SAMPLING_PERIOD - 1)) == 0;
+    }
+
+    synchronized void recordCost(long cost) {
+        costSum += cost;
+        costSamples++;
+    }
+
+    /**
+     * Record sampled call with arguments of given hash. Returns true when caching decision changed.
+     */
+    synchronized boolean recordArguments(int argumentsHash) {
+        if (!addArguments(argumentsHash)) {
+            repetitions++;
+        }
+        if (++samples < sampleSize) {
+            return false;
+        }
+        return decide();
+    }
+
+    synchronized FunctionCachingDecision getDecision() {
+        return new FunctionCachingDecision(functionName, caching, averageInvocationCost, repetitionRate, evaluationCount, changeCount);
+    }
+
+    private boolean decide() {
+        repetitionRate = (double) repetitions / samples;
+        if (costSamples > 0) {
+            averageInvocationCost = (double) costSum / costSamples;
+        }
+        evaluationCount++;
+        boolean shouldCache = caching
+                ? repetitionRate >= minimalRepetitionRate / 2 && averageInvocationCost >= minimalInvocationCost / 2.0
+                : repetitionRate >= minimalRepetitionRate && averageInvocationCost >= minimalInvocationCost;
+        samples = 0;
+        repetitions = 0;
+        costSum = 0;
+        costSamples = 0;
+        Arrays.fill(recentArguments, 0);
+        if (shouldCache == caching) {
+            return false;
+        }
+        caching = shouldCache;
+        changeCount++;
+        return true;
+    }
+
+    private boolean addArguments(int hash) {
+        long entry = OCCUPIED | (hash & 0xffffffffL);
+        int mask = recentArguments.length - 1;
+        int index = (hash * 0x9e3779b9) & mask;
+        while (recentArguments[index] != 0) {
+            if (recentArguments[index] == entry) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        recentArguments[index] = entry;
+        return true;
+    }
+}
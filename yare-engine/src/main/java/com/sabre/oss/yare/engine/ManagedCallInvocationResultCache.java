@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine;
+
+import java.util.Map;
+
+/**
+ * {@link CallInvocationResultCache} whose per-function caches can be inspected and managed at runtime.
+ */
+public interface ManagedCallInvocationResultCache extends CallInvocationResultCache {
+
+    /**
+     * Return statistics of the function cache identified by {@code callName}.
+     *
+     * @param callName name of the function
+     * @return statistics or null when function was not called yet
+     */
+    FunctionCacheStats getStats(String callName);
+
+    /**
+     * Return statistics of all function caches.
+     *
+     * @return statistics per function name
+     */
+    Map<String, FunctionCacheStats> getStats();
+
+    /**
+     * Remove all cached results of the function identified by {@code callName}.
+     *
+     * @param callName name of the function
+     */
+    void invalidate(String callName);
+
+    /**
+     * Remove all cached results.
+     */
+    void invalidateAll();
+
+    /**
+     * Change maximum number (or total weight, when results are weighed) of cached results of the function
+     * identified by {@code callName}. Results exceeding new limit are evicted.
+     *
+     * @param callName    name of the function
+     * @param maximumSize new maximum size
+     */
+    void setMaximumSize(String callName, long maximumSize);
+}
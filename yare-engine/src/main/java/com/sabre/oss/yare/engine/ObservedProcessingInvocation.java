@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine;
+
+import com.sabre.oss.yare.core.call.Argument;
+import com.sabre.oss.yare.core.call.ArgumentValueResolver;
+import com.sabre.oss.yare.core.call.ProcessingContext;
+import com.sabre.oss.yare.core.call.ProcessingInvocation;
+import com.sabre.oss.yare.core.observer.RulesExecutionObserver;
+
+import java.util.Objects;
+
+/**
+ * {@code ObservedProcessingInvocation} class reports each call of a function to {@link RulesExecutionObserver},
+ * whatever caching is applied to the function.
+ * <p>
+ * The function itself is wrapped with {@link #mark} before caching wrappers are applied, so calls served
+ * from a cache can be told from calls which reached the function.
+ */
+final class ObservedProcessingInvocation<R> extends ProcessingInvocation<R> {
+    private static final ThreadLocal<boolean[]> invoked = ThreadLocal.withInitial(() -> new boolean[1]);
+
+    private final ProcessingInvocation<R> delegate;
+    private final RulesExecutionObserver observer;
+
+    ObservedProcessingInvocation(Argument.Invocation invocation, ArgumentValueResolver argumentValueResolver, ProcessingInvocation<R> delegate,
+                                 RulesExecutionObserver observer) {
+        super(invocation, argumentValueResolver);
+        this.delegate = Objects.requireNonNull(delegate);
+        this.observer = Objects.requireNonNull(observer);
+    }
+
+    /**
+     * Wrap the function, so calls reaching it are noticed by enclosing {@link ObservedProcessingInvocation}.
+     *
+     * @param invocation            invocation description
+     * @param argumentValueResolver argument value resolver
+     * @param function              function invocation
+     * @param <R>                   type of function result
+     * @return marking invocation
+     */
+    static <R> ProcessingInvocation<R> mark(Argument.Invocation invocation, ArgumentValueResolver argumentValueResolver, ProcessingInvocation<R> function) {
+        return new ProcessingInvocation<R>(invocation, argumentValueResolver) {
+            @Override
+            public R call(ProcessingContext ctx, Object[] args) {
+                invoked.get()[0] = true;
+                return function.call(ctx, args);
+            }
+        };
+    }
+
+    @Override
+    public R call(ProcessingContext ctx, Object[] args) {
+        boolean[] flag = invoked.get();
+        boolean enclosing = flag[0];
+        flag[0] = false;
+        try {
+            long start = System.nanoTime();
+            R result = delegate.call(ctx, args);
+            observer.onFunctionInvoked(invocation.getCall(), !flag[0], System.nanoTime() - start);
+            return result;
+        } finally {
+            flag[0] = enclosing;
+        }
+    }
+}
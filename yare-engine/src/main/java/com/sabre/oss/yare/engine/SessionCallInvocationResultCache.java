@@ -0,0 +1,109 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine;
+
+import com.sabre.oss.yare.core.ExecutionContext;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * {@code SessionCallInvocationResultCache} keeps results of functions for the time of single rules session
+ * execution, so the same function called with equal arguments by many rules is invoked once per execution.
+ * <p>
+ * Instances are not thread-safe and are meant to be used by one execution only. The cache is stored in the
+ * {@link ExecutionContext} under {@link #CONTEXT_KEY}.
+ */
+public final class SessionCallInvocationResultCache implements CallInvocationResultCache {
+    public static final ExecutionContext.Key<SessionCallInvocationResultCache> CONTEXT_KEY =
+            ExecutionContext.Key.create(SessionCallInvocationResultCache.class, "session-cache");
+
+    private final Map<String, Map<Arguments, Object>> resultsPerFunction = new HashMap<>();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(String callName, Object[] args, Function<Object[], T> compute) {
+        Map<Arguments, Object> results = resultsPerFunction.computeIfAbsent(callName, k -> new HashMap<>());
+        Arguments key = new Arguments(args);
+        Object result = results.get(key);
+        if (result == null && !results.containsKey(key)) {
+            result = compute.apply(args);
+            results.put(key, result);
+        }
+        return (T) result;
+    }
+
+    /**
+     * Return whether result of the call is kept.
+     *
+     * @param callName name of the function
+     * @param args     argument values
+     * @return true if result is present
+     */
+    public boolean contains(String callName, Object[] args) {
+        Map<Arguments, Object> results = resultsPerFunction.get(callName);
+        return results != null && results.containsKey(new Arguments(args));
+    }
+
+    /**
+     * Keep result of the call computed elsewhere, i.e. by batch of calls.
+     *
+     * @param callName name of the function
+     * @param args     argument values
+     * @param result   result of the call (can be null)
+     */
+    public void put(String callName, Object[] args, Object result) {
+        resultsPerFunction.computeIfAbsent(callName, k -> new HashMap<>()).put(new Arguments(args), result);
+    }
+
+    private static final class Arguments {
+        private final Object[] objects;
+        private final int hashCode;
+
+        private Arguments(Object[] objects) {
+            this.objects = objects;
+            this.hashCode = Arrays.hashCode(objects);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Arguments)) {
+                return false;
+            }
+            Arguments that = (Arguments) o;
+            return hashCode == that.hashCode && Arrays.equals(objects, that.objects);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor;
+
+import com.sabre.oss.yare.engine.executor.runtime.value.FieldReferringClassFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@code AccessorFactories} keeps {@link FieldReferringClassFactory} instances of single engine, one per class loader
+ * of fact types, so rule sets of the same facts share their generated accessors.
+ * <p>
+ * Factories are counted by rule sets built with them and dropped once the last of these rule sets is released,
+ * so the engine does not keep generated accessors, nor class loaders of facts, after its rule sets are discarded.
+ */
+final class AccessorFactories {
+    private final Map<ClassLoader, SharedFactory> factories = new HashMap<>();
+
+    /**
+     * Returns factory of given class loader of facts, to be released with {@link #release(ClassLoader)} once
+     * the rule set built with it is discarded.
+     *
+     * @param factsClassLoader class loader of fact types
+     * @return accessor factory
+     */
+    synchronized FieldReferringClassFactory acquire(ClassLoader factsClassLoader) {
+        SharedFactory sharedFactory = factories.computeIfAbsent(factsClassLoader, loader -> new SharedFactory());
+        sharedFactory.references++;
+        return sharedFactory.factory;
+    }
+
+    synchronized void release(ClassLoader factsClassLoader) {
+        SharedFactory sharedFactory = factories.get(factsClassLoader);
+        if (sharedFactory != null && --sharedFactory.references == 0) {
+            factories.remove(factsClassLoader);
+        }
+    }
+
+    synchronized int size() {
+        return factories.size();
+    }
+
+    private static final class SharedFactory {
+        private final FieldReferringClassFactory factory = new FieldReferringClassFactory();
+        private int references;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor;
+
+import com.sabre.oss.yare.core.EngineController;
+import com.sabre.oss.yare.engine.BatchProcessingInvocation;
+import com.sabre.oss.yare.engine.SessionCallInvocationResultCache;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.EvaluationCache;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+
+import java.util.*;
+
+/**
+ * {@link BatchedInvocationDispatcher} collects calls of batch functions made by rules for all fact tuples
+ * and dispatches them with one batch per function. Results are put into the session cache, from which
+ * they are taken when rules are evaluated.
+ * <p>
+ * Only calls with constant or reference arguments are collected, so no other functions are called upfront.
+ * Calls with arguments computed by functions are dispatched one by one during evaluation, as are calls of functions
+ * batched in single-type sessions only when facts of many types are given. Calls are collected for all rules,
+ * including those which would not reach them during evaluation (i.e. due to short-circuited conditions).
+ */
+final class BatchedInvocationDispatcher {
+    private final Map<String, Batch> batches = new LinkedHashMap<>();
+    private final SessionCallInvocationResultCache sessionCache;
+    private final boolean singleTypeSession;
+
+    BatchedInvocationDispatcher(SessionCallInvocationResultCache sessionCache, boolean singleTypeSession) {
+        this.sessionCache = Objects.requireNonNull(sessionCache);
+        this.singleTypeSession = singleTypeSession;
+    }
+
+    void collect(RuntimeRules runtimeRules, Object result, Map<String, Object> factTuple, EngineController engineController) {
+        EvaluationCache evaluationCache = new EvaluationCache();
+        for (RuntimeRules.ExecutableRule executableRule : runtimeRules.getExecutableRules()) {
+            if (executableRule.getBatchedInvocations().isEmpty()) {
+                continue;
+            }
+            PredicateContext context = new PredicateContext(executableRule.getRuleId(), result, factTuple, executableRule.getAttributes(),
+                    engineController, evaluationCache, sessionCache);
+            for (BatchProcessingInvocation<?> invocation : executableRule.getBatchedInvocations()) {
+                if (singleTypeSession || !invocation.isSingleTypeSessionsOnly()) {
+                    collect(invocation, context);
+                }
+            }
+        }
+    }
+
+    void dispatch() {
+        for (Batch batch : batches.values()) {
+            List<Object[]> arguments = new ArrayList<>(batch.arguments.values());
+            List<Object> results = batch.invocation.dispatch(arguments);
+            for (int i = 0; i < arguments.size(); i++) {
+                sessionCache.put(batch.invocation.getCall(), arguments.get(i), results.get(i));
+            }
+        }
+        batches.clear();
+    }
+
+    private void collect(BatchProcessingInvocation<?> invocation, PredicateContext context) {
+        Object[] args = invocation.resolveArguments(context);
+        if (!sessionCache.contains(invocation.getCall(), args)) {
+            batches.computeIfAbsent(invocation.getCall(), k -> new Batch(invocation)).arguments.putIfAbsent(Arrays.asList(args), args);
+        }
+    }
+
+    private static final class Batch {
+        private final BatchProcessingInvocation<?> invocation;
+        private final Map<List<Object>, Object[]> arguments = new LinkedHashMap<>();
+
+        private Batch(BatchProcessingInvocation<?> invocation) {
+            this.invocation = invocation;
+        }
+    }
+}
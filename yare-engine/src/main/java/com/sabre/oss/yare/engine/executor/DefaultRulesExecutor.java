@@ -25,16 +25,20 @@
 package com.sabre.oss.yare.engine.executor;
 
 import com.google.common.base.Stopwatch;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import com.sabre.oss.yare.core.*;
 import com.sabre.oss.yare.core.call.ProcessingContext;
 import com.sabre.oss.yare.core.invocation.Invocation;
-import com.sabre.oss.yare.core.management.EvictableCache;
+import com.sabre.oss.yare.core.management.RuleSetCache;
+import com.sabre.oss.yare.core.management.RuleSetInfo;
 import com.sabre.oss.yare.core.model.Attribute;
 import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.core.observer.RulesExecutionObserver;
+import com.sabre.oss.yare.engine.CallInvocationResultCache;
+import com.sabre.oss.yare.engine.SessionCallInvocationResultCache;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.EvaluationCache;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.engine.jfr.FlightRecorderEvents;
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
@@ -48,25 +52,44 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
-public class DefaultRulesExecutor implements RulesExecutor, Wrapper, EvictableCache {
+public class DefaultRulesExecutor implements RulesExecutor, Wrapper, RuleSetCache {
     private static final Logger log = LoggerFactory.getLogger(DefaultRulesExecutor.class);
 
     private final Map<Class<?>, String> typeNames = new ConcurrentHashMap<>();
-    private final LoadingCache<String, RuntimeRules> runtimeRulesCache;
+    private final RuntimeRulesCache runtimeRulesCache;
     private final ExecutorConfiguration configuration;
     private final EngineController engineController;
     private final EngineListener engineListener;
+    private final List<Object> components;
+    private final RulesExecutionObserver observer;
+    private final boolean observed;
 
     public DefaultRulesExecutor(RulesRepository rulesRepository, RuntimeRulesBuilder runtimeRulesBuilder,
                                 ExecutorConfiguration configuration, EngineController engineController, EngineListener engineListener) {
+        this(rulesRepository, runtimeRulesBuilder, configuration, engineController, engineListener, Collections.emptyList());
+    }
+
+    public DefaultRulesExecutor(RulesRepository rulesRepository, RuntimeRulesBuilder runtimeRulesBuilder,
+                                ExecutorConfiguration configuration, EngineController engineController, EngineListener engineListener,
+                                Collection<?> components) {
+        this(rulesRepository, runtimeRulesBuilder, configuration, engineController, engineListener, components, RulesExecutionObserver.NONE);
+    }
+
+    public DefaultRulesExecutor(RulesRepository rulesRepository, RuntimeRulesBuilder runtimeRulesBuilder,
+                                ExecutorConfiguration configuration, EngineController engineController, EngineListener engineListener,
+                                Collection<?> components, RulesExecutionObserver observer) {
         this.configuration = configuration;
+        this.components = new ArrayList<>(components);
         this.runtimeRulesCache = buildCachingContext(rulesRepository, runtimeRulesBuilder);
         this.engineController = engineController;
         this.engineListener = engineListener;
+        this.observer = Objects.requireNonNull(observer);
+        this.observed = observer != RulesExecutionObserver.NONE;
     }
 
     @Override
     public ExecutionContext proceed(ExecutionContext context) {
+        Object event = FlightRecorderEvents.beginSessionExecution();
         Object result = context.get(DefaultContextKey.RESULT);
         Collection<?> inFacts = context.get(DefaultContextKey.FACTS);
 
@@ -74,7 +97,7 @@ public class DefaultRulesExecutor implements RulesExecutor, Wrapper, EvictableCa
         AtomicReference<Object> evaluationContextHolder = context.get(DefaultContextKey.RULE_EXECUTION_SET);
         RuntimeRules runtimeRules = (RuntimeRules) evaluationContextHolder.get();
         if (runtimeRules == null) {
-            runtimeRules = runtimeRulesCache.getUnchecked(uri);
+            runtimeRules = runtimeRulesCache.get(uri);
             if (!evaluationContextHolder.compareAndSet(null, runtimeRules)) {
                 runtimeRules = (RuntimeRules) evaluationContextHolder.get();
             }
@@ -85,39 +108,95 @@ public class DefaultRulesExecutor implements RulesExecutor, Wrapper, EvictableCa
         }
 
         Map<String, List<Object>> groupedFact = groupFacts(inFacts, runtimeRules.getFactNames());
-        Iterator<Map<String, Object>> iterator = groupedFact.size() == 1
-                ? new SingleTypeFactTupleIterator(groupedFact)
-                : configuration.isCrossProductMode() ? new CrossProductFactTupleIterator(groupedFact) : new SingleInstanceFactTupleIterator(groupedFact);
 
+        SessionCallInvocationResultCache sessionCache = context.get(SessionCallInvocationResultCache.CONTEXT_KEY, null);
+        if (sessionCache == null) {
+            sessionCache = new SessionCallInvocationResultCache();
+            context.put(SessionCallInvocationResultCache.CONTEXT_KEY, sessionCache);
+        }
+        if (runtimeRules.hasBatchedInvocations()) {
+            dispatchBatchedInvocations(runtimeRules, result, groupedFact, sessionCache);
+        }
+
+        Iterator<Map<String, Object>> iterator = createFactTupleIterator(groupedFact);
+        EvaluationCache evaluationCache = new EvaluationCache();
+        long fireCount = 0;
         if (configuration.isSequentialMode()) {
             while (iterator.hasNext() && !engineListener.isEvaluationTerminated()) {
-                evaluateSequentially(runtimeRules, result, iterator.next());
+                evaluationCache.clear();
+                fireCount += evaluateSequentially(runtimeRules, result, iterator.next(), evaluationCache, sessionCache);
             }
         } else {
             while (iterator.hasNext() && !engineListener.isEvaluationTerminated()) {
-                evaluate(runtimeRules, result, iterator.next());
+                evaluationCache.clear();
+                fireCount += evaluate(runtimeRules, result, iterator.next(), evaluationCache, sessionCache);
             }
         }
+        FlightRecorderEvents.commitSessionExecution(event, uri, inFacts.size(), fireCount);
         return context;
     }
 
     @Override
     public <T> T unwrap(Class<T> expected) {
-        return expected.isAssignableFrom(getClass())
-                ? expected.cast(this)
-                : null;
+        if (expected.isAssignableFrom(getClass())) {
+            return expected.cast(this);
+        }
+        for (Object component : components) {
+            if (expected.isInstance(component)) {
+                return expected.cast(component);
+            }
+        }
+        return null;
     }
 
     @Override
     public boolean evict(Object key) {
-        runtimeRulesCache.invalidate(key);
-        return true;
+        return runtimeRulesCache.evict(key);
     }
 
     @Override
     public boolean clear() {
-        runtimeRulesCache.invalidateAll();
-        return true;
+        return runtimeRulesCache.clear();
+    }
+
+    @Override
+    public long getWeight() {
+        return runtimeRulesCache.getWeight();
+    }
+
+    @Override
+    public long getMaximumWeight() {
+        return runtimeRulesCache.getMaximumWeight();
+    }
+
+    @Override
+    public void setMaximumWeight(long maximumWeight) {
+        runtimeRulesCache.setMaximumWeight(maximumWeight);
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return runtimeRulesCache.getEvictionCount();
+    }
+
+    @Override
+    public void addEvictionListener(EvictionListener listener) {
+        runtimeRulesCache.addEvictionListener(listener);
+    }
+
+    @Override
+    public Map<String, RuleSetInfo> getRuleSets() {
+        return runtimeRulesCache.getRuleSets();
+    }
+
+    @Override
+    public boolean refresh(String uri) {
+        return runtimeRulesCache.refresh(uri);
+    }
+
+    @Override
+    public boolean preload(String uri) {
+        return runtimeRulesCache.preload(uri);
     }
 
     private Map<String, List<Object>> groupFacts(Collection<?> inFacts, Map<Type, String> factNames) {
@@ -133,58 +212,99 @@ public class DefaultRulesExecutor implements RulesExecutor, Wrapper, EvictableCa
         return result;
     }
 
-    private void evaluateSequentially(RuntimeRules runtimeRules, Object result, Map<String, Object> factMap) {
+    private Iterator<Map<String, Object>> createFactTupleIterator(Map<String, List<Object>> groupedFact) {
+        return groupedFact.size() == 1
+                ? new SingleTypeFactTupleIterator(groupedFact)
+                : configuration.isCrossProductMode() ? new CrossProductFactTupleIterator(groupedFact) : new SingleInstanceFactTupleIterator(groupedFact);
+    }
+
+    private void dispatchBatchedInvocations(RuntimeRules runtimeRules, Object result, Map<String, List<Object>> groupedFact, SessionCallInvocationResultCache sessionCache) {
+        BatchedInvocationDispatcher dispatcher = new BatchedInvocationDispatcher(sessionCache, groupedFact.size() == 1);
+        Iterator<Map<String, Object>> iterator = createFactTupleIterator(groupedFact);
+        while (iterator.hasNext()) {
+            dispatcher.collect(runtimeRules, result, iterator.next(), engineController);
+        }
+        dispatcher.dispatch();
+    }
+
+    private int evaluateSequentially(RuntimeRules runtimeRules, Object result, Map<String, Object> factMap, EvaluationCache evaluationCache, CallInvocationResultCache sessionCache) {
         List<RuntimeRules.ExecutableRule> executableRules = runtimeRules.getExecutableRules();
+        int fireCount = 0;
         for (int i = 0; i < executableRules.size() && !engineListener.isEvaluationTerminated(); ++i) {
             RuntimeRules.ExecutableRule executableRule = executableRules.get(i);
-            PredicateContext context = new PredicateContext(executableRule.getRuleId(), result, factMap, executableRule.getAttributes(), engineController);
-            Boolean evaluationResult = executableRule.getPredicate().evaluate(context);
+            PredicateContext context = new PredicateContext(executableRule.getRuleId(), result, factMap, executableRule.getAttributes(), engineController, evaluationCache, sessionCache);
+            Boolean evaluationResult = evaluatePredicate(executableRule, context);
             if (Boolean.TRUE.equals(evaluationResult)) {
-                executableRule.getConsequence().proceed(context);
+                executeConsequence(executableRule.getConsequence(), context);
+                evaluationCache.clear();
+                fireCount++;
             }
         }
+        return fireCount;
     }
 
-    private void evaluate(RuntimeRules runtimeRules, Object result, Map<String, Object> factMap) {
+    private int evaluate(RuntimeRules runtimeRules, Object result, Map<String, Object> factMap, EvaluationCache evaluationCache, CallInvocationResultCache sessionCache) {
         List<Pair<Invocation<ProcessingContext, Void>, PredicateContext>> consequences = new LinkedList<>();
         for (RuntimeRules.ExecutableRule executableRule : runtimeRules.getExecutableRules()) {
-            PredicateContext context = new PredicateContext(executableRule.getRuleId(), result, factMap, executableRule.getAttributes(), engineController);
-            Boolean evaluationResult = executableRule.getPredicate().evaluate(context);
+            PredicateContext context = new PredicateContext(executableRule.getRuleId(), result, factMap, executableRule.getAttributes(), engineController, evaluationCache, sessionCache);
+            Boolean evaluationResult = evaluatePredicate(executableRule, context);
             if (Boolean.TRUE.equals(evaluationResult)) {
                 consequences.add(Pair.of(executableRule.getConsequence(), context));
             }
         }
 
-        for (int i = 0; i < consequences.size() && !engineListener.isEvaluationTerminated(); ++i) {
-            Pair<Invocation<ProcessingContext, Void>, PredicateContext> consequence = consequences.get(i);
-            consequence.getKey().proceed(consequence.getValue());
+        int fireCount = 0;
+        for (; fireCount < consequences.size() && !engineListener.isEvaluationTerminated(); ++fireCount) {
+            Pair<Invocation<ProcessingContext, Void>, PredicateContext> consequence = consequences.get(fireCount);
+            executeConsequence(consequence.getKey(), consequence.getValue());
         }
+        return fireCount;
     }
 
-    private LoadingCache<String, RuntimeRules> buildCachingContext(RulesRepository rulesRepository, RuntimeRulesBuilder runtimeRulesBuilder) {
-        return CacheBuilder.newBuilder()
-                .refreshAfterWrite(configuration.getRulesCacheRefreshTime().toMillis(), TimeUnit.MILLISECONDS)
-                .build(new CacheLoader<String, RuntimeRules>() {
-                    @Override
-                    public RuntimeRules load(String key) {
-                        log.info("Loading rules base for {} ...", key);
-                        Stopwatch stopwatch = Stopwatch.createStarted();
-
-                        List<Rule> rules = rulesRepository.get(key).stream()
-                                .filter(rule -> rule.getAttribute("ignored") == null || Boolean.FALSE.equals(rule.getAttribute("ignored").getValue()))
-                                .sorted((a, b) -> {
-                                    long priorityA = getPriority(a);
-                                    long priorityB = getPriority(b);
-                                    return Long.compare(priorityB, priorityA);
-                                })
-                                .collect(Collectors.toList());
-
-                        RuntimeRules runtimeRules = runtimeRulesBuilder.build(rules);
-
-                        log.info("Loaded rules '{}' in {} seconds", key, stopwatch.elapsed(TimeUnit.SECONDS));
-                        return runtimeRules;
-                    }
-                });
+    private Boolean evaluatePredicate(RuntimeRules.ExecutableRule executableRule, PredicateContext context) {
+        if (!observed) {
+            return executableRule.getPredicate().evaluate(context);
+        }
+        long start = System.nanoTime();
+        Boolean evaluationResult = executableRule.getPredicate().evaluate(context);
+        observer.onPredicateEvaluated(executableRule.getRuleId(), Boolean.TRUE.equals(evaluationResult), System.nanoTime() - start);
+        return evaluationResult;
+    }
+
+    private void executeConsequence(Invocation<ProcessingContext, Void> consequence, PredicateContext context) {
+        if (!observed) {
+            consequence.proceed(context);
+            return;
+        }
+        long start = System.nanoTime();
+        consequence.proceed(context);
+        observer.onConsequenceExecuted(context.getRuleId(), System.nanoTime() - start);
+    }
+
+    private RuntimeRulesCache buildCachingContext(RulesRepository rulesRepository, RuntimeRulesBuilder runtimeRulesBuilder) {
+        return new RuntimeRulesCache(new CacheLoader<String, RuntimeRules>() {
+            @Override
+            public RuntimeRules load(String key) {
+                log.info("Loading rules base for {} ...", key);
+                Stopwatch stopwatch = Stopwatch.createStarted();
+                Object event = FlightRecorderEvents.beginRuleSetLoad();
+
+                List<Rule> rules = rulesRepository.get(key).stream()
+                        .filter(rule -> rule.getAttribute("ignored") == null || Boolean.FALSE.equals(rule.getAttribute("ignored").getValue()))
+                        .sorted((a, b) -> {
+                            long priorityA = getPriority(a);
+                            long priorityB = getPriority(b);
+                            return Long.compare(priorityB, priorityA);
+                        })
+                        .collect(Collectors.toList());
+
+                RuntimeRules runtimeRules = runtimeRulesBuilder.build(key, rules);
+                FlightRecorderEvents.commitRuleSetLoad(event, key, rules.size(), runtimeRules.getWeight());
+
+                log.info("Loaded rules '{}' in {} seconds", key, stopwatch.elapsed(TimeUnit.SECONDS));
+                return runtimeRules;
+            }
+        }, configuration.getRulesCacheRefreshTime(), configuration.getRulesCacheMaximumWeight(), runtimeRulesBuilder::release);
     }
 
     private long getPriority(Rule a) {
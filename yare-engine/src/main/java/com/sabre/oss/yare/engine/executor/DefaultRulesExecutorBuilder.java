@@ -31,12 +31,18 @@ import com.sabre.oss.yare.core.call.FunctionFactory;
 import com.sabre.oss.yare.core.call.ProcessingInvocationFactory;
 import com.sabre.oss.yare.core.feature.FeaturedObject;
 import com.sabre.oss.yare.core.internal.EngineControllerFactory;
+import com.sabre.oss.yare.core.observer.RulesExecutionObserver;
 import com.sabre.oss.yare.engine.*;
 import com.sabre.oss.yare.engine.feature.DefaultEngineFeature;
+import com.sabre.oss.yare.engine.profiler.PredicateProfiler;
 import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.Validate;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -47,6 +53,7 @@ public class DefaultRulesExecutorBuilder implements RulesExecutorBuilder {
     private RulesRepository rulesRepository;
     private ErrorHandler errorHandler;
     private CallInvocationResultCache invocationCache;
+    private RulesExecutionObserver observer = RulesExecutionObserver.NONE;
 
     /**
      * {@inheritDoc}
@@ -74,9 +81,12 @@ public class DefaultRulesExecutorBuilder implements RulesExecutorBuilder {
         for (Map.Entry<String, FeaturedObject<CallMetadata>> entry : functionMappings.entrySet()) {
             String name = entry.getKey();
             FeaturedObject<CallMetadata> object = entry.getValue();
-            boolean shouldCache = !ArrayUtils.contains(object.getFeatures(), DefaultEngineFeature.DISABLE_CACHE_FUNCTION_RESULT);
+            boolean shouldSessionCache = ArrayUtils.contains(object.getFeatures(), DefaultEngineFeature.SESSION_CACHE_FUNCTION_RESULT);
+            boolean shouldCache = !shouldSessionCache && !ArrayUtils.contains(object.getFeatures(), DefaultEngineFeature.DISABLE_CACHE_FUNCTION_RESULT);
             this.functionMappings.put(name, object.getObject());
             withFunctionCacheable(name, shouldCache);
+            withFunctionSessionCacheable(name, shouldSessionCache);
+            withFunctionPure(name, ArrayUtils.contains(object.getFeatures(), DefaultEngineFeature.PURE_FUNCTION));
         }
         return this;
     }
@@ -101,6 +111,19 @@ public class DefaultRulesExecutorBuilder implements RulesExecutorBuilder {
         return this;
     }
 
+    /**
+     * Specify {@link RulesExecutionObserver} notified about evaluated rules and invoked functions, i.e.
+     * {@link com.sabre.oss.yare.engine.metrics.MetricsRegistry}. The observer is available with
+     * {@link DefaultRulesExecutor#unwrap(Class)}.
+     *
+     * @param observer rules execution observer
+     * @return this defaultRulesExecutorBuilder instance
+     */
+    public DefaultRulesExecutorBuilder withObserver(RulesExecutionObserver observer) {
+        this.observer = Validate.notNull(observer, "Observer must not be null");
+        return this;
+    }
+
     /**
      * Specify whether results of the function identified by {@code functionName} should be cached.
      *
@@ -113,6 +136,32 @@ public class DefaultRulesExecutorBuilder implements RulesExecutorBuilder {
         return this;
     }
 
+    /**
+     * Specify whether results of the function identified by {@code functionName} should be cached for the time
+     * of single rules session execution. Session caching takes precedence over {@link #withFunctionCacheable(String, boolean)}.
+     *
+     * @param functionName name of the function
+     * @param shouldCache  whether result should be cached within session execution
+     * @return this defaultRulesExecutorBuilder instance
+     */
+    public DefaultRulesExecutorBuilder withFunctionSessionCacheable(String functionName, boolean shouldCache) {
+        this.configurationBuilder.withFunctionSessionCacheable(functionName, shouldCache);
+        return this;
+    }
+
+    /**
+     * Specify whether the function identified by {@code functionName} is pure, i.e. its result depends on arguments only
+     * and it has no side effects. Calls of pure functions with constant arguments are evaluated once, when rules are built.
+     *
+     * @param functionName name of the function
+     * @param pure         whether function is pure
+     * @return this defaultRulesExecutorBuilder instance
+     */
+    public DefaultRulesExecutorBuilder withFunctionPure(String functionName, boolean pure) {
+        this.configurationBuilder.withFunctionPure(functionName, pure);
+        return this;
+    }
+
     /**
      * Specify time to expire cache for function identified by {@code functionName}.
      *
@@ -147,6 +196,87 @@ public class DefaultRulesExecutorBuilder implements RulesExecutorBuilder {
         return this;
     }
 
+    /**
+     * Specify maximum number of cached results of the function identified by {@code functionName}. When
+     * a {@link FunctionResultWeigher} is specified for the function, it is the maximum total weight of cached results.
+     *
+     * @param functionName name of the function
+     * @param maximumSize  maximum size of the function cache
+     * @return this defaultRulesExecutorBuilder instance
+     */
+    public DefaultRulesExecutorBuilder withFunctionCacheMaximumSize(String functionName, long maximumSize) {
+        Validate.isTrue(maximumSize >= 0, "Maximum size must not be negative");
+        this.configurationBuilder.withFunctionCacheMaximumSize(functionName, maximumSize);
+        return this;
+    }
+
+    /**
+     * Specify {@link FunctionResultWeigher} calculating weight of cached results of the function identified by {@code functionName}.
+     *
+     * @param functionName name of the function
+     * @param weigher      weigher of cached results
+     * @return this defaultRulesExecutorBuilder instance
+     */
+    public DefaultRulesExecutorBuilder withFunctionCacheWeigher(String functionName, FunctionResultWeigher weigher) {
+        this.configurationBuilder.withFunctionCacheWeigher(functionName, weigher);
+        return this;
+    }
+
+    /**
+     * Specify default maximum number of cached results per function.
+     *
+     * @param maximumSize default maximum size of function caches
+     * @return this defaultRulesExecutorBuilder instance
+     */
+    public DefaultRulesExecutorBuilder withDefaultFunctionCacheMaximumSize(long maximumSize) {
+        Validate.isTrue(maximumSize >= 0, "Maximum size must not be negative");
+        this.configurationBuilder.withDefaultFunctionCacheMaximumSize(maximumSize);
+        return this;
+    }
+
+    /**
+     * Specify whether results of cacheable functions should be cached adaptively. In adaptive mode invocations are sampled
+     * and caching of each function is turned on or off at runtime, depending on observed invocation cost and
+     * repetition rate of its arguments. Decisions can be inspected through {@link AdaptiveFunctionCaching},
+     * available with {@link DefaultRulesExecutor#unwrap(Class)}.
+     * <p>
+     * Results cached before caching of a function is turned off are invalidated, therefore adaptive caching requires
+     * the function result cache to be a {@link ManagedCallInvocationResultCache}.
+     *
+     * @param adaptive whether functions' results should be cached adaptively
+     * @return this defaultRulesExecutorBuilder instance
+     */
+    public DefaultRulesExecutorBuilder withAdaptiveFunctionCaching(boolean adaptive) {
+        this.configurationBuilder.withAdaptiveFunctionCaching(adaptive);
+        return this;
+    }
+
+    /**
+     * Specify thresholds of adaptive function caching. Caching is turned on when both average invocation cost and
+     * argument repetition rate reach thresholds, and turned off when any of them drops below half of its threshold.
+     *
+     * @param minimalCost           minimal average invocation cost
+     * @param minimalRepetitionRate minimal ratio of calls repeating earlier arguments, between 0 and 1
+     * @return this defaultRulesExecutorBuilder instance
+     */
+    public DefaultRulesExecutorBuilder withAdaptiveFunctionCachingThresholds(Duration minimalCost, double minimalRepetitionRate) {
+        Validate.isTrue(minimalRepetitionRate >= 0.0 && minimalRepetitionRate <= 1.0, "Repetition rate must be between 0 and 1");
+        this.configurationBuilder.withAdaptiveFunctionCachingThresholds(minimalCost, minimalRepetitionRate);
+        return this;
+    }
+
+    /**
+     * Specify number of sampled invocations after which adaptive caching decision is reconsidered.
+     *
+     * @param sampleSize number of samples
+     * @return this defaultRulesExecutorBuilder instance
+     */
+    public DefaultRulesExecutorBuilder withAdaptiveFunctionCachingSampleSize(int sampleSize) {
+        Validate.isTrue(sampleSize > 0, "Sample size must be positive");
+        this.configurationBuilder.withAdaptiveFunctionCachingSampleSize(sampleSize);
+        return this;
+    }
+
     /**
      * Specify refresh time for functions' results cache.
      *
@@ -158,6 +288,19 @@ public class DefaultRulesExecutorBuilder implements RulesExecutorBuilder {
         return this;
     }
 
+    /**
+     * Specify maximum weight of compiled rule sets kept in the rules cache. Weight of a rule set is estimated
+     * from the number of its rules and predicate nodes. When exceeded, least recently used rule sets are evicted
+     * and loaded again on next access.
+     *
+     * @param rulesCacheMaximumWeight maximum weight of cached rule sets
+     * @return this defaultRulesExecutorBuilder instance
+     */
+    public DefaultRulesExecutorBuilder withRulesCacheMaximumWeight(long rulesCacheMaximumWeight) {
+        this.configurationBuilder.withRulesCacheMaximumWeight(rulesCacheMaximumWeight);
+        return this;
+    }
+
     /**
      * Specify whether {@link DefaultRulesExecutor} should evaluate rules sequentially.
      *
@@ -181,28 +324,50 @@ public class DefaultRulesExecutorBuilder implements RulesExecutorBuilder {
         return this;
     }
 
+    /**
+     * Enable profiling of predicates. Evaluations of operators, function calls and fact references are sampled,
+     * one in {@code samplingInterval}, and reported per rule by {@link PredicateProfiler},
+     * available with {@link DefaultRulesExecutor#unwrap(Class)}.
+     *
+     * @param samplingInterval number of evaluations of a node per single sample
+     * @return this defaultRulesExecutorBuilder
+     */
+    public DefaultRulesExecutorBuilder withProfiling(int samplingInterval) {
+        Validate.isTrue(samplingInterval > 0, "Sampling interval must be positive");
+        this.configurationBuilder.withProfilingSamplingInterval(samplingInterval);
+        return this;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public RulesExecutor build() {
         ExecutorConfiguration configuration = configurationBuilder.build();
-        invocationCache = invocationCache != null ? invocationCache : new DefaultCallInvocationResultCache(configuration);
+        invocationCache = invocationCache != null ? invocationCache : new BoundedCallInvocationResultCache(configuration);
         AtomicReference<DefaultArgumentValueResolver> resolverReference = new AtomicReference<>();
+        AdaptiveFunctionCaching adaptiveFunctionCaching = new AdaptiveFunctionCaching(configuration);
         ProcessingInvocationFactory<Object> functionInvocationFactory = new CachingDelegatingProcessingInvocationFactory<>(
                 new DefaultProcessingInvocationFactory<>(resolverReference::get, functionMappings),
                 resolverReference::get,
                 invocationCache,
-                configuration
+                configuration,
+                adaptiveFunctionCaching,
+                observer
         );
         ProcessingInvocationFactory<Void> actionInvocationFactory = new DefaultProcessingInvocationFactory<>(resolverReference::get, actionMappings);
         resolverReference.set(new DefaultArgumentValueResolver(functionInvocationFactory));
         FunctionFactory functionFactory = new FunctionFactory(functionInvocationFactory);
         ConsequenceFactory consequenceFactory = new ConsequenceFactory(actionInvocationFactory, errorHandler);
-        RuntimeRulesBuilder runtimeRulesBuilder = new RuntimeRulesBuilder(new DefaultPredicateFactory(), functionFactory, consequenceFactory);
+        PredicateProfiler profiler = configuration.isProfiling() ? new PredicateProfiler(configuration.getProfilingSamplingInterval()) : null;
+        RuntimeRulesBuilder runtimeRulesBuilder = new RuntimeRulesBuilder(new DefaultPredicateFactory(), functionFactory, consequenceFactory, configuration, profiler);
 
         EngineListener engineListener = new EngineListener();
         EngineController engineController = EngineControllerFactory.createDefaultFrom(engineListener);
-        return new DefaultRulesExecutor(rulesRepository, runtimeRulesBuilder, configuration, engineController, engineListener);
+        List<Object> components = new ArrayList<>(Arrays.asList(invocationCache, adaptiveFunctionCaching, observer));
+        if (profiler != null) {
+            components.add(profiler);
+        }
+        return new DefaultRulesExecutor(rulesRepository, runtimeRulesBuilder, configuration, engineController, engineListener, components, observer);
     }
 }
@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor;
+
+import com.sabre.oss.yare.core.model.Expression;
+import com.sabre.oss.yare.engine.executor.runtime.operator.ChainedOperatorFactory;
+import com.sabre.oss.yare.engine.executor.runtime.operator.arithmetic.Arithmetic;
+import com.sabre.oss.yare.engine.executor.runtime.operator.string.ChangeCase;
+import com.sabre.oss.yare.engine.executor.runtime.operator.string.Concat;
+import com.sabre.oss.yare.engine.executor.runtime.operator.string.Length;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.Predicate;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateFactory;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateFactoryContext;
+
+import java.util.Objects;
+
+import static java.util.Arrays.asList;
+
+/**
+ * {@code DefaultValueOperatorFactory} creates built-in operators computing values
+ * (see {@link Expression.Operator#VALUE_OPERATORS}).
+ */
+public class DefaultValueOperatorFactory implements PredicateFactory {
+
+    private final PredicateFactory delegate;
+
+    public DefaultValueOperatorFactory() {
+        this(new ChainedOperatorFactory(asList(
+                new Arithmetic(),
+
+                new Concat.Factory(),
+                new ChangeCase.Factory(),
+                new Length.Factory()
+        )));
+    }
+
+    public DefaultValueOperatorFactory(PredicateFactory delegate) {
+        this.delegate = Objects.requireNonNull(delegate);
+    }
+
+    @Override
+    public Predicate create(PredicateFactoryContext context, Expression expression) {
+        return delegate.create(context, expression);
+    }
+}
@@ -24,6 +24,8 @@
 
 package com.sabre.oss.yare.engine.executor;
 
+import com.sabre.oss.yare.engine.FunctionResultWeigher;
+
 import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
@@ -31,21 +33,43 @@ import java.util.Map;
 
 public class ExecutorConfiguration {
     private final Map<String, Boolean> functionToCacheable;
+    private final Map<String, Boolean> functionToSessionCacheable;
+    private final Map<String, Boolean> functionToPure;
     private final Map<String, Duration> functionToCacheExpirationTime;
+    private final Map<String, Long> functionToCacheMaximumSize;
+    private final Map<String, FunctionResultWeigher> functionToCacheWeigher;
     private final boolean defaultFunctionCacheable;
     private final Duration defaultFunctionCacheExpirationTime;
+    private final long defaultFunctionCacheMaximumSize;
+    private final boolean adaptiveFunctionCaching;
+    private final Duration adaptiveFunctionCachingMinimalCost;
+    private final double adaptiveFunctionCachingMinimalRepetitionRate;
+    private final int adaptiveFunctionCachingSampleSize;
     private final Duration rulesCacheRefreshTime;
+    private final long rulesCacheMaximumWeight;
     private final boolean sequentialMode;
     private final boolean crossProductMode;
+    private final int profilingSamplingInterval;
 
     public ExecutorConfiguration(Builder builder) {
         this.functionToCacheable = Collections.unmodifiableMap(builder.functionToCacheable);
+        this.functionToSessionCacheable = Collections.unmodifiableMap(builder.functionToSessionCacheable);
+        this.functionToPure = Collections.unmodifiableMap(builder.functionToPure);
         this.functionToCacheExpirationTime = Collections.unmodifiableMap(builder.functionToCacheExpirationTime);
         this.defaultFunctionCacheable = builder.defaultFunctionCacheable;
         this.defaultFunctionCacheExpirationTime = builder.defaultFunctionCacheExpirationTime;
+        this.functionToCacheMaximumSize = Collections.unmodifiableMap(builder.functionToCacheMaximumSize);
+        this.functionToCacheWeigher = Collections.unmodifiableMap(builder.functionToCacheWeigher);
+        this.defaultFunctionCacheMaximumSize = builder.defaultFunctionCacheMaximumSize;
+        this.adaptiveFunctionCaching = builder.adaptiveFunctionCaching;
+        this.adaptiveFunctionCachingMinimalCost = builder.adaptiveFunctionCachingMinimalCost;
+        this.adaptiveFunctionCachingMinimalRepetitionRate = builder.adaptiveFunctionCachingMinimalRepetitionRate;
+        this.adaptiveFunctionCachingSampleSize = builder.adaptiveFunctionCachingSampleSize;
         this.rulesCacheRefreshTime = builder.rulesCacheRefreshTime;
+        this.rulesCacheMaximumWeight = builder.rulesCacheMaximumWeight;
         this.sequentialMode = builder.sequentialMode;
         this.crossProductMode = builder.crossProductMode;
+        this.profilingSamplingInterval = builder.profilingSamplingInterval;
     }
 
     public static Builder builder() {
@@ -56,14 +80,50 @@ public class ExecutorConfiguration {
         return functionToCacheable.getOrDefault(functionName, defaultFunctionCacheable);
     }
 
+    public boolean isFunctionSessionCacheable(String functionName) {
+        return functionToSessionCacheable.getOrDefault(functionName, false);
+    }
+
+    public boolean isFunctionPure(String functionName) {
+        return functionToPure.getOrDefault(functionName, false);
+    }
+
     public Duration getFunctionCacheExpirationTime(String functionName) {
         return functionToCacheExpirationTime.getOrDefault(functionName, defaultFunctionCacheExpirationTime);
     }
 
+    public long getFunctionCacheMaximumSize(String functionName) {
+        return functionToCacheMaximumSize.getOrDefault(functionName, defaultFunctionCacheMaximumSize);
+    }
+
+    public FunctionResultWeigher getFunctionCacheWeigher(String functionName) {
+        return functionToCacheWeigher.get(functionName);
+    }
+
+    public boolean isAdaptiveFunctionCaching() {
+        return adaptiveFunctionCaching;
+    }
+
+    public Duration getAdaptiveFunctionCachingMinimalCost() {
+        return adaptiveFunctionCachingMinimalCost;
+    }
+
+    public double getAdaptiveFunctionCachingMinimalRepetitionRate() {
+        return adaptiveFunctionCachingMinimalRepetitionRate;
+    }
+
+    public int getAdaptiveFunctionCachingSampleSize() {
+        return adaptiveFunctionCachingSampleSize;
+    }
+
     public Duration getRulesCacheRefreshTime() {
         return rulesCacheRefreshTime;
     }
 
+    public long getRulesCacheMaximumWeight() {
+        return rulesCacheMaximumWeight;
+    }
+
     public boolean isSequentialMode() {
         return sequentialMode;
     }
@@ -72,14 +132,33 @@ public class ExecutorConfiguration {
         return crossProductMode;
     }
 
+    public boolean isProfiling() {
+        return profilingSamplingInterval > 0;
+    }
+
+    public int getProfilingSamplingInterval() {
+        return profilingSamplingInterval;
+    }
+
     public static final class Builder {
         private Map<String, Boolean> functionToCacheable = new HashMap<>();
+        private Map<String, Boolean> functionToSessionCacheable = new HashMap<>();
+        private Map<String, Boolean> functionToPure = new HashMap<>();
         private Map<String, Duration> functionToCacheExpirationTime = new HashMap<>();
         private boolean defaultFunctionCacheable = false;
         private Duration defaultFunctionCacheExpirationTime = Duration.ofMinutes(5);
+        private Map<String, Long> functionToCacheMaximumSize = new HashMap<>();
+        private Map<String, FunctionResultWeigher> functionToCacheWeigher = new HashMap<>();
+        private long defaultFunctionCacheMaximumSize = 10_000;
+        private boolean adaptiveFunctionCaching = false;
+        private Duration adaptiveFunctionCachingMinimalCost = Duration.ofNanos(10_000);
+        private double adaptiveFunctionCachingMinimalRepetitionRate = 0.2;
+        private int adaptiveFunctionCachingSampleSize = 256;
         private Duration rulesCacheRefreshTime = Duration.ofMinutes(5);
+        private long rulesCacheMaximumWeight = Long.MAX_VALUE;
         private boolean sequentialMode = false;
         private boolean crossProductMode = false;
+        private int profilingSamplingInterval = 0;
 
         private Builder() {
         }
@@ -89,6 +168,16 @@ public class ExecutorConfiguration {
             return this;
         }
 
+        public Builder withFunctionSessionCacheable(String functionName, boolean shouldCache) {
+            functionToSessionCacheable.put(functionName, shouldCache);
+            return this;
+        }
+
+        public Builder withFunctionPure(String functionName, boolean pure) {
+            functionToPure.put(functionName, pure);
+            return this;
+        }
+
         public Builder withFunctionCacheExpirationTime(String functionName, Duration expirationTime) {
             functionToCacheExpirationTime.put(functionName, expirationTime);
             return this;
@@ -104,11 +193,47 @@ public class ExecutorConfiguration {
             return this;
         }
 
+        public Builder withFunctionCacheMaximumSize(String functionName, long maximumSize) {
+            functionToCacheMaximumSize.put(functionName, maximumSize);
+            return this;
+        }
+
+        public Builder withFunctionCacheWeigher(String functionName, FunctionResultWeigher weigher) {
+            functionToCacheWeigher.put(functionName, weigher);
+            return this;
+        }
+
+        public Builder withDefaultFunctionCacheMaximumSize(long defaultFunctionCacheMaximumSize) {
+            this.defaultFunctionCacheMaximumSize = defaultFunctionCacheMaximumSize;
+            return this;
+        }
+
+        public Builder withAdaptiveFunctionCaching(boolean adaptiveFunctionCaching) {
+            this.adaptiveFunctionCaching = adaptiveFunctionCaching;
+            return this;
+        }
+
+        public Builder withAdaptiveFunctionCachingThresholds(Duration minimalCost, double minimalRepetitionRate) {
+            this.adaptiveFunctionCachingMinimalCost = minimalCost;
+            this.adaptiveFunctionCachingMinimalRepetitionRate = minimalRepetitionRate;
+            return this;
+        }
+
+        public Builder withAdaptiveFunctionCachingSampleSize(int adaptiveFunctionCachingSampleSize) {
+            this.adaptiveFunctionCachingSampleSize = adaptiveFunctionCachingSampleSize;
+            return this;
+        }
+
         public Builder withRulesCacheRefreshTime(Duration rulesCacheRefreshTime) {
             this.rulesCacheRefreshTime = rulesCacheRefreshTime;
             return this;
         }
 
+        public Builder withRulesCacheMaximumWeight(long rulesCacheMaximumWeight) {
+            this.rulesCacheMaximumWeight = rulesCacheMaximumWeight;
+            return this;
+        }
+
         public Builder withSequentialMode(boolean sequentialMode) {
             this.sequentialMode = sequentialMode;
             return this;
@@ -119,6 +244,11 @@ public class ExecutorConfiguration {
             return this;
         }
 
+        public Builder withProfilingSamplingInterval(int profilingSamplingInterval) {
+            this.profilingSamplingInterval = profilingSamplingInterval;
+            return this;
+        }
+
         public ExecutorConfiguration build() {
             return new ExecutorConfiguration(this);
         }
@@ -26,19 +26,35 @@ package com.sabre.oss.yare.engine.executor;
 
 import com.sabre.oss.yare.core.call.ProcessingContext;
 import com.sabre.oss.yare.core.invocation.Invocation;
+import com.sabre.oss.yare.engine.BatchProcessingInvocation;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.Predicate;
 
 import java.lang.reflect.Type;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 public class RuntimeRules {
     private final List<RuntimeRules.ExecutableRule> executableRules;
     private final Map<Type, String> factNames;
+    private final long weight;
+    private final boolean batchedInvocations;
+    private final ClassLoader factsClassLoader;
 
     public RuntimeRules(List<ExecutableRule> executableRules, Map<Type, String> factNames) {
+        this(executableRules, factNames, executableRules.size());
+    }
+
+    public RuntimeRules(List<ExecutableRule> executableRules, Map<Type, String> factNames, long weight) {
+        this(executableRules, factNames, weight, null);
+    }
+
+    RuntimeRules(List<ExecutableRule> executableRules, Map<Type, String> factNames, long weight, ClassLoader factsClassLoader) {
         this.executableRules = executableRules;
         this.factNames = factNames;
+        this.weight = weight;
+        this.batchedInvocations = executableRules.stream().anyMatch(r -> !r.getBatchedInvocations().isEmpty());
+        this.factsClassLoader = factsClassLoader;
     }
 
     public List<ExecutableRule> getExecutableRules() {
@@ -49,23 +65,60 @@ public class RuntimeRules {
         return factNames;
     }
 
+    /**
+     * Return weight of these rules, i.e. number of rules plus number of their predicate nodes,
+     * used to bound the size of cached rule sets. It is not a memory size in bytes.
+     *
+     * @return weight of rules
+     */
+    public long getWeight() {
+        return weight;
+    }
+
+    /**
+     * Return whether any rule calls batch functions.
+     *
+     * @return true if calls of batch functions should be collected before evaluation
+     */
+    public boolean hasBatchedInvocations() {
+        return batchedInvocations;
+    }
+
+    /**
+     * Return class loader of fact types whose accessors were generated for these rules, or null when the rules
+     * were not built by {@link RuntimeRulesBuilder}.
+     *
+     * @return class loader of fact types
+     */
+    ClassLoader getFactsClassLoader() {
+        return factsClassLoader;
+    }
+
     public static final class ExecutableRule {
         private final String ruleId;
         private final Predicate predicate;
         private final Invocation<ProcessingContext, Void> consequence;
         private final Map<String, Object> attributes;
         private final long order;
+        private final List<BatchProcessingInvocation<?>> batchedInvocations;
 
-        private ExecutableRule(String ruleId, Map<String, Object> attributes, Predicate predicate, Invocation<ProcessingContext, Void> consequence, long order) {
+        private ExecutableRule(String ruleId, Map<String, Object> attributes, Predicate predicate, Invocation<ProcessingContext, Void> consequence, long order,
+                               List<BatchProcessingInvocation<?>> batchedInvocations) {
             this.ruleId = ruleId;
             this.attributes = attributes;
             this.predicate = predicate;
             this.consequence = consequence;
             this.order = order;
+            this.batchedInvocations = batchedInvocations;
         }
 
         public static ExecutableRule of(String ruleId, Map<String, Object> attributeMap, Predicate predicate, Invocation<ProcessingContext, Void> consequence, long order) {
-            return new ExecutableRule(ruleId, attributeMap, predicate, consequence, order);
+            return new ExecutableRule(ruleId, attributeMap, predicate, consequence, order, Collections.emptyList());
+        }
+
+        public static ExecutableRule of(String ruleId, Map<String, Object> attributeMap, Predicate predicate, Invocation<ProcessingContext, Void> consequence, long order,
+                                        List<BatchProcessingInvocation<?>> batchedInvocations) {
+            return new ExecutableRule(ruleId, attributeMap, predicate, consequence, order, batchedInvocations);
         }
 
         public String getRuleId() {
@@ -87,5 +140,9 @@ public class RuntimeRules {
         public long getOrder() {
             return order;
         }
+
+        public List<BatchProcessingInvocation<?>> getBatchedInvocations() {
+            return batchedInvocations;
+        }
     }
 }
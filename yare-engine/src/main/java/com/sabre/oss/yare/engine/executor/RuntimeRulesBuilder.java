@@ -35,14 +35,21 @@ import com.sabre.oss.yare.core.model.Rule;
 import com.sabre.oss.yare.core.reference.ReferenceFactory;
 import com.sabre.oss.yare.core.reference.ValueConverter;
 import com.sabre.oss.yare.core.reference.ValueFactory;
+import com.sabre.oss.yare.engine.BatchProcessingInvocation;
 import com.sabre.oss.yare.engine.executor.runtime.operator.logical.False;
 import com.sabre.oss.yare.engine.executor.runtime.operator.logical.True;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.Predicate;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateFactory;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateFactoryContext;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.RuleSetFactoryContext;
 import com.sabre.oss.yare.engine.executor.runtime.validator.RuntimeInputValidator;
+import com.sabre.oss.yare.engine.executor.runtime.value.ConstantValueProvider;
+import com.sabre.oss.yare.engine.executor.runtime.value.FieldReferringClassFactory;
 import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
 import com.sabre.oss.yare.engine.executor.runtime.value.ValueProviderFactory;
+import com.sabre.oss.yare.engine.profiler.PredicateProfiler;
+import com.sabre.oss.yare.engine.profiler.RuleProfile;
 import org.apache.commons.lang3.reflect.TypeUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,33 +64,116 @@ public class RuntimeRulesBuilder implements RuleComponentsFactoryFacade {
     private static final Logger log = LoggerFactory.getLogger(RuntimeRulesBuilder.class);
 
     private final PredicateFactory predicateFactory;
+    private final PredicateFactory valueOperatorFactory = new DefaultValueOperatorFactory();
     private final FunctionFactory functionFactory;
     private final ConsequenceFactory consequenceFactory;
     private final ValueConverter<ValueProvider> valueProviderConverter;
     private final ValueConverter<Predicate> predicateValueConverter;
+    private final ExecutorConfiguration configuration;
+    private final PredicateProfiler profiler;
+    private final AccessorFactories accessorFactories = new AccessorFactories();
 
     public RuntimeRulesBuilder(PredicateFactory predicateFactory, FunctionFactory functionFactory, ConsequenceFactory consequenceFactory) {
+        this(predicateFactory, functionFactory, consequenceFactory, ExecutorConfiguration.builder().build());
+    }
+
+    public RuntimeRulesBuilder(PredicateFactory predicateFactory, FunctionFactory functionFactory, ConsequenceFactory consequenceFactory,
+                               ExecutorConfiguration configuration) {
+        this(predicateFactory, functionFactory, consequenceFactory, configuration, null);
+    }
+
+    public RuntimeRulesBuilder(PredicateFactory predicateFactory, FunctionFactory functionFactory, ConsequenceFactory consequenceFactory,
+                               ExecutorConfiguration configuration, PredicateProfiler profiler) {
         this.predicateFactory = predicateFactory;
+        this.configuration = requireNonNull(configuration);
         this.functionFactory = requireNonNull(functionFactory);
         this.consequenceFactory = requireNonNull(consequenceFactory);
         this.valueProviderConverter = new ValueConverter<>(new ValueProviderReferenceFactory(), new ValueProviderValueFactory());
         this.predicateValueConverter = new ValueConverter<>(new PredicateReferenceFactory(), new PredicateValueFactory());
+        this.profiler = profiler;
     }
 
     public RuntimeRules build(Collection<Rule> rules) {
+        return build(null, rules);
+    }
+
+    /**
+     * Builds executable rules. Accessors of facts are generated by the factory shared by all rules of the same
+     * fact class loader built by this builder, until they are released with {@link #release(RuntimeRules)}.
+     *
+     * @param uri   URI of the rule set, identifies profiles of the rules when profiling is enabled
+     * @param rules rules to build
+     * @return executable rules
+     */
+    public RuntimeRules build(String uri, Collection<Rule> rules) {
+        ClassLoader factsClassLoader = getFactsClassLoader(rules);
+        FieldReferringClassFactory accessorFactory = accessorFactories.acquire(factsClassLoader);
+        try {
+            return accessorFactory.runWithin(() -> buildRules(uri, rules, factsClassLoader));
+        } catch (RuntimeException | Error e) {
+            accessorFactories.release(factsClassLoader);
+            throw e;
+        }
+    }
+
+    /**
+     * Releases accessors generated for rules built by this builder once they are discarded. The accessor factory
+     * is dropped when no other rules built by this builder use it, and rules built afterwards generate
+     * their accessors again.
+     *
+     * @param runtimeRules discarded rules
+     */
+    public void release(RuntimeRules runtimeRules) {
+        if (runtimeRules.getFactsClassLoader() != null) {
+            accessorFactories.release(runtimeRules.getFactsClassLoader());
+        }
+    }
+
+    private static ClassLoader getFactsClassLoader(Collection<Rule> rules) {
+        for (Rule rule : rules) {
+            for (Fact fact : rule.getFacts()) {
+                Class<?> factType = TypeUtils.getRawType(fact.getType(), null);
+                if (factType != null && factType.getClassLoader() != null) {
+                    return factType.getClassLoader();
+                }
+            }
+        }
+        return RuntimeRulesBuilder.class.getClassLoader();
+    }
+
+    private RuntimeRules buildRules(String uri, Collection<Rule> rules, ClassLoader factsClassLoader) {
         Map<Type, String> factNames = new HashMap<>();
         List<RuntimeRules.ExecutableRule> executableRules = new ArrayList<>(rules.size());
+        RuleSetFactoryContext ruleSetContext = new RuleSetFactoryContext();
+        long weight = 0;
         for (Rule rule : rules) {
             factNames.putAll(rule.getFacts().stream()
                     .collect(Collectors.toMap(Fact::getType, Fact::getIdentifier)));
-            RuntimeRules.ExecutableRule runtimeRule = build(rule);
+            RuntimeRules.ExecutableRule runtimeRule = build(uri, rule, ruleSetContext);
             executableRules.add(runtimeRule);
+            weight += 1 + countNodes(rule.getPredicate());
         }
-        return new RuntimeRules(executableRules, factNames);
+        ruleSetContext.complete();
+        return new RuntimeRules(executableRules, factNames, weight, factsClassLoader);
     }
 
     @Override
     public Predicate createPredicate(PredicateFactoryContext context, Expression expression) {
+        RuleProfile ruleProfile = context.getRuleProfile();
+        return ruleProfile != null
+                ? ruleProfile.profilePredicate(expression, () -> buildPredicate(context, expression))
+                : buildPredicate(context, expression);
+    }
+
+    @Override
+    public ValueProvider createValueProvider(PredicateFactoryContext context, Expression expression) {
+        RuleProfile ruleProfile = context.getRuleProfile();
+        return ruleProfile != null
+                ? ruleProfile.profileValueProvider(expression, () -> buildValueProvider(context, expression))
+                : buildValueProvider(context, expression);
+    }
+
+    private Predicate buildPredicate(PredicateFactoryContext context, Expression expression) {
         if (expression instanceof Expression.Value) {
             Expression.Value value = (Expression.Value) expression;
             return predicateValueConverter.create(context.getRule(), value);
@@ -101,8 +191,7 @@ public class RuntimeRulesBuilder implements RuleComponentsFactoryFacade {
         throw new IllegalArgumentException(String.format("Unsupported expression: %s", expression));
     }
 
-    @Override
-    public ValueProvider createValueProvider(PredicateFactoryContext context, Expression expression) {
+    private ValueProvider buildValueProvider(PredicateFactoryContext context, Expression expression) {
         if (expression instanceof Expression.Value) {
             Expression.Value value = (Expression.Value) expression;
             return valueProviderConverter.create(context.getRule(), value);
@@ -115,13 +204,57 @@ public class RuntimeRulesBuilder implements RuleComponentsFactoryFacade {
         }
         if (expression instanceof Expression.Function) {
             Expression.Function function = (Expression.Function) expression;
+            if (configuration.isFunctionPure(function.getCall())) {
+                Optional<ValueProvider> constant = fold(context, function);
+                if (constant.isPresent()) {
+                    return constant.get();
+                }
+            }
             Invocation<ProcessingContext, Object> invocation = functionFactory.create(context.getRule(), function);
-            return ValueProviderFactory.createFromInvocation(invocation);
+            if (invocation instanceof BatchProcessingInvocation && ((BatchProcessingInvocation<?>) invocation).isResolvableUpfront()) {
+                context.addBatchedInvocation(function, (BatchProcessingInvocation<?>) invocation);
+            }
+            return ValueProviderFactory.createFromInvocation(function.getCall(), invocation);
+        }
+        if (expression instanceof Expression.Operator && Expression.Operator.VALUE_OPERATORS.contains(((Expression.Operator) expression).getCall())) {
+            Predicate operator = valueOperatorFactory.create(context, expression);
+            if (operator instanceof ValueProvider) {
+                return (ValueProvider) operator;
+            }
         }
         throw new IllegalArgumentException(String.format("Unsupported expression: %s", expression));
     }
 
-    private RuntimeRules.ExecutableRule build(Rule rule) {
+    private boolean hasConstantArguments(PredicateFactoryContext context, Expression.Function function) {
+        return function.getArguments().stream()
+                .allMatch(argument -> buildValueProvider(context, argument) instanceof ConstantValueProvider);
+    }
+
+    private Optional<ValueProvider> fold(PredicateFactoryContext context, Expression.Function function) {
+        RuleSetFactoryContext ruleSetContext = context.getRuleSetContext();
+        return ruleSetContext != null
+                ? ruleSetContext.getComponent(FoldedFunctionCalls.class, FoldedFunctionCalls::new).fold(function, () -> evaluateAtBuildTime(context, function))
+                : evaluateAtBuildTime(context, function);
+    }
+
+    private Optional<ValueProvider> evaluateAtBuildTime(PredicateFactoryContext context, Expression.Function function) {
+        if (!hasConstantArguments(context, function)) {
+            return Optional.empty();
+        }
+        Invocation<ProcessingContext, Object> invocation = functionFactory.create(context.getRule(), function);
+        if (invocation == null) {
+            return Optional.empty();
+        }
+        try {
+            Object value = invocation.proceed(new PredicateContext(null, null, Collections.emptyMap(), Collections.emptyMap(), null));
+            return Optional.of(ValueProviderFactory.createFromConstant(value, function.getType()));
+        } catch (RuntimeException e) {
+            log.debug("Pure function {} could not be evaluated when building rules, it will be called at runtime", function.getCall(), e);
+            return Optional.empty();
+        }
+    }
+
+    private RuntimeRules.ExecutableRule build(String uri, Rule rule, RuleSetFactoryContext ruleSetContext) {
         Attribute ruleNameAttr = rule.getAttribute("ruleName");
         Attribute priorityAttr = rule.getAttribute("priority");
         String ruleName = ruleNameAttr != null ? (String) ruleNameAttr.getValue() : null;
@@ -130,21 +263,33 @@ public class RuntimeRulesBuilder implements RuleComponentsFactoryFacade {
             ruleName = "id-" + Long.toHexString(System.identityHashCode(rule));
             log.warn("'ruleName' property not defined. Created identifier {}", ruleName);
         }
-        PredicateFactoryContext factoryContext = new PredicateFactoryContext(rule, this);
+        RuleProfile ruleProfile = profiler != null ? profiler.startProfiling(uri, ruleName, rule.getPredicate()) : null;
+        PredicateFactoryContext factoryContext = new PredicateFactoryContext(rule, this, ruleSetContext, ruleProfile);
         Predicate predicate = RuntimeInputValidator.of(rule.getFacts(), createPredicate(factoryContext, rule.getPredicate()));
         Invocation<ProcessingContext, Void> consequence = prepareConsequence(rule);
 
-        return RuntimeRules.ExecutableRule.of(ruleName, createAttributeMap(rule), predicate, consequence, priority.longValue());
-    }
-
-    private Map<String, Object> createAttributeMap(Rule rule) {
-        return rule.getAttributes().stream().collect(Collectors.toMap(Attribute::getName, Attribute::getValue));
+        return RuntimeRules.ExecutableRule.of(ruleName, rule.getAttributeValues(), predicate, consequence, priority.longValue(),
+                factoryContext.getBatchedInvocations());
     }
 
     private Invocation<ProcessingContext, Void> prepareConsequence(Rule rule) {
         return consequenceFactory.createConsequence(rule, rule.getActions());
     }
 
+    private static long countNodes(Expression expression) {
+        long count = 1;
+        if (expression instanceof Expression.Invocation) {
+            for (Expression argument : ((Expression.Invocation) expression).getArguments()) {
+                count += countNodes(argument);
+            }
+        } else if (expression instanceof Expression.Values) {
+            for (Expression value : ((Expression.Values) expression).getValues()) {
+                count += countNodes(value);
+            }
+        }
+        return count;
+    }
+
     private static boolean isNotBoolean(Type type) {
         return !(Boolean.class.equals(type) || boolean.class.equals(type));
     }
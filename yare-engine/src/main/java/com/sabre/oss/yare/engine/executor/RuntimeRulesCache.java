@@ -0,0 +1,216 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.cache.RemovalListener;
+import com.sabre.oss.yare.core.management.RuleSetCache;
+import com.sabre.oss.yare.core.management.RuleSetInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Cache of {@link RuntimeRules} keyed by rule execution set URI.
+ * <p>
+ * Total weight of cached rule sets (see {@link RuntimeRules#getWeight()}) is kept below configured maximum
+ * by evicting least recently used rule sets. Evicted rule sets are loaded again on next access.
+ * <p>
+ * Rule sets removed from the cache for any reason, i.e. evicted, invalidated or replaced by refreshed ones,
+ * are passed to the configured release callback.
+ */
+final class RuntimeRulesCache implements RuleSetCache {
+    private static final Logger log = LoggerFactory.getLogger(RuntimeRulesCache.class);
+
+    private final LoadingCache<String, RuntimeRules> cache;
+    private final Map<String, Long> lastAccess = new ConcurrentHashMap<>();
+    private final Map<String, RuleSetInfo> ruleSets = new ConcurrentHashMap<>();
+    private final List<EvictionListener> evictionListeners = new CopyOnWriteArrayList<>();
+    private final LongAdder evictionCount = new LongAdder();
+    private final AtomicLong loadCount = new AtomicLong();
+    private final Ticker ticker;
+    private volatile long checkedLoadCount;
+    private volatile long maximumWeight;
+
+    RuntimeRulesCache(CacheLoader<String, RuntimeRules> loader, Duration refreshTime, long maximumWeight, Consumer<RuntimeRules> release) {
+        this(loader, refreshTime, maximumWeight, Ticker.systemTicker(), release);
+    }
+
+    RuntimeRulesCache(CacheLoader<String, RuntimeRules> loader, Duration refreshTime, long maximumWeight, Ticker ticker) {
+        this(loader, refreshTime, maximumWeight, ticker, runtimeRules -> {
+        });
+    }
+
+    RuntimeRulesCache(CacheLoader<String, RuntimeRules> loader, Duration refreshTime, long maximumWeight, Ticker ticker,
+                      Consumer<RuntimeRules> release) {
+        this.ticker = ticker;
+        this.maximumWeight = maximumWeight;
+        this.cache = CacheBuilder.newBuilder()
+                .refreshAfterWrite(refreshTime.toMillis(), TimeUnit.MILLISECONDS)
+                .removalListener((RemovalListener<String, RuntimeRules>) notification -> release.accept(notification.getValue()))
+                .build(new CacheLoader<String, RuntimeRules>() {
+                    @Override
+                    public RuntimeRules load(String key) throws Exception {
+                        long start = ticker.read();
+                        RuntimeRules runtimeRules = loader.load(key);
+                        ruleSets.put(key, new RuleSetInfo(key, runtimeRules.getExecutableRules().size(), runtimeRules.getWeight(),
+                                ticker.read() - start, System.currentTimeMillis()));
+                        loadCount.incrementAndGet();
+                        return runtimeRules;
+                    }
+                });
+    }
+
+    RuntimeRules get(String uri) {
+        RuntimeRules runtimeRules = cache.getUnchecked(uri);
+        lastAccess.put(uri, ticker.read());
+        long loads = loadCount.get();
+        if (loads != checkedLoadCount) {
+            checkedLoadCount = loads;
+            evictExceeding(uri);
+        }
+        return runtimeRules;
+    }
+
+    @Override
+    public boolean evict(Object key) {
+        cache.invalidate(key);
+        lastAccess.remove(key);
+        ruleSets.remove(key);
+        return true;
+    }
+
+    @Override
+    public boolean clear() {
+        cache.invalidateAll();
+        lastAccess.clear();
+        ruleSets.clear();
+        return true;
+    }
+
+    @Override
+    public Map<String, RuleSetInfo> getRuleSets() {
+        Map<String, RuleSetInfo> infos = new HashMap<>();
+        for (String uri : cache.asMap().keySet()) {
+            RuleSetInfo info = ruleSets.get(uri);
+            if (info != null) {
+                infos.put(uri, info);
+            }
+        }
+        return Collections.unmodifiableMap(infos);
+    }
+
+    @Override
+    public boolean refresh(String uri) {
+        cache.refresh(uri);
+        lastAccess.put(uri, ticker.read());
+        evictExceeding(uri);
+        return cache.getIfPresent(uri) != null;
+    }
+
+    @Override
+    public boolean preload(String uri) {
+        return get(uri) != null;
+    }
+
+    @Override
+    public long getWeight() {
+        long weight = 0;
+        for (RuntimeRules runtimeRules : cache.asMap().values()) {
+            weight += runtimeRules.getWeight();
+        }
+        return weight;
+    }
+
+    @Override
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    @Override
+    public void setMaximumWeight(long maximumWeight) {
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException(String.format("Maximum weight must be positive, but was %d", maximumWeight));
+        }
+        this.maximumWeight = maximumWeight;
+        evictExceeding(null);
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    @Override
+    public void addEvictionListener(EvictionListener listener) {
+        evictionListeners.add(listener);
+    }
+
+    private synchronized void evictExceeding(String protectedKey) {
+        long limit = maximumWeight;
+        if (limit == Long.MAX_VALUE) {
+            return;
+        }
+        Map<String, RuntimeRules> entries = cache.asMap();
+        long weight = getWeight();
+        if (weight <= limit) {
+            return;
+        }
+        List<Map.Entry<String, Long>> candidates = new ArrayList<>(lastAccess.entrySet());
+        candidates.sort(Comparator.comparing(Map.Entry::getValue));
+        for (int i = 0; i < candidates.size() && weight > limit; i++) {
+            String key = candidates.get(i).getKey();
+            if (key.equals(protectedKey)) {
+                continue;
+            }
+            RuntimeRules evicted = entries.remove(key);
+            lastAccess.remove(key);
+            ruleSets.remove(key);
+            if (evicted != null) {
+                weight -= evicted.getWeight();
+                onEviction(key, evicted.getWeight());
+            }
+        }
+    }
+
+    private void onEviction(String key, long weight) {
+        evictionCount.increment();
+        log.info("Evicted rules '{}' of weight {} due to exceeded maximum weight {}", key, weight, maximumWeight);
+        for (EvictionListener listener : evictionListeners) {
+            listener.onEviction(key, weight);
+        }
+    }
+}
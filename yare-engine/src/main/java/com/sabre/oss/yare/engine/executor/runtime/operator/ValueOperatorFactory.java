@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator;
+
+import com.sabre.oss.yare.core.model.Expression;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateFactoryContext;
+import com.sabre.oss.yare.engine.executor.runtime.value.ConstantValueProvider;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+
+/**
+ * {@code ValueOperatorFactory} creates operators computing values of their operands, which are used as operands
+ * themselves (i.e. sum compared with a constant).
+ * <p>
+ * Operators of constant operands are evaluated once, when created.
+ */
+public abstract class ValueOperatorFactory extends OperatorFactory {
+
+    @Override
+    public final ValueProvider create(PredicateFactoryContext context, Expression.Operator operator, ValueProvider[] valueProviders) {
+        ValueProvider valueProvider = create(operator, valueProviders);
+        return valueProvider != null && isConstant(valueProviders)
+                ? fold(valueProvider)
+                : valueProvider;
+    }
+
+    /**
+     * Creates value provider computing value of {@code operator}, or {@code null} when not applicable.
+     *
+     * @param operator       operator expression
+     * @param valueProviders value providers of operands
+     * @return value provider or {@code null}
+     */
+    protected abstract ValueProvider create(Expression.Operator operator, ValueProvider[] valueProviders);
+
+    private static boolean isConstant(ValueProvider[] valueProviders) {
+        for (ValueProvider valueProvider : valueProviders) {
+            if (!(valueProvider instanceof ConstantValueProvider)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ValueProvider fold(ValueProvider valueProvider) {
+        Object value;
+        try {
+            value = valueProvider.get(null);
+        } catch (RuntimeException e) {
+            return valueProvider;
+        }
+        return new ConstantValueProvider(value, valueProvider.getType());
+    }
+}
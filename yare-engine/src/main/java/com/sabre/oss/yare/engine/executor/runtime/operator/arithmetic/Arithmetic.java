@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.arithmetic;
+
+import com.sabre.oss.yare.core.model.Expression;
+import com.sabre.oss.yare.engine.executor.runtime.operator.ValueOperatorFactory;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+import org.apache.commons.lang3.reflect.TypeUtils;
+
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAmount;
+
+import static java.lang.String.format;
+
+/**
+ * {@code Arithmetic} creates {@code add}, {@code subtract}, {@code multiply}, {@code divide}, {@code min}
+ * and {@code max} operators. Operators with more than two operands are computed from left to right.
+ * <p>
+ * Operators are specialized by operand types known when rules are built: numbers are computed as primitives
+ * of the widest operand kind, date-times are shifted by amounts of time and comparable values of the same
+ * type are compared. Other operands are handled by {@link DynamicArithmetic}.
+ * The result is {@code null} when any of operands is {@code null}. Results are always of the declared type,
+ * so numeric results overflowing it are reported with {@link ArithmeticException}.
+ */
+public class Arithmetic extends ValueOperatorFactory {
+
+    @Override
+    protected ValueProvider create(Expression.Operator operator, ValueProvider[] valueProviders) {
+        ArithmeticOperation operation = ArithmeticOperation.of(operator.getCall());
+        if (operation == null) {
+            return null;
+        }
+        if (valueProviders.length < 2) {
+            throw new IllegalArgumentException(format("Operator %s requires at least two operands", operator.getCall()));
+        }
+        ValueProvider result = valueProviders[0];
+        for (int i = 1; i < valueProviders.length; i++) {
+            result = create(operation, result, valueProviders[i]);
+        }
+        return result;
+    }
+
+    private static ValueProvider create(ArithmeticOperation operation, ValueProvider left, ValueProvider right) {
+        Class<?> leftType = getRawType(left);
+        Class<?> rightType = getRawType(right);
+        NumericType leftNumericType = NumericType.of(leftType);
+        NumericType rightNumericType = NumericType.of(rightType);
+        if (leftNumericType != null && rightNumericType != null) {
+            NumericValueProvider l = NumericValueProvider.of(left);
+            NumericValueProvider r = NumericValueProvider.of(right);
+            switch (leftNumericType.widen(rightNumericType)) {
+                case INT:
+                    return new IntArithmetic(operation, l, r);
+                case LONG:
+                    return new LongArithmetic(operation, l, r);
+                case DOUBLE:
+                    return new DoubleArithmetic(operation, l, r);
+                default:
+                    return new DecimalArithmetic(operation, l, r);
+            }
+        }
+        if (operation.isTemporal() && Temporal.class.isAssignableFrom(leftType) && TemporalAmount.class.isAssignableFrom(rightType)) {
+            return new TemporalArithmetic(operation, left, right);
+        }
+        if (operation.isExtremum() && Comparable.class.isAssignableFrom(leftType) && leftType.equals(rightType)) {
+            return new ComparableExtremum(operation, left, right);
+        }
+        return new DynamicArithmetic(operation, left, right);
+    }
+
+    private static Class<?> getRawType(ValueProvider valueProvider) {
+        Class<?> type = TypeUtils.getRawType(valueProvider.getType(), null);
+        return type != null ? type : Object.class;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.arithmetic;
+
+import com.sabre.oss.yare.core.model.Expression;
+
+/**
+ * {@code ArithmeticOperation} enumerates operations of {@link Arithmetic} operators.
+ */
+public enum ArithmeticOperation {
+    ADD(Expression.Operator.ADD),
+    SUBTRACT(Expression.Operator.SUBTRACT),
+    MULTIPLY(Expression.Operator.MULTIPLY),
+    DIVIDE(Expression.Operator.DIVIDE),
+    MIN(Expression.Operator.MIN),
+    MAX(Expression.Operator.MAX);
+
+    private final String operatorName;
+
+    ArithmeticOperation(String operatorName) {
+        this.operatorName = operatorName;
+    }
+
+    public String getOperatorName() {
+        return operatorName;
+    }
+
+    /**
+     * Returns operation of given operator.
+     *
+     * @param operatorName operator name
+     * @return operation or {@code null} if the operator is not arithmetic
+     */
+    public static ArithmeticOperation of(String operatorName) {
+        for (ArithmeticOperation operation : values()) {
+            if (operation.operatorName.equals(operatorName)) {
+                return operation;
+            }
+        }
+        return null;
+    }
+
+    boolean isExtremum() {
+        return this == MIN || this == MAX;
+    }
+
+    boolean isTemporal() {
+        return this == ADD || this == SUBTRACT;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.arithmetic;
+
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+
+import java.lang.reflect.Type;
+
+/**
+ * {@code ComparableExtremum} computes minimum or maximum of {@link Comparable} operands of the same type,
+ * i.e. strings or dates.
+ */
+public final class ComparableExtremum extends ValueProvider {
+    private final ArithmeticOperation operation;
+    private final ValueProvider left;
+    private final ValueProvider right;
+
+    public ComparableExtremum(ArithmeticOperation operation, ValueProvider left, ValueProvider right) {
+        this.operation = operation;
+        this.left = left;
+        this.right = right;
+    }
+
+    @SuppressWarnings("unchecked")
+    static Object apply(ArithmeticOperation operation, Object left, Object right) {
+        int comparison = ((Comparable<Object>) left).compareTo(right);
+        return (operation == ArithmeticOperation.MIN ? comparison <= 0 : comparison >= 0) ? left : right;
+    }
+
+    @Override
+    public Object get(PredicateContext context) {
+        Object l = left.get(context);
+        if (l == null) {
+            return null;
+        }
+        Object r = right.get(context);
+        return r != null ? apply(operation, l, r) : null;
+    }
+
+    @Override
+    public Type getType() {
+        return left.getType();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.arithmetic;
+
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * {@code DecimalArithmetic} computes arithmetic operation over {@link BigDecimal} operands.
+ * Division is rounded to {@link MathContext#DECIMAL128} precision.
+ */
+public final class DecimalArithmetic extends NumericArithmetic {
+
+    public DecimalArithmetic(ArithmeticOperation operation, NumericValueProvider left, NumericValueProvider right) {
+        super(NumericType.DECIMAL, operation, left, right);
+    }
+
+    static BigDecimal apply(ArithmeticOperation operation, BigDecimal left, BigDecimal right) {
+        switch (operation) {
+            case ADD:
+                return left.add(right);
+            case SUBTRACT:
+                return left.subtract(right);
+            case MULTIPLY:
+                return left.multiply(right);
+            case DIVIDE:
+                return left.divide(right, MathContext.DECIMAL128);
+            case MIN:
+                return left.min(right);
+            default:
+                return left.max(right);
+        }
+    }
+
+    @Override
+    Number compute(PredicateContext context) {
+        return getDecimal(context);
+    }
+
+    @Override
+    public int getInt(PredicateContext context) {
+        return getDecimal(context).intValue();
+    }
+
+    @Override
+    public long getLong(PredicateContext context) {
+        return getDecimal(context).longValue();
+    }
+
+    @Override
+    public double getDouble(PredicateContext context) {
+        return getDecimal(context).doubleValue();
+    }
+
+    @Override
+    public BigDecimal getDecimal(PredicateContext context) {
+        BigDecimal l = left.getDecimal(context);
+        BigDecimal r = right.getDecimal(context);
+        return isDivisionByMissingOperand(context, r.signum() == 0) ? BigDecimal.ZERO : apply(operation, l, r);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.arithmetic;
+
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+
+import java.math.BigDecimal;
+
+/**
+ * {@code DoubleArithmetic} computes arithmetic operation over {@code double} operands.
+ */
+public final class DoubleArithmetic extends NumericArithmetic {
+
+    public DoubleArithmetic(ArithmeticOperation operation, NumericValueProvider left, NumericValueProvider right) {
+        super(NumericType.DOUBLE, operation, left, right);
+    }
+
+    static double apply(ArithmeticOperation operation, double left, double right) {
+        switch (operation) {
+            case ADD:
+                return left + right;
+            case SUBTRACT:
+                return left - right;
+            case MULTIPLY:
+                return left * right;
+            case DIVIDE:
+                return left / right;
+            case MIN:
+                return Math.min(left, right);
+            default:
+                return Math.max(left, right);
+        }
+    }
+
+    @Override
+    Number compute(PredicateContext context) {
+        return getDouble(context);
+    }
+
+    @Override
+    public int getInt(PredicateContext context) {
+        return (int) getDouble(context);
+    }
+
+    @Override
+    public long getLong(PredicateContext context) {
+        return (long) getDouble(context);
+    }
+
+    @Override
+    public double getDouble(PredicateContext context) {
+        return apply(operation, left.getDouble(context), right.getDouble(context));
+    }
+
+    @Override
+    public BigDecimal getDecimal(PredicateContext context) {
+        return BigDecimal.valueOf(getDouble(context));
+    }
+}
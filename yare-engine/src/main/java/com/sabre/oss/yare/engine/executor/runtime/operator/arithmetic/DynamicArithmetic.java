@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.arithmetic;
+
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAmount;
+
+import static java.lang.String.format;
+
+/**
+ * {@code DynamicArithmetic} computes arithmetic operation over operands which types are not known
+ * when rules are built, choosing the computation by types of actual values.
+ */
+public final class DynamicArithmetic extends ValueProvider {
+    private final ArithmeticOperation operation;
+    private final ValueProvider left;
+    private final ValueProvider right;
+
+    public DynamicArithmetic(ArithmeticOperation operation, ValueProvider left, ValueProvider right) {
+        this.operation = operation;
+        this.left = left;
+        this.right = right;
+    }
+
+    @Override
+    public Object get(PredicateContext context) {
+        Object l = left.get(context);
+        if (l == null) {
+            return null;
+        }
+        Object r = right.get(context);
+        return r != null ? apply(operation, l, r) : null;
+    }
+
+    static Object apply(ArithmeticOperation operation, Object left, Object right) {
+        if (left instanceof Number && right instanceof Number) {
+            return apply(operation, (Number) left, (Number) right);
+        }
+        if (operation.isTemporal() && left instanceof Temporal && right instanceof TemporalAmount) {
+            return TemporalArithmetic.apply(operation, (Temporal) left, (TemporalAmount) right);
+        }
+        if (operation.isExtremum() && left instanceof Comparable && left.getClass().equals(right.getClass())) {
+            return ComparableExtremum.apply(operation, left, right);
+        }
+        throw new IllegalArgumentException(format("Operator %s is not applicable to %s and %s",
+                operation.getOperatorName(), left.getClass().getName(), right.getClass().getName()));
+    }
+
+    private static Number apply(ArithmeticOperation operation, Number left, Number right) {
+        NumericType type = kindOf(left).widen(kindOf(right));
+        switch (type) {
+            case INT:
+                return IntArithmetic.apply(operation, left.intValue(), right.intValue());
+            case LONG:
+                return LongArithmetic.apply(operation, left.longValue(), right.longValue());
+            case DOUBLE:
+                return DoubleArithmetic.apply(operation, left.doubleValue(), right.doubleValue());
+            default:
+                return DecimalArithmetic.apply(operation, NumericValueProvider.toDecimal(left), NumericValueProvider.toDecimal(right));
+        }
+    }
+
+    private static NumericType kindOf(Number number) {
+        NumericType type = NumericType.of(number.getClass());
+        return type != null ? type : NumericType.DOUBLE;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.arithmetic;
+
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+import org.apache.commons.lang3.reflect.TypeUtils;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+
+/**
+ * {@code NumberOperand} adapts value provider of boxed numbers, i.e. fact fields, to {@link NumericValueProvider}.
+ * Missing values are marked in the context and taken as zero by primitive getters.
+ */
+final class NumberOperand extends NumericValueProvider {
+    private final ValueProvider valueProvider;
+
+    NumberOperand(ValueProvider valueProvider) {
+        super(NumericType.of(TypeUtils.getRawType(valueProvider.getType(), null)));
+        this.valueProvider = valueProvider;
+    }
+
+    @Override
+    public int getInt(PredicateContext context) {
+        return getNumber(context).intValue();
+    }
+
+    @Override
+    public long getLong(PredicateContext context) {
+        return getNumber(context).longValue();
+    }
+
+    @Override
+    public double getDouble(PredicateContext context) {
+        return getNumber(context).doubleValue();
+    }
+
+    @Override
+    public BigDecimal getDecimal(PredicateContext context) {
+        return toDecimal(getNumber(context));
+    }
+
+    @Override
+    public Object get(PredicateContext context) {
+        return valueProvider.get(context);
+    }
+
+    @Override
+    public Type getType() {
+        return valueProvider.getType();
+    }
+
+    private Number getNumber(PredicateContext context) {
+        Number number = (Number) valueProvider.get(context);
+        if (number == null) {
+            context.markMissingOperand();
+            return 0;
+        }
+        return number;
+    }
+}
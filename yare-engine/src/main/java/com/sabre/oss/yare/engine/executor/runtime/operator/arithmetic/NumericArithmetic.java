@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.arithmetic;
+
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+
+import static java.lang.String.format;
+
+/**
+ * {@code NumericArithmetic} is a base of arithmetic operators specialized for a kind of numbers.
+ * <p>
+ * The value is computed from primitive values of operands, nested operators included. Missing operands
+ * are marked in the context rather than checked at each level, so the mark is checked once by the outermost
+ * operator. Results are always of the declared kind, overflowing ones are reported with {@link ArithmeticException}.
+ */
+abstract class NumericArithmetic extends NumericValueProvider {
+    protected final ArithmeticOperation operation;
+    protected final NumericValueProvider left;
+    protected final NumericValueProvider right;
+
+    NumericArithmetic(NumericType numericType, ArithmeticOperation operation, NumericValueProvider left, NumericValueProvider right) {
+        super(numericType);
+        this.operation = operation;
+        this.left = left;
+        this.right = right;
+    }
+
+    /**
+     * Computes boxed value from primitive values of operands.
+     *
+     * @param context predicate context
+     * @return computed value, meaningless if an operand has been marked as missing
+     */
+    abstract Number compute(PredicateContext context);
+
+    @Override
+    public final Object get(PredicateContext context) {
+        if (context == null) {
+            return computeBoxed();
+        }
+        boolean missingBefore = context.takeMissingOperand();
+        Number value = compute(context);
+        boolean missing = context.takeMissingOperand();
+        if (missingBefore) {
+            context.markMissingOperand();
+        }
+        return missing ? null : value;
+    }
+
+    /**
+     * Tells whether division by zero should be skipped, as the divisor is zero only because it's missing.
+     *
+     * @param context     predicate context
+     * @param zeroDivisor whether the divisor is zero
+     * @return {@code true} if the result is meaningless anyway
+     */
+    protected final boolean isDivisionByMissingOperand(PredicateContext context, boolean zeroDivisor) {
+        return zeroDivisor && operation == ArithmeticOperation.DIVIDE && context.hasMissingOperand();
+    }
+
+    static ArithmeticException overflow(ArithmeticOperation operation, NumericType numericType, Object left, Object right) {
+        return new ArithmeticException(format("Result of %s of %s and %s overflows %s",
+                operation.getOperatorName(), left, right, numericType.getType().getSimpleName()));
+    }
+
+    // constants are folded when rules are built, without a context
+    private Object computeBoxed() {
+        Object l = left.get(null);
+        if (l == null) {
+            return null;
+        }
+        Object r = right.get(null);
+        return r != null ? DynamicArithmetic.apply(operation, l, r) : null;
+    }
+}
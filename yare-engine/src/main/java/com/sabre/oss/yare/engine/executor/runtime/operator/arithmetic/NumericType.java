@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.arithmetic;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * {@code NumericType} is a kind of numbers arithmetic operators are specialized for. Operands of different
+ * kinds are promoted to the wider one, as in Java.
+ */
+public enum NumericType {
+    INT(Integer.class),
+    LONG(Long.class),
+    DOUBLE(Double.class),
+    DECIMAL(BigDecimal.class);
+
+    private final Class<? extends Number> type;
+
+    NumericType(Class<? extends Number> type) {
+        this.type = type;
+    }
+
+    /**
+     * Returns type of values computed for this kind.
+     *
+     * @return value type
+     */
+    public Class<? extends Number> getType() {
+        return type;
+    }
+
+    /**
+     * Returns wider of this and {@code other} kind.
+     *
+     * @param other other kind
+     * @return wider kind
+     */
+    public NumericType widen(NumericType other) {
+        return compareTo(other) >= 0 ? this : other;
+    }
+
+    /**
+     * Returns kind of numbers of given type.
+     *
+     * @param type number type, possibly primitive
+     * @return kind of numbers or {@code null} if not known for the type
+     */
+    public static NumericType of(Class<?> type) {
+        if (type == Integer.class || type == int.class || type == Short.class || type == short.class
+                || type == Byte.class || type == byte.class) {
+            return INT;
+        }
+        if (type == Long.class || type == long.class) {
+            return LONG;
+        }
+        if (type == Double.class || type == double.class || type == Float.class || type == float.class) {
+            return DOUBLE;
+        }
+        if (type == BigDecimal.class || type == BigInteger.class) {
+            return DECIMAL;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.arithmetic;
+
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * {@code NumericValueProvider} is a value provider of numbers, able to compute its value as a primitive.
+ * <p>
+ * Nested arithmetic operators call primitive getters of their operands, so intermediate results are not boxed.
+ * Primitive getters signal missing ({@code null}) values with {@link PredicateContext#markMissingOperand()},
+ * returning zero instead. Arithmetic operators check the mark once for the whole expression and turn it into
+ * {@code null} value of {@link #get(PredicateContext)}.
+ */
+public abstract class NumericValueProvider extends ValueProvider {
+    private final NumericType numericType;
+
+    protected NumericValueProvider(NumericType numericType) {
+        this.numericType = numericType;
+    }
+
+    /**
+     * Returns value provider of numbers given by {@code valueProvider}.
+     *
+     * @param valueProvider value provider of numbers
+     * @return numeric value provider
+     */
+    public static NumericValueProvider of(ValueProvider valueProvider) {
+        return valueProvider instanceof NumericValueProvider
+                ? (NumericValueProvider) valueProvider
+                : new NumberOperand(valueProvider);
+    }
+
+    public abstract int getInt(PredicateContext context);
+
+    public abstract long getLong(PredicateContext context);
+
+    public abstract double getDouble(PredicateContext context);
+
+    public abstract BigDecimal getDecimal(PredicateContext context);
+
+    /**
+     * Returns kind of numbers computed by this provider.
+     *
+     * @return kind of numbers or {@code null} if not known
+     */
+    public NumericType getNumericType() {
+        return numericType;
+    }
+
+    @Override
+    public Type getType() {
+        return numericType.getType();
+    }
+
+    protected static BigDecimal toDecimal(Number number) {
+        if (number instanceof BigDecimal) {
+            return (BigDecimal) number;
+        }
+        if (number instanceof BigInteger) {
+            return new BigDecimal((BigInteger) number);
+        }
+        if (number instanceof Double || number instanceof Float) {
+            return BigDecimal.valueOf(number.doubleValue());
+        }
+        return BigDecimal.valueOf(number.longValue());
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.arithmetic;
+
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+
+import java.lang.reflect.Type;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAmount;
+
+/**
+ * {@code TemporalArithmetic} adds or subtracts an amount of time (i.e. {@link java.time.Duration})
+ * to/from a date-time.
+ */
+public final class TemporalArithmetic extends ValueProvider {
+    private final ArithmeticOperation operation;
+    private final ValueProvider left;
+    private final ValueProvider right;
+
+    public TemporalArithmetic(ArithmeticOperation operation, ValueProvider left, ValueProvider right) {
+        this.operation = operation;
+        this.left = left;
+        this.right = right;
+    }
+
+    static Temporal apply(ArithmeticOperation operation, Temporal left, TemporalAmount right) {
+        return operation == ArithmeticOperation.ADD ? left.plus(right) : left.minus(right);
+    }
+
+    @Override
+    public Object get(PredicateContext context) {
+        Temporal temporal = (Temporal) left.get(context);
+        if (temporal == null) {
+            return null;
+        }
+        TemporalAmount amount = (TemporalAmount) right.get(context);
+        return amount != null ? apply(operation, temporal, amount) : null;
+    }
+
+    @Override
+    public Type getType() {
+        return left.getType();
+    }
+}
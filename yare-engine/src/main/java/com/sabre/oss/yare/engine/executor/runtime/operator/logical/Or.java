@@ -26,16 +26,30 @@ package com.sabre.oss.yare.engine.executor.runtime.operator.logical;
 
 import com.sabre.oss.yare.core.model.Expression;
 import com.sabre.oss.yare.engine.executor.RuntimeRulesBuilder;
+import com.sabre.oss.yare.engine.executor.runtime.operator.relation.Eq;
+import com.sabre.oss.yare.engine.executor.runtime.operator.relation.In;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.Predicate;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateFactory;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateFactoryContext;
+import com.sabre.oss.yare.engine.executor.runtime.value.ConstantValueProvider;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.reflect.TypeUtils;
+import org.apache.commons.lang3.tuple.Pair;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -93,6 +107,10 @@ public final class Or extends Predicate {
     }
 
     public static class Factory implements PredicateFactory {
+        private static final Set<Class<?>> MEMBERSHIP_TYPES = new HashSet<>(Arrays.asList(
+                String.class, Boolean.class, Character.class,
+                Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+                BigInteger.class, BigDecimal.class));
 
         @Override
         public Predicate create(PredicateFactoryContext context, Expression expression) {
@@ -105,15 +123,96 @@ public final class Or extends Predicate {
                 return null;
             }
 
-            RuntimeRulesBuilder factoryFacade = context.getFactoryFacade();
-            ArrayList<Predicate> predicates = operator.getArguments().stream()
-                    .map(e -> factoryFacade.createPredicate(context, e))
-                    .collect(Collectors.toCollection(ArrayList::new));
-            return new Or(predicates);
+            List<Predicate> predicates = createPredicates(context, operator.getArguments());
+            return predicates.size() == 1 && predicates.get(0) instanceof In ? predicates.get(0) : new Or(predicates);
         }
 
         private boolean isApplicable(Expression.Operator operator) {
             return OPERATOR_NAME.equals(operator.getCall());
         }
+
+        /**
+         * Creates predicates of the alternatives, replacing equalities of the same value with
+         * constants, i.e. {@code or(equal(x, a), equal(x, b), ...)}, by single {@link In} predicate.
+         */
+        private List<Predicate> createPredicates(PredicateFactoryContext context, List<Expression> arguments) {
+            RuntimeRulesBuilder factoryFacade = context.getFactoryFacade();
+            Equality[] equalities = new Equality[arguments.size()];
+            Map<Object, List<Equality>> membershipGroups = new LinkedHashMap<>();
+            for (int i = 0; i < arguments.size(); i++) {
+                Equality equality = asConstantEquality(context, arguments.get(i));
+                if (equality != null) {
+                    equalities[i] = equality;
+                    membershipGroups.computeIfAbsent(equality.subjectKey, k -> new ArrayList<>()).add(equality);
+                }
+            }
+
+            List<Predicate> predicates = new ArrayList<>(arguments.size());
+            for (int i = 0; i < arguments.size(); i++) {
+                Equality equality = equalities[i];
+                List<Equality> group = equality != null ? membershipGroups.get(equality.subjectKey) : null;
+                if (group == null || group.size() < 2) {
+                    predicates.add(factoryFacade.createPredicate(context, arguments.get(i)));
+                } else if (group.get(0) == equality) {
+                    List<Object> constants = group.stream().map(e -> e.constant).collect(Collectors.toList());
+                    predicates.add(new In(factoryFacade.createValueProvider(context, equality.subject), constants));
+                }
+            }
+            return predicates;
+        }
+
+        private Equality asConstantEquality(PredicateFactoryContext context, Expression expression) {
+            if (!(expression instanceof Expression.Operator)) {
+                return null;
+            }
+            Expression.Operator operator = (Expression.Operator) expression;
+            if (!Eq.OPERATOR_NAME.equals(operator.getCall()) || operator.getArguments().size() != 2) {
+                return null;
+            }
+            Expression left = operator.getArguments().get(0);
+            Expression right = operator.getArguments().get(1);
+            ConstantValueProvider leftConstant = asMembershipConstant(context, left);
+            ConstantValueProvider rightConstant = asMembershipConstant(context, right);
+            if (leftConstant == null && rightConstant != null && isMembershipSubject(left)) {
+                return new Equality(left, rightConstant.get(null));
+            }
+            if (rightConstant == null && leftConstant != null && isMembershipSubject(right)) {
+                return new Equality(right, leftConstant.get(null));
+            }
+            return null;
+        }
+
+        private ConstantValueProvider asMembershipConstant(PredicateFactoryContext context, Expression expression) {
+            if (!(expression instanceof Expression.Value)) {
+                return null;
+            }
+            ValueProvider valueProvider = context.getFactoryFacade().createValueProvider(context, expression);
+            if (!(valueProvider instanceof ConstantValueProvider)) {
+                return null;
+            }
+            Object value = valueProvider.get(null);
+            return value == null || value instanceof Enum || MEMBERSHIP_TYPES.contains(value.getClass())
+                    ? (ConstantValueProvider) valueProvider
+                    : null;
+        }
+
+        private boolean isMembershipSubject(Expression expression) {
+            Class<?> type = TypeUtils.getRawType(expression.getType(), null);
+            return type != null && !type.isArray() && !ZonedDateTime.class.isAssignableFrom(type);
+        }
+
+        private static final class Equality {
+            private final Expression subject;
+            private final Object subjectKey;
+            private final Object constant;
+
+            private Equality(Expression subject, Object constant) {
+                this.subject = subject;
+                this.subjectKey = subject instanceof Expression.Value
+                        ? Pair.of(subject.getType(), ((Expression.Value) subject).getValue())
+                        : subject;
+                this.constant = constant;
+            }
+        }
     }
 }
@@ -0,0 +1,193 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.relation;
+
+import com.sabre.oss.yare.engine.executor.runtime.predicate.EvaluationCache;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateFactoryContext;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.RuleSetFactoryContext;
+import com.sabre.oss.yare.engine.executor.runtime.value.ConstantValueProvider;
+import com.sabre.oss.yare.engine.executor.runtime.value.HashedList;
+import com.sabre.oss.yare.engine.executor.runtime.value.QuantifiableValueProvider;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * {@link CollectionIndex} is an inverted index of constant collections used by {@link ContainsAny} and
+ * {@link ContainsAllCollection} predicates of a rule set referring to the same collection value. Each constant
+ * element is mapped to the predicates mentioning it, so a single pass over the value finds all matching
+ * predicates; contains-all predicates match once all their distinct elements have been counted. The result
+ * is shared (through {@link EvaluationCache}) by all rules evaluated against the same fact tuple, as the value
+ * does not change until the cache is cleared.
+ */
+final class CollectionIndex implements RuleSetFactoryContext.Component {
+    private static final int MINIMAL_SIZE = 2;
+    private static final Object UNRESOLVED = new Object();
+
+    private final List<Collection<?>> constants = new ArrayList<>();
+    private final BitSet containsAllSlots = new BitSet();
+    private Map<Object, int[]> index;
+    private int[] required;
+
+    static CollectionIndex forValue(PredicateFactoryContext context, ValueProvider valueProvider) {
+        RuleSetFactoryContext ruleSetContext = context.getRuleSetContext();
+        return ruleSetContext != null
+                ? ruleSetContext.getComponent(Pair.of(CollectionIndex.class, valueProvider.unwrap()), CollectionIndex::new)
+                : null;
+    }
+
+    static Collection<?> getConstantCollection(ValueProvider valueProvider) {
+        return valueProvider instanceof ConstantValueProvider && valueProvider.get(null) instanceof HashedList
+                ? (Collection<?>) valueProvider.get(null)
+                : null;
+    }
+
+    int register(Collection<?> values, boolean containsAll) {
+        constants.add(values);
+        int slot = constants.size() - 1;
+        containsAllSlots.set(slot, containsAll);
+        return slot;
+    }
+
+    @Override
+    public void complete() {
+        if (constants.size() < MINIMAL_SIZE) {
+            return;
+        }
+        Map<Object, List<Integer>> slotsByElement = new HashMap<>();
+        required = new int[constants.size()];
+        for (int slot = 0; slot < constants.size(); slot++) {
+            Set<Object> distinct = new HashSet<>(constants.get(slot));
+            for (Object element : distinct) {
+                slotsByElement.computeIfAbsent(element, k -> new ArrayList<>()).add(slot);
+            }
+            required[slot] = containsAllSlots.get(slot) ? distinct.size() : 1;
+        }
+        index = new HashMap<>(slotsByElement.size() * 2);
+        slotsByElement.forEach((element, slots) -> index.put(element, slots.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    boolean isCompiled() {
+        return index != null;
+    }
+
+    /**
+     * Checks whether {@code value} uses {@link Object#equals(Object)} for its membership test, so probing
+     * the index gives the same results as the collection itself.
+     */
+    boolean supports(Object value) {
+        return value instanceof List || value instanceof HashSet || value instanceof HashedList;
+    }
+
+    boolean matches(PredicateContext context, Collection<?> value, int slot) {
+        EvaluationCache cache = context.getEvaluationCache();
+        if (cache == null) {
+            return match(value).get(slot);
+        }
+        BitSet result = cache.get(this);
+        if (result == null) {
+            result = match(value);
+            cache.put(this, result);
+        }
+        return result.get(slot);
+    }
+
+    /**
+     * Matches values referred through collections while traversing the path, without collecting them first.
+     * Traversal ends as soon as all registered collections are matched.
+     */
+    Boolean matches(PredicateContext context, QuantifiableValueProvider value, int slot) {
+        EvaluationCache cache = context.getEvaluationCache();
+        Object result = cache != null ? cache.get(this) : null;
+        if (result == null) {
+            Matcher matcher = new Matcher();
+            result = value.anyMatch(context, matcher) != null ? matcher.matched : UNRESOLVED;
+            if (cache != null) {
+                cache.put(this, result);
+            }
+        }
+        return result != UNRESOLVED ? ((BitSet) result).get(slot) : null;
+    }
+
+    private BitSet match(Collection<?> value) {
+        Matcher matcher = new Matcher();
+        for (Object element : value) {
+            if (matcher.test(element)) {
+                break;
+            }
+        }
+        return matcher.matched;
+    }
+
+    /**
+     * Counts distinct elements of each registered collection found in the value, answering {@code true} once
+     * all collections are matched.
+     */
+    private final class Matcher implements Predicate<Object> {
+        private final int[] counts = new int[required.length];
+        private final BitSet matched = new BitSet(required.length);
+        private Set<Object> seen;
+        private int matchedCount;
+
+        private Matcher() {
+            for (int slot = 0; slot < required.length; slot++) {
+                if (required[slot] == 0) {
+                    matched.set(slot);
+                    matchedCount++;
+                }
+            }
+        }
+
+        @Override
+        public boolean test(Object element) {
+            int[] slots = index.get(element);
+            if (slots == null) {
+                return false;
+            }
+            if (seen == null) {
+                seen = new HashSet<>();
+            }
+            if (seen.add(element)) {
+                for (int slot : slots) {
+                    if (++counts[slot] == required[slot]) {
+                        matched.set(slot);
+                        matchedCount++;
+                    }
+                }
+            }
+            return matchedCount == required.length;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.relation;
+
+import com.sabre.oss.yare.engine.executor.runtime.value.HashedList;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Set based implementations of collection relations. Collections with constant time lookup are always
+ * probed directly, otherwise the smaller side is iterated and the larger one is hashed once it is too big
+ * for a nested scan to pay off.
+ */
+final class CollectionOperations {
+    private static final int NESTED_SCAN_LIMIT = 64;
+    private static final int SCANNED_LOOKUP_LIMIT = 8;
+
+    private CollectionOperations() {
+    }
+
+    /**
+     * Equivalent of {@code right.stream().anyMatch(left::contains)}.
+     */
+    static boolean containsAny(Collection<?> left, Collection<?> right) {
+        if (left.isEmpty() || right.isEmpty()) {
+            return false;
+        }
+        if (left instanceof Set || left instanceof HashedList) {
+            return anyContained(right, left);
+        }
+        if (hasEqualityLookup(right)) {
+            return anyContained(left, right);
+        }
+        boolean leftSmaller = left.size() <= right.size();
+        Collection<?> smaller = leftSmaller ? left : right;
+        Collection<?> larger = leftSmaller ? right : left;
+        if ((long) smaller.size() * larger.size() <= NESTED_SCAN_LIMIT) {
+            return anyContained(right, left);
+        }
+        return anyContained(smaller, new HashSet<>(larger));
+    }
+
+    /**
+     * Equivalent of {@code left.containsAll(right)}.
+     */
+    static boolean containsAll(Collection<?> left, Collection<?> right) {
+        if (right.isEmpty()) {
+            return true;
+        }
+        if (left instanceof Set || left instanceof HashedList) {
+            return left.containsAll(right);
+        }
+        if (right instanceof HashedList) {
+            return containsAllDistinct(left, (HashedList<?>) right);
+        }
+        if ((long) left.size() * right.size() <= NESTED_SCAN_LIMIT) {
+            return left.containsAll(right);
+        }
+        return new HashSet<>(left).containsAll(right);
+    }
+
+    private static boolean containsAllDistinct(Collection<?> left, HashedList<?> right) {
+        int required = right.distinctSize();
+        if (required > left.size()) {
+            return false;
+        }
+        Set<Object> found = new HashSet<>(required * 2);
+        for (Object element : left) {
+            if (right.contains(element) && found.add(element) && found.size() == required) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether probing {@code collection} for each element of another one is cheaper than hashing the other one.
+     */
+    static boolean hasCheapLookup(Collection<?> collection) {
+        return collection instanceof Set || collection instanceof HashedList || collection.size() <= SCANNED_LOOKUP_LIMIT;
+    }
+
+    private static boolean anyContained(Collection<?> elements, Collection<?> lookup) {
+        for (Object element : elements) {
+            if (lookup.contains(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasEqualityLookup(Collection<?> collection) {
+        return collection instanceof HashedList || collection instanceof HashSet;
+    }
+}
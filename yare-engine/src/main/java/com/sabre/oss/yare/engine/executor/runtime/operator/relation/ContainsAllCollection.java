@@ -28,7 +28,9 @@ import com.sabre.oss.yare.core.model.Expression;
 import com.sabre.oss.yare.engine.executor.runtime.operator.BiArgsPredicate;
 import com.sabre.oss.yare.engine.executor.runtime.operator.OperatorFactory;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.Predicate;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateFactoryContext;
+import com.sabre.oss.yare.engine.executor.runtime.value.QuantifiableValueProvider;
 import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
 import org.apache.commons.lang3.reflect.TypeUtils;
 
@@ -49,8 +51,61 @@ import java.util.Collection;
  */
 public class ContainsAllCollection extends BiArgsPredicate {
 
+    private final CollectionIndex index;
+    private final int slot;
+    private final boolean quantifiableOnRight;
+
     public ContainsAllCollection(ValueProvider lOperandProvider, ValueProvider rOperandProvider) {
         super(lOperandProvider, rOperandProvider);
+        this.index = null;
+        this.slot = -1;
+        this.quantifiableOnRight = rOperandProvider instanceof QuantifiableValueProvider;
+    }
+
+    ContainsAllCollection(ValueProvider lOperandProvider, ValueProvider rOperandProvider, CollectionIndex index) {
+        super(lOperandProvider, rOperandProvider);
+        this.index = index;
+        this.slot = index.register(CollectionIndex.getConstantCollection(rOperandProvider), true);
+        this.quantifiableOnRight = false;
+    }
+
+    @Override
+    public Boolean evaluate(PredicateContext context) {
+        if (index == null || !index.isCompiled()) {
+            return quantifiableOnRight
+                    ? evaluateQuantified(context)
+                    : super.evaluate(context);
+        }
+        Object left = lOperandProvider.get(context);
+        if (left == null) {
+            return null;
+        }
+        Object right = rOperandProvider.get(context);
+        if (right == null) {
+            return null;
+        }
+        return index.supports(left)
+                ? index.matches(context, (Collection<?>) left, slot)
+                : evaluate(left, right);
+    }
+
+    /**
+     * Values referred through collections are looked up in the left operand while traversing the path,
+     * until the first missing one, as long as the lookup is cheap.
+     */
+    private Boolean evaluateQuantified(PredicateContext context) {
+        Object left = lOperandProvider.get(context);
+        if (left == null) {
+            return null;
+        }
+        if (left instanceof Collection && CollectionOperations.hasCheapLookup((Collection<?>) left)) {
+            return ((QuantifiableValueProvider) rOperandProvider).allMatch(context, ((Collection<?>) left)::contains);
+        }
+        Object right = rOperandProvider.get(context);
+        if (right == null) {
+            return null;
+        }
+        return evaluate(left, right);
     }
 
     @Override
@@ -60,7 +115,7 @@ public class ContainsAllCollection extends BiArgsPredicate {
 
     @Override
     protected final Boolean evaluate(Object left, Object right) {
-        return ((Collection<Object>) left).containsAll((Collection<Object>) right);
+        return CollectionOperations.containsAll((Collection<?>) left, (Collection<?>) right);
     }
 
     public static class Factory extends OperatorFactory {
@@ -75,9 +130,16 @@ public class ContainsAllCollection extends BiArgsPredicate {
 
         @Override
         public Predicate create(PredicateFactoryContext context, Expression.Operator operator, ValueProvider[] valueProviders) {
-            return isApplicable(operator, valueProviders)
-                    ? new ContainsAllCollection(valueProviders[0], valueProviders[1])
+            if (!isApplicable(operator, valueProviders)) {
+                return null;
+            }
+            CollectionIndex index = CollectionIndex.getConstantCollection(valueProviders[0]) == null &&
+                    CollectionIndex.getConstantCollection(valueProviders[1]) != null
+                    ? CollectionIndex.forValue(context, valueProviders[0])
                     : null;
+            return index != null
+                    ? new ContainsAllCollection(valueProviders[0], valueProviders[1], index)
+                    : new ContainsAllCollection(valueProviders[0], valueProviders[1]);
         }
     }
 }
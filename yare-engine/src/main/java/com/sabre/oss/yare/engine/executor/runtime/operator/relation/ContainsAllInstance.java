@@ -28,7 +28,9 @@ import com.sabre.oss.yare.core.model.Expression;
 import com.sabre.oss.yare.engine.executor.runtime.operator.BiArgsPredicate;
 import com.sabre.oss.yare.engine.executor.runtime.operator.OperatorFactory;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.Predicate;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateFactoryContext;
+import com.sabre.oss.yare.engine.executor.runtime.value.QuantifiableValueProvider;
 import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
 import org.apache.commons.lang3.reflect.TypeUtils;
 
@@ -49,8 +51,28 @@ import java.util.Collection;
  */
 public class ContainsAllInstance extends BiArgsPredicate {
 
+    private final QuantifiableValueProvider quantifiableProvider;
+
     public ContainsAllInstance(ValueProvider lOperandProvider, ValueProvider rOperandProvider) {
         super(lOperandProvider, rOperandProvider);
+        this.quantifiableProvider = lOperandProvider instanceof QuantifiableValueProvider
+                ? (QuantifiableValueProvider) lOperandProvider
+                : null;
+    }
+
+    /**
+     * Values referred through collections are compared while traversing the path, until the first equal one.
+     */
+    @Override
+    public Boolean evaluate(PredicateContext context) {
+        if (quantifiableProvider == null) {
+            return super.evaluate(context);
+        }
+        Object right = rOperandProvider.get(context);
+        if (right == null) {
+            return null;
+        }
+        return quantifiableProvider.anyMatch(context, right::equals);
     }
 
     @Override
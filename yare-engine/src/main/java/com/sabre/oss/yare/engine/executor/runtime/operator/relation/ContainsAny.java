@@ -28,7 +28,9 @@ import com.sabre.oss.yare.core.model.Expression;
 import com.sabre.oss.yare.engine.executor.runtime.operator.BiArgsPredicate;
 import com.sabre.oss.yare.engine.executor.runtime.operator.OperatorFactory;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.Predicate;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateFactoryContext;
+import com.sabre.oss.yare.engine.executor.runtime.value.QuantifiableValueProvider;
 import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
 import org.apache.commons.lang3.reflect.TypeUtils;
 
@@ -51,8 +53,74 @@ public class ContainsAny extends BiArgsPredicate {
 
     public static final String OPERATOR_NAME = "contains-any";
 
+    private final CollectionIndex index;
+    private final int slot;
+    private final boolean constantOnLeft;
+    private final boolean quantifiableOnLeft;
+    private final boolean quantifiableOnRight;
+
     public ContainsAny(ValueProvider lOperandProvider, ValueProvider rOperandProvider) {
         super(lOperandProvider, rOperandProvider);
+        this.index = null;
+        this.slot = -1;
+        this.constantOnLeft = false;
+        this.quantifiableOnLeft = lOperandProvider instanceof QuantifiableValueProvider;
+        this.quantifiableOnRight = !quantifiableOnLeft && rOperandProvider instanceof QuantifiableValueProvider;
+    }
+
+    ContainsAny(ValueProvider lOperandProvider, ValueProvider rOperandProvider, CollectionIndex index, boolean constantOnLeft) {
+        super(lOperandProvider, rOperandProvider);
+        this.index = index;
+        this.constantOnLeft = constantOnLeft;
+        this.quantifiableOnLeft = !constantOnLeft && lOperandProvider instanceof QuantifiableValueProvider;
+        this.quantifiableOnRight = constantOnLeft && rOperandProvider instanceof QuantifiableValueProvider;
+        Collection<?> constant = CollectionIndex.getConstantCollection(constantOnLeft ? lOperandProvider : rOperandProvider);
+        this.slot = index.register(constant, false);
+    }
+
+    @Override
+    public Boolean evaluate(PredicateContext context) {
+        if (index == null || !index.isCompiled()) {
+            return quantifiableOnLeft || quantifiableOnRight
+                    ? evaluateQuantified(context)
+                    : super.evaluate(context);
+        }
+        if (quantifiableOnLeft || quantifiableOnRight) {
+            return index.matches(context, (QuantifiableValueProvider) (quantifiableOnLeft ? lOperandProvider : rOperandProvider), slot);
+        }
+        Object left = lOperandProvider.get(context);
+        if (left == null) {
+            return null;
+        }
+        Object right = rOperandProvider.get(context);
+        if (right == null) {
+            return null;
+        }
+        Object value = constantOnLeft ? right : left;
+        return index.supports(value)
+                ? index.matches(context, (Collection<?>) value, slot)
+                : evaluate(left, right);
+    }
+
+    /**
+     * Values referred through collections are looked up in the other operand while traversing the path,
+     * until the first contained one, as long as the lookup is cheap.
+     */
+    private Boolean evaluateQuantified(PredicateContext context) {
+        ValueProvider quantifiedProvider = quantifiableOnLeft ? lOperandProvider : rOperandProvider;
+        ValueProvider otherProvider = quantifiableOnLeft ? rOperandProvider : lOperandProvider;
+        Object other = otherProvider.get(context);
+        if (other == null) {
+            return null;
+        }
+        if (other instanceof Collection && CollectionOperations.hasCheapLookup((Collection<?>) other)) {
+            return ((QuantifiableValueProvider) quantifiedProvider).anyMatch(context, ((Collection<?>) other)::contains);
+        }
+        Object values = quantifiedProvider.get(context);
+        if (values == null) {
+            return null;
+        }
+        return quantifiableOnLeft ? evaluate(values, other) : evaluate(other, values);
     }
 
     @Override
@@ -62,7 +130,7 @@ public class ContainsAny extends BiArgsPredicate {
 
     @Override
     protected final Boolean evaluate(Object left, Object right) {
-        return ((Collection) right).stream().anyMatch(((Collection) left)::contains);
+        return CollectionOperations.containsAny((Collection<?>) left, (Collection<?>) right);
     }
 
     public static class Factory extends OperatorFactory {
@@ -77,9 +145,17 @@ public class ContainsAny extends BiArgsPredicate {
 
         @Override
         public Predicate create(PredicateFactoryContext context, Expression.Operator operator, ValueProvider[] valueProviders) {
-            return isApplicable(operator, valueProviders)
-                    ? new ContainsAny(valueProviders[0], valueProviders[1])
+            if (!isApplicable(operator, valueProviders)) {
+                return null;
+            }
+            boolean leftConstant = CollectionIndex.getConstantCollection(valueProviders[0]) != null;
+            boolean rightConstant = CollectionIndex.getConstantCollection(valueProviders[1]) != null;
+            CollectionIndex index = leftConstant != rightConstant
+                    ? CollectionIndex.forValue(context, valueProviders[leftConstant ? 1 : 0])
                     : null;
+            return index != null
+                    ? new ContainsAny(valueProviders[0], valueProviders[1], index, leftConstant)
+                    : new ContainsAny(valueProviders[0], valueProviders[1]);
         }
     }
 }
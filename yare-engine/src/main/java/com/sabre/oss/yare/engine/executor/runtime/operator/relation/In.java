@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.relation;
+
+import com.sabre.oss.yare.engine.executor.runtime.predicate.Predicate;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link In} checks whether a value is a member of a constant set. It is an equivalent of
+ * {@code or(equal(x, a), equal(x, b), ...)} with the same three-valued semantics:
+ * <ul>
+ * <li>{@code null} when the value is {@code null},</li>
+ * <li>{@code true} when the value is one of the constants,</li>
+ * <li>{@code null} when any of the constants is {@code null}, {@code false} otherwise.</li>
+ * </ul>
+ */
+public final class In extends Predicate {
+    private final ValueProvider valueProvider;
+    private final Set<Object> values;
+    private final boolean anyNullValue;
+
+    public In(ValueProvider valueProvider, Collection<?> values) {
+        this.valueProvider = requireNonNull(valueProvider);
+        this.values = new HashSet<>(values);
+        this.anyNullValue = this.values.remove(null);
+    }
+
+    @Override
+    public Boolean evaluate(PredicateContext context) {
+        Object value = valueProvider.get(context);
+        if (value == null) {
+            return null;
+        }
+        if (values.contains(value)) {
+            return true;
+        }
+        return anyNullValue ? null : false;
+    }
+}
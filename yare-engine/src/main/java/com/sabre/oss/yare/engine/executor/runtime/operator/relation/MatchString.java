@@ -29,8 +29,10 @@ import com.sabre.oss.yare.engine.executor.runtime.operator.OperatorFactory;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.Predicate;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateFactoryContext;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.RuleSetFactoryContext;
 import com.sabre.oss.yare.engine.executor.runtime.value.ConstantValueProvider;
 import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.Objects;
 import java.util.regex.Pattern;
@@ -40,18 +42,42 @@ public class MatchString extends Predicate {
 
     private final ValueProvider valueProvider;
     private final Pattern pattern;
+    private final MatchStringGroup group;
+    private final int slot;
 
     public MatchString(ValueProvider lOperandProvider, String regexp) {
+        this(lOperandProvider, regexp, null);
+    }
+
+    MatchString(ValueProvider lOperandProvider, String regexp, MatchStringGroup group) {
         this.valueProvider = Objects.requireNonNull(lOperandProvider);
         this.pattern = Pattern.compile(Objects.requireNonNull(regexp));
+        this.group = group;
+        this.slot = group != null ? group.register(pattern) : -1;
     }
 
     @Override
     public Boolean evaluate(PredicateContext context) {
         Object value = valueProvider.get(context);
-        return value instanceof String
-                ? pattern.matcher((String) value).matches()
-                : null;
+        if (!(value instanceof String)) {
+            return null;
+        }
+        return isGrouped()
+                ? group.matches(context, (String) value, slot)
+                : pattern.matcher((String) value).matches();
+    }
+
+    /**
+     * Returns whether the pattern is matched in one pass together with patterns of other rules referring to the same value.
+     *
+     * @return true when the predicate is part of a compiled group
+     */
+    public boolean isGrouped() {
+        return group != null && group.isCompiled();
+    }
+
+    MatchStringGroup getGroup() {
+        return group;
     }
 
     public static class Factory extends OperatorFactory {
@@ -70,7 +96,11 @@ public class MatchString extends Predicate {
             if (!isApplicable(operator, valueProviders)) {
                 return null;
             }
-            return new MatchString(valueProviders[0], (String) valueProviders[1].get(null));
+            RuleSetFactoryContext ruleSetContext = context.getRuleSetContext();
+            MatchStringGroup group = ruleSetContext != null
+                    ? ruleSetContext.getComponent(Pair.of(MatchStringGroup.class, valueProviders[0].unwrap()), MatchStringGroup::new)
+                    : null;
+            return new MatchString(valueProviders[0], (String) valueProviders[1].get(null), group);
         }
     }
 }
@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.relation;
+
+import com.sabre.oss.yare.engine.executor.runtime.predicate.EvaluationCache;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.RuleSetFactoryContext;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * {@link MatchStringGroup} gathers patterns of all {@link MatchString} predicates of a rule set referring to
+ * the same value, so the value is matched against all of them in one pass and the result is shared
+ * (through {@link EvaluationCache}) by all rules evaluated against the same fact tuple.
+ */
+final class MatchStringGroup implements RuleSetFactoryContext.Component {
+    private static final int MINIMAL_SIZE = 2;
+
+    private final List<Pattern> patterns = new ArrayList<>();
+    private MultiPatternMatcher matcher;
+
+    int register(Pattern pattern) {
+        patterns.add(pattern);
+        return patterns.size() - 1;
+    }
+
+    @Override
+    public void complete() {
+        if (patterns.size() >= MINIMAL_SIZE) {
+            matcher = MultiPatternMatcher.compile(patterns);
+        }
+    }
+
+    boolean isCompiled() {
+        return matcher != null;
+    }
+
+    boolean matches(PredicateContext context, String value, int slot) {
+        EvaluationCache cache = context.getEvaluationCache();
+        if (cache == null) {
+            return patterns.get(slot).matcher(value).matches();
+        }
+        Result result = cache.get(this);
+        if (result == null || result.input != value) {
+            result = new Result(value, matcher.match(value));
+            cache.put(this, result);
+        }
+        return result.slots.get(slot);
+    }
+
+    private static final class Result {
+        private final String input;
+        private final BitSet slots;
+
+        private Result(String input, BitSet slots) {
+            this.input = input;
+            this.slots = slots;
+        }
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.relation;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * {@link MultiPatternMatcher} matches a string against many regular expressions at once, returning the set
+ * of slots whose pattern {@link java.util.regex.Matcher#matches() matches} the whole string.
+ * <p>
+ * Literal patterns are resolved with a single hash lookup, while patterns of the form {@code .*literal.*},
+ * {@code literal.*} and {@code .*literal} are recognized by one pass of an Aho-Corasick automaton.
+ * Remaining patterns (requiring backtracking) fall back to {@link Pattern}. As {@code .} does not match line
+ * terminators, strings containing them are matched by {@link Pattern} for wildcard patterns as well.
+ */
+final class MultiPatternMatcher {
+    private static final String WILDCARD = ".*";
+    private static final String META_CHARACTERS = "\\^$.|?*+()[]{}";
+
+    private final int slots;
+    private final Map<String, int[]> exactLiterals;
+    private final Automaton automaton;
+    private final List<PatternEntry> wildcardPatterns;
+    private final List<PatternEntry> backtrackingPatterns;
+
+    private MultiPatternMatcher(int slots, Map<String, int[]> exactLiterals, Automaton automaton,
+                                List<PatternEntry> wildcardPatterns, List<PatternEntry> backtrackingPatterns) {
+        this.slots = slots;
+        this.exactLiterals = exactLiterals;
+        this.automaton = automaton;
+        this.wildcardPatterns = wildcardPatterns;
+        this.backtrackingPatterns = backtrackingPatterns;
+    }
+
+    static MultiPatternMatcher compile(List<Pattern> patterns) {
+        Map<String, List<Integer>> slotsByRegexp = new LinkedHashMap<>();
+        Map<String, Pattern> patternsByRegexp = new HashMap<>();
+        for (int slot = 0; slot < patterns.size(); slot++) {
+            Pattern pattern = patterns.get(slot);
+            slotsByRegexp.computeIfAbsent(pattern.pattern(), k -> new ArrayList<>()).add(slot);
+            patternsByRegexp.putIfAbsent(pattern.pattern(), pattern);
+        }
+
+        Map<String, int[]> exactLiterals = new HashMap<>();
+        List<Literal> literals = new ArrayList<>();
+        List<PatternEntry> wildcardPatterns = new ArrayList<>();
+        List<PatternEntry> backtrackingPatterns = new ArrayList<>();
+        for (Map.Entry<String, List<Integer>> entry : slotsByRegexp.entrySet()) {
+            int[] slots = entry.getValue().stream().mapToInt(Integer::intValue).toArray();
+            Pattern pattern = patternsByRegexp.get(entry.getKey());
+            Literal literal = pattern.flags() == 0 ? Literal.parse(entry.getKey(), slots) : null;
+            if (literal == null) {
+                backtrackingPatterns.add(new PatternEntry(pattern, slots));
+            } else if (!literal.anyPrefix && !literal.anySuffix) {
+                exactLiterals.put(literal.text, slots);
+            } else {
+                literals.add(literal);
+                wildcardPatterns.add(new PatternEntry(pattern, slots));
+            }
+        }
+        Automaton automaton = literals.isEmpty() ? null : new Automaton(literals);
+        return new MultiPatternMatcher(patterns.size(), exactLiterals, automaton, wildcardPatterns, backtrackingPatterns);
+    }
+
+    /**
+     * Match {@code input} against all patterns.
+     *
+     * @param input string to match
+     * @return set of matching slots
+     */
+    BitSet match(String input) {
+        BitSet result = new BitSet(slots);
+        int[] exact = exactLiterals.get(input);
+        if (exact != null) {
+            set(result, exact);
+        }
+        if (automaton != null) {
+            if (containsLineTerminator(input)) {
+                matchPatterns(input, wildcardPatterns, result);
+            } else {
+                automaton.match(input, result);
+            }
+        }
+        matchPatterns(input, backtrackingPatterns, result);
+        return result;
+    }
+
+    private static void matchPatterns(String input, List<PatternEntry> patterns, BitSet result) {
+        for (PatternEntry entry : patterns) {
+            if (entry.pattern.matcher(input).matches()) {
+                set(result, entry.slots);
+            }
+        }
+    }
+
+    private static boolean containsLineTerminator(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void set(BitSet result, int[] slots) {
+        for (int slot : slots) {
+            result.set(slot);
+        }
+    }
+
+    private static final class PatternEntry {
+        private final Pattern pattern;
+        private final int[] slots;
+
+        private PatternEntry(Pattern pattern, int[] slots) {
+            this.pattern = pattern;
+            this.slots = slots;
+        }
+    }
+
+    private static final class Literal {
+        private final String text;
+        private final boolean anyPrefix;
+        private final boolean anySuffix;
+        private final int[] slots;
+
+        private Literal(String text, boolean anyPrefix, boolean anySuffix, int[] slots) {
+            this.text = text;
+            this.anyPrefix = anyPrefix;
+            this.anySuffix = anySuffix;
+            this.slots = slots;
+        }
+
+        /**
+         * Parse regular expression consisting of a literal optionally surrounded with {@code .*}.
+         *
+         * @return literal or null if the expression is not of supported form
+         */
+        static Literal parse(String regexp, int[] slots) {
+            boolean anyPrefix = regexp.startsWith(WILDCARD);
+            StringBuilder text = new StringBuilder(regexp.length());
+            int i = anyPrefix ? WILDCARD.length() : 0;
+            boolean anySuffix = false;
+            while (i < regexp.length()) {
+                char c = regexp.charAt(i);
+                if (c == '\\') {
+                    if (i + 1 >= regexp.length() || Character.isLetterOrDigit(regexp.charAt(i + 1))) {
+                        return null;
+                    }
+                    text.append(regexp.charAt(i + 1));
+                    i += 2;
+                } else if (regexp.startsWith(WILDCARD, i) && i + WILDCARD.length() == regexp.length()) {
+                    anySuffix = true;
+                    i += WILDCARD.length();
+                } else if (META_CHARACTERS.indexOf(c) >= 0) {
+                    return null;
+                } else {
+                    text.append(c);
+                    i++;
+                }
+            }
+            if (text.length() == 0 && (anyPrefix || anySuffix)) {
+                return null;
+            }
+            return new Literal(text.toString(), anyPrefix, anySuffix, slots);
+        }
+    }
+
+    /**
+     * Aho-Corasick automaton reporting every occurrence of every literal in a single pass over the input.
+     */
+    private static final class Automaton {
+        private final char[][] transitionChars;
+        private final int[][] transitionTargets;
+        private final int[] failure;
+        private final Literal[][] outputs;
+
+        private Automaton(List<Literal> literals) {
+            List<Map<Character, Integer>> transitions = new ArrayList<>();
+            List<List<Literal>> nodeOutputs = new ArrayList<>();
+            transitions.add(new HashMap<>());
+            nodeOutputs.add(new ArrayList<>());
+            for (Literal literal : literals) {
+                int state = 0;
+                for (int i = 0; i < literal.text.length(); i++) {
+                    Integer next = transitions.get(state).get(literal.text.charAt(i));
+                    if (next == null) {
+                        next = transitions.size();
+                        transitions.add(new HashMap<>());
+                        nodeOutputs.add(new ArrayList<>());
+                        transitions.get(state).put(literal.text.charAt(i), next);
+                    }
+                    state = next;
+                }
+                nodeOutputs.get(state).add(literal);
+            }
+
+            int size = transitions.size();
+            this.transitionChars = new char[size][];
+            this.transitionTargets = new int[size][];
+            for (int state = 0; state < size; state++) {
+                List<Character> chars = new ArrayList<>(transitions.get(state).keySet());
+                Collections.sort(chars);
+                transitionChars[state] = new char[chars.size()];
+                transitionTargets[state] = new int[chars.size()];
+                for (int i = 0; i < chars.size(); i++) {
+                    transitionChars[state][i] = chars.get(i);
+                    transitionTargets[state][i] = transitions.get(state).get(chars.get(i));
+                }
+            }
+
+            this.failure = new int[size];
+            Deque<Integer> queue = new ArrayDeque<>();
+            for (int target : transitionTargets[0]) {
+                queue.add(target);
+            }
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                for (int i = 0; i < transitionChars[state].length; i++) {
+                    char c = transitionChars[state][i];
+                    int target = transitionTargets[state][i];
+                    int fallback = failure[state];
+                    while (fallback != 0 && next(fallback, c) < 0) {
+                        fallback = failure[fallback];
+                    }
+                    int fallbackTarget = next(fallback, c);
+                    failure[target] = fallbackTarget >= 0 && fallbackTarget != target ? fallbackTarget : 0;
+                    nodeOutputs.get(target).addAll(nodeOutputs.get(failure[target]));
+                    queue.add(target);
+                }
+            }
+
+            this.outputs = new Literal[size][];
+            for (int state = 0; state < size; state++) {
+                outputs[state] = nodeOutputs.get(state).toArray(new Literal[0]);
+            }
+        }
+
+        private int next(int state, char c) {
+            int index = Arrays.binarySearch(transitionChars[state], c);
+            return index >= 0 ? transitionTargets[state][index] : -1;
+        }
+
+        void match(String input, BitSet result) {
+            int length = input.length();
+            int state = 0;
+            for (int i = 0; i < length; i++) {
+                char c = input.charAt(i);
+                int target = next(state, c);
+                while (target < 0 && state != 0) {
+                    state = failure[state];
+                    target = next(state, c);
+                }
+                state = target < 0 ? 0 : target;
+                for (Literal literal : outputs[state]) {
+                    boolean startMatches = literal.anyPrefix || i + 1 == literal.text.length();
+                    boolean endMatches = literal.anySuffix || i + 1 == length;
+                    if (startMatches && endMatches) {
+                        set(result, literal.slots);
+                    }
+                }
+            }
+        }
+    }
+}
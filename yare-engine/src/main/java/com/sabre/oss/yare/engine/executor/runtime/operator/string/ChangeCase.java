@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.string;
+
+import com.sabre.oss.yare.core.model.Expression;
+import com.sabre.oss.yare.engine.executor.runtime.operator.ValueOperatorFactory;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+
+import java.lang.reflect.Type;
+import java.util.Locale;
+
+import static java.lang.String.format;
+
+/**
+ * {@code ChangeCase} converts its string operand to upper or lower case, using {@link Locale#ROOT} rules.
+ */
+public class ChangeCase extends ValueProvider {
+    private final ValueProvider valueProvider;
+    private final boolean upperCase;
+
+    public ChangeCase(ValueProvider valueProvider, boolean upperCase) {
+        this.valueProvider = valueProvider;
+        this.upperCase = upperCase;
+    }
+
+    @Override
+    public Object get(PredicateContext context) {
+        Object value = valueProvider.get(context);
+        if (value == null) {
+            return null;
+        }
+        String string = value.toString();
+        return upperCase ? string.toUpperCase(Locale.ROOT) : string.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public Type getType() {
+        return String.class;
+    }
+
+    public static class Factory extends ValueOperatorFactory {
+
+        @Override
+        protected ValueProvider create(Expression.Operator operator, ValueProvider[] valueProviders) {
+            boolean upperCase = Expression.Operator.UPPER_CASE.equals(operator.getCall());
+            if (!upperCase && !Expression.Operator.LOWER_CASE.equals(operator.getCall())) {
+                return null;
+            }
+            if (valueProviders.length != 1) {
+                throw new IllegalArgumentException(format("Operator %s requires exactly one operand", operator.getCall()));
+            }
+            return new ChangeCase(valueProviders[0], upperCase);
+        }
+    }
+}
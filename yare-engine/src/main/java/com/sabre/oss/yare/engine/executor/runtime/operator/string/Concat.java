@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.string;
+
+import com.sabre.oss.yare.core.model.Expression;
+import com.sabre.oss.yare.engine.executor.runtime.operator.ValueOperatorFactory;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+
+import java.lang.reflect.Type;
+
+/**
+ * {@code Concat} joins string representations of its operands. The result is {@code null} when any
+ * of operands is {@code null}.
+ */
+public class Concat extends ValueProvider {
+    private final ValueProvider[] valueProviders;
+
+    public Concat(ValueProvider[] valueProviders) {
+        this.valueProviders = valueProviders;
+    }
+
+    @Override
+    public Object get(PredicateContext context) {
+        StringBuilder result = new StringBuilder();
+        for (ValueProvider valueProvider : valueProviders) {
+            Object value = valueProvider.get(context);
+            if (value == null) {
+                return null;
+            }
+            result.append(value);
+        }
+        return result.toString();
+    }
+
+    @Override
+    public Type getType() {
+        return String.class;
+    }
+
+    public static class Factory extends ValueOperatorFactory {
+
+        @Override
+        protected ValueProvider create(Expression.Operator operator, ValueProvider[] valueProviders) {
+            return Expression.Operator.CONCAT.equals(operator.getCall())
+                    ? new Concat(valueProviders)
+                    : null;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.string;
+
+import com.sabre.oss.yare.core.model.Expression;
+import com.sabre.oss.yare.engine.executor.runtime.operator.ValueOperatorFactory;
+import com.sabre.oss.yare.engine.executor.runtime.operator.arithmetic.NumericType;
+import com.sabre.oss.yare.engine.executor.runtime.operator.arithmetic.NumericValueProvider;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+
+import static java.lang.String.format;
+
+/**
+ * {@code Length} computes length of a string or size of a collection.
+ */
+public class Length extends NumericValueProvider {
+    private final ValueProvider valueProvider;
+
+    public Length(ValueProvider valueProvider) {
+        super(NumericType.INT);
+        this.valueProvider = valueProvider;
+    }
+
+    @Override
+    public Object get(PredicateContext context) {
+        Object value = valueProvider.get(context);
+        return value != null ? length(value) : null;
+    }
+
+    @Override
+    public int getInt(PredicateContext context) {
+        Object value = valueProvider.get(context);
+        if (value == null) {
+            context.markMissingOperand();
+            return 0;
+        }
+        return length(value);
+    }
+
+    @Override
+    public long getLong(PredicateContext context) {
+        return getInt(context);
+    }
+
+    @Override
+    public double getDouble(PredicateContext context) {
+        return getInt(context);
+    }
+
+    @Override
+    public BigDecimal getDecimal(PredicateContext context) {
+        return BigDecimal.valueOf(getInt(context));
+    }
+
+    private static int length(Object value) {
+        if (value instanceof CharSequence) {
+            return ((CharSequence) value).length();
+        }
+        if (value instanceof Collection) {
+            return ((Collection<?>) value).size();
+        }
+        throw new IllegalArgumentException(format("Operator %s is not applicable to %s",
+                Expression.Operator.LENGTH, value.getClass().getName()));
+    }
+
+    public static class Factory extends ValueOperatorFactory {
+
+        @Override
+        protected ValueProvider create(Expression.Operator operator, ValueProvider[] valueProviders) {
+            if (!Expression.Operator.LENGTH.equals(operator.getCall())) {
+                return null;
+            }
+            if (valueProviders.length != 1) {
+                throw new IllegalArgumentException(format("Operator %s requires exactly one operand", operator.getCall()));
+            }
+            return new Length(valueProviders[0]);
+        }
+    }
+}
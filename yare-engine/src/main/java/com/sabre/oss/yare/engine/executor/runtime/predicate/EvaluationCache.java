@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.predicate;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * {@link EvaluationCache} keeps intermediate results shared by predicates of different rules
+ * evaluated against the same fact tuple (i.e. results of matching many patterns against the same property).
+ * <p>
+ * Entries are keyed by identity of their owners. The cache is cleared before the next fact tuple is evaluated
+ * and after each consequence executed in sequential mode, as consequences may modify facts.
+ * Instances are not thread-safe and are confined to a single rules execution.
+ */
+public final class EvaluationCache {
+    private Map<Object, Object> values;
+
+    /**
+     * Return value stored by {@code owner}.
+     *
+     * @param owner owner of the value
+     * @param <T>   type of the value
+     * @return value or null if not present
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object owner) {
+        return values != null ? (T) values.get(owner) : null;
+    }
+
+    /**
+     * Store value of {@code owner}.
+     *
+     * @param owner owner of the value
+     * @param value value to store
+     */
+    public void put(Object owner, Object value) {
+        if (values == null) {
+            values = new IdentityHashMap<>();
+        }
+        values.put(owner, value);
+    }
+
+    /**
+     * Remove all stored values.
+     */
+    public void clear() {
+        if (values != null && !values.isEmpty()) {
+            values.clear();
+        }
+    }
+}
@@ -26,6 +26,7 @@ package com.sabre.oss.yare.engine.executor.runtime.predicate;
 
 import com.sabre.oss.yare.core.EngineController;
 import com.sabre.oss.yare.core.call.ProcessingContext;
+import com.sabre.oss.yare.engine.CallInvocationResultCache;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -44,14 +45,29 @@ public class PredicateContext implements ProcessingContext {
     private final Map<String, Object> attributes;
     private final EngineController engineController;
     private final Map<String, Object> reservedIdentifiers;
+    private final EvaluationCache evaluationCache;
+    private final CallInvocationResultCache sessionCache;
+    private boolean missingOperand;
 
     // Do not pass merged maps due to performance implications.
     public PredicateContext(String ruleId, Object result, Map<String, Object> facts, Map<String, Object> attributes, EngineController engineController) {
+        this(ruleId, result, facts, attributes, engineController, null);
+    }
+
+    public PredicateContext(String ruleId, Object result, Map<String, Object> facts, Map<String, Object> attributes, EngineController engineController,
+                            EvaluationCache evaluationCache) {
+        this(ruleId, result, facts, attributes, engineController, evaluationCache, null);
+    }
+
+    public PredicateContext(String ruleId, Object result, Map<String, Object> facts, Map<String, Object> attributes, EngineController engineController,
+                            EvaluationCache evaluationCache, CallInvocationResultCache sessionCache) {
         this.ruleId = ruleId;
         this.result = result;
         this.facts = facts;
         this.attributes = attributes;
         this.engineController = engineController;
+        this.evaluationCache = evaluationCache;
+        this.sessionCache = sessionCache;
         this.reservedIdentifiers = createResolveIdentifiers();
     }
 
@@ -74,6 +90,51 @@ public class PredicateContext implements ProcessingContext {
         return result;
     }
 
+    /**
+     * Return cache of intermediate results shared by rules evaluated against current fact tuple.
+     *
+     * @return evaluation cache or null if not available
+     */
+    public EvaluationCache getEvaluationCache() {
+        return evaluationCache;
+    }
+
+    /**
+     * Return cache of function results shared by all rules of current session execution.
+     *
+     * @return session cache or null if not available
+     */
+    public CallInvocationResultCache getSessionCache() {
+        return sessionCache;
+    }
+
+    /**
+     * Marks that a numeric operand taken as a primitive has no value, so the arithmetic it belongs to has none either.
+     */
+    public void markMissingOperand() {
+        missingOperand = true;
+    }
+
+    /**
+     * Tells whether a numeric operand has been marked as missing since the mark was last taken.
+     *
+     * @return {@code true} if an operand is missing
+     */
+    public boolean hasMissingOperand() {
+        return missingOperand;
+    }
+
+    /**
+     * Returns and clears the mark of missing numeric operand.
+     *
+     * @return {@code true} if an operand has been missing
+     */
+    public boolean takeMissingOperand() {
+        boolean missing = missingOperand;
+        missingOperand = false;
+        return missing;
+    }
+
     @Override
     public Object resolve(String identifier) {
         return reservedIdentifiers.getOrDefault(identifier, attributes.getOrDefault(identifier, facts.get(identifier)));
@@ -86,6 +147,6 @@ public class PredicateContext implements ProcessingContext {
     }
 
     public PredicateContext copy(String ruleId) {
-        return new PredicateContext(ruleId, result, facts, attributes, engineController);
+        return new PredicateContext(ruleId, result, facts, attributes, engineController, evaluationCache, sessionCache);
     }
 }
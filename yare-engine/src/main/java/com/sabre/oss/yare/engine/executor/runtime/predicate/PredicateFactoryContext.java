@@ -26,11 +26,11 @@ package com.sabre.oss.yare.engine.executor.runtime.predicate;
 
 import com.sabre.oss.yare.core.model.Expression;
 import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.engine.BatchProcessingInvocation;
 import com.sabre.oss.yare.engine.executor.RuntimeRulesBuilder;
+import com.sabre.oss.yare.engine.profiler.RuleProfile;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
-import java.util.Objects;
+import java.util.*;
 
 /**
  * {@link PredicateFactoryContext} using for storing current creation state.
@@ -39,10 +39,23 @@ public class PredicateFactoryContext {
     private final Rule rule;
     private final Deque<Expression> stack = new ArrayDeque<>(32);
     private final RuntimeRulesBuilder factoryFacade;
+    private final RuleSetFactoryContext ruleSetContext;
+    private final RuleProfile ruleProfile;
+    private final Map<Expression, BatchProcessingInvocation<?>> batchedInvocations = new IdentityHashMap<>();
 
     public PredicateFactoryContext(Rule rule, RuntimeRulesBuilder factoryFacade) {
+        this(rule, factoryFacade, null);
+    }
+
+    public PredicateFactoryContext(Rule rule, RuntimeRulesBuilder factoryFacade, RuleSetFactoryContext ruleSetContext) {
+        this(rule, factoryFacade, ruleSetContext, null);
+    }
+
+    public PredicateFactoryContext(Rule rule, RuntimeRulesBuilder factoryFacade, RuleSetFactoryContext ruleSetContext, RuleProfile ruleProfile) {
         this.rule = Objects.requireNonNull(rule);
         this.factoryFacade = factoryFacade;
+        this.ruleSetContext = ruleSetContext;
+        this.ruleProfile = ruleProfile;
     }
 
     public Rule getRule() {
@@ -56,4 +69,37 @@ public class PredicateFactoryContext {
     public RuntimeRulesBuilder getFactoryFacade() {
         return factoryFacade;
     }
+
+    /**
+     * Return context shared by all rules built together, or null if the rule is built alone.
+     *
+     * @return rule set context
+     */
+    public RuleSetFactoryContext getRuleSetContext() {
+        return ruleSetContext;
+    }
+
+    /**
+     * Return profile wrapping nodes of the rule with sampling timers, or null if the rule is not profiled.
+     *
+     * @return rule profile
+     */
+    public RuleProfile getRuleProfile() {
+        return ruleProfile;
+    }
+
+    /**
+     * Register invocation of batch function made by {@code expression}, so its calls can be collected
+     * before the rule is evaluated.
+     *
+     * @param expression function expression
+     * @param invocation invocation of batch function
+     */
+    public void addBatchedInvocation(Expression expression, BatchProcessingInvocation<?> invocation) {
+        batchedInvocations.put(expression, invocation);
+    }
+
+    public List<BatchProcessingInvocation<?>> getBatchedInvocations() {
+        return new ArrayList<>(batchedInvocations.values());
+    }
 }
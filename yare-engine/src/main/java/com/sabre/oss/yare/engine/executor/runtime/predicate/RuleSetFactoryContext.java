@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.predicate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * {@link RuleSetFactoryContext} is shared by {@link PredicateFactoryContext}s of all rules built together
+ * and holds components spanning many rules (i.e. structures evaluating predicates of many rules at once).
+ * <p>
+ * Components are completed once all rules of the set are built.
+ */
+public class RuleSetFactoryContext {
+    private final Map<Object, Component> components = new LinkedHashMap<>();
+
+    /**
+     * Return component registered under {@code key}, creating it with {@code factory} when not present.
+     *
+     * @param key     component key
+     * @param factory component factory
+     * @param <T>     type of the component
+     * @return component
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Component> T getComponent(Object key, Supplier<T> factory) {
+        return (T) components.computeIfAbsent(key, k -> factory.get());
+    }
+
+    /**
+     * Complete all registered components. Called once all rules of the set are built.
+     */
+    public void complete() {
+        components.values().forEach(Component::complete);
+    }
+
+    /**
+     * {@link Component} is a structure spanning predicates of many rules.
+     */
+    public interface Component {
+
+        /**
+         * Finish component construction once all rules of the set are built.
+         */
+        void complete();
+    }
+}
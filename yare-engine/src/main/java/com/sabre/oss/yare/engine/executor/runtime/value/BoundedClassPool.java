@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.value;
+
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.LoaderClassPath;
+import javassist.NotFoundException;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Javassist {@link ClassPool} which is replaced after given number of generated classes.
+ * <p>
+ * Class pool caches every class it has ever parsed. Replacing it bounds the memory kept
+ * by a long lived factory generating classes for many fact types.
+ * <p>
+ * This class is not thread-safe.
+ */
+final class BoundedClassPool {
+    static final int DEFAULT_CAPACITY = 256;
+
+    private final int capacity;
+    private ClassPool classPool;
+    private Set<ClassLoader> classLoaders;
+    private int generatedClasses;
+
+    BoundedClassPool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    BoundedClassPool(int capacity) {
+        this.capacity = capacity;
+        renew();
+    }
+
+    CtClass makeClass(String className, ClassLoader targetLoader) {
+        if (generatedClasses++ >= capacity) {
+            renew();
+            generatedClasses = 1;
+        }
+        if (targetLoader != null && classLoaders.add(targetLoader)) {
+            classPool.insertClassPath(new LoaderClassPath(targetLoader));
+        }
+        return classPool.makeClass(className);
+    }
+
+    CtClass get(String className) throws NotFoundException {
+        return classPool.get(className);
+    }
+
+    ClassPool getClassPool() {
+        return classPool;
+    }
+
+    private void renew() {
+        classPool = new ClassPool(true);
+        classPool.appendClassPath(new LoaderClassPath(FieldReferringClassFactory.class.getClassLoader()));
+        classLoaders = Collections.newSetFromMap(new WeakHashMap<>());
+    }
+}
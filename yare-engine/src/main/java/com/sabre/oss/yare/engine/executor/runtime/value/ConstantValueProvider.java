@@ -37,6 +37,11 @@ public final class ConstantValueProvider extends ValueProvider {
         this.type = value != null ? value.getClass() : Object.class;
     }
 
+    public ConstantValueProvider(Object value, Type type) {
+        this.value = value;
+        this.type = type;
+    }
+
     @Override
     public Object get(PredicateContext context) {
         return value;
@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.value;
+
+import com.sabre.oss.yare.core.accessor.CollectionFactAccessor;
+import com.sabre.oss.yare.core.accessor.FactAccessor;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+
+import java.lang.reflect.Type;
+import java.util.function.Predicate;
+
+/**
+ * {@link ValueProvider} of a fact path using {@link FactAccessor} generated at build time.
+ */
+class FactAccessorValueProvider extends ValueProvider {
+    private final String identifier;
+    private final FactAccessor accessor;
+
+    FactAccessorValueProvider(String identifier, FactAccessor accessor) {
+        this.identifier = identifier;
+        this.accessor = accessor;
+    }
+
+    static FactAccessorValueProvider create(String identifier, FactAccessor accessor) {
+        return accessor instanceof CollectionFactAccessor
+                ? new Quantifiable(identifier, (CollectionFactAccessor) accessor)
+                : new FactAccessorValueProvider(identifier, accessor);
+    }
+
+    @Override
+    public Object get(PredicateContext context) {
+        Object fact = context.resolve(identifier);
+        return fact != null ? accessor.get(fact) : null;
+    }
+
+    @Override
+    public Type getType() {
+        return accessor.getType();
+    }
+
+    private static final class Quantifiable extends FactAccessorValueProvider implements QuantifiableValueProvider {
+        private final String identifier;
+        private final CollectionFactAccessor accessor;
+
+        private Quantifiable(String identifier, CollectionFactAccessor accessor) {
+            super(identifier, accessor);
+            this.identifier = identifier;
+            this.accessor = accessor;
+        }
+
+        @Override
+        public Boolean anyMatch(PredicateContext context, Predicate<Object> condition) {
+            Object fact = context.resolve(identifier);
+            return fact != null ? accessor.anyMatch(fact, condition) : null;
+        }
+
+        @Override
+        public Boolean allMatch(PredicateContext context, Predicate<Object> condition) {
+            Object fact = context.resolve(identifier);
+            return fact != null ? accessor.allMatch(fact, condition) : null;
+        }
+    }
+}
@@ -24,76 +24,245 @@
 
 package com.sabre.oss.yare.engine.executor.runtime.value;
 
+import com.sabre.oss.yare.core.accessor.FactAccessor;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.engine.jfr.FlightRecorderEvents;
 import javassist.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
 
 import static com.sabre.oss.yare.engine.executor.runtime.value.TypeUtils.getRawType;
 import static com.sabre.oss.yare.engine.executor.runtime.value.TypeUtils.isCollection;
 
-public abstract class FieldReferringClassFactory {
+/**
+ * Generates {@link ValueProvider} implementations accessing paths of fact types.
+ * <p>
+ * Generated classes are defined by the class loader owned by the factory, so they can be unloaded
+ * together with the factory (e.g. with the rule sets built within its scope). Accessors of types which
+ * are not publicly accessible are defined next to the target type instead, as they need the access
+ * rights of its package. Such classes stay loaded as long as the class loader of the target type, but
+ * factories only look them up by name, so they are not kept reachable by any factory.
+ * <p>
+ * Lookups of already generated providers do not lock, generation is serialized per factory.
+ */
+public final class FieldReferringClassFactory {
     private static final Logger log = LoggerFactory.getLogger(FieldReferringClassFactory.class);
-    private static final Map<String, ValueProvider> valueProviders = new HashMap<>();
-    private static final ClassPool classPool = createClassPool();
+    private static final String GENERATED_PACKAGE = FieldReferringClassFactory.class.getPackage().getName() + ".generated.";
+    private static final FieldReferringClassFactory shared = new FieldReferringClassFactory();
+    private static final ThreadLocal<FieldReferringClassFactory> scoped = new ThreadLocal<>();
+    private static final Object neighbourClassLock = new Object();
+
+    private final ConcurrentMap<Class<?>, ConcurrentMap<String, ValueProvider>> valueProviders = new ConcurrentHashMap<>();
+    private final Map<String, Class<?>> classes = new HashMap<>();
+    private final BoundedClassPool classPool = new BoundedClassPool();
+    private final AccessorClassLoader classLoader = new AccessorClassLoader();
+
+    /**
+     * Returns value provider of given property path of fact identified by {@code identifier},
+     * generated by the factory of the current scope, or the shared one outside of any scope.
+     *
+     * @param targetClass  type of the fact
+     * @param identifier   fact identifier
+     * @param propertyName property path
+     * @return value provider
+     */
+    public static ValueProvider create(Class<?> targetClass, String identifier, String propertyName) {
+        return current().get(targetClass, identifier, propertyName);
+    }
+
+    /**
+     * Returns factory of the current scope, or the shared one outside of any scope.
+     *
+     * @return current factory
+     */
+    public static FieldReferringClassFactory current() {
+        FieldReferringClassFactory factory = scoped.get();
+        return factory != null ? factory : shared;
+    }
+
+    /**
+     * Runs given action with this factory as the current one.
+     *
+     * @param action action to run
+     * @param <T>    type of the action result
+     * @return result of the action
+     */
+    public <T> T runWithin(Supplier<T> action) {
+        FieldReferringClassFactory previous = scoped.get();
+        scoped.set(this);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                scoped.set(previous);
+            } else {
+                scoped.remove();
+            }
+        }
+    }
 
-    private FieldReferringClassFactory() {
+    /**
+     * Returns value provider of given property path of fact identified by {@code identifier}, using accessor
+     * generated at build time when available. The same instance is returned for the same path, so predicates
+     * referring to it can be grouped by the value provider.
+     *
+     * @param targetClass  type of the fact
+     * @param identifier   fact identifier
+     * @param propertyName property path
+     * @return value provider
+     */
+    public ValueProvider get(Class<?> targetClass, String identifier, String propertyName) {
+        String key = propertyName + '$' + identifier;
+        ConcurrentMap<String, ValueProvider> providers = valueProviders.get(targetClass);
+        ValueProvider valueProvider = providers != null ? providers.get(key) : null;
+        if (valueProvider != null) {
+            return valueProvider;
+        }
+        synchronized (this) {
+            return valueProviders.computeIfAbsent(targetClass, t -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(key, k -> createValueProvider(targetClass, identifier, propertyName));
+        }
     }
 
-    public static synchronized ValueProvider create(Class<?> targetClass, String identifier, String propertyName) {
-        String key = nameForType(targetClass, propertyName) + '$' + identifier;
-        return valueProviders.computeIfAbsent(key, k -> createFieldReferringInstance(targetClass, identifier, propertyName));
+    private ValueProvider createValueProvider(Class<?> targetClass, String identifier, String propertyName) {
+        FactAccessor accessor = PrecompiledAccessors.find(targetClass, propertyName);
+        return accessor != null
+                ? FactAccessorValueProvider.create(identifier, accessor)
+                : createFieldReferringInstance(targetClass, identifier, propertyName);
     }
 
-    private static ValueProvider createFieldReferringInstance(Class<?> targetClass, String identifier, String propertyName) {
-        String className = nameForType(targetClass, propertyName);
-        Class<?> fieldReferringClass = createClass(targetClass, className, propertyName);
-        return createInstance(fieldReferringClass, identifier);
+    private ValueProvider createFieldReferringInstance(Class<?> targetClass, String identifier, String propertyName) {
+        Object event = FlightRecorderEvents.beginAccessorGeneration();
+        String path = propertyName.replaceAll("!", "");
+        List<ReferMetadata> referMetadata = resolveReferMetadata(targetClass, path);
+        Class<?> fieldReferringClass = isPubliclyAccessible(targetClass, referMetadata)
+                ? classes.computeIfAbsent(GENERATED_PACKAGE + nameForType(targetClass, propertyName), className -> createClass(targetClass, className, referMetadata))
+                : createNeighbourClass(targetClass, nameForType(targetClass, propertyName), referMetadata);
+        ValueProvider valueProvider = createInstance(fieldReferringClass, identifier);
+        FlightRecorderEvents.commitAccessorGeneration(event, targetClass, path);
+        return valueProvider;
     }
 
     private static String nameForType(Class<?> clazz, String propertyName) {
-        return clazz.getName() + "$impl_" + propertyName.replace("[*]", "Grouped");
+        return clazz.getName() + "$impl_" + propertyName.replace("[*]", "Grouped").replace('.', '$');
     }
 
-    private static Class<?> createClass(Class<?> targetClass, String className, String path) {
-        Class<?> fieldReferringClass;
+    private Class<?> createClass(Class<?> targetClass, String className, List<ReferMetadata> referMetadata) {
+        classLoader.addTargetLoader(targetClass.getClassLoader());
+        CtClass ctClass = createCtClass(classPool, targetClass, className, referMetadata);
         try {
-            fieldReferringClass = Class.forName(className);
-        } catch (ClassNotFoundException e) {
-            CtClass ctClass = classPool.makeClass(className);
-            setSuperClass(ctClass);
-            createMethods(targetClass, path.replaceAll("!", ""), ctClass);
-            fieldReferringClass = getFieldReferringClass(ctClass);
+            Class<?> fieldReferringClass = classLoader.define(className, ctClass.toBytecode());
             log.debug("Created ValueProvider implementation: {}\n", className);
+            return fieldReferringClass;
+        } catch (CannotCompileException | IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            ctClass.detach();
         }
-        return fieldReferringClass;
     }
 
-    private static void setSuperClass(CtClass fieldReferringClass) {
+    private Class<?> createNeighbourClass(Class<?> targetClass, String className, List<ReferMetadata> referMetadata) {
+        synchronized (neighbourClassLock) {
+            try {
+                return Class.forName(className, true, targetClass.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                CtClass ctClass = createCtClass(classPool, targetClass, className, referMetadata);
+                try {
+                    Class<?> neighbourClass = ctClass.toClass(targetClass.getClassLoader(), targetClass.getProtectionDomain());
+                    log.debug("Created ValueProvider implementation: {}\n", className);
+                    return neighbourClass;
+                } catch (CannotCompileException ex) {
+                    throw new RuntimeException(ex);
+                } finally {
+                    ctClass.detach();
+                }
+            }
+        }
+    }
+
+    private static CtClass createCtClass(BoundedClassPool classPool, Class<?> targetClass, String className, List<ReferMetadata> referMetadata) {
+        CtClass ctClass = classPool.makeClass(className, targetClass.getClassLoader());
         try {
-            fieldReferringClass.setSuperclass(classPool.get(AbstractFieldReferringValueProvider.class.getName()));
+            ctClass.setSuperclass(classPool.get(AbstractFieldReferringValueProvider.class.getName()));
+            createMethods(targetClass, referMetadata, ctClass);
         } catch (CannotCompileException | NotFoundException e) {
+            ctClass.detach();
             throw new RuntimeException(e);
         }
+        return ctClass;
     }
 
-    private static void createMethods(Class<?> targetClass, String path, CtClass ctClass) {
-        List<ReferMetadata> referMetadata = resolveReferMetadata(targetClass, path);
-        try {
-            String getValueMethodBody = createGetValueMethodBody(targetClass, referMetadata);
-            CtMethod getValueMethod = CtMethod.make(getValueMethodBody, ctClass);
-            ctClass.addMethod(getValueMethod);
-
-            String getTypeMethodBody = createGetTypeMethodBody(targetClass, referMetadata);
-            CtMethod getTypeMethod = CtMethod.make(getTypeMethodBody, ctClass);
-            ctClass.addMethod(getTypeMethod);
-        } catch (CannotCompileException e) {
-            throw new RuntimeException(e);
+    private static void createMethods(Class<?> targetClass, List<ReferMetadata> referMetadata, CtClass ctClass)
+            throws CannotCompileException, NotFoundException {
+        String getValueMethodBody = createGetValueMethodBody(targetClass, referMetadata);
+        CtMethod getValueMethod = CtMethod.make(getValueMethodBody, ctClass);
+        ctClass.addMethod(getValueMethod);
+
+        String getTypeMethodBody = createGetTypeMethodBody(targetClass, referMetadata);
+        CtMethod getTypeMethod = CtMethod.make(getTypeMethodBody, ctClass);
+        ctClass.addMethod(getTypeMethod);
+
+        if (isQuantifiable(referMetadata)) {
+            ctClass.addInterface(ctClass.getClassPool().get(QuantifiableValueProvider.class.getName()));
+            ctClass.addMethod(CtMethod.make(createQuantifierMethodBody(targetClass, referMetadata, "anyMatch",
+                    "if (condition.test(%s(%s))) return Boolean.TRUE;", "Boolean.FALSE"), ctClass));
+            ctClass.addMethod(CtMethod.make(createQuantifierMethodBody(targetClass, referMetadata, "allMatch",
+                    "if (!condition.test(%s(%s))) return Boolean.FALSE;", "Boolean.TRUE"), ctClass));
+        }
+    }
+
+    private static boolean isQuantifiable(List<ReferMetadata> referMetadata) {
+        return !referMetadata.isEmpty() && isAnyReferTypeCollection(referMetadata.subList(0, referMetadata.size() - 1));
+    }
+
+    private static boolean isPubliclyAccessible(Class<?> targetClass, List<ReferMetadata> referMetadata) {
+        if (!isPubliclyAccessible(targetClass)) {
+            return false;
+        }
+        for (ReferMetadata metadata : referMetadata) {
+            if (!isPubliclyAccessible(metadata.getRefType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPubliclyAccessible(Type type) {
+        if (type instanceof Class) {
+            Class<?> clazz = (Class<?>) type;
+            while (clazz.isArray()) {
+                clazz = clazz.getComponentType();
+            }
+            for (Class<?> c = clazz; c != null; c = c.getEnclosingClass()) {
+                if (!c.isPrimitive() && !Modifier.isPublic(c.getModifiers())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            if (!isPubliclyAccessible(parameterizedType.getRawType())) {
+                return false;
+            }
+            for (Type argument : parameterizedType.getActualTypeArguments()) {
+                if (!isPubliclyAccessible(argument)) {
+                    return false;
+                }
+            }
+            return true;
         }
+        return false;
     }
 
     private static List<ReferMetadata> resolveReferMetadata(Class<?> targetClass, String path) {
@@ -114,7 +283,7 @@ public abstract class FieldReferringClassFactory {
                 "public Object get(%s ctx) { \n" +
                         "%s v0 = (%s) ctx.resolve(identifier); \n" +
                         "if (v0 == null) return null; \n" +
-                        "java.util.List result = new java.util.LinkedList(); \n" +
+                        "java.util.ArrayList result = new java.util.ArrayList(0); \n" +
                         "%s \n" +
                         "return result; \n" +
                         "} \n",
@@ -124,6 +293,24 @@ public abstract class FieldReferringClassFactory {
                 createChainingStatements(referMetadata, 0, new ReferringCodeGenerator()));
     }
 
+    private static String createQuantifierMethodBody(Class<?> targetClass, List<ReferMetadata> referMetadata,
+                                                     String methodName, String testingAction, String exhaustedResult) {
+        return String.format(
+                "public Boolean %s(%s ctx, %s condition) { \n" +
+                        "%s v0 = (%s) ctx.resolve(identifier); \n" +
+                        "if (v0 == null) return null; \n" +
+                        "%s \n" +
+                        "return %s; \n" +
+                        "} \n",
+                methodName,
+                PredicateContext.class.getCanonicalName(),
+                java.util.function.Predicate.class.getCanonicalName(),
+                targetClass.getCanonicalName(),
+                targetClass.getCanonicalName(),
+                createChainingStatements(referMetadata, 0, new ReferringCodeGenerator(testingAction)),
+                exhaustedResult);
+    }
+
     private static String createGetTypeMethodBody(Class<?> targetClass, List<ReferMetadata> referMetadata) {
         Type type = isAnyReferTypeCollection(referMetadata.subList(0, referMetadata.size() - 1))
                 ? List.class
@@ -165,17 +352,6 @@ public abstract class FieldReferringClassFactory {
         return false;
     }
 
-    private static Class<?> getFieldReferringClass(CtClass ctClass) {
-        Class<?> fieldReferringClass;
-        try {
-            fieldReferringClass = ctClass.toClass();
-        } catch (CannotCompileException e) {
-            throw new RuntimeException(e);
-        }
-        ctClass.detach();
-        return fieldReferringClass;
-    }
-
     private static ValueProvider createInstance(Class<?> fieldReferringClass, String identifier) {
         try {
             return (ValueProvider) fieldReferringClass.getConstructor(String.class).newInstance(identifier);
@@ -184,16 +360,43 @@ public abstract class FieldReferringClassFactory {
         }
     }
 
-    private static ClassPool createClassPool() {
-        ClassPool classPool = new ClassPool(ClassPool.getDefault());
-        classPool.appendClassPath(new LoaderClassPath(FieldReferringClassFactory.class.getClassLoader()));
-        return classPool;
-    }
-
     private static boolean isLastElement(Collection<?> list, int index) {
         return index == list.size() - 1;
     }
 
+    /**
+     * Class loader of generated classes, resolving types of the engine and of the referred facts.
+     */
+    private static final class AccessorClassLoader extends ClassLoader {
+        private final Set<ClassLoader> targetLoaders = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+        private AccessorClassLoader() {
+            super(FieldReferringClassFactory.class.getClassLoader());
+        }
+
+        private void addTargetLoader(ClassLoader classLoader) {
+            if (classLoader != null && classLoader != getParent()) {
+                targetLoaders.add(classLoader);
+            }
+        }
+
+        private Class<?> define(String className, byte[] bytecode) {
+            return defineClass(className, bytecode, 0, bytecode.length, FieldReferringClassFactory.class.getProtectionDomain());
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            for (ClassLoader targetLoader : targetLoaders) {
+                try {
+                    return Class.forName(name, false, targetLoader);
+                } catch (ClassNotFoundException e) {
+                    // try next loader
+                }
+            }
+            return super.findClass(name);
+        }
+    }
+
     public abstract static class AbstractFieldReferringValueProvider extends ValueProvider {
 
         protected final String identifier;
@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.value;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * {@link HashedList} is an immutable list backed by a hash set, so {@link #contains(Object)} and
+ * {@link #containsAll(Collection)} do not scan the elements. It is used for collections built
+ * of constants only, which are known when rules are compiled.
+ *
+ * @param <E> element type
+ */
+public final class HashedList<E> extends AbstractList<E> implements RandomAccess {
+    private final Object[] elements;
+    private final Set<Object> distinct;
+
+    private HashedList(Object[] elements) {
+        this.elements = elements;
+        this.distinct = new HashSet<>(elements.length * 2);
+        for (Object element : elements) {
+            distinct.add(element);
+        }
+    }
+
+    public static <E> HashedList<E> copyOf(Collection<? extends E> elements) {
+        return new HashedList<>(elements.toArray());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        return (E) elements[index];
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return distinct.contains(o);
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        return distinct.containsAll(c);
+    }
+
+    /**
+     * Returns the number of distinct elements of this list.
+     *
+     * @return number of distinct elements
+     */
+    public int distinctSize() {
+        return distinct.size();
+    }
+}
@@ -27,16 +27,29 @@ package com.sabre.oss.yare.engine.executor.runtime.value;
 import com.sabre.oss.yare.core.call.ProcessingContext;
 import com.sabre.oss.yare.core.invocation.Invocation;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.engine.jfr.FlightRecorderEvents;
 
 public class InvocationBasedValueProvider extends ValueProvider {
+    private final String functionName;
     private final Invocation<ProcessingContext, Object> invocation;
 
     public InvocationBasedValueProvider(Invocation<ProcessingContext, Object> invocation) {
+        this(null, invocation);
+    }
+
+    public InvocationBasedValueProvider(String functionName, Invocation<ProcessingContext, Object> invocation) {
+        this.functionName = functionName;
         this.invocation = invocation;
     }
 
     @Override
     public Object get(PredicateContext context) {
-        return invocation.proceed(context);
+        if (!FlightRecorderEvents.isAvailable()) {
+            return invocation.proceed(context);
+        }
+        Object event = FlightRecorderEvents.beginFunctionInvocation();
+        Object result = invocation.proceed(context);
+        FlightRecorderEvents.commitFunctionInvocation(event, functionName);
+        return result;
     }
 }
@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.value;
+
+import com.sabre.oss.yare.core.accessor.FactAccessor;
+import com.sabre.oss.yare.core.accessor.FactAccessorProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Registry of {@link FactAccessor}s generated at build time, discovered with {@link ServiceLoader}
+ * from the class loader of each fact type.
+ */
+final class PrecompiledAccessors {
+    private static final Logger log = LoggerFactory.getLogger(PrecompiledAccessors.class);
+    private static final ClassValue<FactAccessorProvider> providers = new ClassValue<FactAccessorProvider>() {
+        @Override
+        protected FactAccessorProvider computeValue(Class<?> type) {
+            return findProvider(type);
+        }
+    };
+
+    private PrecompiledAccessors() {
+    }
+
+    /**
+     * Returns accessor of given path of the fact type, or {@code null} when none has been generated.
+     *
+     * @param factType fact type
+     * @param path     property path, as given in rules
+     * @return accessor or {@code null}
+     */
+    static FactAccessor find(Class<?> factType, String path) {
+        if (factType.isPrimitive() || factType.isArray()) {
+            return null;
+        }
+        FactAccessorProvider provider = providers.get(factType);
+        return provider != null ? provider.getAccessor(normalize(path)) : null;
+    }
+
+    private static FactAccessorProvider findProvider(Class<?> type) {
+        ClassLoader classLoader = type.getClassLoader();
+        if (classLoader == null) {
+            return null;
+        }
+        Iterator<FactAccessorProvider> providers = ServiceLoader.load(FactAccessorProvider.class, classLoader).iterator();
+        while (true) {
+            try {
+                if (!providers.hasNext()) {
+                    return null;
+                }
+                FactAccessorProvider provider = providers.next();
+                if (provider.getFactType() == type) {
+                    log.debug("Using accessors generated by {} for {}", provider.getClass().getName(), type.getName());
+                    return provider;
+                }
+            } catch (ServiceConfigurationError e) {
+                log.warn("Skipping invalid fact accessor provider", e);
+            }
+        }
+    }
+
+    static String normalize(String path) {
+        String withoutNullSafety = path.replace("!", "");
+        int lastPart = withoutNullSafety.lastIndexOf('.');
+        return lastPart == -1
+                ? withoutNullSafety
+                : withoutNullSafety.substring(0, lastPart).replace("[*]", "") + withoutNullSafety.substring(lastPart);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.value;
+
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+
+import java.util.function.Predicate;
+
+/**
+ * {@link ValueProvider} of values referred through collections, able to test them one by one
+ * while traversing the path instead of collecting them into a list first.
+ */
+public interface QuantifiableValueProvider {
+
+    /**
+     * Checks whether any of referred values satisfies given condition. Traversal ends with the first one that does.
+     *
+     * @param context   context
+     * @param condition condition to test
+     * @return {@code null} when the path can not be resolved, otherwise whether any of values satisfies the condition
+     */
+    Boolean anyMatch(PredicateContext context, Predicate<Object> condition);
+
+    /**
+     * Checks whether all of referred values satisfy given condition. Traversal ends with the first one that does not.
+     *
+     * @param context   context
+     * @param condition condition to test
+     * @return {@code null} when the path can not be resolved, otherwise whether all values satisfy the condition
+     */
+    Boolean allMatch(PredicateContext context, Predicate<Object> condition);
+}
@@ -30,9 +30,30 @@ import static com.sabre.oss.yare.engine.executor.runtime.value.TypeUtils.*;
 
 public class ReferringCodeGenerator {
     private static final String BOXING_UTILS_BOX = BoxingUtils.class.getCanonicalName() + ".box";
+    private static final String COLLECTING_ACTION = "result.add(%s(%s));";
+    private final String endingAction;
+    private final boolean collecting;
     private Integer referenceCounter = 0;
     private boolean afterCollection = false;
 
+    /**
+     * Creates generator of code collecting all referred values to {@code result} list.
+     */
+    public ReferringCodeGenerator() {
+        this(COLLECTING_ACTION);
+    }
+
+    /**
+     * Creates generator of code applying {@code endingAction} to each referred value when chaining
+     * through collections.
+     *
+     * @param endingAction format of the statement, taking name of boxing method and name of the value
+     */
+    ReferringCodeGenerator(String endingAction) {
+        this.endingAction = endingAction;
+        this.collecting = COLLECTING_ACTION.equals(endingAction);
+    }
+
     String generateReferringBody(ReferMetadata referMetadata) {
         Type referType = referMetadata.getRefType();
         String ref = referMetadata.getRef();
@@ -46,7 +67,7 @@ public class ReferringCodeGenerator {
         String ref = referMetadata.getRef();
         return isCollection(referType) && referMetadata.getPathPart().contains("[*]")
                 ? generateEndingLoop(getCollectionGeneric(referType).getTypeName(), ref)
-                : generateEndingAssignment(getRawType(referType).getTypeName(), ref, "result.add(%s(%s));");
+                : generateEndingAssignment(getRawType(referType).getTypeName(), ref, endingAction);
     }
 
     String generateEndingReferringBodyWhenNotChaining(ReferMetadata referMetadata) {
@@ -65,8 +86,8 @@ public class ReferringCodeGenerator {
     private String generateEndingLoop(String type, String propertyRef) {
         String propertyRefWithoutOperator = propertyRef.replace("[*]", "");
         String template = generateLoopTemplate(type, propertyRefWithoutOperator);
-        String listAdding = String.format("result.add(%s(%s));", BOXING_UTILS_BOX, getRefName());
-        return String.format(template, listAdding);
+        String action = String.format(endingAction, BOXING_UTILS_BOX, getRefName());
+        return String.format(template, action);
     }
 
     private String generateAssignment(String type, String propertyRef) {
@@ -88,7 +109,11 @@ public class ReferringCodeGenerator {
         referenceCounter++;
         String ref = getRefName();
         String referenceToField = String.format("%s.%s", outerRef, propertyRef);
+        String presizing = collecting && !afterCollection
+                ? String.format("result.ensureCapacity(%s.size()); \n", referenceToField)
+                : "";
         return String.format("" +
+                        "%s" +
                         "%s" +
                         "java.util.Iterator %s = %s.iterator(); \n" +
                         "while(%s.hasNext()) { \n" +
@@ -96,6 +121,7 @@ public class ReferringCodeGenerator {
                         "   %%s \n" +
                         "} \n",
                 generateNullCheck(referenceToField),
+                presizing,
                 iterator, referenceToField, iterator, type, ref, type, iterator);
     }
 
@@ -48,6 +48,16 @@ public abstract class ValueProvider extends Predicate {
         return Object.class;
     }
 
+    /**
+     * Returns provider computing the values, when this one only observes it (i.e. to profile it).
+     * Structures shared by many rules are keyed by the underlying provider, as observing ones are created per rule.
+     *
+     * @return underlying value provider, or this one
+     */
+    public ValueProvider unwrap() {
+        return this;
+    }
+
     @Override
     public final Boolean evaluate(PredicateContext context) {
         Object result = get(context);
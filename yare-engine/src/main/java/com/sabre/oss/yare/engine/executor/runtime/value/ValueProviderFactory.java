@@ -28,6 +28,7 @@ import com.sabre.oss.yare.core.call.ProcessingContext;
 import com.sabre.oss.yare.core.invocation.Invocation;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.List;
 
 public final class ValueProviderFactory {
@@ -51,8 +52,25 @@ public final class ValueProviderFactory {
         return new ConstantValueProvider(value);
     }
 
+    /**
+     * Creates provider of constant value of given type. Lists are copied to {@link HashedList}, as lists
+     * of constant values are, so operators handle them the same way.
+     *
+     * @param value constant value
+     * @param type  declared type of the value
+     * @return constant value provider
+     */
+    public static ValueProvider createFromConstant(Object value, Type type) {
+        return value instanceof List && !(value instanceof HashedList)
+                ? new ConstantValueProvider(HashedList.copyOf((List<?>) value), type)
+                : new ConstantValueProvider(value, type);
+    }
+
     public static ValueProvider createFromPath(Class<?> referenceType, String reference, Class<?> type, String path) {
-        return path == null ? new ReferenceValueProvider(reference) : FieldReferringClassFactory.create(referenceType, reference, path);
+        if (path == null) {
+            return new ReferenceValueProvider(reference);
+        }
+        return FieldReferringClassFactory.create(referenceType, reference, path);
     }
 
     public static ValueProvider createFromMapKey(String reference, String key) {
@@ -63,7 +81,18 @@ public final class ValueProviderFactory {
         return new InvocationBasedValueProvider(invocation);
     }
 
+    public static ValueProvider createFromInvocation(String functionName, Invocation<ProcessingContext, Object> invocation) {
+        return new InvocationBasedValueProvider(functionName, invocation);
+    }
+
     public static ValueProvider createFromValues(Type type, List<ValueProvider> values) {
+        if (values.stream().allMatch(ConstantValueProvider.class::isInstance)) {
+            List<Object> constants = new ArrayList<>(values.size());
+            for (ValueProvider value : values) {
+                constants.add(value.get(null));
+            }
+            return new ConstantValueProvider(HashedList.copyOf(constants), type);
+        }
         return new ValuesValueProvider(type, values);
     }
 }
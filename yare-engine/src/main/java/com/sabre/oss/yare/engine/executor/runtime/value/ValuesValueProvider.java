@@ -27,8 +27,8 @@ package com.sabre.oss.yare.engine.executor.runtime.value;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public final class ValuesValueProvider extends ValueProvider {
     private final Type type;
@@ -41,9 +41,11 @@ public final class ValuesValueProvider extends ValueProvider {
 
     @Override
     public Object get(PredicateContext context) {
-        return values.stream()
-                .map(p -> p.get(context))
-                .collect(Collectors.toList());
+        List<Object> result = new ArrayList<>(values.size());
+        for (ValueProvider value : values) {
+            result.add(value.get(context));
+        }
+        return result;
     }
 
     @Override
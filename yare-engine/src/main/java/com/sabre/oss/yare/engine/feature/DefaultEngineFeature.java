@@ -30,5 +30,16 @@ public enum DefaultEngineFeature implements Feature {
     /**
      * Feature disabling cache for functions' results.
      */
-    DISABLE_CACHE_FUNCTION_RESULT
+    DISABLE_CACHE_FUNCTION_RESULT,
+    /**
+     * Feature caching function's results for the time of single rules session execution only.
+     * Takes precedence over the engine wide function results cache. Functions able to evaluate many calls at once
+     * (see {@link com.sabre.oss.yare.core.call.BatchCallable}) are then called in batches over all facts of single-type sessions.
+     */
+    SESSION_CACHE_FUNCTION_RESULT,
+    /**
+     * Feature marking function as pure, i.e. its result depends on arguments only and it has no side effects.
+     * Calls of pure functions with constant arguments are evaluated once, when rules are built.
+     */
+    PURE_FUNCTION
 }
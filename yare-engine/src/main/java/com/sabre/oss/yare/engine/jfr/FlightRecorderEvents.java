@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.jfr;
+
+/**
+ * {@code FlightRecorderEvents} emits YARE events to Java Flight Recorder: loading of rule sets, generation
+ * of accessor classes, session executions and slow function invocations (by default above 10 ms, the threshold
+ * can be changed in recording settings of {@code com.sabre.oss.yare.FunctionInvocation}).
+ * <p>
+ * JFR is detected once, so on runtimes without it (i.e. Java 8 builds older than 8u262) methods do nothing
+ * and {@code jdk.jfr} classes are never loaded. Events are passed around as opaque handles, which are
+ * null when the event is disabled in current recording.
+ */
+public final class FlightRecorderEvents {
+    private static final boolean AVAILABLE = detectFlightRecorder();
+
+    private FlightRecorderEvents() {
+    }
+
+    /**
+     * Returns whether Java Flight Recorder is available in current runtime.
+     *
+     * @return true when events can be recorded
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    public static Object beginRuleSetLoad() {
+        return AVAILABLE ? JfrEvents.beginRuleSetLoad() : null;
+    }
+
+    public static void commitRuleSetLoad(Object event, String uri, int ruleCount, long weight) {
+        if (event != null) {
+            JfrEvents.commitRuleSetLoad(event, uri, ruleCount, weight);
+        }
+    }
+
+    public static Object beginAccessorGeneration() {
+        return AVAILABLE ? JfrEvents.beginAccessorGeneration() : null;
+    }
+
+    public static void commitAccessorGeneration(Object event, Class<?> factType, String path) {
+        if (event != null) {
+            JfrEvents.commitAccessorGeneration(event, factType, path);
+        }
+    }
+
+    public static Object beginSessionExecution() {
+        return AVAILABLE ? JfrEvents.beginSessionExecution() : null;
+    }
+
+    public static void commitSessionExecution(Object event, String uri, int factCount, long fireCount) {
+        if (event != null) {
+            JfrEvents.commitSessionExecution(event, uri, factCount, fireCount);
+        }
+    }
+
+    public static Object beginFunctionInvocation() {
+        return AVAILABLE ? JfrEvents.beginFunctionInvocation() : null;
+    }
+
+    public static void commitFunctionInvocation(Object event, String function) {
+        if (event != null) {
+            JfrEvents.commitFunctionInvocation(event, function);
+        }
+    }
+
+    private static boolean detectFlightRecorder() {
+        try {
+            Class.forName("jdk.jfr.FlightRecorder", false, FlightRecorderEvents.class.getClassLoader());
+            return JfrEvents.isFlightRecorderAvailable();
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
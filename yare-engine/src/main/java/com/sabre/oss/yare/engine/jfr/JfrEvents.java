@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.jfr;
+
+import jdk.jfr.Event;
+
+/**
+ * Creates and commits JFR events. Referenced only when Flight Recorder is available,
+ * so that {@code jdk.jfr} classes are never loaded where they are missing.
+ */
+final class JfrEvents {
+
+    private JfrEvents() {
+    }
+
+    static boolean isFlightRecorderAvailable() {
+        return jdk.jfr.FlightRecorder.isAvailable();
+    }
+
+    static Object beginRuleSetLoad() {
+        return begin(new RuleSetLoadEvent());
+    }
+
+    static void commitRuleSetLoad(Object handle, String uri, int ruleCount, long weight) {
+        RuleSetLoadEvent event = (RuleSetLoadEvent) handle;
+        event.uri = uri;
+        event.ruleCount = ruleCount;
+        event.weight = weight;
+        event.commit();
+    }
+
+    static Object beginAccessorGeneration() {
+        return begin(new AccessorGenerationEvent());
+    }
+
+    static void commitAccessorGeneration(Object handle, Class<?> factType, String path) {
+        AccessorGenerationEvent event = (AccessorGenerationEvent) handle;
+        event.factType = factType;
+        event.path = path;
+        event.commit();
+    }
+
+    static Object beginSessionExecution() {
+        return begin(new SessionExecutionEvent());
+    }
+
+    static void commitSessionExecution(Object handle, String uri, int factCount, long fireCount) {
+        SessionExecutionEvent event = (SessionExecutionEvent) handle;
+        event.uri = uri;
+        event.factCount = factCount;
+        event.fireCount = fireCount;
+        event.commit();
+    }
+
+    static Object beginFunctionInvocation() {
+        return begin(new FunctionInvocationEvent());
+    }
+
+    static void commitFunctionInvocation(Object handle, String function) {
+        FunctionInvocationEvent event = (FunctionInvocationEvent) handle;
+        event.end();
+        if (event.shouldCommit()) {
+            event.function = function;
+            event.commit();
+        }
+    }
+
+    private static Event begin(Event event) {
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code FunctionStatistics} collects invocation counts, cache hits and latencies of single function.
+ */
+public final class FunctionStatistics {
+    private final String functionName;
+    private final LongAdder invocationCount = new LongAdder();
+    private final LongAdder cacheHitCount = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    FunctionStatistics(String functionName) {
+        this.functionName = functionName;
+    }
+
+    void recordInvocation(boolean cacheHit, long durationNanos) {
+        invocationCount.increment();
+        if (cacheHit) {
+            cacheHitCount.increment();
+        }
+        latency.record(durationNanos);
+    }
+
+    public String getFunctionName() {
+        return functionName;
+    }
+
+    public long getInvocationCount() {
+        return invocationCount.sum();
+    }
+
+    public long getCacheHitCount() {
+        return cacheHitCount.sum();
+    }
+
+    public long getCacheMissCount() {
+        return Math.max(getInvocationCount() - getCacheHitCount(), 0L);
+    }
+
+    /**
+     * Returns ratio of invocations served from cache, {@code 0.0} when there were no invocations.
+     *
+     * @return hit rate
+     */
+    public double getCacheHitRate() {
+        long invocations = getInvocationCount();
+        return invocations == 0 ? 0.0 : (double) getCacheHitCount() / invocations;
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    @Override
+    public String toString() {
+        return "FunctionStatistics{" +
+                "functionName='" + functionName + '\'' +
+                ", invocationCount=" + getInvocationCount() +
+                ", cacheHitCount=" + getCacheHitCount() +
+                ", meanNanos=" + latency.getMean() +
+                '}';
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code LatencyHistogram} is a lock-free histogram of durations in nanoseconds.
+ * <p>
+ * As in HDR histograms, durations are counted in buckets of exponentially growing width, each power of two split
+ * into 16 linear sub-buckets, so recorded values are kept with relative error below 7%.
+ * Durations up to 2^40 ns (about 18 minutes) are tracked, longer ones fall into the last bucket.
+ * Sub-buckets of a power of two are allocated when the first duration of that magnitude is recorded,
+ * so memory is proportional to the range of recorded durations.
+ * Recording is lock-free; reads taken while recording are approximate.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_MASK = SUB_BUCKETS - 1;
+    private static final int MAX_MAGNITUDE = 40;
+    private static final long MAX_TRACKABLE_VALUE = (1L << MAX_MAGNITUDE) - 1;
+    private static final int GROUPS = MAX_MAGNITUDE - SUB_BUCKET_BITS + 1;
+    private static final int BUCKETS = GROUPS << SUB_BUCKET_BITS;
+
+    private final AtomicReferenceArray<AtomicLongArray> counts = new AtomicReferenceArray<>(GROUPS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Records single duration.
+     *
+     * @param nanos duration in nanoseconds, negative durations are recorded as zero
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0L);
+        increment(indexOf(value));
+        count.increment();
+        total.add(value);
+        max.accumulate(value);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns sum of recorded durations, in nanoseconds.
+     *
+     * @return total time
+     */
+    public long getTotalTime() {
+        return total.sum();
+    }
+
+    /**
+     * Returns the longest recorded duration, in nanoseconds.
+     *
+     * @return maximum duration
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns average of recorded durations, in nanoseconds, or {@code 0.0} when nothing was recorded.
+     *
+     * @return mean duration
+     */
+    public double getMean() {
+        long n = getCount();
+        return n == 0 ? 0.0 : (double) getTotalTime() / n;
+    }
+
+    /**
+     * Returns duration not exceeded by given percentage of recorded durations, i.e. {@code 99.0} for 99th percentile.
+     * The result is the upper bound of the bucket the duration falls into, or {@code 0} when nothing was recorded.
+     *
+     * @param percentile percentile, between 0 and 100
+     * @return duration in nanoseconds
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        long[] snapshot = new long[BUCKETS];
+        long n = 0;
+        for (int group = 0; group < GROUPS; group++) {
+            AtomicLongArray subBuckets = counts.get(group);
+            for (int i = 0; subBuckets != null && i < SUB_BUCKETS; i++) {
+                snapshot[(group << SUB_BUCKET_BITS) | i] = subBuckets.get(i);
+                n += subBuckets.get(i);
+            }
+        }
+        if (n == 0) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return i == BUCKETS - 1 ? getMax() : Math.min(upperBoundOf(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    private void increment(int index) {
+        int group = index >>> SUB_BUCKET_BITS;
+        AtomicLongArray subBuckets = counts.get(group);
+        if (subBuckets == null) {
+            counts.compareAndSet(group, null, new AtomicLongArray(SUB_BUCKETS));
+            subBuckets = counts.get(group);
+        }
+        subBuckets.incrementAndGet(index & SUB_BUCKET_MASK);
+    }
+
+    static int indexOf(long nanos) {
+        long value = Math.min(nanos, MAX_TRACKABLE_VALUE);
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) | (int) ((value >>> shift) & SUB_BUCKET_MASK);
+    }
+
+    static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long lowerBound = (long) ((index & SUB_BUCKET_MASK) | SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.metrics;
+
+import com.sabre.oss.yare.core.observer.RulesExecutionObserver;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@code MetricsRegistry} is {@link RulesExecutionObserver} keeping per-rule and per-function statistics, which
+ * show rules being hot, slow or never firing.
+ * <p>
+ * Statistics are updated without locks and can be read at any time, i.e. by monitoring. Every call of a function
+ * is observed whatever caching is applied to it, calls served from a cache are counted as cache hits.
+ */
+public class MetricsRegistry implements RulesExecutionObserver {
+    private final ConcurrentMap<String, RuleStatistics> rules = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, FunctionStatistics> functions = new ConcurrentHashMap<>();
+
+    @Override
+    public void onPredicateEvaluated(String ruleId, boolean matched, long durationNanos) {
+        ruleStatistics(ruleId).recordEvaluation(matched, durationNanos);
+    }
+
+    @Override
+    public void onConsequenceExecuted(String ruleId, long durationNanos) {
+        ruleStatistics(ruleId).recordConsequence(durationNanos);
+    }
+
+    @Override
+    public void onFunctionInvoked(String functionName, boolean cacheHit, long durationNanos) {
+        FunctionStatistics statistics = functions.get(functionName);
+        if (statistics == null) {
+            statistics = functions.computeIfAbsent(functionName, FunctionStatistics::new);
+        }
+        statistics.recordInvocation(cacheHit, durationNanos);
+    }
+
+    /**
+     * Returns statistics of the rule.
+     *
+     * @param ruleId rule identifier
+     * @return statistics or {@code null} if the rule was not evaluated yet
+     */
+    public RuleStatistics getRuleStatistics(String ruleId) {
+        return rules.get(ruleId);
+    }
+
+    public Collection<RuleStatistics> getRuleStatistics() {
+        return Collections.unmodifiableCollection(rules.values());
+    }
+
+    /**
+     * Returns statistics of the function.
+     *
+     * @param functionName function name
+     * @return statistics or {@code null} if the function was not invoked yet
+     */
+    public FunctionStatistics getFunctionStatistics(String functionName) {
+        return functions.get(functionName);
+    }
+
+    public Collection<FunctionStatistics> getFunctionStatistics() {
+        return Collections.unmodifiableCollection(functions.values());
+    }
+
+    /**
+     * Removes all collected statistics.
+     */
+    public void reset() {
+        rules.clear();
+        functions.clear();
+    }
+
+    private RuleStatistics ruleStatistics(String ruleId) {
+        RuleStatistics statistics = rules.get(ruleId);
+        return statistics != null
+                ? statistics
+                : rules.computeIfAbsent(ruleId, RuleStatistics::new);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code RuleStatistics} collects evaluation counts, fire counts and latencies of single rule.
+ */
+public final class RuleStatistics {
+    private final String ruleId;
+    private final LongAdder evaluationCount = new LongAdder();
+    private final LongAdder fireCount = new LongAdder();
+    private final LatencyHistogram predicateLatency = new LatencyHistogram();
+    private final LatencyHistogram consequenceLatency = new LatencyHistogram();
+
+    RuleStatistics(String ruleId) {
+        this.ruleId = ruleId;
+    }
+
+    void recordEvaluation(boolean matched, long durationNanos) {
+        evaluationCount.increment();
+        if (matched) {
+            fireCount.increment();
+        }
+        predicateLatency.record(durationNanos);
+    }
+
+    void recordConsequence(long durationNanos) {
+        consequenceLatency.record(durationNanos);
+    }
+
+    public String getRuleId() {
+        return ruleId;
+    }
+
+    /**
+     * Returns how many times predicate of the rule was evaluated.
+     *
+     * @return evaluation count
+     */
+    public long getEvaluationCount() {
+        return evaluationCount.sum();
+    }
+
+    /**
+     * Returns how many times predicate of the rule was satisfied. In non-sequential mode consequence may still be
+     * skipped when the session is closed.
+     *
+     * @return fire count
+     */
+    public long getFireCount() {
+        return fireCount.sum();
+    }
+
+    public LatencyHistogram getPredicateLatency() {
+        return predicateLatency;
+    }
+
+    public LatencyHistogram getConsequenceLatency() {
+        return consequenceLatency;
+    }
+
+    @Override
+    public String toString() {
+        return "RuleStatistics{" +
+                "ruleId='" + ruleId + '\'' +
+                ", evaluationCount=" + getEvaluationCount() +
+                ", fireCount=" + getFireCount() +
+                ", predicateMeanNanos=" + predicateLatency.getMean() +
+                ", consequenceMeanNanos=" + consequenceLatency.getMean() +
+                '}';
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.profiler;
+
+import com.sabre.oss.yare.engine.metrics.LatencyHistogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code NodeProfile} collects sampled evaluations of single predicate tree node, i.e. operator, function call
+ * or fact reference. Times are inclusive, they cover evaluation of the node together with its operands.
+ */
+public final class NodeProfile {
+    private final String label;
+    private final int samplingInterval;
+    private final LongAdder trueCount = new LongAdder();
+    private final LongAdder falseCount = new LongAdder();
+    private final LongAdder nullCount = new LongAdder();
+    private final LongAdder valueCount = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    NodeProfile(String label, int samplingInterval) {
+        this.label = label;
+        this.samplingInterval = samplingInterval;
+    }
+
+    void record(Object result, long durationNanos) {
+        if (result == null) {
+            nullCount.increment();
+        } else if (result == Boolean.TRUE) {
+            trueCount.increment();
+        } else if (result == Boolean.FALSE) {
+            falseCount.increment();
+        } else {
+            valueCount.increment();
+        }
+        latency.record(durationNanos);
+    }
+
+    /**
+     * Returns short description of the node, i.e. operator name, function name followed by parentheses
+     * or reference placeholder.
+     *
+     * @return node label
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    public long getSampleCount() {
+        return latency.getCount();
+    }
+
+    /**
+     * Returns estimated number of evaluations of the node, extrapolated from the number of samples.
+     *
+     * @return estimated evaluation count
+     */
+    public long getEstimatedEvaluationCount() {
+        return getSampleCount() * samplingInterval;
+    }
+
+    public long getTrueCount() {
+        return trueCount.sum();
+    }
+
+    public long getFalseCount() {
+        return falseCount.sum();
+    }
+
+    public long getNullCount() {
+        return nullCount.sum();
+    }
+
+    /**
+     * Returns number of sampled evaluations which resulted in a non-boolean value.
+     *
+     * @return value count
+     */
+    public long getValueCount() {
+        return valueCount.sum();
+    }
+
+    /**
+     * Returns ratio of sampled evaluations resulting in {@code true}, or 0 when the node was not sampled yet.
+     *
+     * @return selectivity between 0 and 1
+     */
+    public double getSelectivity() {
+        long samples = getSampleCount();
+        return samples != 0 ? (double) getTrueCount() / samples : 0.0;
+    }
+
+    /**
+     * Returns estimated total time spent in the node, extrapolated from sampled evaluations.
+     *
+     * @return estimated total time in nanoseconds
+     */
+    public long getEstimatedTotalTime() {
+        return latency.getTotalTime() * samplingInterval;
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+}
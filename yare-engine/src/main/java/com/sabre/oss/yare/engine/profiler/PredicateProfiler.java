@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.profiler;
+
+import com.sabre.oss.yare.core.model.Expression;
+import org.apache.commons.lang3.Validate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@code PredicateProfiler} samples evaluations of predicate tree nodes (operators, function calls and fact references)
+ * of all rules built by the engine, collecting their time and selectivity per rule.
+ * <p>
+ * Only one in {@link #getSamplingInterval()} evaluations of a node is timed, so overhead of profiling stays low
+ * and counts are extrapolated. Rules are identified by URI of their rule set together with rule identifier, and
+ * their profiles start anew whenever rules are built again, i.e. after rules cache refresh.
+ */
+public final class PredicateProfiler {
+    private final int samplingInterval;
+    private final ConcurrentMap<RuleKey, RuleProfile> rules = new ConcurrentHashMap<>();
+
+    public PredicateProfiler(int samplingInterval) {
+        Validate.isTrue(samplingInterval > 0, "Sampling interval must be positive");
+        this.samplingInterval = samplingInterval;
+    }
+
+    /**
+     * Starts profiling of the rule identified by {@code ruleId} within rule set {@code uri}, replacing its previous profile.
+     *
+     * @param uri       rule set URI, may be null when rules are built outside of the engine
+     * @param ruleId    rule identifier
+     * @param predicate predicate expression of the rule
+     * @return rule profile used to wrap nodes of the rule
+     */
+    public RuleProfile startProfiling(String uri, String ruleId, Expression predicate) {
+        RuleProfile profile = new RuleProfile(uri, ruleId, predicate, samplingInterval);
+        rules.put(new RuleKey(uri, ruleId), profile);
+        return profile;
+    }
+
+    public int getSamplingInterval() {
+        return samplingInterval;
+    }
+
+    /**
+     * Returns profile of the rule identified by {@code ruleId} within rule set {@code uri}.
+     *
+     * @param uri    rule set URI
+     * @param ruleId rule identifier
+     * @return rule profile or null when the rule has not been built yet
+     */
+    public RuleProfile getRuleProfile(String uri, String ruleId) {
+        return rules.get(new RuleKey(uri, ruleId));
+    }
+
+    /**
+     * Returns profiles of all built rules.
+     *
+     * @return rule profiles
+     */
+    public Collection<RuleProfile> getRuleProfiles() {
+        return Collections.unmodifiableList(new ArrayList<>(rules.values()));
+    }
+
+    /**
+     * Returns report of all rules as indented text, one line per profiled node.
+     *
+     * @return text report
+     */
+    public String toText() {
+        return ProfileReportWriter.toText(samplingInterval, rules.values());
+    }
+
+    /**
+     * Returns report of all rules as JSON document, nodes nested in their parents.
+     *
+     * @return JSON report
+     */
+    public String toJson() {
+        return ProfileReportWriter.toJson(samplingInterval, rules.values());
+    }
+
+    private static final class RuleKey {
+        private final String uri;
+        private final String ruleId;
+
+        private RuleKey(String uri, String ruleId) {
+            this.uri = uri;
+            this.ruleId = ruleId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RuleKey)) {
+                return false;
+            }
+            RuleKey that = (RuleKey) o;
+            return Objects.equals(uri, that.uri) && Objects.equals(ruleId, that.ruleId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(uri, ruleId);
+        }
+    }
+}
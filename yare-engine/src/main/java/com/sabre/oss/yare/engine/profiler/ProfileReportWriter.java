@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.profiler;
+
+import com.sabre.oss.yare.core.model.Expression;
+import com.sabre.oss.yare.engine.metrics.LatencyHistogram;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Formats {@link RuleProfile}s as indented text or JSON. Expressions which are not profiled are skipped,
+ * their profiled operands are reported at their level instead.
+ */
+final class ProfileReportWriter {
+    private static final int INDENT = 2;
+
+    private ProfileReportWriter() {
+    }
+
+    static String toText(int samplingInterval, Collection<RuleProfile> rules) {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format(Locale.ROOT, "Sampling interval: %d%n", samplingInterval));
+        for (RuleProfile rule : sorted(rules)) {
+            builder.append(String.format(Locale.ROOT, "Rule %s%s%n", rule.getRuleId(), rule.getUri() != null ? " of " + rule.getUri() : ""));
+            appendText(builder, rule, rule.getPredicate(), Collections.emptyList(), 1);
+        }
+        return builder.toString();
+    }
+
+    private static void appendText(StringBuilder builder, RuleProfile rule, Expression expression, List<Integer> path, int depth) {
+        NodeProfile node = rule.getNode(path);
+        int childDepth = depth;
+        if (node != null) {
+            LatencyHistogram latency = node.getLatency();
+            long samples = node.getSampleCount();
+            builder.append(String.format(Locale.ROOT,
+                    "%s%s: evaluations~%d samples=%d true=%.1f%% false=%.1f%% null=%.1f%% mean=%.0fns p99=%dns total~%dns%n",
+                    StringUtils.repeat(' ', depth * INDENT), node.getLabel(), node.getEstimatedEvaluationCount(), samples,
+                    percentOf(node.getTrueCount(), samples), percentOf(node.getFalseCount(), samples), percentOf(node.getNullCount(), samples),
+                    latency.getMean(), latency.getValueAtPercentile(99.0), node.getEstimatedTotalTime()));
+            childDepth++;
+        }
+        List<Expression> children = RuleProfile.childrenOf(expression);
+        for (int i = 0; i < children.size(); i++) {
+            appendText(builder, rule, children.get(i), RuleProfile.childPath(path, i), childDepth);
+        }
+    }
+
+    static String toJson(int samplingInterval, Collection<RuleProfile> rules) {
+        StringBuilder builder = new StringBuilder();
+        builder.append("{\"samplingInterval\":").append(samplingInterval).append(",\"rules\":[");
+        String separator = "";
+        for (RuleProfile rule : sorted(rules)) {
+            builder.append(separator).append("{\"uri\":");
+            appendNullableString(builder, rule.getUri());
+            builder.append(",\"ruleId\":");
+            appendString(builder, rule.getRuleId());
+            builder.append(",\"nodes\":[");
+            appendJson(builder, rule, rule.getPredicate(), Collections.emptyList(), false);
+            builder.append("]}");
+            separator = ",";
+        }
+        return builder.append("]}").toString();
+    }
+
+    private static boolean appendJson(StringBuilder builder, RuleProfile rule, Expression expression, List<Integer> path, boolean appended) {
+        NodeProfile node = rule.getNode(path);
+        List<Expression> children = RuleProfile.childrenOf(expression);
+        if (node == null) {
+            boolean any = appended;
+            for (int i = 0; i < children.size(); i++) {
+                any = appendJson(builder, rule, children.get(i), RuleProfile.childPath(path, i), any);
+            }
+            return any;
+        }
+        if (appended) {
+            builder.append(',');
+        }
+        LatencyHistogram latency = node.getLatency();
+        builder.append("{\"label\":");
+        appendString(builder, node.getLabel());
+        builder.append(",\"estimatedEvaluations\":").append(node.getEstimatedEvaluationCount())
+                .append(",\"samples\":").append(node.getSampleCount())
+                .append(",\"trueCount\":").append(node.getTrueCount())
+                .append(",\"falseCount\":").append(node.getFalseCount())
+                .append(",\"nullCount\":").append(node.getNullCount())
+                .append(",\"valueCount\":").append(node.getValueCount())
+                .append(",\"selectivity\":").append(String.format(Locale.ROOT, "%.4f", node.getSelectivity()))
+                .append(",\"meanNanos\":").append(String.format(Locale.ROOT, "%.0f", latency.getMean()))
+                .append(",\"p99Nanos\":").append(latency.getValueAtPercentile(99.0))
+                .append(",\"maxNanos\":").append(latency.getMax())
+                .append(",\"estimatedTotalNanos\":").append(node.getEstimatedTotalTime())
+                .append(",\"children\":[");
+        boolean any = false;
+        for (int i = 0; i < children.size(); i++) {
+            any = appendJson(builder, rule, children.get(i), RuleProfile.childPath(path, i), any);
+        }
+        builder.append("]}");
+        return true;
+    }
+
+    private static void appendNullableString(StringBuilder builder, String value) {
+        if (value != null) {
+            appendString(builder, value);
+        } else {
+            builder.append("null");
+        }
+    }
+
+    private static void appendString(StringBuilder builder, String value) {
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                builder.append('\\').append(c);
+            } else if (c < 0x20) {
+                builder.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+            } else {
+                builder.append(c);
+            }
+        }
+        builder.append('"');
+    }
+
+    private static List<RuleProfile> sorted(Collection<RuleProfile> rules) {
+        return rules.stream()
+                .sorted(Comparator.comparing(RuleProfile::getUri, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+                        .thenComparing(RuleProfile::getRuleId))
+                .collect(Collectors.toList());
+    }
+
+    private static double percentOf(long count, long total) {
+        return total != 0 ? 100.0 * count / total : 0.0;
+    }
+}
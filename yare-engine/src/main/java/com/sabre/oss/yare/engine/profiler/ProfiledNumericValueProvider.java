@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.profiler;
+
+import com.sabre.oss.yare.engine.executor.runtime.operator.arithmetic.NumericValueProvider;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+
+import static com.sabre.oss.yare.engine.profiler.ProfiledPredicate.isSampled;
+
+/**
+ * {@link NumericValueProvider} timing one in {@code samplingInterval} calls of its delegate,
+ * whether the value is taken boxed or as a primitive.
+ */
+final class ProfiledNumericValueProvider extends NumericValueProvider {
+    private final NumericValueProvider delegate;
+    private final NodeProfile profile;
+    private final int samplingInterval;
+
+    ProfiledNumericValueProvider(NumericValueProvider delegate, NodeProfile profile, int samplingInterval) {
+        super(delegate.getNumericType());
+        this.delegate = delegate;
+        this.profile = profile;
+        this.samplingInterval = samplingInterval;
+    }
+
+    @Override
+    public int getInt(PredicateContext context) {
+        if (!isSampled(samplingInterval)) {
+            return delegate.getInt(context);
+        }
+        long start = System.nanoTime();
+        int result = delegate.getInt(context);
+        profile.record(result, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public long getLong(PredicateContext context) {
+        if (!isSampled(samplingInterval)) {
+            return delegate.getLong(context);
+        }
+        long start = System.nanoTime();
+        long result = delegate.getLong(context);
+        profile.record(result, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public double getDouble(PredicateContext context) {
+        if (!isSampled(samplingInterval)) {
+            return delegate.getDouble(context);
+        }
+        long start = System.nanoTime();
+        double result = delegate.getDouble(context);
+        profile.record(result, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public BigDecimal getDecimal(PredicateContext context) {
+        if (!isSampled(samplingInterval)) {
+            return delegate.getDecimal(context);
+        }
+        long start = System.nanoTime();
+        BigDecimal result = delegate.getDecimal(context);
+        profile.record(result, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public Object get(PredicateContext context) {
+        if (!isSampled(samplingInterval)) {
+            return delegate.get(context);
+        }
+        long start = System.nanoTime();
+        Object result = delegate.get(context);
+        profile.record(result, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public Type getType() {
+        return delegate.getType();
+    }
+
+    @Override
+    public ValueProvider unwrap() {
+        return delegate.unwrap();
+    }
+}
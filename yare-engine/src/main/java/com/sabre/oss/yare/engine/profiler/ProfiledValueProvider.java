@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.profiler;
+
+import com.sabre.oss.yare.engine.executor.runtime.operator.arithmetic.NumericValueProvider;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.engine.executor.runtime.value.QuantifiableValueProvider;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+
+import java.lang.reflect.Type;
+import java.util.function.Predicate;
+
+import static com.sabre.oss.yare.engine.profiler.ProfiledPredicate.isSampled;
+
+/**
+ * {@link ValueProvider} timing one in {@code samplingInterval} calls of its delegate.
+ * <p>
+ * Wrappers of {@link QuantifiableValueProvider}s and {@link NumericValueProvider}s keep these capabilities,
+ * so operators built on top of profiled operands are optimized the same way as unprofiled ones.
+ */
+class ProfiledValueProvider extends ValueProvider {
+    private final ValueProvider delegate;
+    private final NodeProfile profile;
+    private final int samplingInterval;
+
+    private ProfiledValueProvider(ValueProvider delegate, NodeProfile profile, int samplingInterval) {
+        this.delegate = delegate;
+        this.profile = profile;
+        this.samplingInterval = samplingInterval;
+    }
+
+    static ValueProvider of(ValueProvider delegate, NodeProfile profile, int samplingInterval) {
+        if (delegate instanceof NumericValueProvider) {
+            return new ProfiledNumericValueProvider((NumericValueProvider) delegate, profile, samplingInterval);
+        }
+        return delegate instanceof QuantifiableValueProvider
+                ? new Quantifiable(delegate, profile, samplingInterval)
+                : new ProfiledValueProvider(delegate, profile, samplingInterval);
+    }
+
+    @Override
+    public Object get(PredicateContext context) {
+        if (!isSampled(samplingInterval)) {
+            return delegate.get(context);
+        }
+        long start = System.nanoTime();
+        Object result = delegate.get(context);
+        profile.record(result, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public Type getType() {
+        return delegate.getType();
+    }
+
+    @Override
+    public ValueProvider unwrap() {
+        return delegate.unwrap();
+    }
+
+    private static final class Quantifiable extends ProfiledValueProvider implements QuantifiableValueProvider {
+        private final QuantifiableValueProvider delegate;
+        private final NodeProfile profile;
+        private final int samplingInterval;
+
+        private Quantifiable(ValueProvider delegate, NodeProfile profile, int samplingInterval) {
+            super(delegate, profile, samplingInterval);
+            this.delegate = (QuantifiableValueProvider) delegate;
+            this.profile = profile;
+            this.samplingInterval = samplingInterval;
+        }
+
+        @Override
+        public Boolean anyMatch(PredicateContext context, Predicate<Object> condition) {
+            if (!isSampled(samplingInterval)) {
+                return delegate.anyMatch(context, condition);
+            }
+            long start = System.nanoTime();
+            Boolean result = delegate.anyMatch(context, condition);
+            profile.record(result, System.nanoTime() - start);
+            return result;
+        }
+
+        @Override
+        public Boolean allMatch(PredicateContext context, Predicate<Object> condition) {
+            if (!isSampled(samplingInterval)) {
+                return delegate.allMatch(context, condition);
+            }
+            long start = System.nanoTime();
+            Boolean result = delegate.allMatch(context, condition);
+            profile.record(result, System.nanoTime() - start);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.profiler;
+
+import com.sabre.oss.yare.core.model.Expression;
+import com.sabre.oss.yare.core.reference.PlaceholderUtils;
+import com.sabre.oss.yare.engine.executor.runtime.operator.logical.False;
+import com.sabre.oss.yare.engine.executor.runtime.operator.logical.True;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.Predicate;
+import com.sabre.oss.yare.engine.executor.runtime.value.ConstantValueProvider;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * {@code RuleProfile} keeps {@link NodeProfile}s of single rule, one per node of its predicate expression.
+ * <p>
+ * Nodes are identified by their position in the predicate tree, i.e. the path of argument indices leading to them
+ * from the root, so the report follows the structure of the rule. Identical sub-expressions are shared between
+ * and within rules, hence they are profiled separately at each position they appear at.
+ * Constants are not profiled, neither are expressions optimized away when the rule was built.
+ */
+public final class RuleProfile {
+    private final String uri;
+    private final String ruleId;
+    private final Expression predicate;
+    private final int samplingInterval;
+    private final Map<List<Integer>, NodeProfile> nodes = Collections.synchronizedMap(new HashMap<>());
+    private final Deque<Position> building = new ArrayDeque<>();
+    private final Set<List<Integer>> built = new HashSet<>();
+
+    RuleProfile(String uri, String ruleId, Expression predicate, int samplingInterval) {
+        this.uri = uri;
+        this.ruleId = ruleId;
+        this.predicate = predicate;
+        this.samplingInterval = samplingInterval;
+    }
+
+    /**
+     * Builds node of {@code expression} and wraps it so its evaluations are sampled. Nodes built while
+     * {@code builder} runs are placed below this one, so nested calls have to follow the structure of the predicate.
+     *
+     * @param expression expression the node is built from
+     * @param builder    builds runtime node
+     * @return profiled node, or built node itself when it is not worth profiling
+     */
+    public Predicate profilePredicate(Expression expression, Supplier<Predicate> builder) {
+        List<Integer> path = enter(expression);
+        try {
+            Predicate node = builder.get();
+            return path != null ? profile(path, expression, node) : node;
+        } finally {
+            exit();
+        }
+    }
+
+    /**
+     * Builds node of {@code expression} and wraps it so its calls are sampled. Nodes built while
+     * {@code builder} runs are placed below this one, so nested calls have to follow the structure of the predicate.
+     *
+     * @param expression expression the node is built from
+     * @param builder    builds runtime node
+     * @return profiled node, or built node itself when it is not worth profiling
+     */
+    public ValueProvider profileValueProvider(Expression expression, Supplier<ValueProvider> builder) {
+        List<Integer> path = enter(expression);
+        try {
+            ValueProvider node = builder.get();
+            return path != null ? profile(path, expression, node) : node;
+        } finally {
+            exit();
+        }
+    }
+
+    private Predicate profile(List<Integer> path, Expression expression, Predicate node) {
+        if (node instanceof ValueProvider) {
+            return profile(path, expression, (ValueProvider) node);
+        }
+        if (node instanceof ProfiledPredicate || node instanceof True || node instanceof False) {
+            return node;
+        }
+        return new ProfiledPredicate(node, getOrCreateNode(path, expression), samplingInterval);
+    }
+
+    private ValueProvider profile(List<Integer> path, Expression expression, ValueProvider node) {
+        if (node instanceof ProfiledValueProvider || node instanceof ProfiledNumericValueProvider || node instanceof ConstantValueProvider) {
+            return node;
+        }
+        return ProfiledValueProvider.of(node, getOrCreateNode(path, expression), samplingInterval);
+    }
+
+    private NodeProfile getOrCreateNode(List<Integer> path, Expression expression) {
+        return nodes.computeIfAbsent(path, p -> new NodeProfile(labelOf(expression), samplingInterval));
+    }
+
+    private List<Integer> enter(Expression expression) {
+        Position parent = building.peek();
+        List<Integer> path;
+        if (parent == null) {
+            path = Collections.emptyList();
+        } else if (parent.expression == expression || parent.path == null) {
+            path = parent.path;
+        } else {
+            path = findPosition(parent, expression);
+        }
+        if (path != null) {
+            built.add(path);
+        }
+        building.push(new Position(expression, path));
+        return path;
+    }
+
+    private void exit() {
+        building.pop();
+        if (building.isEmpty()) {
+            built.clear();
+        }
+    }
+
+    /**
+     * Finds position of {@code expression} below {@code parent}, usually among its arguments. Operators may also
+     * build deeper operands directly, e.g. when they merge their arguments. The first position not built yet wins,
+     * so shared sub-expressions appearing several times are placed in order.
+     */
+    private List<Integer> findPosition(Position parent, Expression expression) {
+        List<Integer> found = null;
+        Deque<Position> pending = new ArrayDeque<>();
+        pending.add(parent);
+        while (!pending.isEmpty()) {
+            Position position = pending.poll();
+            List<Expression> children = childrenOf(position.expression);
+            for (int i = 0; i < children.size(); i++) {
+                Position child = new Position(children.get(i), childPath(position.path, i));
+                if (child.expression == expression) {
+                    if (!built.contains(child.path)) {
+                        return child.path;
+                    }
+                    if (found == null) {
+                        found = child.path;
+                    }
+                }
+                pending.add(child);
+            }
+        }
+        return found;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public String getRuleId() {
+        return ruleId;
+    }
+
+    /**
+     * Returns predicate expression of the rule.
+     *
+     * @return predicate expression
+     */
+    public Expression getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Returns profile of the node at {@code path}, e.g. no indices for the root of the predicate,
+     * {@code (1, 0)} for the first argument of its second argument.
+     *
+     * @param path argument indices leading to the node from the root of the predicate
+     * @return node profile or null when the node is not profiled
+     */
+    public NodeProfile getNode(int... path) {
+        return getNode(Arrays.stream(path).boxed().collect(Collectors.toList()));
+    }
+
+    NodeProfile getNode(List<Integer> path) {
+        return nodes.get(path);
+    }
+
+    static List<Integer> childPath(List<Integer> path, int index) {
+        List<Integer> childPath = new ArrayList<>(path.size() + 1);
+        childPath.addAll(path);
+        childPath.add(index);
+        return childPath;
+    }
+
+    static List<Expression> childrenOf(Expression expression) {
+        if (expression instanceof Expression.Invocation) {
+            return ((Expression.Invocation) expression).getArguments();
+        }
+        if (expression instanceof Expression.Values) {
+            return ((Expression.Values) expression).getValues();
+        }
+        return Collections.emptyList();
+    }
+
+    private static String labelOf(Expression expression) {
+        if (expression instanceof Expression.Operator) {
+            return ((Expression.Operator) expression).getCall();
+        }
+        if (expression instanceof Expression.Invocation) {
+            return ((Expression.Invocation) expression).getCall() + "()";
+        }
+        if (expression instanceof Expression.Value) {
+            Expression.Value value = (Expression.Value) expression;
+            return PlaceholderUtils.extract(value)
+                    .map(reference -> "${" + reference + "}")
+                    .orElseGet(() -> String.valueOf(value.getValue()));
+        }
+        if (expression instanceof Expression.Values) {
+            return "values";
+        }
+        return String.valueOf(expression.getName());
+    }
+
+    private static final class Position {
+        private final Expression expression;
+        private final List<Integer> path;
+
+        private Position(Expression expression, List<Integer> path) {
+            this.expression = expression;
+            this.path = path;
+        }
+    }
+}
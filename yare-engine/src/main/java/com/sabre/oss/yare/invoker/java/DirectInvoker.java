@@ -0,0 +1,229 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.invoker.java;
+
+/**
+ * {@link DirectInvoker} calls a method with fixed number of arguments without going through
+ * {@link java.lang.invoke.MethodHandle#invokeWithArguments(Object...)}.
+ * <p>
+ * Arity specific sub-interfaces are implemented with {@link java.lang.invoke.LambdaMetafactory}, so calling
+ * {@code invokeN} costs about as much as a direct interface call. Other implementations get arguments of
+ * {@code invokeN} as an array.
+ *
+ * @see DirectInvokerFactory
+ */
+interface DirectInvoker {
+    int MAX_ARITY = 6;
+
+    /**
+     * Call method with arguments passed as an array.
+     *
+     * @param args argument values
+     * @return method result ({@code null} for void methods)
+     */
+    Object invoke(Object[] args);
+
+    default Object invoke0() {
+        return invoke(new Object[]{});
+    }
+
+    default Object invoke1(Object a0) {
+        return invoke(new Object[]{a0});
+    }
+
+    default Object invoke2(Object a0, Object a1) {
+        return invoke(new Object[]{a0, a1});
+    }
+
+    default Object invoke3(Object a0, Object a1, Object a2) {
+        return invoke(new Object[]{a0, a1, a2});
+    }
+
+    default Object invoke4(Object a0, Object a1, Object a2, Object a3) {
+        return invoke(new Object[]{a0, a1, a2, a3});
+    }
+
+    default Object invoke5(Object a0, Object a1, Object a2, Object a3, Object a4) {
+        return invoke(new Object[]{a0, a1, a2, a3, a4});
+    }
+
+    default Object invoke6(Object a0, Object a1, Object a2, Object a3, Object a4, Object a5) {
+        return invoke(new Object[]{a0, a1, a2, a3, a4, a5});
+    }
+
+    @FunctionalInterface
+    interface Invoker0 extends DirectInvoker {
+        @Override
+        Object invoke0();
+
+        @Override
+        default Object invoke(Object[] args) {
+            return invoke0();
+        }
+    }
+
+    @FunctionalInterface
+    interface Invoker1 extends DirectInvoker {
+        @Override
+        Object invoke1(Object a0);
+
+        @Override
+        default Object invoke(Object[] args) {
+            return invoke1(args[0]);
+        }
+    }
+
+    @FunctionalInterface
+    interface Invoker2 extends DirectInvoker {
+        @Override
+        Object invoke2(Object a0, Object a1);
+
+        @Override
+        default Object invoke(Object[] args) {
+            return invoke2(args[0], args[1]);
+        }
+    }
+
+    @FunctionalInterface
+    interface Invoker3 extends DirectInvoker {
+        @Override
+        Object invoke3(Object a0, Object a1, Object a2);
+
+        @Override
+        default Object invoke(Object[] args) {
+            return invoke3(args[0], args[1], args[2]);
+        }
+    }
+
+    @FunctionalInterface
+    interface Invoker4 extends DirectInvoker {
+        @Override
+        Object invoke4(Object a0, Object a1, Object a2, Object a3);
+
+        @Override
+        default Object invoke(Object[] args) {
+            return invoke4(args[0], args[1], args[2], args[3]);
+        }
+    }
+
+    @FunctionalInterface
+    interface Invoker5 extends DirectInvoker {
+        @Override
+        Object invoke5(Object a0, Object a1, Object a2, Object a3, Object a4);
+
+        @Override
+        default Object invoke(Object[] args) {
+            return invoke5(args[0], args[1], args[2], args[3], args[4]);
+        }
+    }
+
+    @FunctionalInterface
+    interface Invoker6 extends DirectInvoker {
+        @Override
+        Object invoke6(Object a0, Object a1, Object a2, Object a3, Object a4, Object a5);
+
+        @Override
+        default Object invoke(Object[] args) {
+            return invoke6(args[0], args[1], args[2], args[3], args[4], args[5]);
+        }
+    }
+
+    @FunctionalInterface
+    interface Procedure0 extends Invoker0 {
+        void run0();
+
+        @Override
+        default Object invoke0() {
+            run0();
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    interface Procedure1 extends Invoker1 {
+        void run1(Object a0);
+
+        @Override
+        default Object invoke1(Object a0) {
+            run1(a0);
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    interface Procedure2 extends Invoker2 {
+        void run2(Object a0, Object a1);
+
+        @Override
+        default Object invoke2(Object a0, Object a1) {
+            run2(a0, a1);
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    interface Procedure3 extends Invoker3 {
+        void run3(Object a0, Object a1, Object a2);
+
+        @Override
+        default Object invoke3(Object a0, Object a1, Object a2) {
+            run3(a0, a1, a2);
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    interface Procedure4 extends Invoker4 {
+        void run4(Object a0, Object a1, Object a2, Object a3);
+
+        @Override
+        default Object invoke4(Object a0, Object a1, Object a2, Object a3) {
+            run4(a0, a1, a2, a3);
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    interface Procedure5 extends Invoker5 {
+        void run5(Object a0, Object a1, Object a2, Object a3, Object a4);
+
+        @Override
+        default Object invoke5(Object a0, Object a1, Object a2, Object a3, Object a4) {
+            run5(a0, a1, a2, a3, a4);
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    interface Procedure6 extends Invoker6 {
+        void run6(Object a0, Object a1, Object a2, Object a3, Object a4, Object a5);
+
+        @Override
+        default Object invoke6(Object a0, Object a1, Object a2, Object a3, Object a4, Object a5) {
+            run6(a0, a1, a2, a3, a4, a5);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.invoker.java;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * {@link DirectInvokerFactory} creates {@link DirectInvoker}s of methods with {@link LambdaMetafactory}.
+ * <p>
+ * Generated classes are defined by class loader of this factory, so the method, its declaring class and its
+ * parameter types have to be public and visible from there. Otherwise, or for methods with more than
+ * {@link DirectInvoker#MAX_ARITY} parameters, invoker adapting {@link MethodHandle} is created.
+ */
+final class DirectInvokerFactory {
+    private static final Logger log = LoggerFactory.getLogger(DirectInvokerFactory.class);
+
+    private static final Class<?>[] INVOKERS = {
+            DirectInvoker.Invoker0.class, DirectInvoker.Invoker1.class, DirectInvoker.Invoker2.class, DirectInvoker.Invoker3.class,
+            DirectInvoker.Invoker4.class, DirectInvoker.Invoker5.class, DirectInvoker.Invoker6.class
+    };
+    private static final Class<?>[] PROCEDURES = {
+            DirectInvoker.Procedure0.class, DirectInvoker.Procedure1.class, DirectInvoker.Procedure2.class, DirectInvoker.Procedure3.class,
+            DirectInvoker.Procedure4.class, DirectInvoker.Procedure5.class, DirectInvoker.Procedure6.class
+    };
+
+    private DirectInvokerFactory() {
+    }
+
+    /**
+     * Create invoker of {@code method}.
+     *
+     * @param target instance on which method is called ({@code null} for static methods)
+     * @param method method to call
+     * @return invoker
+     */
+    static DirectInvoker create(Object target, Method method) {
+        MethodHandle methodHandle = unreflect(method);
+        DirectInvoker invoker = isDirectlyInvokable(method) ? createDirect(target, method, methodHandle) : null;
+        return invoker != null ? invoker : createAdapting(target, method, methodHandle);
+    }
+
+    private static DirectInvoker createDirect(Object target, Method method, MethodHandle methodHandle) {
+        int arity = method.getParameterCount();
+        boolean procedure = method.getReturnType() == void.class;
+        Class<?> invokerType = procedure ? PROCEDURES[arity] : INVOKERS[arity];
+        String invokerMethod = (procedure ? "run" : "invoke") + arity;
+        boolean bound = !Modifier.isStatic(method.getModifiers());
+
+        MethodType samType = procedure ? MethodType.genericMethodType(arity).changeReturnType(void.class) : MethodType.genericMethodType(arity);
+        MethodType instantiatedType = MethodType.methodType(ClassUtils.primitiveToWrapper(method.getReturnType()),
+                ClassUtils.primitivesToWrappers(method.getParameterTypes()));
+        if (procedure) {
+            instantiatedType = instantiatedType.changeReturnType(void.class);
+        }
+        MethodType factoryType = bound ? MethodType.methodType(invokerType, method.getDeclaringClass()) : MethodType.methodType(invokerType);
+        try {
+            CallSite callSite = LambdaMetafactory.metafactory(MethodHandles.lookup(), invokerMethod, factoryType, samType, methodHandle, instantiatedType);
+            return (DirectInvoker) (bound ? callSite.getTarget().invoke(target) : callSite.getTarget().invoke());
+        } catch (Throwable e) {
+            log.debug("Could not create direct invoker of {}, method handle will be used", method, e);
+            return null;
+        }
+    }
+
+    private static DirectInvoker createAdapting(Object target, Method method, MethodHandle methodHandle) {
+        int arity = method.getParameterCount();
+        MethodHandle spreader = (target != null ? methodHandle.bindTo(target) : methodHandle)
+                .asType(MethodType.genericMethodType(arity))
+                .asSpreader(Object[].class, arity);
+        return args -> {
+            try {
+                return (Object) spreader.invokeExact(args);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+
+    private static boolean isDirectlyInvokable(Method method) {
+        if (method.getParameterCount() > DirectInvoker.MAX_ARITY
+                || !Modifier.isPublic(method.getModifiers())
+                || !isVisible(method.getDeclaringClass())
+                || !isVisible(method.getReturnType())) {
+            return false;
+        }
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            if (!isVisible(parameterType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isVisible(Class<?> type) {
+        if (type.isPrimitive()) {
+            return true;
+        }
+        if (type.isArray()) {
+            return isVisible(type.getComponentType());
+        }
+        for (Class<?> current = type; current != null; current = current.getEnclosingClass()) {
+            if (!Modifier.isPublic(current.getModifiers())) {
+                return false;
+            }
+        }
+        try {
+            return Class.forName(type.getName(), false, DirectInvokerFactory.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            return MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -28,8 +28,6 @@ import com.sabre.oss.yare.core.call.*;
 import com.sabre.oss.yare.core.invocation.Invocation;
 import org.apache.commons.lang3.ClassUtils;
 
-import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -94,13 +92,17 @@ public class MethodCallInvocationFactory implements InvocationFactory {
     }
 
     static final class MethodBasedInvocation<R> extends ProcessingInvocation<R> {
-        private final MethodHandle methodHandle;
+        private final DirectInvoker invoker;
 
         private MethodBasedInvocation(Argument.Invocation invocation, ArgumentValueResolver argumentValueResolver, Object target, Method method) {
             super(invocation, argumentValueResolver);
+            this.invoker = DirectInvokerFactory.create(target, method);
+        }
+
+        @Override
+        public R proceed(ProcessingContext ctx) {
             try {
-                MethodHandle methodHandle = MethodHandles.lookup().unreflect(method);
-                this.methodHandle = target != null ? methodHandle.bindTo(target) : methodHandle;
+                return invoke(ctx);
             } catch (RuntimeException | Error e) {
                 throw e;
             } catch (Exception e) {
@@ -112,13 +114,38 @@ public class MethodCallInvocationFactory implements InvocationFactory {
         @SuppressWarnings("unchecked")
         public R call(ProcessingContext processingContext, Object[] args) {
             try {
-                return (R) methodHandle.invokeWithArguments(args);
+                return (R) invoker.invoke(args);
             } catch (RuntimeException | Error e) {
                 throw e;
-            } catch (Throwable e) {
+            } catch (Exception e) {
                 throw new RuntimeException(e);
             }
         }
+
+        @SuppressWarnings("unchecked")
+        private R invoke(ProcessingContext ctx) {
+            switch (getArity()) {
+                case 0:
+                    return (R) invoker.invoke0();
+                case 1:
+                    return (R) invoker.invoke1(resolveArgument(ctx, 0));
+                case 2:
+                    return (R) invoker.invoke2(resolveArgument(ctx, 0), resolveArgument(ctx, 1));
+                case 3:
+                    return (R) invoker.invoke3(resolveArgument(ctx, 0), resolveArgument(ctx, 1), resolveArgument(ctx, 2));
+                case 4:
+                    return (R) invoker.invoke4(resolveArgument(ctx, 0), resolveArgument(ctx, 1), resolveArgument(ctx, 2),
+                            resolveArgument(ctx, 3));
+                case 5:
+                    return (R) invoker.invoke5(resolveArgument(ctx, 0), resolveArgument(ctx, 1), resolveArgument(ctx, 2),
+                            resolveArgument(ctx, 3), resolveArgument(ctx, 4));
+                case 6:
+                    return (R) invoker.invoke6(resolveArgument(ctx, 0), resolveArgument(ctx, 1), resolveArgument(ctx, 2),
+                            resolveArgument(ctx, 3), resolveArgument(ctx, 4), resolveArgument(ctx, 5));
+                default:
+                    return super.proceed(ctx);
+            }
+        }
     }
 
     static final class RoutineBasedInvocation<R> extends ProcessingInvocation<R> {
@@ -0,0 +1,167 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine;
+
+import com.sabre.oss.yare.core.RuleSession;
+import com.sabre.oss.yare.core.RulesEngine;
+import com.sabre.oss.yare.core.RulesEngineBuilder;
+import com.sabre.oss.yare.core.Wrapper;
+import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.dsl.RuleDsl;
+import com.sabre.oss.yare.engine.executor.DefaultRulesExecutorBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.sabre.oss.yare.dsl.RuleDsl.*;
+import static com.sabre.oss.yare.invoker.java.MethodCallMetadata.method;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AdaptiveFunctionCachingTest {
+    private static final int NUMBER_OF_ITEMS = 2000;
+    private static final int NUMBER_OF_GROUPS = 4;
+    private static final long INVOCATION_COST = Duration.ofMillis(1).toNanos() / 20;
+
+    private final AtomicInteger groupStatusInvocations = new AtomicInteger();
+    private final AtomicInteger itemStatusInvocations = new AtomicInteger();
+
+    @Test
+    void shouldCacheOnlyExpensiveFunctionsWithRepeatingArguments() {
+        // given
+        RulesEngine engine = createEngine(new DefaultRulesExecutorBuilder()
+                .withAdaptiveFunctionCaching(true)
+                .withAdaptiveFunctionCachingSampleSize(16)
+                .withAdaptiveFunctionCachingThresholds(Duration.ofNanos(INVOCATION_COST / 5), 0.2));
+        RuleSession session = engine.createSession("session");
+        List<Object> items = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_ITEMS; i++) {
+            items.add(new Item(i, i % NUMBER_OF_GROUPS));
+        }
+
+        // when
+        List<Item> result = session.execute(new ArrayList<>(), items);
+
+        // then
+        AdaptiveFunctionCaching caching = ((Wrapper) engine).unwrap(AdaptiveFunctionCaching.class);
+        FunctionCachingDecision groupStatus = caching.getDecision("groupStatus");
+        FunctionCachingDecision itemStatus = caching.getDecision("itemStatus");
+        assertThat(result).hasSize(2 * NUMBER_OF_ITEMS);
+        assertThat(groupStatus.isCached()).isTrue();
+        assertThat(groupStatus.getChangeCount()).isZero();
+        assertThat(groupStatus.getEvaluationCount()).isPositive();
+        assertThat(groupStatusInvocations.get()).isEqualTo(NUMBER_OF_GROUPS);
+        assertThat(itemStatus.isCached()).isFalse();
+        assertThat(itemStatus.getChangeCount()).isEqualTo(1);
+        assertThat(itemStatus.getRepetitionRate()).isZero();
+        assertThat(itemStatusInvocations.get()).isEqualTo(NUMBER_OF_ITEMS);
+        assertThat(caching.getDecisions()).containsOnlyKeys("groupStatus", "itemStatus");
+    }
+
+    @Test
+    void shouldRequireManagedResultCacheForAdaptiveCaching() {
+        // given
+        DefaultRulesExecutorBuilder executorBuilder = new DefaultRulesExecutorBuilder()
+                .withAdaptiveFunctionCaching(true)
+                .withFunctionResultCache(new SessionCallInvocationResultCache());
+
+        // when / then
+        assertThatThrownBy(() -> createEngine(executorBuilder))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Adaptive function caching requires ManagedCallInvocationResultCache");
+    }
+
+    private RulesEngine createEngine(DefaultRulesExecutorBuilder executorBuilder) {
+        Rule groupRule = RuleDsl.ruleBuilder()
+                .name("group")
+                .fact("item", Item.class)
+                .predicate(
+                        equal(
+                                function("groupStatus", String.class, param("group", value("${item.group}"))),
+                                value("OK")
+                        )
+                )
+                .action("collect",
+                        param("context", value("${ctx}")),
+                        param("fact", value("${item}")))
+                .build();
+        Rule itemRule = RuleDsl.ruleBuilder()
+                .name("item")
+                .fact("item", Item.class)
+                .predicate(
+                        equal(
+                                function("itemStatus", String.class, param("code", value("${item.code}"))),
+                                value("OK")
+                        )
+                )
+                .action("collect",
+                        param("context", value("${ctx}")),
+                        param("fact", value("${item}")))
+                .build();
+        return new RulesEngineBuilder()
+                .withRulesRepository(i -> Arrays.asList(groupRule, itemRule))
+                .withFunctionMapping("groupStatus", method(this, f -> f.groupStatus(null)))
+                .withFunctionMapping("itemStatus", method(this, f -> f.itemStatus(null)))
+                .withActionMapping("collect", method(this, a -> a.collect(null, null)))
+                .withRulesExecutorBuilder(executorBuilder)
+                .build();
+    }
+
+    public String groupStatus(Integer group) {
+        groupStatusInvocations.incrementAndGet();
+        return expensiveStatus();
+    }
+
+    public String itemStatus(Integer code) {
+        itemStatusInvocations.incrementAndGet();
+        return expensiveStatus();
+    }
+
+    public void collect(List<Item> context, Item fact) {
+        context.add(fact);
+    }
+
+    private static String expensiveStatus() {
+        long end = System.nanoTime() + INVOCATION_COST;
+        while (System.nanoTime() < end) {
+            Thread.yield();
+        }
+        return "OK";
+    }
+
+    public static final class Item {
+        public final Integer code;
+        public final Integer group;
+
+        Item(Integer code, Integer group) {
+            this.code = code;
+            this.group = group;
+        }
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine;
+
+import com.google.common.base.Ticker;
+import com.sabre.oss.yare.engine.executor.ExecutorConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class BoundedCallInvocationResultCacheTest {
+    private AtomicLong time;
+    private Ticker ticker;
+    private int howManyExecutions;
+
+    @BeforeEach
+    void setUp() {
+        time = new AtomicLong();
+        ticker = new Ticker() {
+            @Override
+            public long read() {
+                return time.get();
+            }
+        };
+        howManyExecutions = 0;
+    }
+
+    @Test
+    void shouldCacheResultsAndRecordStatistics() {
+        // given
+        BoundedCallInvocationResultCache cache = createCache(ExecutorConfiguration.builder());
+
+        // when
+        int first = cache.get("sum", new Object[]{1, 2}, this::sum);
+        int second = cache.get("sum", new Object[]{1, 2}, this::sum);
+        Object none = cache.get("none", new Object[]{1}, args -> {
+            howManyExecutions++;
+            return null;
+        });
+        Object cachedNone = cache.get("none", new Object[]{1}, args -> {
+            howManyExecutions++;
+            return "not cached";
+        });
+
+        // then
+        assertThat(first).isEqualTo(3);
+        assertThat(second).isEqualTo(3);
+        assertThat(none).isNull();
+        assertThat(cachedNone).isNull();
+        assertThat(howManyExecutions).isEqualTo(2);
+        FunctionCacheStats stats = cache.getStats("sum");
+        assertThat(stats.getHitCount()).isEqualTo(1);
+        assertThat(stats.getMissCount()).isEqualTo(1);
+        assertThat(stats.getLoadCount()).isEqualTo(1);
+        assertThat(stats.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotExceedMaximumSize() {
+        // given
+        BoundedCallInvocationResultCache cache = createCache(ExecutorConfiguration.builder()
+                .withFunctionCacheMaximumSize("sum", 10));
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            cache.get("sum", new Object[]{i, 1}, this::sum);
+        }
+
+        // then
+        FunctionCacheStats stats = cache.getStats("sum");
+        assertThat(stats.getSize()).isEqualTo(10);
+        assertThat(stats.getEvictionCount()).isEqualTo(990);
+    }
+
+    @Test
+    void shouldEvictResultsWhenResized() {
+        // given
+        BoundedCallInvocationResultCache cache = createCache(ExecutorConfiguration.builder()
+                .withFunctionCacheMaximumSize("sum", 100));
+        for (int i = 0; i < 50; i++) {
+            cache.get("sum", new Object[]{i, 1}, this::sum);
+        }
+
+        // when
+        cache.setMaximumSize("sum", 10);
+        for (int i = 50; i < 60; i++) {
+            cache.get("sum", new Object[]{i, 1}, this::sum);
+        }
+
+        // then
+        FunctionCacheStats stats = cache.getStats("sum");
+        assertThat(stats.getSize()).isEqualTo(10);
+        assertThat(stats.getEvictionCount()).isEqualTo(50);
+    }
+
+    @Test
+    void shouldKeepFrequentlyUsedResultsWhenScanned() {
+        // given
+        BoundedCallInvocationResultCache cache = createCache(ExecutorConfiguration.builder()
+                .withDefaultFunctionCacheMaximumSize(100));
+        for (int round = 0; round < 5; round++) {
+            for (int hot = 0; hot < 50; hot++) {
+                cache.get("sum", new Object[]{hot, 0}, this::sum);
+            }
+            cache.get("sum", new Object[]{-round, -1}, this::sum);
+        }
+        howManyExecutions = 0;
+
+        // when
+        for (int cold = 1000; cold < 11000; cold++) {
+            cache.get("sum", new Object[]{cold, 0}, this::sum);
+            if (cold % 10 == 0) {
+                cache.get("sum", new Object[]{cold / 10 % 50, 0}, this::sum);
+            }
+        }
+
+        // then
+        assertThat(howManyExecutions).isEqualTo(10000);
+    }
+
+    @Test
+    void shouldExpireResultsNotAccessedForExpirationTime() {
+        // given
+        BoundedCallInvocationResultCache cache = createCache(ExecutorConfiguration.builder()
+                .withFunctionCacheExpirationTime("sum", Duration.ofNanos(100)));
+        cache.get("sum", new Object[]{1, 2}, this::sum);
+        time.addAndGet(99);
+        cache.get("sum", new Object[]{1, 2}, this::sum);
+
+        // when
+        time.addAndGet(100);
+        cache.get("sum", new Object[]{1, 2}, this::sum);
+
+        // then
+        assertThat(howManyExecutions).isEqualTo(2);
+        assertThat(cache.getStats("sum").getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldBoundTotalWeightWhenWeigherSpecified() {
+        // given
+        BoundedCallInvocationResultCache cache = createCache(ExecutorConfiguration.builder()
+                .withFunctionCacheMaximumSize("sum", 100)
+                .withFunctionCacheWeigher("sum", (args, result) -> (Integer) result));
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            cache.get("sum", new Object[]{i, 0}, this::sum);
+        }
+
+        // then
+        assertThat(cache.getStats("sum").getWeight()).isLessThanOrEqualTo(100);
+    }
+
+    @Test
+    void shouldCompareArrayArgumentsByContent() {
+        // given
+        BoundedCallInvocationResultCache cache = createCache(ExecutorConfiguration.builder());
+        Function<Object[], Integer> length = args -> {
+            howManyExecutions++;
+            return ((int[]) args[0]).length;
+        };
+
+        // when
+        cache.get("length", new Object[]{new int[]{1, 2}}, length);
+        cache.get("length", new Object[]{new int[]{1, 2}}, length);
+        cache.get("length", new Object[]{new int[]{1, 2, 3}}, length);
+
+        // then
+        assertThat(howManyExecutions).isEqualTo(2);
+    }
+
+    @Test
+    void shouldComputeResultOnceForConcurrentCallsWithEqualArguments() throws Exception {
+        // given
+        BoundedCallInvocationResultCache cache = createCache(ExecutorConfiguration.builder());
+        CountDownLatch computing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger computations = new AtomicInteger();
+        Function<Object[], Integer> slowSum = args -> {
+            computations.incrementAndGet();
+            computing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return (Integer) args[0] + (Integer) args[1];
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // when
+            Future<Integer> first = executor.submit(() -> cache.get("sum", new Object[]{1, 2}, slowSum));
+            computing.await();
+            AtomicReference<Thread> waiting = new AtomicReference<>();
+            Future<Integer> second = executor.submit(() -> {
+                waiting.set(Thread.currentThread());
+                return cache.get("sum", new Object[]{1, 2}, slowSum);
+            });
+            while (waiting.get() == null || waiting.get().getState() != Thread.State.WAITING) {
+                Thread.yield();
+            }
+            release.countDown();
+
+            // then
+            assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo(3);
+            assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo(3);
+            assertThat(computations.get()).isEqualTo(1);
+            assertThat(cache.getStats("sum").getMissCount()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldNotCacheFailures() {
+        // given
+        BoundedCallInvocationResultCache cache = createCache(ExecutorConfiguration.builder());
+
+        // when
+        Throwable thrown = catchThrowable(() -> cache.get("fail", new Object[]{1}, args -> {
+            throw new IllegalStateException("failed");
+        }));
+        Integer retried = cache.get("fail", new Object[]{1}, args -> 1);
+
+        // then
+        assertThat(thrown).isInstanceOf(IllegalStateException.class).hasMessage("failed");
+        assertThat(retried).isEqualTo(1);
+    }
+
+    private BoundedCallInvocationResultCache createCache(ExecutorConfiguration.Builder builder) {
+        return new BoundedCallInvocationResultCache(builder.build(), ticker);
+    }
+
+    private Integer sum(Object[] args) {
+        howManyExecutions++;
+        return (Integer) args[0] + (Integer) args[1];
+    }
+}
@@ -28,8 +28,11 @@ import com.sabre.oss.yare.core.call.Argument;
 import com.sabre.oss.yare.core.call.Argument.Reference;
 import com.sabre.oss.yare.core.call.Argument.Value;
 import com.sabre.oss.yare.core.call.Argument.Values;
+import com.sabre.oss.yare.core.call.CompiledArgument;
+import com.sabre.oss.yare.core.call.ProcessingContext;
 import com.sabre.oss.yare.core.call.ProcessingInvocationFactory;
 import com.sabre.oss.yare.core.call.VariableResolver;
+import com.sabre.oss.yare.core.invocation.Invocation;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -41,8 +44,7 @@ import java.util.List;
 
 import static com.sabre.oss.yare.core.call.Argument.UNKNOWN;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 public class DefaultArgumentValueResolverTest {
     private ProcessingInvocationFactory<Object> functionProcessingInvocationFactory;
@@ -92,6 +94,64 @@ public class DefaultArgumentValueResolverTest {
         assertThat(resultValueBRef).isEqualTo("valueB");
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCreateNestedInvocationOnceWhenCompilingArgument() {
+        // given
+        Argument.Invocation invocationArgument = Argument.invocationOf("nested", String.class, "nested");
+        Invocation<ProcessingContext, Object> invocation = mock(Invocation.class);
+        ProcessingContext processingContext = mock(PredicateContext.class);
+        when(functionProcessingInvocationFactory.create(invocationArgument)).thenReturn(invocation);
+        when(invocation.proceed(processingContext)).thenReturn("first", "second");
+
+        // when
+        CompiledArgument compiledArgument = defaultArgumentValueResolver.compile(invocationArgument);
+        Object first = compiledArgument.resolve(processingContext);
+        Object second = compiledArgument.resolve(processingContext);
+
+        // then
+        assertThat(first).isEqualTo("first");
+        assertThat(second).isEqualTo("second");
+        verify(functionProcessingInvocationFactory, times(1)).create(invocationArgument);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReuseCompiledArgumentWhenResolvingRepeatedly() {
+        // given
+        Argument.Invocation invocationArgument = Argument.invocationOf("nested", String.class, "nested");
+        Invocation<ProcessingContext, Object> invocation = mock(Invocation.class);
+        ProcessingContext processingContext = mock(PredicateContext.class);
+        when(functionProcessingInvocationFactory.create(invocationArgument)).thenReturn(invocation);
+        when(invocation.proceed(processingContext)).thenReturn("first", "second");
+
+        // when
+        Object first = defaultArgumentValueResolver.resolve(processingContext, invocationArgument);
+        Object second = defaultArgumentValueResolver.resolve(processingContext, invocationArgument);
+
+        // then
+        assertThat(first).isEqualTo("first");
+        assertThat(second).isEqualTo("second");
+        verify(functionProcessingInvocationFactory, times(1)).create(invocationArgument);
+    }
+
+    @Test
+    void shouldResolveReferenceOfUnknownTypeByTypeOfValue() {
+        // given
+        Reference reference = Argument.referenceOf("myReference", Object.class, UNKNOWN, "myProperty.value");
+        VariableResolver variableResolver = mock(PredicateContext.class);
+        when(variableResolver.resolve("myProperty")).thenReturn(new MyProperty("value"));
+
+        // when
+        CompiledArgument compiledArgument = defaultArgumentValueResolver.compile(reference);
+        Object first = compiledArgument.resolve(variableResolver);
+        Object second = compiledArgument.resolve(variableResolver);
+
+        // then
+        assertThat(first).isEqualTo("value");
+        assertThat(second).isEqualTo("value");
+    }
+
     @Nested
     class ValuesResolving {
 
@@ -98,6 +98,38 @@ class DefaultCallInvocationResultCacheTest {
         assertThat(result).isEqualTo(6);
     }
 
+    @Test
+    void shouldRecordStatisticsAndInvalidateResults() {
+        //given
+        defaultFunctionResultCache.get("testFunction", new Object[]{1, 2, 3}, this::testFunction);
+        defaultFunctionResultCache.get("testFunction", new Object[]{1, 2, 3}, this::testFunction);
+
+        //when
+        FunctionCacheStats stats = defaultFunctionResultCache.getStats("testFunction");
+        defaultFunctionResultCache.invalidate("testFunction");
+        defaultFunctionResultCache.get("testFunction", new Object[]{1, 2, 3}, this::testFunction);
+
+        //then
+        assertThat(stats.getHitCount()).isEqualTo(1);
+        assertThat(stats.getMissCount()).isEqualTo(1);
+        assertThat(stats.getSize()).isEqualTo(1);
+        assertThat(howManyExecutions).isEqualTo(2);
+    }
+
+    @Test
+    void shouldBoundResultsWhenResized() {
+        //given
+        defaultFunctionResultCache.setMaximumSize("testFunction", 2);
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            defaultFunctionResultCache.get("testFunction", new Object[]{i, 0, 0}, this::testFunction);
+        }
+
+        //then
+        assertThat(defaultFunctionResultCache.getStats("testFunction").getSize()).isLessThanOrEqualTo(2);
+    }
+
     private Integer testFunction(Object[] args) {
         howManyExecutions++;
         return (Integer) args[0] + (Integer) args[1] + (Integer) args[2];
@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FunctionCachingProfileTest {
+    private static final int SAMPLE_SIZE = 100;
+    private static final long MINIMAL_COST = 1000;
+
+    @Test
+    void shouldStopCachingWhenArgumentsDoNotRepeat() {
+        // given
+        FunctionCachingProfile profile = new FunctionCachingProfile("f", true, SAMPLE_SIZE, MINIMAL_COST, 0.2);
+
+        // when
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            profile.recordCost(5000);
+            profile.recordArguments(i);
+        }
+
+        // then
+        FunctionCachingDecision decision = profile.getDecision();
+        assertThat(profile.isCaching()).isFalse();
+        assertThat(decision.getRepetitionRate()).isZero();
+        assertThat(decision.getChangeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldStopCachingWhenInvocationIsCheap() {
+        // given
+        FunctionCachingProfile profile = new FunctionCachingProfile("f", true, SAMPLE_SIZE, MINIMAL_COST, 0.2);
+
+        // when
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            profile.recordCost(100);
+            profile.recordArguments(i % 3);
+        }
+
+        // then
+        assertThat(profile.isCaching()).isFalse();
+        assertThat(profile.getDecision().getAverageInvocationCost()).isEqualTo(100.0);
+    }
+
+    @Test
+    void shouldKeepCachingExpensiveFunctionWithRepeatedArguments() {
+        // given
+        FunctionCachingProfile profile = new FunctionCachingProfile("f", true, SAMPLE_SIZE, MINIMAL_COST, 0.2);
+
+        // when
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            profile.recordCost(5000);
+            profile.recordArguments(i % 10);
+        }
+
+        // then
+        assertThat(profile.isCaching()).isTrue();
+        assertThat(profile.getDecision().getRepetitionRate()).isEqualTo(0.9);
+        assertThat(profile.getDecision().getEvaluationCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldResumeCachingWhenArgumentsStartRepeating() {
+        // given
+        FunctionCachingProfile profile = new FunctionCachingProfile("f", false, SAMPLE_SIZE, MINIMAL_COST, 0.2);
+
+        // when
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            profile.recordCost(5000);
+            profile.recordArguments(i);
+        }
+        boolean cachingAfterUniqueArguments = profile.isCaching();
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            profile.recordCost(5000);
+            profile.recordArguments(i % 2);
+        }
+
+        // then
+        assertThat(cachingAfterUniqueArguments).isFalse();
+        assertThat(profile.isCaching()).isTrue();
+        assertThat(profile.getDecision().getChangeCount()).isEqualTo(1);
+    }
+}
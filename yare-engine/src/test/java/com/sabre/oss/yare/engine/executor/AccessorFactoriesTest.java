@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor;
+
+import com.google.common.collect.ImmutableMap;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.engine.executor.runtime.value.FieldReferringClassFactory;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+import com.sabre.oss.yare.engine.integration.fact.InnerChainingFact;
+import javassist.ClassPool;
+import javassist.LoaderClassPath;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessorFactoriesTest {
+
+    @Test
+    void shouldShareFactoryPerClassLoaderOfFactsUntilReleased() {
+        // given
+        AccessorFactories factories = new AccessorFactories();
+        ClassLoader classLoader = InnerChainingFact.class.getClassLoader();
+
+        // when
+        FieldReferringClassFactory first = factories.acquire(classLoader);
+        FieldReferringClassFactory second = factories.acquire(classLoader);
+        FieldReferringClassFactory other = factories.acquire(new ClassLoader(classLoader) {
+        });
+        factories.release(classLoader);
+        FieldReferringClassFactory third = factories.acquire(classLoader);
+        factories.release(classLoader);
+        factories.release(classLoader);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(other).isNotSameAs(first);
+        assertThat(third).isSameAs(first);
+        assertThat(factories.size()).isEqualTo(1);
+        assertThat(factories.acquire(classLoader)).isNotSameAs(first);
+    }
+
+    @Test
+    void shouldUnloadAccessorsOfReleasedFactory() throws Exception {
+        // given
+        AccessorFactories factories = new AccessorFactories();
+        List<WeakReference<?>> references = createAccessorOfIsolatedFact(factories);
+
+        // when
+        for (int i = 0; i < 100 && references.stream().anyMatch(reference -> reference.get() != null); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        // then
+        assertThat(references).allMatch(reference -> reference.get() == null);
+        assertThat(factories.size()).isZero();
+    }
+
+    private static List<WeakReference<?>> createAccessorOfIsolatedFact(AccessorFactories factories) throws Exception {
+        Path factsLocation = Files.createTempDirectory("facts");
+        String factTypeName = InnerChainingFact.class.getName() + "Copy";
+        ClassPool classPool = new ClassPool(true);
+        classPool.appendClassPath(new LoaderClassPath(InnerChainingFact.class.getClassLoader()));
+        classPool.getAndRename(InnerChainingFact.class.getName(), factTypeName).writeFile(factsLocation.toString());
+
+        try (URLClassLoader factsClassLoader = new URLClassLoader(new URL[]{factsLocation.toUri().toURL()}, AccessorFactoriesTest.class.getClassLoader())) {
+            Class<?> factType = factsClassLoader.loadClass(factTypeName);
+            Object fact = factType.getConstructor(String.class).newInstance("value");
+            FieldReferringClassFactory factory = factories.acquire(factsClassLoader);
+            ValueProvider valueProvider = factory.get(factType, "fact", "string");
+            factories.release(factsClassLoader);
+
+            assertThat(valueProvider.get(new PredicateContext("any", new Object(), ImmutableMap.of("fact", fact), emptyMap(), null))).isEqualTo("value");
+            return Arrays.asList(new WeakReference<>(factsClassLoader), new WeakReference<>(valueProvider.getClass()), new WeakReference<>(factory));
+        } finally {
+            try (Stream<Path> files = Files.walk(factsLocation)) {
+                files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+}
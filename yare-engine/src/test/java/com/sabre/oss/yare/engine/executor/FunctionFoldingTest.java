@@ -0,0 +1,206 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor;
+
+import com.sabre.oss.yare.core.RuleSession;
+import com.sabre.oss.yare.core.RulesEngineBuilder;
+import com.sabre.oss.yare.core.call.ConsequenceFactory;
+import com.sabre.oss.yare.core.call.FunctionFactory;
+import com.sabre.oss.yare.core.call.ProcessingContext;
+import com.sabre.oss.yare.core.call.ProcessingInvocationFactory;
+import com.sabre.oss.yare.core.invocation.Invocation;
+import com.sabre.oss.yare.core.model.Attribute;
+import com.sabre.oss.yare.core.model.Expression;
+import com.sabre.oss.yare.core.model.ExpressionFactory;
+import com.sabre.oss.yare.core.model.Fact;
+import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.dsl.RuleDsl;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateFactoryContext;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.RuleSetFactoryContext;
+import com.sabre.oss.yare.engine.executor.runtime.value.ConstantValueProvider;
+import com.sabre.oss.yare.engine.executor.runtime.value.HashedList;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+import com.sabre.oss.yare.engine.feature.DefaultEngineFeature;
+import org.apache.commons.lang3.reflect.TypeUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.sabre.oss.yare.dsl.RuleDsl.*;
+import static com.sabre.oss.yare.invoker.java.MethodCallMetadata.method;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class FunctionFoldingTest {
+    private static final String FUNCTION = "codes";
+
+    private final Rule rule = new Rule(
+            Collections.singleton(new Attribute("ruleName", String.class, "rule")),
+            Collections.singletonList(Fact.of("fact", String.class)),
+            null,
+            Collections.emptyList());
+    private final AtomicInteger calls = new AtomicInteger();
+    private FunctionFactory functionFactory;
+
+    @BeforeEach
+    void setUp() {
+        functionFactory = mock(FunctionFactory.class);
+    }
+
+    @Test
+    void shouldFoldCallWithConstantArgumentsToValueOfDeclaredType() {
+        // given
+        returns(1);
+        Expression.Function function = ExpressionFactory.functionOf(FUNCTION, Number.class, FUNCTION, ExpressionFactory.valueOf("argument", "A"));
+
+        // when
+        ValueProvider provider = createValueProvider(function, null);
+
+        // then
+        assertThat(provider).isInstanceOf(ConstantValueProvider.class);
+        assertThat(provider.getType()).isEqualTo(Number.class);
+        assertThat(provider.get(null)).isEqualTo(1);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void shouldFoldListsToHashedLists() {
+        // given
+        returns(new ArrayList<>(Arrays.asList("A", "B")));
+        Type listOfStrings = TypeUtils.parameterize(List.class, String.class);
+        Expression.Function function = ExpressionFactory.functionOf(FUNCTION, listOfStrings, FUNCTION, ExpressionFactory.valueOf("argument", "A"));
+
+        // when
+        ValueProvider provider = createValueProvider(function, null);
+
+        // then
+        assertThat(provider.getType()).isEqualTo(listOfStrings);
+        assertThat(provider.get(null))
+                .isInstanceOf(HashedList.class)
+                .isEqualTo(Arrays.asList("A", "B"));
+    }
+
+    @Test
+    void shouldFoldCallOnceWithinRuleSet() {
+        // given
+        returns(1);
+        Expression.Function function = ExpressionFactory.functionOf(FUNCTION, Integer.class, FUNCTION, ExpressionFactory.valueOf("argument", "A"));
+        RuleSetFactoryContext ruleSetContext = new RuleSetFactoryContext();
+
+        // when
+        ValueProvider first = createValueProvider(function, ruleSetContext);
+        ValueProvider second = createValueProvider(function, ruleSetContext);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(calls).hasValue(1);
+        verify(functionFactory, times(1)).create(any(), any());
+    }
+
+    @Test
+    void shouldNotFoldCallWithReferenceArguments() {
+        // given
+        returns(1);
+        Expression.Function function = ExpressionFactory.functionOf(FUNCTION, Integer.class, FUNCTION,
+                ExpressionFactory.valueOf("argument", String.class, "${fact}"));
+
+        // when
+        ValueProvider provider = createValueProvider(function, null);
+
+        // then
+        assertThat(provider).isNotInstanceOf(ConstantValueProvider.class);
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    void shouldNotCallFoldedFunctionWhenExecutingRules() {
+        // given
+        Counter counter = new Counter();
+        RuleSession session = new RulesEngineBuilder()
+                .withRulesRepository(uri -> Collections.singletonList(RuleDsl.ruleBuilder()
+                        .name("rule")
+                        .fact("fact", String.class)
+                        .predicate(
+                                equal(
+                                        function(FUNCTION, Integer.class, param("value", value("ABC"))),
+                                        value(3)))
+                        .action("collect",
+                                param("context", value("${ctx}")),
+                                param("fact", value("${fact}")))
+                        .build()))
+                .withActionMapping("collect", method(new Collector(), action -> action.collect(null, null)))
+                .withFunctionMapping(FUNCTION, method(counter, function -> function.count(null)),
+                        DefaultEngineFeature.PURE_FUNCTION, DefaultEngineFeature.DISABLE_CACHE_FUNCTION_RESULT)
+                .build()
+                .createSession("rules");
+
+        // when
+        List<String> first = session.execute(new ArrayList<>(), Arrays.asList("a", "b", "c"));
+        List<String> second = session.execute(new ArrayList<>(), Arrays.asList("d", "e"));
+
+        // then
+        assertThat(first).containsExactly("a", "b", "c");
+        assertThat(second).containsExactly("d", "e");
+        assertThat(counter.calls).isEqualTo(1);
+    }
+
+    private void returns(Object value) {
+        Invocation<ProcessingContext, Object> invocation = context -> {
+            calls.incrementAndGet();
+            return value;
+        };
+        when(functionFactory.create(any(), any())).thenReturn(invocation);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ValueProvider createValueProvider(Expression.Function function, RuleSetFactoryContext ruleSetContext) {
+        RuntimeRulesBuilder builder = new RuntimeRulesBuilder(new DefaultPredicateFactory(), functionFactory, new ConsequenceFactory(mock(ProcessingInvocationFactory.class)),
+                ExecutorConfiguration.builder().withFunctionPure(FUNCTION, true).build());
+        return builder.createValueProvider(new PredicateFactoryContext(rule, builder, ruleSetContext), function);
+    }
+
+    public static class Counter {
+        private int calls;
+
+        public Integer count(String value) {
+            calls++;
+            return value.length();
+        }
+    }
+
+    public static class Collector {
+
+        public void collect(List<String> results, String fact) {
+            results.add(fact);
+        }
+    }
+}
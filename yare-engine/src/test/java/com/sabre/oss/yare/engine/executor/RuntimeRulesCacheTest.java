@@ -0,0 +1,237 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.CacheLoader;
+import com.sabre.oss.yare.core.management.RuleSetInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RuntimeRulesCacheTest {
+    private Map<String, Long> weights;
+    private List<String> loaded;
+    private AtomicLong time;
+    private CacheLoader<String, RuntimeRules> loader;
+    private Ticker ticker;
+
+    @BeforeEach
+    void setUp() {
+        weights = new HashMap<>();
+        loaded = new ArrayList<>();
+        time = new AtomicLong();
+        ticker = new Ticker() {
+            @Override
+            public long read() {
+                return time.incrementAndGet();
+            }
+        };
+        loader = new CacheLoader<String, RuntimeRules>() {
+            @Override
+            public RuntimeRules load(String key) {
+                loaded.add(key);
+                return new RuntimeRules(Collections.emptyList(), Collections.emptyMap(), weights.get(key));
+            }
+        };
+    }
+
+    @Test
+    void shouldNotEvictWhenUnbounded() {
+        // given
+        weights.put("a", 1000L);
+        weights.put("b", 1000L);
+        RuntimeRulesCache cache = new RuntimeRulesCache(loader, Duration.ofMinutes(5), Long.MAX_VALUE, ticker);
+
+        // when
+        cache.get("a");
+        cache.get("b");
+
+        // then
+        assertThat(cache.getWeight()).isEqualTo(2000L);
+        assertThat(cache.getEvictionCount()).isZero();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedRulesWhenWeightExceeded() {
+        // given
+        weights.put("a", 10L);
+        weights.put("b", 10L);
+        weights.put("c", 10L);
+        RuntimeRulesCache cache = new RuntimeRulesCache(loader, Duration.ofMinutes(5), 25L, ticker);
+        List<Object> evicted = new ArrayList<>();
+        cache.addEvictionListener((key, weight) -> evicted.add(key));
+
+        // when
+        cache.get("a");
+        cache.get("b");
+        cache.get("a");
+        cache.get("c");
+
+        // then
+        assertThat(evicted).containsExactly("b");
+        assertThat(cache.getWeight()).isEqualTo(20L);
+        assertThat(cache.getEvictionCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldReloadEvictedRulesOnNextAccess() {
+        // given
+        weights.put("a", 10L);
+        weights.put("b", 10L);
+        RuntimeRulesCache cache = new RuntimeRulesCache(loader, Duration.ofMinutes(5), 15L, ticker);
+
+        // when
+        cache.get("a");
+        cache.get("b");
+        cache.get("a");
+
+        // then
+        assertThat(loaded).containsExactly("a", "b", "a");
+        assertThat(cache.getEvictionCount()).isEqualTo(2L);
+        assertThat(cache.getWeight()).isEqualTo(10L);
+    }
+
+    @Test
+    void shouldKeepRecentlyLoadedRulesEvenIfHeavierThanMaximum() {
+        // given
+        weights.put("a", 100L);
+        RuntimeRulesCache cache = new RuntimeRulesCache(loader, Duration.ofMinutes(5), 10L, ticker);
+
+        // when
+        cache.get("a");
+
+        // then
+        assertThat(cache.getWeight()).isEqualTo(100L);
+        assertThat(cache.getEvictionCount()).isZero();
+    }
+
+    @Test
+    void shouldEvictWhenMaximumWeightReduced() {
+        // given
+        weights.put("a", 10L);
+        weights.put("b", 10L);
+        RuntimeRulesCache cache = new RuntimeRulesCache(loader, Duration.ofMinutes(5), Long.MAX_VALUE, ticker);
+        cache.get("a");
+        cache.get("b");
+
+        // when
+        cache.setMaximumWeight(10L);
+
+        // then
+        assertThat(cache.getMaximumWeight()).isEqualTo(10L);
+        assertThat(cache.getWeight()).isEqualTo(10L);
+        assertThat(cache.getEvictionCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldRejectNonPositiveMaximumWeight() {
+        // given
+        RuntimeRulesCache cache = new RuntimeRulesCache(loader, Duration.ofMinutes(5), Long.MAX_VALUE, ticker);
+
+        // when / then
+        assertThatThrownBy(() -> cache.setMaximumWeight(0L))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldDescribeLoadedRuleSets() {
+        // given
+        weights.put("a", 10L);
+        weights.put("b", 20L);
+        RuntimeRulesCache cache = new RuntimeRulesCache(loader, Duration.ofMinutes(5), Long.MAX_VALUE, ticker);
+
+        // when
+        cache.preload("a");
+        cache.preload("b");
+        cache.evict("b");
+
+        // then
+        assertThat(cache.getRuleSets()).containsOnlyKeys("a");
+        RuleSetInfo info = cache.getRuleSets().get("a");
+        assertThat(info.getUri()).isEqualTo("a");
+        assertThat(info.getRuleCount()).isZero();
+        assertThat(info.getWeight()).isEqualTo(10L);
+        assertThat(info.getCompileTime()).isPositive();
+    }
+
+    @Test
+    void shouldReloadRulesWhenRefreshed() {
+        // given
+        weights.put("a", 10L);
+        RuntimeRulesCache cache = new RuntimeRulesCache(loader, Duration.ofMinutes(5), Long.MAX_VALUE, ticker);
+        cache.get("a");
+        weights.put("a", 30L);
+
+        // when
+        boolean refreshed = cache.refresh("a");
+
+        // then
+        assertThat(refreshed).isTrue();
+        assertThat(loaded).containsExactly("a", "a");
+        assertThat(cache.getWeight()).isEqualTo(30L);
+        assertThat(cache.getRuleSets().get("a").getWeight()).isEqualTo(30L);
+    }
+
+    @Test
+    void shouldReleaseEvictedReplacedAndInvalidatedRules() {
+        // given
+        weights.put("a", 10L);
+        weights.put("b", 10L);
+        List<RuntimeRules> released = new ArrayList<>();
+        RuntimeRulesCache cache = new RuntimeRulesCache(loader, Duration.ofMinutes(5), 15L, ticker, released::add);
+
+        // when
+        RuntimeRules a = cache.get("a");
+        RuntimeRules b = cache.get("b");
+        cache.refresh("b");
+        RuntimeRules refreshedB = cache.get("b");
+        cache.evict("b");
+
+        // then
+        assertThat(released).containsExactly(a, b, refreshedB);
+    }
+
+    @Test
+    void shouldNotReloadPreloadedRules() {
+        // given
+        weights.put("a", 10L);
+        RuntimeRulesCache cache = new RuntimeRulesCache(loader, Duration.ofMinutes(5), Long.MAX_VALUE, ticker);
+
+        // when
+        cache.preload("a");
+        cache.preload("a");
+        cache.get("a");
+
+        // then
+        assertThat(loaded).containsExactly("a");
+    }
+}
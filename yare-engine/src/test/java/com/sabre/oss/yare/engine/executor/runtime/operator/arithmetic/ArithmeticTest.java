@@ -0,0 +1,273 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.arithmetic;
+
+import com.sabre.oss.yare.core.model.Expression;
+import com.sabre.oss.yare.core.model.ExpressionFactory;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.engine.executor.runtime.value.ConstantValueProvider;
+import com.sabre.oss.yare.engine.executor.runtime.value.FieldReferringClassFactory;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.Period;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArithmeticTest {
+    private final Arithmetic arithmetic = new Arithmetic();
+
+    @Test
+    void shouldComputeIntOperandsAsPrimitives() {
+        // given
+        ValueProvider[] operands = {variable(2, Integer.class), variable(3, int.class), variable(4, Integer.class)};
+
+        // when
+        ValueProvider sum = create(Expression.Operator.ADD, operands);
+
+        // then
+        assertThat(sum).isInstanceOf(IntArithmetic.class);
+        assertThat(sum.getType()).isEqualTo(Integer.class);
+        assertThat(sum.get(context())).isEqualTo(9);
+    }
+
+    @Test
+    void shouldComputeNestedOperatorsWithoutBoxing() {
+        // given
+        NumericValueProvider product = new IntArithmetic(ArithmeticOperation.MULTIPLY, primitiveOperand(2), primitiveOperand(3));
+
+        // when
+        ValueProvider sum = new LongArithmetic(ArithmeticOperation.ADD, product, primitiveOperand(4));
+
+        // then
+        assertThat(sum.get(context())).isEqualTo(10L);
+    }
+
+    @Test
+    void shouldComputeFactFieldsAsPrimitives() {
+        // given
+        ValueProvider first = FieldReferringClassFactory.create(Counters.class, "counters", "first");
+        ValueProvider second = FieldReferringClassFactory.create(Counters.class, "counters", "second");
+        ValueProvider total = FieldReferringClassFactory.create(Counters.class, "counters", "total");
+        ValueProvider product = create(Expression.Operator.MULTIPLY, first, second);
+
+        // when
+        ValueProvider sum = create(Expression.Operator.ADD, product, total);
+
+        // then
+        assertThat(product).isInstanceOf(IntArithmetic.class);
+        assertThat(sum).isInstanceOf(LongArithmetic.class);
+        assertThat(sum.get(context("counters", new Counters(2, 3, 4L)))).isEqualTo(10L);
+        assertThat(sum.get(context("counters", new Counters(null, 3, 4L)))).isNull();
+    }
+
+    @Test
+    void shouldPromoteOperandsToWiderType() {
+        // when
+        ValueProvider product = create(Expression.Operator.MULTIPLY, variable(2, Integer.class), variable(1.5, Double.class));
+        ValueProvider quotient = create(Expression.Operator.DIVIDE, variable(1L, Long.class), variable(new BigDecimal("3"), BigDecimal.class));
+
+        // then
+        assertThat(product).isInstanceOf(DoubleArithmetic.class);
+        assertThat(product.get(context())).isEqualTo(3.0);
+        assertThat(quotient).isInstanceOf(DecimalArithmetic.class);
+        assertThat(quotient.get(context())).isEqualTo(new BigDecimal("0.3333333333333333333333333333333333"));
+    }
+
+    @Test
+    void shouldReportOverflowInsteadOfChangingResultType() {
+        // given
+        ValueProvider intSum = create(Expression.Operator.ADD, variable(Integer.MAX_VALUE, Integer.class), variable(1, Integer.class));
+        ValueProvider longProduct = create(Expression.Operator.MULTIPLY, variable(Long.MAX_VALUE, Long.class), variable(2, Integer.class));
+        ValueProvider dynamicSum = create(Expression.Operator.ADD, variable(Integer.MAX_VALUE, Object.class), variable(1, Object.class));
+
+        // when / then
+        assertThatThrownBy(() -> intSum.get(context()))
+                .isInstanceOf(ArithmeticException.class)
+                .hasMessage("Result of add of 2147483647 and 1 overflows Integer");
+        assertThatThrownBy(() -> longProduct.get(context()))
+                .isInstanceOf(ArithmeticException.class)
+                .hasMessage("Result of multiply of 9223372036854775807 and 2 overflows Long");
+        assertThatThrownBy(() -> dynamicSum.get(context())).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void shouldReportDivisionByZero() {
+        // given
+        ValueProvider quotient = create(Expression.Operator.DIVIDE, variable(1, Integer.class), variable(0, Integer.class));
+
+        // when / then
+        assertThatThrownBy(() -> quotient.get(context())).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void shouldReturnNullWhenOperandIsMissing() {
+        // given
+        PredicateContext context = context();
+        ValueProvider nested = create(Expression.Operator.SUBTRACT, variable(null, Long.class), variable(1, Integer.class));
+        ValueProvider quotient = create(Expression.Operator.DIVIDE, variable(1, Integer.class), variable(null, Integer.class));
+
+        // when
+        ValueProvider max = create(Expression.Operator.MAX, variable(5, Integer.class), nested);
+
+        // then
+        assertThat(max).isInstanceOf(LongArithmetic.class);
+        assertThat(max.get(context)).isNull();
+        assertThat(quotient.get(context)).isNull();
+        assertThat(context.hasMissingOperand()).isFalse();
+    }
+
+    @Test
+    void shouldEvaluateConstantOperandsOnce() {
+        // when
+        ValueProvider sum = create(Expression.Operator.ADD, new ConstantValueProvider(1), new ConstantValueProvider(2L));
+
+        // then
+        assertThat(sum).isInstanceOf(ConstantValueProvider.class);
+        assertThat(sum.getType()).isEqualTo(Long.class);
+        assertThat(sum.get(null)).isEqualTo(3L);
+    }
+
+    @Test
+    void shouldShiftDatesByAmountOfTime() {
+        // when
+        ValueProvider date = create(Expression.Operator.SUBTRACT, variable(LocalDate.of(2018, 3, 1), LocalDate.class), variable(Period.ofDays(1), Period.class));
+
+        // then
+        assertThat(date).isInstanceOf(TemporalArithmetic.class);
+        assertThat(date.get(null)).isEqualTo(LocalDate.of(2018, 2, 28));
+    }
+
+    @Test
+    void shouldCompareComparableOperands() {
+        // when
+        ValueProvider min = create(Expression.Operator.MIN, variable("b", String.class), variable("a", String.class));
+
+        // then
+        assertThat(min).isInstanceOf(ComparableExtremum.class);
+        assertThat(min.get(null)).isEqualTo("a");
+    }
+
+    @Test
+    void shouldComputeOperandsOfUnknownTypesByValues() {
+        // when
+        ValueProvider sum = create(Expression.Operator.ADD, variable(1, Object.class), variable(2.5f, Object.class));
+        ValueProvider date = create(Expression.Operator.ADD, variable(LocalDate.of(2018, 2, 28), Object.class), variable(Period.ofDays(1), Object.class));
+        ValueProvider invalid = create(Expression.Operator.ADD, variable("a", Object.class), variable(1, Object.class));
+
+        // then
+        assertThat(sum).isInstanceOf(DynamicArithmetic.class);
+        assertThat(sum.get(null)).isEqualTo(3.5);
+        assertThat(date.get(null)).isEqualTo(LocalDate.of(2018, 3, 1));
+        assertThatThrownBy(() -> invalid.get(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Operator add is not applicable to java.lang.String and java.lang.Integer");
+    }
+
+    @Test
+    void shouldRejectSingleOperand() {
+        assertThatThrownBy(() -> create(Expression.Operator.ADD, variable(1, Integer.class)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Operator add requires at least two operands");
+    }
+
+    @Test
+    void shouldIgnoreOtherOperators() {
+        assertThat(create(Expression.Operator.CONCAT, variable(1, Integer.class), variable(2, Integer.class))).isNull();
+    }
+
+    private ValueProvider create(String call, ValueProvider... operands) {
+        return arithmetic.create(null, ExpressionFactory.operatorOf(null, Expression.UNDEFINED, call), operands);
+    }
+
+    private static PredicateContext context() {
+        return new PredicateContext("any", new Object(), emptyMap(), emptyMap(), null);
+    }
+
+    private static PredicateContext context(String identifier, Object fact) {
+        return new PredicateContext("any", new Object(), singletonMap(identifier, fact), emptyMap(), null);
+    }
+
+    private static NumericValueProvider primitiveOperand(int value) {
+        return new NumericValueProvider(NumericType.INT) {
+            @Override
+            public int getInt(PredicateContext context) {
+                return value;
+            }
+
+            @Override
+            public long getLong(PredicateContext context) {
+                return value;
+            }
+
+            @Override
+            public double getDouble(PredicateContext context) {
+                return value;
+            }
+
+            @Override
+            public BigDecimal getDecimal(PredicateContext context) {
+                return BigDecimal.valueOf(value);
+            }
+
+            @Override
+            public Object get(PredicateContext context) {
+                throw new UnsupportedOperationException("Operand should not be boxed");
+            }
+        };
+    }
+
+    private static ValueProvider variable(Object value, Type type) {
+        return new ValueProvider() {
+            @Override
+            public Object get(PredicateContext context) {
+                return value;
+            }
+
+            @Override
+            public Type getType() {
+                return type;
+            }
+        };
+    }
+
+    private static final class Counters {
+        public final Integer first;
+        public final int second;
+        public final long total;
+
+        private Counters(Integer first, int second, long total) {
+            this.first = first;
+            this.second = second;
+            this.total = total;
+        }
+    }
+}
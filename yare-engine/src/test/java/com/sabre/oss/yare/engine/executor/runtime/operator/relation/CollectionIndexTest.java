@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.relation;
+
+import com.sabre.oss.yare.engine.executor.runtime.predicate.EvaluationCache;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.engine.executor.runtime.value.HashedList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CollectionIndexTest {
+
+    @Test
+    void shouldMatchLikeCollectionOperations() {
+        // given
+        List<List<String>> constants = Arrays.asList(
+                Arrays.asList("GOLD", "SILVER"),
+                Arrays.asList("GOLD", "PLATINUM"),
+                Arrays.asList("SILVER", "SILVER"),
+                Collections.emptyList(),
+                Arrays.asList("GOLD", null),
+                Collections.singletonList("BRONZE"));
+        List<List<String>> inputs = Arrays.asList(
+                Arrays.asList("GOLD", "SILVER"),
+                Arrays.asList("GOLD", "GOLD", "PLATINUM"),
+                Arrays.asList("SILVER", "SILVER"),
+                Collections.singletonList(null),
+                Arrays.asList("GOLD", null),
+                Collections.emptyList());
+        CollectionIndex index = new CollectionIndex();
+        List<Integer> anySlots = new ArrayList<>();
+        List<Integer> allSlots = new ArrayList<>();
+        for (List<String> constant : constants) {
+            anySlots.add(index.register(HashedList.copyOf(constant), false));
+            allSlots.add(index.register(HashedList.copyOf(constant), true));
+        }
+        index.complete();
+        PredicateContext context = new PredicateContext(null, null, null, null, null, new EvaluationCache());
+
+        for (List<String> input : inputs) {
+            context.getEvaluationCache().clear();
+            for (int i = 0; i < constants.size(); i++) {
+                // when
+                boolean any = index.matches(context, input, anySlots.get(i));
+                boolean all = index.matches(context, input, allSlots.get(i));
+
+                // then
+                assertThat(any).describedAs("containsAny(%s, %s)", input, constants.get(i))
+                        .isEqualTo(CollectionOperations.containsAny(input, constants.get(i)));
+                assertThat(all).describedAs("containsAll(%s, %s)", input, constants.get(i))
+                        .isEqualTo(CollectionOperations.containsAll(input, constants.get(i)));
+            }
+        }
+    }
+
+    @Test
+    void shouldReuseResultWithinFactTuple() {
+        // given
+        CollectionIndex index = new CollectionIndex();
+        int gold = index.register(HashedList.copyOf(Arrays.asList("GOLD")), false);
+        int silver = index.register(HashedList.copyOf(Arrays.asList("SILVER")), false);
+        index.complete();
+        PredicateContext context = new PredicateContext(null, null, null, null, null, new EvaluationCache());
+        List<String> value = new ArrayList<>(Arrays.asList("GOLD"));
+
+        // when
+        boolean goldMatched = index.matches(context, value, gold);
+        value.set(0, "SILVER");
+        boolean silverMatched = index.matches(context, new ArrayList<>(value), silver);
+        context.getEvaluationCache().clear();
+        boolean silverMatchedInNextTuple = index.matches(context, value, silver);
+
+        // then
+        assertThat(goldMatched).isTrue();
+        assertThat(silverMatched).describedAs("result computed for the tuple is reused").isFalse();
+        assertThat(silverMatchedInNextTuple).isTrue();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.relation;
+
+import com.sabre.oss.yare.engine.executor.runtime.value.HashedList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CollectionOperationsTest {
+    private static final List<Function<List<Integer>, Collection<Integer>>> REPRESENTATIONS = Arrays.asList(
+            ArrayList::new,
+            LinkedList::new,
+            HashSet::new,
+            HashedList::copyOf);
+
+    @Test
+    void shouldBehaveLikeListOperations() {
+        // given
+        Random random = new Random(7);
+
+        for (int i = 0; i < 500; i++) {
+            List<Integer> left = randomList(random);
+            List<Integer> right = randomList(random);
+            boolean expectedAny = right.stream().anyMatch(left::contains);
+            boolean expectedAll = left.containsAll(right);
+
+            for (Function<List<Integer>, Collection<Integer>> leftRepresentation : REPRESENTATIONS) {
+                for (Function<List<Integer>, Collection<Integer>> rightRepresentation : REPRESENTATIONS) {
+                    Collection<Integer> l = leftRepresentation.apply(left);
+                    Collection<Integer> r = rightRepresentation.apply(right);
+
+                    // when
+                    boolean any = CollectionOperations.containsAny(l, r);
+                    boolean all = CollectionOperations.containsAll(l, r);
+
+                    // then
+                    assertThat(any).describedAs("containsAny(%s, %s)", l, r).isEqualTo(expectedAny);
+                    assertThat(all).describedAs("containsAll(%s, %s)", l, r).isEqualTo(expectedAll);
+                }
+            }
+        }
+    }
+
+    private static List<Integer> randomList(Random random) {
+        int size = random.nextInt(4) == 0 ? random.nextInt(40) : random.nextInt(6);
+        List<Integer> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(random.nextInt(10) == 0 ? null : random.nextInt(30));
+        }
+        return list;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.relation;
+
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProviderFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InTest {
+
+    @Test
+    void shouldFollowThreeValuedLogicOfEqualityAlternative() {
+        // given
+        In withoutNull = new In(ValueProviderFactory.createFromConstant("B"), Arrays.asList("A", "B"));
+        In missing = new In(ValueProviderFactory.createFromConstant("C"), Arrays.asList("A", "B"));
+        In missingWithNull = new In(ValueProviderFactory.createFromConstant("C"), Arrays.asList("A", null));
+        In nullValue = new In(ValueProviderFactory.constantNull(), Arrays.asList("A", "B"));
+
+        // when / then
+        assertThat(withoutNull.evaluate(null)).isTrue();
+        assertThat(missing.evaluate(null)).isFalse();
+        assertThat(missingWithNull.evaluate(null)).isNull();
+        assertThat(nullValue.evaluate(null)).isNull();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.relation;
+
+import com.google.common.collect.ImmutableMap;
+import com.sabre.oss.yare.core.accessor.FactType;
+import com.sabre.oss.yare.core.model.Expression;
+import com.sabre.oss.yare.core.model.ExpressionFactory;
+import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.dsl.RuleDsl;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.EvaluationCache;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateFactoryContext;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.RuleSetFactoryContext;
+import com.sabre.oss.yare.engine.executor.runtime.value.FieldReferringClassFactory;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProviderFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.sabre.oss.yare.dsl.RuleDsl.value;
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchStringTest {
+
+    @Test
+    void shouldGroupPatternsOfRulesReferringToSamePath() {
+        // given
+        RuleSetFactoryContext ruleSetContext = new RuleSetFactoryContext();
+        List<MatchString> predicates = new FieldReferringClassFactory().runWithin(() -> Arrays.asList(
+                createMatch(ruleSetContext, "first", "GO.*"),
+                createMatch(ruleSetContext, "second", "SIL.*")));
+        ruleSetContext.complete();
+        PredicateContext context = new PredicateContext("any", new Object(), ImmutableMap.of("customer", new Customer("GOLD")), emptyMap(), null,
+                new EvaluationCache());
+
+        // when
+        Boolean first = predicates.get(0).evaluate(context);
+        Boolean second = predicates.get(1).evaluate(context);
+
+        // then
+        assertThat(predicates.get(0).getGroup()).isNotNull().isSameAs(predicates.get(1).getGroup());
+        assertThat(predicates.get(0).getGroup().isCompiled()).isTrue();
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+    }
+
+    private static MatchString createMatch(RuleSetFactoryContext ruleSetContext, String name, String regexp) {
+        Rule rule = RuleDsl.ruleBuilder()
+                .name(name)
+                .fact("customer", Customer.class)
+                .predicate(value(true))
+                .action("collect")
+                .build();
+        PredicateFactoryContext context = new PredicateFactoryContext(rule, null, ruleSetContext);
+        ValueProvider path = ValueProviderFactory.createFromPath(Customer.class, "customer", null, "status");
+        Expression.Operator operator = ExpressionFactory.operatorOf(null, Boolean.class, "match",
+                ExpressionFactory.valueOf(null, "${customer.status}"), ExpressionFactory.valueOf(null, regexp));
+        return (MatchString) new MatchString.Factory().create(context, operator,
+                new ValueProvider[]{path, ValueProviderFactory.createFromConstant(regexp)});
+    }
+
+    @FactType
+    public static class Customer {
+        private final String status;
+
+        Customer(String status) {
+            this.status = status;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+    }
+}
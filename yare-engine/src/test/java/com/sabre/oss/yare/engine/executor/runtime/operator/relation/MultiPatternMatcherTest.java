@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.relation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MultiPatternMatcherTest {
+
+    @Test
+    void shouldMatchLikeIndividualPatterns() {
+        // given
+        List<Pattern> patterns = compile(
+                "ABC", ".*ABC.*", "ABC.*", ".*ABC", ".*BC", "A.*", ".*C.*", "", ".*", "AB?C",
+                "[A-Z]+", "\\.BC", ".*\\..*", "a\\\\b", ".*ABC.*", "ABC", "(?i)abc", ".*B.*C.*", "\\d+", "she|he");
+        List<String> inputs = Arrays.asList(
+                "ABC", "XABCX", "ABCX", "XABC", "AC", "", ".BC", "x.y", "a\\b", "abc", "A\nABC", "ABC\n", "ABABC", "123", "he", "ushers");
+        MultiPatternMatcher matcher = MultiPatternMatcher.compile(patterns);
+
+        for (String input : inputs) {
+            // when
+            BitSet result = matcher.match(input);
+
+            // then
+            for (int slot = 0; slot < patterns.size(); slot++) {
+                assertThat(result.get(slot))
+                        .describedAs("pattern '%s' for input '%s'", patterns.get(slot).pattern(), input)
+                        .isEqualTo(patterns.get(slot).matcher(input).matches());
+            }
+        }
+    }
+
+    @Test
+    void shouldFindOverlappingLiterals() {
+        // given
+        List<Pattern> patterns = compile(".*he.*", ".*she.*", ".*his.*", ".*hers.*", "hers.*", ".*ers");
+        MultiPatternMatcher matcher = MultiPatternMatcher.compile(patterns);
+
+        // when
+        BitSet result = matcher.match("ushers");
+
+        // then
+        assertThat(result.stream().boxed().collect(Collectors.toList())).containsExactly(0, 1, 3, 5);
+    }
+
+    private static List<Pattern> compile(String... regexps) {
+        return Arrays.stream(regexps)
+                .map(Pattern::compile)
+                .collect(Collectors.toList());
+    }
+}
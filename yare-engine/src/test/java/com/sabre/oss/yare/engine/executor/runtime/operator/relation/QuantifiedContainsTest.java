@@ -0,0 +1,182 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.relation;
+
+import com.sabre.oss.yare.engine.executor.runtime.predicate.EvaluationCache;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.engine.executor.runtime.value.HashedList;
+import com.sabre.oss.yare.engine.executor.runtime.value.QuantifiableValueProvider;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProviderFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuantifiedContainsTest {
+
+    @Test
+    void shouldEvaluateContainsAnyWithoutCollectingPathValues() {
+        // given
+        QuantifiableProvider path = new QuantifiableProvider(Arrays.asList("AA", "XX", "BB"));
+        ContainsAny containsAny = new ContainsAny(path, ValueProviderFactory.createFromConstant(HashedList.copyOf(Arrays.asList("XX", "YY"))));
+
+        // when
+        Boolean result = containsAny.evaluate(null);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(path.tested).containsExactly("AA", "XX");
+        assertThat(path.collected).isFalse();
+    }
+
+    @Test
+    void shouldEvaluateIndexedContainsAnyWithoutCollectingPathValues() {
+        // given
+        QuantifiableProvider path = new QuantifiableProvider(Arrays.asList("AA", "XX", "YY", "BB"));
+        CollectionIndex index = new CollectionIndex();
+        ContainsAny first = new ContainsAny(path, ValueProviderFactory.createFromConstant(HashedList.copyOf(Arrays.asList("XX", "ZZ"))), index, false);
+        ContainsAny second = new ContainsAny(path, ValueProviderFactory.createFromConstant(HashedList.copyOf(Arrays.asList("YY"))), index, false);
+        index.complete();
+        PredicateContext context = new PredicateContext(null, null, null, null, null, new EvaluationCache());
+
+        // when
+        Boolean firstResult = first.evaluate(context);
+        Boolean secondResult = second.evaluate(context);
+
+        // then
+        assertThat(firstResult).isTrue();
+        assertThat(secondResult).isTrue();
+        assertThat(path.tested).containsExactly("AA", "XX", "YY");
+        assertThat(path.collected).isFalse();
+    }
+
+    @Test
+    void shouldEvaluateContainsWithoutCollectingPathValues() {
+        // given
+        QuantifiableProvider path = new QuantifiableProvider(Arrays.asList("AA", "XX", "BB"));
+        ContainsAllInstance contains = new ContainsAllInstance(path, ValueProviderFactory.createFromConstant("AA"));
+
+        // when
+        Boolean result = contains.evaluate(null);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(path.tested).containsExactly("AA");
+        assertThat(path.collected).isFalse();
+    }
+
+    @Test
+    void shouldStopEvaluatingContainsAtFirstValueNotContained() {
+        // given
+        QuantifiableProvider path = new QuantifiableProvider(Arrays.asList("AA", "XX", "BB"));
+        ContainsAllCollection contains = new ContainsAllCollection(ValueProviderFactory.createFromConstant(HashedList.copyOf(Arrays.asList("AA", "BB"))), path);
+
+        // when
+        Boolean result = contains.evaluate(null);
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(path.tested).containsExactly("AA", "XX");
+        assertThat(path.collected).isFalse();
+    }
+
+    @Test
+    void shouldEvaluateContainsOfPathValuesWithoutCollectingThem() {
+        // given
+        QuantifiableProvider path = new QuantifiableProvider(Arrays.asList("AA", "BB", "AA"));
+        ContainsAllCollection contains = new ContainsAllCollection(ValueProviderFactory.createFromConstant(HashedList.copyOf(Arrays.asList("AA", "BB"))), path);
+
+        // when
+        Boolean result = contains.evaluate(null);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(path.tested).containsExactly("AA", "BB", "AA");
+        assertThat(path.collected).isFalse();
+    }
+
+    @Test
+    void shouldCollectPathValuesWhenLookupIsExpensive() {
+        // given
+        QuantifiableProvider path = new QuantifiableProvider(Arrays.asList("AA", "XX", "BB"));
+        List<String> other = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            other.add("V" + i);
+        }
+        other.add("BB");
+        ContainsAny containsAny = new ContainsAny(ValueProviderFactory.createFromConstant(other), path);
+
+        // when
+        Boolean result = containsAny.evaluate(null);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(path.tested).isEmpty();
+        assertThat(path.collected).isTrue();
+    }
+
+    private static final class QuantifiableProvider extends ValueProvider implements QuantifiableValueProvider {
+        private final List<Object> values;
+        private final List<Object> tested = new ArrayList<>();
+        private boolean collected;
+
+        private QuantifiableProvider(List<Object> values) {
+            this.values = values;
+        }
+
+        @Override
+        public Object get(PredicateContext context) {
+            collected = true;
+            return values;
+        }
+
+        @Override
+        public Boolean anyMatch(PredicateContext context, Predicate<Object> condition) {
+            for (Object value : values) {
+                tested.add(value);
+                if (condition.test(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Boolean allMatch(PredicateContext context, Predicate<Object> condition) {
+            for (Object value : values) {
+                tested.add(value);
+                if (!condition.test(value)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.string;
+
+import com.sabre.oss.yare.core.model.Expression;
+import com.sabre.oss.yare.core.model.ExpressionFactory;
+import com.sabre.oss.yare.engine.executor.runtime.value.ConstantValueProvider;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProviderFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StringOperatorsTest {
+
+    @Test
+    void shouldConcatOperands() {
+        // given
+        Concat concat = new Concat(new ValueProvider[]{
+                ValueProviderFactory.createFromConstant("SSR "),
+                ValueProviderFactory.createFromConstant(1)});
+        Concat concatWithNull = new Concat(new ValueProvider[]{
+                ValueProviderFactory.createFromConstant("SSR "),
+                ValueProviderFactory.constantNull()});
+
+        // when / then
+        assertThat(concat.get(null)).isEqualTo("SSR 1");
+        assertThat(concatWithNull.get(null)).isNull();
+    }
+
+    @Test
+    void shouldChangeCase() {
+        // given
+        ValueProvider title = ValueProviderFactory.createFromConstant("Title");
+
+        // when / then
+        assertThat(new ChangeCase(title, true).get(null)).isEqualTo("TITLE");
+        assertThat(new ChangeCase(title, false).get(null)).isEqualTo("title");
+        assertThat(new ChangeCase(ValueProviderFactory.constantNull(), true).get(null)).isNull();
+    }
+
+    @Test
+    void shouldComputeLengthOfStringsAndCollections() {
+        // when / then
+        assertThat(new Length(ValueProviderFactory.createFromConstant("abc")).get(null)).isEqualTo(3);
+        assertThat(new Length(ValueProviderFactory.createFromConstant(Arrays.asList(1, 2))).get(null)).isEqualTo(2);
+        assertThat(new Length(ValueProviderFactory.constantNull()).get(null)).isNull();
+    }
+
+    @Test
+    void shouldFoldConstantOperands() {
+        // given
+        Expression.Operator operator = ExpressionFactory.operatorOf(null, Expression.UNDEFINED, Expression.Operator.UPPER_CASE);
+
+        // when
+        ValueProvider upperCase = new ChangeCase.Factory().create(null, operator, new ValueProvider[]{ValueProviderFactory.createFromConstant("abc")});
+
+        // then
+        assertThat(upperCase).isInstanceOf(ConstantValueProvider.class);
+        assertThat(upperCase.get(null)).isEqualTo("ABC");
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.value;
+
+import javassist.ClassPool;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedClassPoolTest {
+
+    @Test
+    void shouldRenewClassPoolWhenCapacityIsExceeded() {
+        // given
+        BoundedClassPool boundedClassPool = new BoundedClassPool(2);
+        ClassPool initial = boundedClassPool.getClassPool();
+
+        // when
+        boundedClassPool.makeClass("test.First", null);
+        boundedClassPool.makeClass("test.Second", null);
+        ClassPool beforeRenewal = boundedClassPool.getClassPool();
+        boundedClassPool.makeClass("test.Third", null);
+
+        // then
+        assertThat(beforeRenewal).isSameAs(initial);
+        assertThat(boundedClassPool.getClassPool()).isNotSameAs(initial);
+        assertThat(boundedClassPool.getClassPool().getOrNull("test.Third")).isNotNull();
+        assertThat(boundedClassPool.getClassPool().getOrNull("test.First")).isNull();
+    }
+}
@@ -28,6 +28,9 @@ import com.google.common.collect.ImmutableMap;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.List;
+
 import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -104,6 +107,97 @@ class FieldReferringClassFactoryTest {
         assertThat(booleanWrapperBothBooleanGettersClass.booleanFieldGetterExecutionCounter).isEqualTo(0);
     }
 
+    @Test
+    void shouldReturnCachedValueProvider() {
+        // given
+        FieldReferringClassFactory factory = new FieldReferringClassFactory();
+
+        // when
+        ValueProvider first = factory.get(TestClass.class, "testClass", "aString");
+        ValueProvider second = factory.get(TestClass.class, "testClass", "aString");
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void shouldDefineAccessorsOfPublicTypesInFactoryClassLoader() {
+        // given
+        FieldReferringClassFactory firstFactory = new FieldReferringClassFactory();
+        FieldReferringClassFactory secondFactory = new FieldReferringClassFactory();
+        Thread thread = new Thread("justDoIt");
+
+        // when
+        ValueProvider first = firstFactory.get(Thread.class, "thread", "name");
+        ValueProvider second = secondFactory.get(Thread.class, "thread", "name");
+
+        // then
+        assertThat(first.getClass().getClassLoader())
+                .isNotSameAs(second.getClass().getClassLoader())
+                .isNotSameAs(FieldReferringClassFactory.class.getClassLoader());
+        assertThat(first.get(new PredicateContext("any", new Object(), ImmutableMap.of("thread", thread), emptyMap(), null))).isEqualTo("justDoIt");
+        assertThat(second.get(new PredicateContext("any", new Object(), ImmutableMap.of("thread", thread), emptyMap(), null))).isEqualTo("justDoIt");
+    }
+
+    @Test
+    void shouldUseFactoryOfCurrentScope() {
+        // given
+        FieldReferringClassFactory factory = new FieldReferringClassFactory();
+
+        // when
+        ValueProvider valueProvider = factory.runWithin(() -> FieldReferringClassFactory.create(TestClass.class, "testClass", "aString"));
+
+        // then
+        assertThat(FieldReferringClassFactory.current()).isNotSameAs(factory);
+        assertThat(factory.get(TestClass.class, "testClass", "aString")).isSameAs(valueProvider);
+    }
+
+    @Test
+    void shouldStopTraversingCollectionPathWhenAnyValueMatches() {
+        // given
+        List<Segment> segments = Arrays.asList(new Segment("AA"), new Segment("XX"), new Segment("BB"));
+        Booking booking = new Booking(segments);
+        ValueProvider valueProvider = FieldReferringClassFactory.create(Booking.class, "booking", "segments[*].carrier");
+        PredicateContext context = new PredicateContext("any", new Object(), ImmutableMap.of("booking", booking), emptyMap(), null);
+
+        // when
+        Boolean result = ((QuantifiableValueProvider) valueProvider).anyMatch(context, "XX"::equals);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(segments).extracting(segment -> segment.getterExecutionCounter).containsExactly(1, 1, 0);
+    }
+
+    @Test
+    void shouldStopTraversingCollectionPathWhenAnyValueDoesNotMatch() {
+        // given
+        List<Segment> segments = Arrays.asList(new Segment("AA"), new Segment("XX"), new Segment("AA"));
+        Booking booking = new Booking(segments);
+        ValueProvider valueProvider = FieldReferringClassFactory.create(Booking.class, "booking", "segments[*].carrier");
+        PredicateContext context = new PredicateContext("any", new Object(), ImmutableMap.of("booking", booking), emptyMap(), null);
+
+        // when
+        Boolean result = ((QuantifiableValueProvider) valueProvider).allMatch(context, "AA"::equals);
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(segments).extracting(segment -> segment.getterExecutionCounter).containsExactly(1, 1, 0);
+        assertThat(valueProvider.get(context)).isEqualTo(Arrays.asList("AA", "XX", "AA"));
+    }
+
+    @Test
+    void shouldReturnNullFromQuantifierWhenPathCanNotBeResolved() {
+        // given
+        ValueProvider valueProvider = FieldReferringClassFactory.create(Booking.class, "booking", "segments[*].carrier");
+        PredicateContext context = new PredicateContext("any", new Object(), ImmutableMap.of("booking", new Booking(null)), emptyMap(), null);
+
+        // when
+        Boolean result = ((QuantifiableValueProvider) valueProvider).anyMatch(context, "XX"::equals);
+
+        // then
+        assertThat(result).isNull();
+    }
+
     private static class TestClass {
         public final String aString;
 
@@ -179,4 +273,30 @@ class FieldReferringClassFactoryTest {
             return flag;
         }
     }
+
+    private static class Booking {
+        private final List<Segment> segments;
+
+        Booking(List<Segment> segments) {
+            this.segments = segments;
+        }
+
+        public List<Segment> getSegments() {
+            return segments;
+        }
+    }
+
+    private static class Segment {
+        private final String carrier;
+        private int getterExecutionCounter;
+
+        Segment(String carrier) {
+            this.carrier = carrier;
+        }
+
+        public String getCarrier() {
+            getterExecutionCounter++;
+            return carrier;
+        }
+    }
 }
@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.value;
+
+import com.google.common.collect.ImmutableMap;
+import com.sabre.oss.yare.core.accessor.FactType;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrecompiledAccessorsTest {
+
+    @Test
+    void shouldPreferAccessorsGeneratedAtBuildTime() {
+        // given
+        Order order = new Order(Arrays.asList(new Item("A"), new Item("B")));
+        PredicateContext context = new PredicateContext("any", new Object(), ImmutableMap.of("order", order), emptyMap(), null);
+
+        // when
+        ValueProvider valueProvider = ValueProviderFactory.createFromPath(Order.class, "order", null, "items[*].code");
+
+        // then
+        assertThat(valueProvider).isInstanceOf(FactAccessorValueProvider.class).isInstanceOf(QuantifiableValueProvider.class);
+        assertThat(valueProvider.getType()).isEqualTo(List.class);
+        assertThat(valueProvider.get(context)).isEqualTo(Arrays.asList("A", "B"));
+        assertThat(((QuantifiableValueProvider) valueProvider).anyMatch(context, "B"::equals)).isTrue();
+    }
+
+    @Test
+    void shouldGenerateAccessorsAtRuntimeForTypesWithoutPrecompiledOnes() {
+        // when
+        ValueProvider valueProvider = ValueProviderFactory.createFromPath(Item.class, "item", null, "code");
+
+        // then
+        assertThat(valueProvider).isInstanceOf(FieldReferringClassFactory.AbstractFieldReferringValueProvider.class);
+    }
+
+    @Test
+    void shouldNormalizePaths() {
+        assertThat(PrecompiledAccessors.normalize("items[*].code")).isEqualTo("items.code");
+        assertThat(PrecompiledAccessors.normalize("orders[*].items[*]")).isEqualTo("orders.items[*]");
+        assertThat(PrecompiledAccessors.normalize("items[*]")).isEqualTo("items[*]");
+        assertThat(PrecompiledAccessors.normalize("customer!.name")).isEqualTo("customer.name");
+    }
+
+    @FactType
+    public static class Order {
+        private final List<Item> items;
+
+        Order(List<Item> items) {
+            this.items = items;
+        }
+
+        public List<Item> getItems() {
+            return items;
+        }
+    }
+
+    public static class Item {
+        private final String code;
+
+        Item(String code) {
+            this.code = code;
+        }
+
+        public String getCode() {
+            return code;
+        }
+    }
+}
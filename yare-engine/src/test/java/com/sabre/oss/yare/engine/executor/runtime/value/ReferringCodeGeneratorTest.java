@@ -64,6 +64,7 @@ class ReferringCodeGeneratorTest {
                 "if(" + BoxingUtils.class.getName() + ".box(v0.ref) == null) { \n" +
                 "   return null; \n" +
                 "} \n" +
+                "result.ensureCapacity(v0.ref.size()); \n" +
                 "java.util.Iterator i0 = v0.ref.iterator(); \n" +
                 "while(i0.hasNext()) { \n" +
                 "   java.lang.String v1 = (java.lang.String) i0.next(); \n" +
@@ -160,6 +161,7 @@ class ReferringCodeGeneratorTest {
                 "if(" + BoxingUtils.class.getName() + ".box(v0.ref) == null) { \n" +
                 "   return null; \n" +
                 "} \n" +
+                "result.ensureCapacity(v0.ref.size()); \n" +
                 "java.util.Iterator i0 = v0.ref.iterator(); \n" +
                 "while(i0.hasNext()) { \n" +
                 "   java.lang.String v1 = (java.lang.String) i0.next(); \n" +
@@ -0,0 +1,282 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.integration;
+
+import com.sabre.oss.yare.core.RuleSession;
+import com.sabre.oss.yare.core.RulesEngine;
+import com.sabre.oss.yare.core.RulesEngineBuilder;
+import com.sabre.oss.yare.core.call.*;
+import com.sabre.oss.yare.core.feature.Feature;
+import com.sabre.oss.yare.core.invocation.Invocation;
+import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.dsl.RuleDsl;
+import com.sabre.oss.yare.engine.BatchCallMetadata;
+import com.sabre.oss.yare.engine.feature.DefaultEngineFeature;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static com.sabre.oss.yare.dsl.RuleDsl.*;
+import static com.sabre.oss.yare.invoker.java.MethodCallMetadata.method;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+public class BatchedFunctionTest {
+    private static final int FACTS = 100;
+
+    private final List<List<List<Object>>> batches = new ArrayList<>();
+    private final List<CompletableFuture<Object>> pendingCalls = new ArrayList<>();
+    private int singleCalls;
+    private int codeOfCalls;
+
+    @Test
+    void shouldDispatchCallsOfAllFactsWithOneBatch() {
+        // given
+        RulesEngine engine = createEngine(BatchCallMetadata.batch(this::lookupAll));
+        List<Object> facts = createFacts();
+
+        // when
+        List<Integer> result = engine.createSession("session").execute(new ArrayList<>(), facts);
+
+        // then
+        assertThat(result).containsExactlyElementsOf(expectedMatches());
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).hasSize(FACTS / 2);
+    }
+
+    @Test
+    void shouldStartAsynchronousCallsOfAllFactsBeforeAwaitingResults() {
+        // given
+        RulesEngine engine = createEngine(BatchCallMetadata.async(this::lookup));
+        RuleSession session = engine.createSession("session");
+        List<Object> facts = createFacts();
+
+        // when
+        List<Integer> result = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> session.execute(new ArrayList<>(), facts));
+
+        // then
+        assertThat(result).containsExactlyElementsOf(expectedMatches());
+        assertThat(pendingCalls).hasSize(FACTS / 2);
+    }
+
+    @Test
+    void shouldDispatchCallsOfBatchCallableInvocationWithOneBatch() {
+        // given
+        RulesEngine engine = createEngine(batchCallableLookup(), DefaultEngineFeature.SESSION_CACHE_FUNCTION_RESULT);
+        List<Object> facts = createFacts();
+
+        // when
+        List<Integer> result = engine.createSession("session").execute(new ArrayList<>(), facts);
+
+        // then
+        assertThat(result).containsExactlyElementsOf(expectedMatches());
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).hasSize(FACTS / 2);
+    }
+
+    @Test
+    void shouldCallBatchCallableInvocationOneByOneWithoutSessionCache() {
+        // given
+        RulesEngine engine = createEngine(batchCallableLookup(), DefaultEngineFeature.DISABLE_CACHE_FUNCTION_RESULT);
+        List<Object> facts = createFacts();
+
+        // when
+        List<Integer> result = engine.createSession("session").execute(new ArrayList<>(), facts);
+
+        // then
+        assertThat(result).containsExactlyElementsOf(expectedMatches());
+        assertThat(batches).isEmpty();
+        assertThat(singleCalls).isEqualTo(FACTS);
+    }
+
+    @Test
+    void shouldNotCollectCallsOfBatchCallableInvocationInMultiTypeSession() {
+        // given
+        RulesEngine engine = createEngine(batchCallableLookup(), DefaultEngineFeature.SESSION_CACHE_FUNCTION_RESULT);
+        List<Object> facts = createFacts();
+        facts.add("other");
+
+        // when
+        engine.createSession("session").execute(new ArrayList<>(), facts);
+
+        // then
+        assertThat(batches).isNotEmpty().allSatisfy(batch -> assertThat(batch).hasSize(1));
+    }
+
+    @Test
+    void shouldNotCollectCallsWithArgumentsComputedByFunctions() {
+        // given
+        Rule rule = RuleDsl.ruleBuilder()
+                .name("lookup")
+                .fact("item", Item.class)
+                .predicate(
+                        equal(
+                                function("lookup", String.class, param("code", function("codeOf", Integer.class, param("item", value("${item}"))))),
+                                value("OK")
+                        )
+                )
+                .action("collect",
+                        param("context", value("${ctx}")),
+                        param("fact", value("${item}")))
+                .build();
+        RulesEngine engine = new RulesEngineBuilder()
+                .withRulesRepository(i -> Arrays.asList(rule))
+                .withFunctionMapping("lookup", BatchCallMetadata.batch(this::lookupAll))
+                .withFunctionMapping("codeOf", method(this, f -> f.codeOf(null)), DefaultEngineFeature.DISABLE_CACHE_FUNCTION_RESULT)
+                .withActionMapping("collect", method(this, a -> a.collect(null, null)))
+                .build();
+
+        // when
+        List<Integer> result = engine.createSession("session").execute(new ArrayList<>(), createFacts());
+
+        // then
+        assertThat(result).containsExactlyElementsOf(expectedMatches());
+        assertThat(codeOfCalls).isEqualTo(FACTS);
+        assertThat(batches).hasSize(FACTS / 2).allSatisfy(batch -> assertThat(batch).hasSize(1));
+    }
+
+    @Test
+    void shouldDispatchBatchForEachExecution() {
+        // given
+        RulesEngine engine = createEngine(BatchCallMetadata.batch(this::lookupAll));
+        RuleSession session = engine.createSession("session");
+
+        // when
+        session.execute(new ArrayList<>(), createFacts());
+        session.execute(new ArrayList<>(), createFacts());
+
+        // then
+        assertThat(batches).hasSize(2);
+        assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSize(FACTS / 2));
+    }
+
+    private CallMetadata batchCallableLookup() {
+        return () -> new InvocationFactory() {
+            @Override
+            public <R> Invocation<ProcessingContext, R> create(Supplier<ArgumentValueResolver> resolver, Argument.Invocation invocation) {
+                return new LookupInvocation<>(invocation, resolver.get());
+            }
+        };
+    }
+
+    private RulesEngine createEngine(CallMetadata lookup, Feature... features) {
+        Rule rule = RuleDsl.ruleBuilder()
+                .name("lookup")
+                .fact("item", Item.class)
+                .predicate(
+                        equal(
+                                function("lookup", String.class, param("code", value("${item.code}"))),
+                                value("OK")
+                        )
+                )
+                .action("collect",
+                        param("context", value("${ctx}")),
+                        param("fact", value("${item}")))
+                .build();
+        return new RulesEngineBuilder()
+                .withRulesRepository(i -> Arrays.asList(rule))
+                .withFunctionMapping("lookup", lookup, features)
+                .withActionMapping("collect", method(this, a -> a.collect(null, null)))
+                .build();
+    }
+
+    public List<String> lookupAll(List<List<Object>> arguments) {
+        batches.add(arguments);
+        return arguments.stream()
+                .map(call -> status((Integer) call.get(0)))
+                .collect(Collectors.toList());
+    }
+
+    public CompletableFuture<Object> lookup(List<Object> arguments) {
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        pendingCalls.add(call);
+        if (pendingCalls.size() == FACTS / 2) {
+            pendingCalls.forEach(c -> c.complete(null));
+        }
+        return call.thenApply(ignored -> status((Integer) arguments.get(0)));
+    }
+
+    private final class LookupInvocation<R> extends ProcessingInvocation<R> implements BatchCallable {
+
+        private LookupInvocation(Argument.Invocation invocation, ArgumentValueResolver argumentValueResolver) {
+            super(invocation, argumentValueResolver);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public R call(ProcessingContext ctx, Object[] args) {
+            singleCalls++;
+            return (R) status((Integer) args[0]);
+        }
+
+        @Override
+        public List<Object> callBatch(List<List<Object>> arguments) {
+            return new ArrayList<>(lookupAll(arguments));
+        }
+    }
+
+    public Integer codeOf(Item item) {
+        codeOfCalls++;
+        return item.code;
+    }
+
+    public void collect(List<Integer> context, Item fact) {
+        context.add(fact.id);
+    }
+
+    private static String status(Integer code) {
+        return code % 3 == 0 ? "OK" : "FAIL";
+    }
+
+    private static List<Object> createFacts() {
+        return IntStream.range(0, FACTS)
+                .mapToObj(i -> new Item(i, i / 2))
+                .collect(Collectors.toList());
+    }
+
+    private static List<Integer> expectedMatches() {
+        return IntStream.range(0, FACTS)
+                .filter(i -> (i / 2) % 3 == 0)
+                .boxed()
+                .collect(Collectors.toList());
+    }
+
+    public static final class Item {
+        public final int id;
+        public final Integer code;
+
+        Item(int id, Integer code) {
+            this.id = id;
+            this.code = code;
+        }
+    }
+}
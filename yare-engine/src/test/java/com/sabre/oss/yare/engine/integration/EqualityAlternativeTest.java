@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.integration;
+
+import com.sabre.oss.yare.core.RuleSession;
+import com.sabre.oss.yare.core.RulesEngine;
+import com.sabre.oss.yare.core.RulesEngineBuilder;
+import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.dsl.RuleDsl;
+import com.sabre.oss.yare.engine.executor.DefaultRulesExecutorBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.sabre.oss.yare.dsl.RuleDsl.*;
+import static com.sabre.oss.yare.invoker.java.MethodCallMetadata.method;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EqualityAlternativeTest {
+
+    @Test
+    void shouldMatchAnyOfEqualities() {
+        // given
+        Rule rule = RuleDsl.ruleBuilder()
+                .name("anyOfCodes")
+                .fact("segment", Segment.class)
+                .predicate(
+                        or(
+                                equal(value("${segment.code}"), value("WAW")),
+                                equal(value("KRK"), value("${segment.code}")),
+                                equal(value("${segment.carrier}"), value("LO")),
+                                equal(value("${segment.code}"), value("GDN"))
+                        )
+                )
+                .action("collect",
+                        param("context", value("${ctx}")),
+                        param("fact", value("${segment}")))
+                .build();
+        List<Object> facts = Arrays.asList(
+                new Segment("WAW", "AA"),
+                new Segment("KRK", null),
+                new Segment("GDN", "BA"),
+                new Segment("LHR", "LO"),
+                new Segment("LHR", "BA"),
+                new Segment(null, "BA"));
+
+        // when
+        List<String> result = execute(rule, facts);
+
+        // then
+        assertThat(result).containsExactly("WAW/AA", "KRK/null", "GDN/BA", "LHR/LO");
+    }
+
+    private List<String> execute(Rule rule, List<Object> facts) {
+        RulesEngine engine = new RulesEngineBuilder()
+                .withRulesRepository(i -> Arrays.asList(rule))
+                .withActionMapping("collect", method(this, a -> a.collect(null, null)))
+                .withRulesExecutorBuilder(new DefaultRulesExecutorBuilder())
+                .build();
+        RuleSession session = engine.createSession("session");
+        return session.execute(new ArrayList<>(), facts);
+    }
+
+    public void collect(List<String> context, Segment fact) {
+        context.add(fact.code + "/" + fact.carrier);
+    }
+
+    public static final class Segment {
+        public final String code;
+        public final String carrier;
+
+        Segment(String code, String carrier) {
+            this.code = code;
+            this.carrier = carrier;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.integration;
+
+import com.sabre.oss.yare.core.RuleSession;
+import com.sabre.oss.yare.core.RulesEngine;
+import com.sabre.oss.yare.core.RulesEngineBuilder;
+import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.dsl.CollectionOperand;
+import com.sabre.oss.yare.dsl.Expression;
+import com.sabre.oss.yare.dsl.RuleDsl;
+import com.sabre.oss.yare.engine.executor.DefaultRulesExecutorBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.sabre.oss.yare.dsl.RuleDsl.*;
+import static com.sabre.oss.yare.invoker.java.MethodCallMetadata.method;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IndexedContainsOperatorTest {
+
+    @Test
+    void shouldMatchManyConstantCollectionsAgainstSameProperty() {
+        List<Rule> rules = Arrays.asList(
+                createRule("anyPremium", containsAny(tiers(), values(String.class, "GOLD", "PLATINUM"))),
+                createRule("anySilver", containsAny(values(String.class, "SILVER"), tiers())),
+                createRule("allPremium", contains(tiers(), values(String.class, "GOLD", "PLATINUM"))),
+                createRule("allGold", contains(tiers(), values(String.class, "GOLD", "GOLD"))),
+                createRule("anyBronze", containsAny(tiers(), values(String.class, "BRONZE"))));
+        List<Object> facts = Arrays.asList(
+                new Traveler("t1", Arrays.asList("GOLD", "SILVER")),
+                new Traveler("t2", Arrays.asList("PLATINUM", "GOLD", "GOLD")),
+                new Traveler("t3", Collections.emptyList()),
+                new Traveler("t4", null));
+
+        for (boolean sequentialMode : new boolean[]{false, true}) {
+            List<String> result = execute(rules, facts, sequentialMode);
+
+            assertThat(result).containsExactlyInAnyOrder(
+                    "anyPremium:t1", "anySilver:t1", "allGold:t1",
+                    "anyPremium:t2", "allPremium:t2", "allGold:t2");
+        }
+    }
+
+    private static CollectionOperand<String> tiers() {
+        return castToCollection(value("${traveler.tiers}"), String.class);
+    }
+
+    private static Rule createRule(String name, Expression<Boolean> predicate) {
+        return RuleDsl.ruleBuilder()
+                .name(name)
+                .fact("traveler", Traveler.class)
+                .predicate(predicate)
+                .action("collect",
+                        param("context", value("${ctx}")),
+                        param("ruleName", value("${ruleName}")),
+                        param("fact", value("${traveler}")))
+                .build();
+    }
+
+    private List<String> execute(List<Rule> rules, List<Object> facts, boolean sequentialMode) {
+        RulesEngine engine = new RulesEngineBuilder()
+                .withRulesRepository(i -> rules)
+                .withActionMapping("collect", method(this, a -> a.collect(null, null, null)))
+                .withRulesExecutorBuilder(new DefaultRulesExecutorBuilder()
+                        .withSequentialMode(sequentialMode))
+                .build();
+        RuleSession session = engine.createSession("session");
+        return session.execute(new ArrayList<>(), facts);
+    }
+
+    public void collect(List<String> context, String ruleName, Traveler fact) {
+        context.add(ruleName + ":" + fact.id);
+    }
+
+    public static final class Traveler {
+        public final String id;
+        public final List<String> tiers;
+
+        Traveler(String id, List<String> tiers) {
+            this.id = id;
+            this.tiers = tiers;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.integration;
+
+import com.sabre.oss.yare.core.RuleSession;
+import com.sabre.oss.yare.core.RulesEngine;
+import com.sabre.oss.yare.core.RulesEngineBuilder;
+import com.sabre.oss.yare.core.call.ConsequenceFactory;
+import com.sabre.oss.yare.core.call.FunctionFactory;
+import com.sabre.oss.yare.core.call.ProcessingInvocationFactory;
+import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.dsl.RuleDsl;
+import com.sabre.oss.yare.engine.executor.DefaultPredicateFactory;
+import com.sabre.oss.yare.engine.executor.DefaultRulesExecutorBuilder;
+import com.sabre.oss.yare.engine.executor.RuntimeRulesBuilder;
+import com.sabre.oss.yare.engine.executor.runtime.operator.relation.MatchString;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.Predicate;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateFactoryContext;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.RuleSetFactoryContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.sabre.oss.yare.dsl.RuleDsl.*;
+import static com.sabre.oss.yare.invoker.java.MethodCallMetadata.method;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class MatchOperatorTest {
+
+    @Test
+    void shouldMatchManyPatternsAgainstSameProperty() {
+        List<Rule> rules = Arrays.asList(
+                createRule("exact", "SSR WCHR"),
+                createRule("prefix", "SSR.*"),
+                createRule("suffix", ".*VGML"),
+                createRule("contains", ".*WCH.*"),
+                createRule("regexp", "SSR [A-Z]{4}"),
+                createRule("notMatching", ".*DOCS.*"));
+        List<Object> facts = Arrays.asList(new Remark("SSR WCHR"), new Remark("OSI VGML"), new Remark(null));
+
+        for (boolean sequentialMode : new boolean[]{false, true}) {
+            List<String> result = execute(rules, facts, sequentialMode);
+
+            assertThat(result).containsExactlyInAnyOrder(
+                    "exact:SSR WCHR",
+                    "prefix:SSR WCHR",
+                    "contains:SSR WCHR",
+                    "regexp:SSR WCHR",
+                    "suffix:OSI VGML");
+        }
+    }
+
+    @Test
+    void shouldCombineMatchesOfSameValueIntoOneGroup() {
+        // given
+        List<Rule> rules = Arrays.asList(
+                createRule("prefix", "SSR.*"),
+                createRule("suffix", ".*VGML"),
+                createRule("contains", ".*WCH.*"));
+        RuntimeRulesBuilder builder = new RuntimeRulesBuilder(new DefaultPredicateFactory(), mock(FunctionFactory.class),
+                new ConsequenceFactory(mock(ProcessingInvocationFactory.class)));
+        RuleSetFactoryContext ruleSetContext = new RuleSetFactoryContext();
+
+        // when
+        List<Predicate> predicates = rules.stream()
+                .map(rule -> builder.createPredicate(new PredicateFactoryContext(rule, builder, ruleSetContext), rule.getPredicate()))
+                .collect(Collectors.toList());
+        ruleSetContext.complete();
+
+        // then
+        assertThat(predicates).hasSize(3).allSatisfy(predicate -> {
+            assertThat(predicate).isInstanceOf(MatchString.class);
+            assertThat(((MatchString) predicate).isGrouped()).isTrue();
+        });
+    }
+
+    @Test
+    void shouldNotGroupSingleMatchOfValue() {
+        // given
+        Rule rule = createRule("exact", "SSR WCHR");
+        RuntimeRulesBuilder builder = new RuntimeRulesBuilder(new DefaultPredicateFactory(), mock(FunctionFactory.class),
+                new ConsequenceFactory(mock(ProcessingInvocationFactory.class)));
+        RuleSetFactoryContext ruleSetContext = new RuleSetFactoryContext();
+
+        // when
+        Predicate predicate = builder.createPredicate(new PredicateFactoryContext(rule, builder, ruleSetContext), rule.getPredicate());
+        ruleSetContext.complete();
+
+        // then
+        assertThat(predicate).isInstanceOf(MatchString.class);
+        assertThat(((MatchString) predicate).isGrouped()).isFalse();
+    }
+
+    private static Rule createRule(String name, String regexp) {
+        return RuleDsl.ruleBuilder()
+                .name(name)
+                .fact("remark", Remark.class)
+                .predicate(
+                        match(
+                                value("${remark.text}"),
+                                value(regexp)
+                        )
+                )
+                .action("collect",
+                        param("context", value("${ctx}")),
+                        param("ruleName", value("${ruleName}")),
+                        param("fact", value("${remark}")))
+                .build();
+    }
+
+    private List<String> execute(List<Rule> rules, List<Object> facts, boolean sequentialMode) {
+        RulesEngine engine = new RulesEngineBuilder()
+                .withRulesRepository(i -> rules)
+                .withActionMapping("collect", method(this, a -> a.collect(null, null, null)))
+                .withRulesExecutorBuilder(new DefaultRulesExecutorBuilder()
+                        .withSequentialMode(sequentialMode))
+                .build();
+        RuleSession session = engine.createSession("session");
+        return session.execute(new ArrayList<>(), facts);
+    }
+
+    public void collect(List<String> context, String ruleName, Remark fact) {
+        context.add(ruleName + ":" + fact.text);
+    }
+
+    public static final class Remark {
+        public final String text;
+
+        Remark(String text) {
+            this.text = text;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.integration;
+
+import com.sabre.oss.yare.core.RuleSession;
+import com.sabre.oss.yare.core.RulesEngine;
+import com.sabre.oss.yare.core.RulesEngineBuilder;
+import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.dsl.Expression;
+import com.sabre.oss.yare.dsl.RuleDsl;
+import com.sabre.oss.yare.engine.executor.DefaultRulesExecutorBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.sabre.oss.yare.dsl.RuleDsl.*;
+import static com.sabre.oss.yare.invoker.java.MethodCallMetadata.method;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ValueOperatorsTest {
+
+    @Test
+    void shouldCompareValuesComputedByOperators() {
+        List<Rule> rules = Arrays.asList(
+                createRule("almostFull",
+                        less(value("${flight.seats}"), add(value("${flight.booked}"), value(2)))),
+                createRule("halfFull",
+                        lessOrEqual(divide(value("${flight.seats}"), value(2)), value("${flight.booked}"))),
+                createRule("code",
+                        equal(concat(upperCase(value("${flight.carrier}")), value("${flight.number}")), value("LO123"))),
+                createRule("shortCarrier",
+                        equal(length(value("${flight.carrier}")), value(2))),
+                createRule("departsWithinWeek",
+                        less(add(value("${flight.departure}"), value(Period.ofDays(7))), value(LocalDate.of(2018, 3, 10)))));
+        List<Object> facts = Arrays.asList(
+                new Flight("lo", 123, 10, 9, LocalDate.of(2018, 3, 1)),
+                new Flight("LOT", 456, 10, 4, LocalDate.of(2018, 3, 5)),
+                new Flight(null, 789, 10, 5, null));
+
+        for (boolean sequentialMode : new boolean[]{false, true}) {
+            List<String> result = execute(rules, facts, sequentialMode);
+
+            assertThat(result).containsExactlyInAnyOrder(
+                    "almostFull:123",
+                    "halfFull:123",
+                    "halfFull:789",
+                    "code:123",
+                    "shortCarrier:123",
+                    "departsWithinWeek:123");
+        }
+    }
+
+    @Test
+    void shouldReportOverflowOfComparedSum() {
+        List<Rule> rules = Collections.singletonList(
+                createRule("overbooked",
+                        less(value("${flight.seats}"), add(value("${flight.booked}"), value("${flight.booked}")))));
+
+        for (boolean sequentialMode : new boolean[]{false, true}) {
+            assertThat(execute(rules, Collections.singletonList(new Flight("LO", 123, 10, 6, null)), sequentialMode))
+                    .containsExactly("overbooked:123");
+            assertThatThrownBy(() -> execute(rules, Collections.singletonList(new Flight("LO", 456, 10, Integer.MAX_VALUE, null)), sequentialMode))
+                    .isInstanceOf(ArithmeticException.class)
+                    .hasMessage("Result of add of 2147483647 and 2147483647 overflows Integer");
+        }
+    }
+
+    private static Rule createRule(String name, Expression<Boolean> predicate) {
+        return RuleDsl.ruleBuilder()
+                .name(name)
+                .fact("flight", Flight.class)
+                .predicate(predicate)
+                .action("collect",
+                        param("context", value("${ctx}")),
+                        param("ruleName", value("${ruleName}")),
+                        param("fact", value("${flight}")))
+                .build();
+    }
+
+    private List<String> execute(List<Rule> rules, List<Object> facts, boolean sequentialMode) {
+        RulesEngine engine = new RulesEngineBuilder()
+                .withRulesRepository(i -> rules)
+                .withActionMapping("collect", method(this, a -> a.collect(null, null, null)))
+                .withRulesExecutorBuilder(new DefaultRulesExecutorBuilder()
+                        .withSequentialMode(sequentialMode))
+                .build();
+        RuleSession session = engine.createSession("session");
+        return session.execute(new ArrayList<>(), facts);
+    }
+
+    public void collect(List<String> context, String ruleName, Flight fact) {
+        context.add(ruleName + ":" + fact.number);
+    }
+
+    public static final class Flight {
+        public final String carrier;
+        public final int number;
+        public final int seats;
+        public final int booked;
+        public final LocalDate departure;
+
+        Flight(String carrier, int number, int seats, int booked, LocalDate departure) {
+            this.carrier = carrier;
+            this.number = number;
+            this.seats = seats;
+            this.booked = booked;
+            this.departure = departure;
+        }
+    }
+}
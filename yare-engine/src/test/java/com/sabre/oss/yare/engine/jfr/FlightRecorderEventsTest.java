@@ -0,0 +1,184 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.jfr;
+
+import com.sabre.oss.yare.core.RulesEngine;
+import com.sabre.oss.yare.core.RulesEngineBuilder;
+import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.dsl.RuleDsl;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+import static com.sabre.oss.yare.dsl.RuleDsl.*;
+import static com.sabre.oss.yare.invoker.java.MethodCallMetadata.method;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class FlightRecorderEventsTest {
+    private static final int SLOW_CODE = 42;
+
+    @Test
+    void shouldRecordEngineEvents() throws IOException {
+        // given
+        assumeTrue(FlightRecorderEvents.isAvailable());
+        RulesEngine engine = createEngine();
+        List<RecordedEvent> events;
+
+        // when
+        try (Recording recording = new Recording()) {
+            recording.enable("com.sabre.oss.yare.RuleSetLoad");
+            recording.enable("com.sabre.oss.yare.AccessorGeneration");
+            recording.enable("com.sabre.oss.yare.SessionExecution");
+            recording.enable("com.sabre.oss.yare.FunctionInvocation").withThreshold(Duration.ZERO);
+            recording.start();
+            engine.createSession("jfrRules").execute(new ArrayList<>(), Arrays.asList(new Item(1), new Item(2), new Item(3)));
+            recording.stop();
+            events = readEvents(recording);
+        }
+
+        // then
+        RecordedEvent load = single(events, "com.sabre.oss.yare.RuleSetLoad");
+        assertThat(load.getString("uri")).isEqualTo("jfrRules");
+        assertThat(load.getInt("ruleCount")).isEqualTo(1);
+
+        RecordedEvent session = single(events, "com.sabre.oss.yare.SessionExecution");
+        assertThat(session.getString("uri")).isEqualTo("jfrRules");
+        assertThat(session.getInt("factCount")).isEqualTo(3);
+        assertThat(session.getLong("fireCount")).isEqualTo(1);
+
+        assertThat(eventsOf(events, "com.sabre.oss.yare.AccessorGeneration"))
+                .extracting(event -> event.getString("path"))
+                .contains("code");
+        assertThat(eventsOf(events, "com.sabre.oss.yare.FunctionInvocation"))
+                .hasSize(3)
+                .allSatisfy(event -> assertThat(event.getString("function")).isEqualTo("status"));
+    }
+
+    @Test
+    void shouldRecordOnlySlowFunctionInvocationsByDefault() throws IOException {
+        // given
+        assumeTrue(FlightRecorderEvents.isAvailable());
+        RulesEngine engine = createEngine();
+        List<RecordedEvent> events;
+
+        // when
+        try (Recording recording = new Recording()) {
+            recording.enable("com.sabre.oss.yare.FunctionInvocation");
+            recording.start();
+            engine.createSession("jfrRules").execute(new ArrayList<>(), Arrays.asList(new Item(1), new Item(SLOW_CODE), new Item(3)));
+            recording.stop();
+            events = readEvents(recording);
+        }
+
+        // then
+        assertThat(eventsOf(events, "com.sabre.oss.yare.FunctionInvocation"))
+                .isNotEmpty()
+                .allSatisfy(event -> assertThat(event.getDuration()).isGreaterThanOrEqualTo(Duration.ofMillis(10)));
+    }
+
+    private static List<RecordedEvent> readEvents(Recording recording) throws IOException {
+        Path file = Files.createTempFile("yare", ".jfr");
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = eventsOf(events, name);
+        assertThat(matching).hasSize(1);
+        return matching.get(0);
+    }
+
+    private static List<RecordedEvent> eventsOf(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+    }
+
+    private RulesEngine createEngine() {
+        Rule rule = RuleDsl.ruleBuilder()
+                .name("twoOk")
+                .fact("item", Item.class)
+                .predicate(
+                        and(
+                                equal(
+                                        function("status", String.class, param("code", value("${item.code}"))),
+                                        value("OK")
+                                ),
+                                equal(
+                                        value("${item.code}"),
+                                        value(2)
+                                )
+                        )
+                )
+                .action("collect",
+                        param("context", value("${ctx}")),
+                        param("fact", value("${item}")))
+                .build();
+        return new RulesEngineBuilder()
+                .withRulesRepository(i -> Arrays.asList(rule))
+                .withFunctionMapping("status", method(this, f -> f.status(null)))
+                .withActionMapping("collect", method(this, a -> a.collect(null, null)))
+                .build();
+    }
+
+    public String status(Integer code) {
+        if (code == SLOW_CODE) {
+            long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(20);
+            while (System.nanoTime() < end) {
+                LockSupport.parkNanos(end - System.nanoTime());
+            }
+        }
+        return code > 0 ? "OK" : "NOK";
+    }
+
+    public void collect(List<Item> context, Item fact) {
+        context.add(fact);
+    }
+
+    public static final class Item {
+        public final Integer code;
+
+        Item(Integer code) {
+            this.code = code;
+        }
+    }
+}
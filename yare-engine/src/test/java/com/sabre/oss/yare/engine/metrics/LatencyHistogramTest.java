@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LatencyHistogramTest {
+
+    @Test
+    void shouldKeepSmallValuesExactly() {
+        for (long value = 0; value < 16; value++) {
+            assertThat(LatencyHistogram.upperBoundOf(LatencyHistogram.indexOf(value))).isEqualTo(value);
+        }
+    }
+
+    @Test
+    void shouldKeepValuesWithBoundedRelativeError() {
+        for (long value = 16; value < 1L << 40; value = value * 3 + 1) {
+            // when
+            long upperBound = LatencyHistogram.upperBoundOf(LatencyHistogram.indexOf(value));
+
+            // then
+            assertThat(upperBound).isGreaterThanOrEqualTo(value);
+            assertThat((double) (upperBound - value) / value).isLessThan(0.07);
+        }
+    }
+
+    @Test
+    void shouldCountDurationsBeyondTrackedRangeInLastBucket() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // when
+        histogram.record(10L);
+        histogram.record(Long.MAX_VALUE);
+
+        // then
+        assertThat(LatencyHistogram.indexOf(Long.MAX_VALUE)).isEqualTo(LatencyHistogram.indexOf((1L << 40) - 1));
+        assertThat(histogram.getValueAtPercentile(50.0)).isEqualTo(10L);
+        assertThat(histogram.getValueAtPercentile(100.0)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void shouldComputePercentiles() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // when
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        // then
+        assertThat(histogram.getCount()).isEqualTo(1000);
+        assertThat(histogram.getMax()).isEqualTo(1_000_000L);
+        assertThat(histogram.getMean()).isEqualTo(500_500.0);
+        assertThat(histogram.getValueAtPercentile(50.0)).isBetween(500_000L, 535_000L);
+        assertThat(histogram.getValueAtPercentile(99.0)).isBetween(990_000L, 1_000_000L);
+        assertThat(histogram.getValueAtPercentile(100.0)).isEqualTo(1_000_000L);
+    }
+
+    @Test
+    void shouldHandleEmptyHistogramAndInvalidPercentile() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // when / then
+        assertThat(histogram.getValueAtPercentile(99.0)).isZero();
+        assertThat(histogram.getMean()).isZero();
+        assertThatThrownBy(() -> histogram.getValueAtPercentile(101.0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Percentile must be between 0 and 100");
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.metrics;
+
+import com.sabre.oss.yare.core.RuleSession;
+import com.sabre.oss.yare.core.RulesEngine;
+import com.sabre.oss.yare.core.RulesEngineBuilder;
+import com.sabre.oss.yare.core.Wrapper;
+import com.sabre.oss.yare.core.feature.Feature;
+import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.dsl.RuleDsl;
+import com.sabre.oss.yare.engine.executor.DefaultRulesExecutor;
+import com.sabre.oss.yare.engine.executor.DefaultRulesExecutorBuilder;
+import com.sabre.oss.yare.engine.feature.DefaultEngineFeature;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.sabre.oss.yare.dsl.RuleDsl.*;
+import static com.sabre.oss.yare.invoker.java.MethodCallMetadata.method;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MetricsRegistryTest {
+
+    @Test
+    void shouldCollectStatisticsOfRulesAndFunctions() {
+        // given
+        MetricsRegistry metrics = new MetricsRegistry();
+        RulesEngine engine = createEngine(metrics);
+        RuleSession session = engine.createSession("session");
+        List<Object> facts = Arrays.asList(new Item(1), new Item(2), new Item(3), new Item(4));
+
+        // when
+        session.execute(new ArrayList<>(), facts);
+        session.execute(new ArrayList<>(), facts);
+
+        // then
+        RuleStatistics matching = metrics.getRuleStatistics("matching");
+        assertThat(matching.getEvaluationCount()).isEqualTo(8);
+        assertThat(matching.getFireCount()).isEqualTo(4);
+        assertThat(matching.getPredicateLatency().getCount()).isEqualTo(8);
+        assertThat(matching.getConsequenceLatency().getCount()).isEqualTo(4);
+
+        RuleStatistics neverFiring = metrics.getRuleStatistics("neverFiring");
+        assertThat(neverFiring.getEvaluationCount()).isEqualTo(8);
+        assertThat(neverFiring.getFireCount()).isZero();
+        assertThat(neverFiring.getConsequenceLatency().getCount()).isZero();
+
+        FunctionStatistics status = metrics.getFunctionStatistics("status");
+        assertThat(status.getInvocationCount()).isEqualTo(8);
+        assertThat(status.getCacheHitCount()).isEqualTo(4);
+        assertThat(status.getCacheMissCount()).isEqualTo(4);
+        assertThat(metrics.getRuleStatistics()).hasSize(2);
+        assertThat(((Wrapper) engine).unwrap(MetricsRegistry.class)).isSameAs(metrics);
+    }
+
+    @Test
+    void shouldObserveFunctionsWithUncachedResults() {
+        // given
+        MetricsRegistry metrics = new MetricsRegistry();
+        RuleSession session = createEngine(metrics, DefaultEngineFeature.DISABLE_CACHE_FUNCTION_RESULT).createSession("session");
+        List<Object> facts = Arrays.asList(new Item(2), new Item(2));
+
+        // when
+        session.execute(new ArrayList<>(), facts);
+        session.execute(new ArrayList<>(), facts);
+
+        // then
+        FunctionStatistics status = metrics.getFunctionStatistics("status");
+        assertThat(status.getInvocationCount()).isEqualTo(4);
+        assertThat(status.getCacheHitCount()).isZero();
+        assertThat(status.getLatency().getCount()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldObserveFunctionsWithSessionCachedResults() {
+        // given
+        MetricsRegistry metrics = new MetricsRegistry();
+        RuleSession session = createEngine(metrics, DefaultEngineFeature.SESSION_CACHE_FUNCTION_RESULT).createSession("session");
+        List<Object> facts = Arrays.asList(new Item(2), new Item(2));
+
+        // when
+        session.execute(new ArrayList<>(), facts);
+        session.execute(new ArrayList<>(), facts);
+
+        // then
+        FunctionStatistics status = metrics.getFunctionStatistics("status");
+        assertThat(status.getInvocationCount()).isEqualTo(4);
+        assertThat(status.getCacheHitCount()).isEqualTo(2);
+        assertThat(status.getCacheMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotObserveByDefault() {
+        // given
+        RulesEngine engine = createEngine(null);
+
+        // when
+        engine.createSession("session").execute(new ArrayList<>(), Arrays.asList(new Item(2)));
+
+        // then
+        assertThat(((Wrapper) engine).unwrap(MetricsRegistry.class)).isNull();
+        assertThat(((Wrapper) engine).unwrap(DefaultRulesExecutor.class)).isNotNull();
+    }
+
+    private RulesEngine createEngine(MetricsRegistry metrics, Feature... features) {
+        Rule matching = RuleDsl.ruleBuilder()
+                .name("matching")
+                .fact("item", Item.class)
+                .predicate(
+                        equal(
+                                function("status", String.class, param("code", value("${item.code}"))),
+                                value("OK")
+                        )
+                )
+                .action("collect",
+                        param("context", value("${ctx}")),
+                        param("fact", value("${item}")))
+                .build();
+        Rule neverFiring = RuleDsl.ruleBuilder()
+                .name("neverFiring")
+                .fact("item", Item.class)
+                .predicate(
+                        equal(
+                                value("${item.code}"),
+                                value(-1)
+                        )
+                )
+                .action("collect",
+                        param("context", value("${ctx}")),
+                        param("fact", value("${item}")))
+                .build();
+        DefaultRulesExecutorBuilder executorBuilder = new DefaultRulesExecutorBuilder();
+        if (metrics != null) {
+            executorBuilder.withObserver(metrics);
+        }
+        return new RulesEngineBuilder()
+                .withRulesRepository(i -> Arrays.asList(matching, neverFiring))
+                .withFunctionMapping("status", method(this, f -> f.status(null)), features)
+                .withActionMapping("collect", method(this, a -> a.collect(null, null)))
+                .withRulesExecutorBuilder(executorBuilder)
+                .build();
+    }
+
+    public String status(Integer code) {
+        return code % 2 == 0 ? "OK" : "NOK";
+    }
+
+    public void collect(List<Item> context, Item fact) {
+        context.add(fact);
+    }
+
+    public static final class Item {
+        public final Integer code;
+
+        Item(Integer code) {
+            this.code = code;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.profiler;
+
+import com.sabre.oss.yare.core.RulesEngine;
+import com.sabre.oss.yare.core.RulesEngineBuilder;
+import com.sabre.oss.yare.core.Wrapper;
+import com.sabre.oss.yare.core.model.Expression;
+import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.dsl.RuleDsl;
+import com.sabre.oss.yare.engine.executor.DefaultRulesExecutorBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.sabre.oss.yare.dsl.RuleDsl.*;
+import static com.sabre.oss.yare.invoker.java.MethodCallMetadata.method;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PredicateProfilerTest {
+
+    @Test
+    void shouldProfileEveryNodeOfPredicate() {
+        // given
+        RulesEngine engine = createEngine(1);
+        List<Object> facts = Arrays.asList(new Item(1), new Item(2), new Item(3), new Item(4));
+
+        // when
+        List<Item> result = engine.createSession("session").execute(new ArrayList<>(), facts);
+
+        // then
+        assertThat(result).extracting(item -> item.code).containsExactlyInAnyOrder(2, 4);
+        PredicateProfiler profiler = ((Wrapper) engine).unwrap(PredicateProfiler.class);
+        RuleProfile rule = profiler.getRuleProfile("session", "evenAboveOne");
+
+        NodeProfile andNode = rule.getNode();
+        assertThat(andNode.getLabel()).isEqualTo("and");
+        assertThat(andNode.getSampleCount()).isEqualTo(4);
+        assertThat(andNode.getTrueCount()).isEqualTo(2);
+        assertThat(andNode.getSelectivity()).isEqualTo(0.5);
+
+        NodeProfile greaterNode = rule.getNode(0);
+        assertThat(greaterNode.getEstimatedEvaluationCount()).isEqualTo(4);
+        assertThat(greaterNode.getTrueCount()).isEqualTo(3);
+        assertThat(greaterNode.getFalseCount()).isEqualTo(1);
+
+        NodeProfile statusNode = rule.getNode(1, 0);
+        assertThat(statusNode.getLabel()).isEqualTo("status()");
+        assertThat(statusNode.getValueCount()).isEqualTo(statusNode.getSampleCount()).isBetween(3L, 4L);
+
+        NodeProfile referenceNode = rule.getNode(0, 0);
+        assertThat(referenceNode.getLabel()).isEqualTo("${item.code}");
+        assertThat(rule.getNode(0, 1)).isNull();
+    }
+
+    @Test
+    void shouldProfileSharedSubExpressionsAtEachPosition() {
+        // given
+        Rule rule = RuleDsl.ruleBuilder()
+                .name("between")
+                .fact("item", Item.class)
+                .predicate(
+                        and(
+                                greater(value("${item.code}"), value(1)),
+                                less(value("${item.code}"), value(4))
+                        )
+                )
+                .action("collect",
+                        param("context", value("${ctx}")),
+                        param("fact", value("${item}")))
+                .build();
+        Expression.Operator and = (Expression.Operator) rule.getPredicate();
+        assertThat(((Expression.Operator) and.getArguments().get(1)).getArguments().get(0))
+                .isSameAs(((Expression.Operator) and.getArguments().get(0)).getArguments().get(0));
+        RulesEngine engine = createEngine(rule, 1);
+
+        // when
+        List<Item> result = engine.createSession("session").execute(new ArrayList<>(), Arrays.asList(new Item(1), new Item(2), new Item(5)));
+
+        // then
+        assertThat(result).extracting(item -> item.code).containsExactly(2);
+        RuleProfile profile = ((Wrapper) engine).unwrap(PredicateProfiler.class).getRuleProfile("session", "between");
+        assertThat(profile.getNode(0, 0)).isNotSameAs(profile.getNode(1, 0));
+        assertThat(profile.getNode(0, 0).getSampleCount()).isEqualTo(3);
+        assertThat(profile.getNode(1, 0).getSampleCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepProfilesOfRuleSetsApart() {
+        // given
+        RulesEngine engine = createEngine(1);
+
+        // when
+        engine.createSession("first").execute(new ArrayList<>(), Arrays.asList(new Item(2)));
+        engine.createSession("second").execute(new ArrayList<>(), Arrays.asList(new Item(2), new Item(4), new Item(6)));
+
+        // then
+        PredicateProfiler profiler = ((Wrapper) engine).unwrap(PredicateProfiler.class);
+        assertThat(profiler.getRuleProfiles()).extracting(RuleProfile::getUri).containsExactlyInAnyOrder("first", "second");
+        assertThat(profiler.getRuleProfile("first", "evenAboveOne").getNode().getSampleCount()).isEqualTo(1);
+        assertThat(profiler.getRuleProfile("second", "evenAboveOne").getNode().getSampleCount()).isEqualTo(3);
+        assertThat(profiler.toText()).contains("Rule evenAboveOne of first", "Rule evenAboveOne of second");
+    }
+
+    @Test
+    void shouldDumpReportAsTextAndJson() {
+        // given
+        RulesEngine engine = createEngine(1);
+        engine.createSession("session").execute(new ArrayList<>(), Arrays.asList(new Item(2)));
+        PredicateProfiler profiler = ((Wrapper) engine).unwrap(PredicateProfiler.class);
+
+        // when
+        String text = profiler.toText();
+        String json = profiler.toJson();
+
+        // then
+        assertThat(text).contains("Rule evenAboveOne of session", "  and: evaluations~1 samples=1 true=100.0%", "    greater: ", "      ${item.code}: ", "      status(): ");
+        assertThat(json).startsWith("{\"samplingInterval\":1,\"rules\":[{\"uri\":\"session\",\"ruleId\":\"evenAboveOne\",\"nodes\":[{\"label\":\"and\",\"estimatedEvaluations\":1,")
+                .contains("\"label\":\"${item.code}\"", "\"label\":\"status()\"")
+                .endsWith("]}]}]}");
+    }
+
+    @Test
+    void shouldNotProfileByDefault() {
+        // given
+        RulesEngine engine = createEngine(0);
+
+        // when
+        List<Item> result = engine.createSession("session").execute(new ArrayList<>(), Arrays.asList(new Item(2)));
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(((Wrapper) engine).unwrap(PredicateProfiler.class)).isNull();
+    }
+
+    @Test
+    void shouldRejectNonPositiveSamplingInterval() {
+        assertThatThrownBy(() -> new DefaultRulesExecutorBuilder().withProfiling(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Sampling interval must be positive");
+    }
+
+    private RulesEngine createEngine(int samplingInterval) {
+        return createEngine(RuleDsl.ruleBuilder()
+                .name("evenAboveOne")
+                .fact("item", Item.class)
+                .predicate(
+                        and(
+                                greater(
+                                        value("${item.code}"),
+                                        value(1)
+                                ),
+                                equal(
+                                        function("status", String.class, param("code", value("${item.code}"))),
+                                        value("OK")
+                                )
+                        )
+                )
+                .action("collect",
+                        param("context", value("${ctx}")),
+                        param("fact", value("${item}")))
+                .build(), samplingInterval);
+    }
+
+    private RulesEngine createEngine(Rule rule, int samplingInterval) {
+        DefaultRulesExecutorBuilder executorBuilder = new DefaultRulesExecutorBuilder();
+        if (samplingInterval > 0) {
+            executorBuilder.withProfiling(samplingInterval);
+        }
+        return new RulesEngineBuilder()
+                .withRulesRepository(i -> Arrays.asList(rule))
+                .withFunctionMapping("status", method(this, f -> f.status(null)))
+                .withActionMapping("collect", method(this, a -> a.collect(null, null)))
+                .withRulesExecutorBuilder(executorBuilder)
+                .build();
+    }
+
+    public String status(Integer code) {
+        return code % 2 == 0 ? "OK" : "NOK";
+    }
+
+    public void collect(List<Item> context, Item fact) {
+        context.add(fact);
+    }
+
+    public static final class Item {
+        public final Integer code;
+
+        Item(Integer code) {
+            this.code = code;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.profiler;
+
+import com.sabre.oss.yare.core.model.Expression;
+import com.sabre.oss.yare.core.model.ExpressionFactory;
+import com.sabre.oss.yare.engine.executor.runtime.operator.arithmetic.NumericValueProvider;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.engine.executor.runtime.value.QuantifiableValueProvider;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProviderFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProfiledValueProviderTest {
+    private final RuleProfile ruleProfile = new RuleProfile(null, "rule", null, 1);
+
+    @Test
+    void shouldKeepQuantifiableCapabilityOfProfiledProvider() {
+        // given
+        Expression expression = ExpressionFactory.valueOf(null, "${order.items[*].code}");
+        ValueProvider path = new QuantifiableProvider(Arrays.asList("A", "B"));
+
+        // when
+        ValueProvider profiled = ruleProfile.profileValueProvider(expression, () -> path);
+
+        // then
+        assertThat(profiled).isNotSameAs(path).isInstanceOf(QuantifiableValueProvider.class);
+        assertThat(((QuantifiableValueProvider) profiled).anyMatch(null, "B"::equals)).isTrue();
+        assertThat(profiled.unwrap()).isSameAs(path);
+        assertThat(ruleProfile.getNode().getSampleCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepNumericCapabilityOfProfiledProvider() {
+        // given
+        Expression expression = ExpressionFactory.valueOf(null, "${order.count}");
+        NumericValueProvider operand = NumericValueProvider.of(new ValueProvider() {
+            @Override
+            public Object get(PredicateContext context) {
+                return 7;
+            }
+        });
+
+        // when
+        ValueProvider profiled = ruleProfile.profileValueProvider(expression, () -> operand);
+
+        // then
+        assertThat(profiled).isInstanceOf(NumericValueProvider.class);
+        assertThat(NumericValueProvider.of(profiled)).isSameAs(profiled);
+        assertThat(((NumericValueProvider) profiled).getInt(null)).isEqualTo(7);
+        assertThat(profiled.get(null)).isEqualTo(7);
+        assertThat(profiled.unwrap()).isSameAs(operand);
+        assertThat(ruleProfile.getNode().getSampleCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotWrapConstants() {
+        // given
+        ValueProvider constant = ValueProviderFactory.createFromConstant("A");
+
+        // when
+        ValueProvider profiled = ruleProfile.profileValueProvider(ExpressionFactory.valueOf(null, "A"), () -> constant);
+
+        // then
+        assertThat(profiled).isSameAs(constant);
+    }
+
+    private static final class QuantifiableProvider extends ValueProvider implements QuantifiableValueProvider {
+        private final List<Object> values;
+
+        private QuantifiableProvider(List<Object> values) {
+            this.values = values;
+        }
+
+        @Override
+        public Object get(PredicateContext context) {
+            return values;
+        }
+
+        @Override
+        public Boolean anyMatch(PredicateContext context, Predicate<Object> condition) {
+            return values.stream().anyMatch(condition);
+        }
+
+        @Override
+        public Boolean allMatch(PredicateContext context, Predicate<Object> condition) {
+            return values.stream().allMatch(condition);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.invoker.java;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DirectInvokerFactoryTest {
+
+    @Test
+    void shouldCallPublicMethodWithGeneratedInvoker() throws NoSuchMethodException {
+        // given
+        Method method = Functions.class.getMethod("concat", String.class, int.class);
+
+        // when
+        DirectInvoker invoker = DirectInvokerFactory.create(new Functions("x"), method);
+
+        // then
+        assertThat(invoker).isInstanceOf(DirectInvoker.Invoker2.class);
+        assertThat(invoker.invoke2("a", 3)).isEqualTo("xa3");
+        assertThat(invoker.invoke(new Object[]{"b", 4})).isEqualTo("xb4");
+    }
+
+    @Test
+    void shouldCallStaticAndVoidMethodsWithGeneratedInvoker() throws NoSuchMethodException {
+        // given
+        List<Object> collected = new ArrayList<>();
+        DirectInvoker staticInvoker = DirectInvokerFactory.create(null, Functions.class.getMethod("twice", long.class));
+        DirectInvoker voidInvoker = DirectInvokerFactory.create(new Functions("x"), Functions.class.getMethod("collect", List.class, Object.class));
+
+        // when
+        Object twice = staticInvoker.invoke1(21L);
+        Object collectResult = voidInvoker.invoke2(collected, "fact");
+
+        // then
+        assertThat(staticInvoker).isInstanceOf(DirectInvoker.Invoker1.class);
+        assertThat(twice).isEqualTo(42L);
+        assertThat(voidInvoker).isInstanceOf(DirectInvoker.Procedure2.class);
+        assertThat(collectResult).isNull();
+        assertThat(collected).containsExactly("fact");
+    }
+
+    @Test
+    void shouldFallBackToMethodHandleWhenMethodCanNotBeCalledDirectly() throws NoSuchMethodException {
+        // given
+        Method hidden = HiddenFunctions.class.getMethod("negate", boolean.class);
+        Method manyArguments = Functions.class.getMethod("sum", int.class, int.class, int.class, int.class, int.class, int.class, int.class);
+
+        // when
+        DirectInvoker hiddenInvoker = DirectInvokerFactory.create(new HiddenFunctions(), hidden);
+        DirectInvoker manyArgumentsInvoker = DirectInvokerFactory.create(null, manyArguments);
+
+        // then
+        assertThat(hiddenInvoker).isNotInstanceOf(DirectInvoker.Invoker1.class);
+        assertThat(hiddenInvoker.invoke1(true)).isEqualTo(false);
+        assertThat(manyArgumentsInvoker.invoke(new Object[]{1, 2, 3, 4, 5, 6, 7})).isEqualTo(28);
+    }
+
+    @Test
+    void shouldPropagateExceptionsThrownByMethod() throws NoSuchMethodException {
+        // given
+        DirectInvoker invoker = DirectInvokerFactory.create(new Functions("x"), Functions.class.getMethod("fail"));
+
+        // when / then
+        assertThatThrownBy(invoker::invoke0).isInstanceOf(IllegalStateException.class).hasMessage("x");
+    }
+
+    public static class Functions {
+        private final String prefix;
+
+        Functions(String prefix) {
+            this.prefix = prefix;
+        }
+
+        public static long twice(long value) {
+            return 2 * value;
+        }
+
+        public static int sum(int a, int b, int c, int d, int e, int f, int g) {
+            return a + b + c + d + e + f + g;
+        }
+
+        public String concat(String value, int count) {
+            return prefix + value + count;
+        }
+
+        public void collect(List<Object> context, Object fact) {
+            context.add(fact);
+        }
+
+        public Object fail() {
+            throw new IllegalStateException(prefix);
+        }
+    }
+
+    static class HiddenFunctions {
+        public boolean negate(boolean value) {
+            return !value;
+        }
+    }
+}
@@ -98,6 +98,22 @@ public class FunctionCachingResultTest {
         assertThat(testFunction.getExecutionsCount()).isEqualTo(1);
     }
 
+    @Test
+    void shouldCacheFunctionResultWithinSessionExecutionIfRequested() {
+        // given
+        RulesEngine rulesEngine = createRulesEngine(DefaultEngineFeature.SESSION_CACHE_FUNCTION_RESULT);
+        List<Object> testFacts = Arrays.asList(new TestFact(), new TestFact(), new TestFact());
+        RuleSession session = rulesEngine.createSession("any");
+
+        // when
+        List<Object> results = session.execute(new ArrayList<>(), testFacts);
+        session.execute(new ArrayList<>(), testFacts);
+
+        // then
+        assertThat(results.size()).isEqualTo(3);
+        assertThat(testFunction.getExecutionsCount()).isEqualTo(2);
+    }
+
     private RulesEngine createRulesEngine(Feature... features) {
         return new RulesEngineBuilder()
                 .withRulesRepository(i -> rules)
@@ -0,0 +1,231 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.invoker.java.js;
+
+import jdk.nashorn.api.scripting.NashornException;
+import jdk.nashorn.api.scripting.NashornScriptEngineFactory;
+import jdk.nashorn.api.scripting.ScriptObjectMirror;
+
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptEngine;
+import javax.script.ScriptException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.lang.String.format;
+
+/**
+ * JavaScript source compiled once and shared by all functions defined with the same source.
+ * <p>
+ * Scripts are compiled by a single Nashorn engine, which is not thread-safe, while evaluated by each thread
+ * into its own global scope, kept for subsequent calls. Global state of a script is therefore preserved
+ * between calls made by one thread.
+ * <p>
+ * Batches of calls are evaluated by a helper function looping within the script, crossing the boundary
+ * between Java and JavaScript once per batch rather than once per call.
+ * <p>
+ * Compiled scripts are shared only while referenced by functions using them, so scripts of discarded rules
+ * are released together with global scopes of all threads, and so are scopes of terminated threads.
+ */
+final class CompiledJavaScript {
+    private static final ScriptEngine engine = new NashornScriptEngineFactory().getScriptEngine();
+    private static final ConcurrentMap<String, ScriptReference> scripts = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<CompiledJavaScript> releasedScripts = new ReferenceQueue<>();
+    private static final String BATCH_CALLER = "" +
+            "(function (fn, calls) {" +
+            "    var results = new (Java.type('java.lang.Object[]'))(calls.length);" +
+            "    for (var i = 0; i < calls.length; i++) {" +
+            "        results[i] = fn.apply(null, calls[i]);" +
+            "    }" +
+            "    return results;" +
+            "})";
+
+    private final String script;
+    private final Map<Thread, Scope> scopes = Collections.synchronizedMap(new WeakHashMap<>());
+    private volatile Scope lastScope;
+    private volatile CompiledScript compiledScript;
+
+    private CompiledJavaScript(String script) {
+        this.script = script;
+    }
+
+    /**
+     * Returns compiled script of given source, shared by all callers as long as any of them references it.
+     *
+     * @param script JavaScript source
+     * @return compiled script
+     */
+    static CompiledJavaScript of(String script) {
+        removeReleasedScripts();
+        while (true) {
+            ScriptReference reference = scripts.get(script);
+            CompiledJavaScript compiled = reference != null ? reference.get() : null;
+            if (compiled != null) {
+                return compiled;
+            }
+            compiled = new CompiledJavaScript(script);
+            ScriptReference created = new ScriptReference(compiled, releasedScripts);
+            boolean stored = reference == null
+                    ? scripts.putIfAbsent(script, created) == null
+                    : scripts.replace(script, reference, created);
+            if (stored) {
+                return compiled;
+            }
+        }
+    }
+
+    private static void removeReleasedScripts() {
+        Reference<? extends CompiledJavaScript> released;
+        while ((released = releasedScripts.poll()) != null) {
+            ScriptReference reference = (ScriptReference) released;
+            scripts.remove(reference.script, reference);
+        }
+    }
+
+    /**
+     * Calls function defined by the script, evaluating the script first if needed by the current thread.
+     *
+     * @param functionName function name
+     * @param args         arguments
+     * @return function result
+     */
+    Object call(String functionName, Object[] args) {
+        Scope scope = getScope();
+        scope.getFunction(functionName);
+        try {
+            return scope.global.callMember(functionName, args);
+        } catch (NashornException e) {
+            throw new IllegalArgumentException(format("Failed to execute script %s", script), e);
+        }
+    }
+
+    /**
+     * Calls function defined by the script once for each of given argument lists, all within one call
+     * into the script.
+     *
+     * @param functionName function name
+     * @param arguments    arguments of consecutive calls
+     * @return function results, in order of {@code arguments}
+     */
+    List<Object> callBatch(String functionName, List<List<Object>> arguments) {
+        if (arguments.size() == 1) {
+            return Collections.singletonList(call(functionName, arguments.get(0).toArray()));
+        }
+        Scope scope = getScope();
+        ScriptObjectMirror function = scope.getFunction(functionName);
+        Object[][] calls = new Object[arguments.size()][];
+        for (int i = 0; i < calls.length; i++) {
+            calls[i] = arguments.get(i).toArray();
+        }
+        try {
+            return Arrays.asList((Object[]) scope.batchCaller.call(null, function, calls));
+        } catch (NashornException e) {
+            throw new IllegalArgumentException(format("Failed to execute script %s", script), e);
+        }
+    }
+
+    private Scope getScope() {
+        Thread thread = Thread.currentThread();
+        Scope scope = lastScope;
+        if (scope != null && scope.owner.get() == thread) {
+            return scope;
+        }
+        scope = scopes.get(thread);
+        if (scope == null) {
+            CompiledScript compiled = getCompiledScript();
+            ScriptObjectMirror global;
+            ScriptObjectMirror batchCaller;
+            try {
+                synchronized (engine) {
+                    global = (ScriptObjectMirror) engine.createBindings();
+                    batchCaller = (ScriptObjectMirror) engine.eval(BATCH_CALLER, global);
+                }
+                compiled.eval(global);
+            } catch (ScriptException | NashornException e) {
+                throw new IllegalArgumentException(format("Failed to execute script %s", script), e);
+            }
+            scope = new Scope(thread, global, batchCaller);
+            scopes.put(thread, scope);
+        }
+        lastScope = scope;
+        return scope;
+    }
+
+    private CompiledScript getCompiledScript() {
+        CompiledScript compiled = compiledScript;
+        if (compiled == null) {
+            synchronized (engine) {
+                compiled = compiledScript;
+                if (compiled == null) {
+                    try {
+                        compiled = ((Compilable) engine).compile(script);
+                    } catch (ScriptException e) {
+                        throw new IllegalArgumentException(format("Failed to execute script %s", script), e);
+                    }
+                    compiledScript = compiled;
+                }
+            }
+        }
+        return compiled;
+    }
+
+    private static final class ScriptReference extends WeakReference<CompiledJavaScript> {
+        private final String script;
+
+        private ScriptReference(CompiledJavaScript compiled, ReferenceQueue<CompiledJavaScript> queue) {
+            super(compiled, queue);
+            this.script = compiled.script;
+        }
+    }
+
+    private final class Scope {
+        private final WeakReference<Thread> owner;
+        private final ScriptObjectMirror global;
+        private final ScriptObjectMirror batchCaller;
+
+        private Scope(Thread owner, ScriptObjectMirror global, ScriptObjectMirror batchCaller) {
+            this.owner = new WeakReference<>(owner);
+            this.global = global;
+            this.batchCaller = batchCaller;
+        }
+
+        private ScriptObjectMirror getFunction(String functionName) {
+            Object function = global.getMember(functionName);
+            if (!(function instanceof ScriptObjectMirror) || !((ScriptObjectMirror) function).isFunction()) {
+                throw new IllegalArgumentException(format("No function %s in script %s", functionName, script));
+            }
+            return (ScriptObjectMirror) function;
+        }
+    }
+}
@@ -26,16 +26,10 @@ package com.sabre.oss.yare.invoker.java.js;
 
 import com.sabre.oss.yare.core.call.*;
 import com.sabre.oss.yare.core.invocation.Invocation;
-import jdk.nashorn.api.scripting.NashornScriptEngineFactory;
 
-import javax.script.Invocable;
-import javax.script.ScriptEngine;
-import javax.script.ScriptException;
-import java.util.Objects;
+import java.util.List;
 import java.util.function.Supplier;
 
-import static java.lang.String.format;
-
 public class JavaScriptCallInvocationFactory implements InvocationFactory {
     private final JavaScriptCallMetadata callMetadata;
 
@@ -48,34 +42,25 @@ public class JavaScriptCallInvocationFactory implements InvocationFactory {
         return new JavaScriptBasedInvocation<>(invocation, resolver.get(), callMetadata);
     }
 
-    private static class JavaScriptBasedInvocation<R> extends ProcessingInvocation<R> {
-        private static final NashornScriptEngineFactory scriptEngineManager = new NashornScriptEngineFactory();
-
-        private final JavaScriptCallMetadata callMetadata;
+    private static class JavaScriptBasedInvocation<R> extends ProcessingInvocation<R> implements BatchCallable {
+        private final String functionName;
+        private final CompiledJavaScript script;
 
         JavaScriptBasedInvocation(Argument.Invocation invocation, ArgumentValueResolver argumentValueResolver, JavaScriptCallMetadata callMetadata) {
             super(invocation, argumentValueResolver);
-            this.callMetadata = Objects.requireNonNull(callMetadata);
+            this.functionName = callMetadata.getFunctionName();
+            this.script = CompiledJavaScript.of(callMetadata.getScript());
         }
 
         @Override
         @SuppressWarnings("unchecked")
         public R call(ProcessingContext processingContext, Object[] args) {
-            try {
-                ScriptEngine scriptEngine = getScriptEngine();
-                scriptEngine.eval(callMetadata.getScript());
-                Invocable invocable = (Invocable) scriptEngine;
-                return (R) invocable.invokeFunction(callMetadata.getFunctionName(), args);
-            } catch (ScriptException e) {
-                throw new IllegalArgumentException(format("Failed to execute script %s", callMetadata.getScript()), e);
-            } catch (NoSuchMethodException e) {
-                throw new IllegalArgumentException(format("No function %s in script %s",
-                        callMetadata.getFunctionName(), callMetadata.getScript()), e);
-            }
+            return (R) script.call(functionName, args);
         }
 
-        private ScriptEngine getScriptEngine() {
-            return scriptEngineManager.getScriptEngine();
+        @Override
+        public List<Object> callBatch(List<List<Object>> arguments) {
+            return script.callBatch(functionName, arguments);
         }
     }
 }
@@ -0,0 +1,146 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.invoker.java.js;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompiledJavaScriptTest {
+
+    @Test
+    void shouldShareCompiledScriptsOfSameSource() {
+        // given
+        String script = "function twice(value) { return value * 2; }";
+
+        // when
+        CompiledJavaScript first = CompiledJavaScript.of(script);
+        CompiledJavaScript second = CompiledJavaScript.of(new StringBuilder(script).toString());
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.call("twice", new Object[]{21})).isEqualTo(42.0);
+    }
+
+    @Test
+    void shouldReleaseScriptsNoLongerReferenced() throws InterruptedException {
+        // given
+        CompiledJavaScript script = CompiledJavaScript.of("function released() { return 'released'; }");
+        script.call("released", new Object[0]);
+        WeakReference<CompiledJavaScript> reference = new WeakReference<>(script);
+
+        // when
+        script = null;
+        for (int i = 0; i < 100 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        // then
+        assertThat(reference.get()).isNull();
+    }
+
+    @Test
+    void shouldEvaluateScriptOncePerThread() throws Exception {
+        // given
+        CompiledJavaScript script = CompiledJavaScript.of("var calls = 0; function count() { return ++calls; }");
+
+        // when
+        script.call("count", new Object[0]);
+        Object inCurrentThread = script.call("count", new Object[0]);
+        Object inOtherThread = CompletableFuture.supplyAsync(() -> script.call("count", new Object[0])).get();
+
+        // then
+        assertThat(inCurrentThread).isEqualTo(2.0);
+        assertThat(inOtherThread).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldCallFunctionForEachArgumentsOfBatch() {
+        // given
+        CompiledJavaScript script = CompiledJavaScript.of("function concat(first, second) { return first + second; }");
+        List<List<Object>> arguments = asList(asList("a", "1"), asList("b", "2"), asList("c", "3"));
+
+        // when
+        List<Object> results = script.callBatch("concat", arguments);
+
+        // then
+        assertThat(results).containsExactly("a1", "b2", "c3");
+    }
+
+    @Test
+    void shouldReturnSameResultsFromBatchAsFromSingleCalls() {
+        // given
+        CompiledJavaScript script = CompiledJavaScript.of("function score(value, factor) { return value.length * factor; }");
+
+        // when
+        List<Object> batch = script.callBatch("score", asList(asList("abc", 2), asList("ab", 0.5)));
+        List<Object> single = script.callBatch("score", singletonList(asList("abc", 2)));
+
+        // then
+        assertThat(batch).containsExactly(script.call("score", new Object[]{"abc", 2}), script.call("score", new Object[]{"ab", 0.5}));
+        assertThat(single).containsExactly(batch.get(0));
+    }
+
+    @Test
+    void shouldFailBatchWhenFunctionIsNotDefined() {
+        // given
+        CompiledJavaScript script = CompiledJavaScript.of("var notFunction = 2;");
+
+        // when / then
+        assertThatThrownBy(() -> script.callBatch("notFunction", asList(asList(), asList())))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("No function notFunction in script");
+    }
+
+    @Test
+    void shouldFailWhenFunctionIsNotDefined() {
+        // given
+        CompiledJavaScript script = CompiledJavaScript.of("var notFunction = 1;");
+
+        // when / then
+        assertThatThrownBy(() -> script.call("notFunction", new Object[0]))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("No function notFunction in script");
+    }
+
+    @Test
+    void shouldFailWhenScriptIsInvalid() {
+        // given
+        CompiledJavaScript script = CompiledJavaScript.of("function broken( {");
+
+        // when / then
+        assertThatThrownBy(() -> script.call("broken", new Object[0]))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Failed to execute script");
+    }
+}
@@ -52,11 +52,16 @@ class JavaScriptBasedFunctionTest {
                 "function collect(context, ruleName) {" +
                 "   context.add(ruleName);" +
                 "}" +
+                "var upperCaseCalls = 0;" +
                 "function upperCase(value) {" +
+                "   upperCaseCalls++;" +
                 "   return value.toUpperCase();" +
                 '}' +
                 "function concat(str1, str2) {" +
                 "   return str1 + str2;" +
+                "}" +
+                "function getUpperCaseCalls() {" +
+                "   return upperCaseCalls;" +
                 "}";
     }
 
@@ -236,6 +241,40 @@ class JavaScriptBasedFunctionTest {
         assertThat(results).containsExactly(RULE_NAME);
     }
 
+    @Test
+    void shouldCallFunctionOnceForEachDistinctArgumentsOfManyFacts() {
+        // given
+        List<Object> facts = asList(
+                new FactOne("the_value"),
+                new FactOne("other_value"),
+                new FactOne("the_value"),
+                new FactOne("the_value"));
+        Rule rule = RuleDsl.ruleBuilder()
+                .name(RULE_NAME)
+                .fact("factOne", FactOne.class)
+                .attribute("ruleType", "anyType")
+                .predicate(
+                        match(
+                                function("upperCase", String.class,
+                                        param("value", value("${factOne.aString}"))),
+                                value("THE_VALUE")
+                        ))
+                .action("collect",
+                        param("context", value("${ctx}")),
+                        param("ruleName", value(RULE_NAME)))
+                .build();
+        RuleSession ruleSession = createRuleSession(rule);
+        CompiledJavaScript compiledScript = CompiledJavaScript.of(script);
+        Object callsBefore = compiledScript.call("getUpperCaseCalls", new Object[0]);
+
+        // when
+        List<Object> results = ruleSession.execute(new ArrayList<>(), facts);
+
+        // then
+        assertThat(results).containsExactly(RULE_NAME, RULE_NAME, RULE_NAME);
+        assertThat(((Number) compiledScript.call("getUpperCaseCalls", new Object[0])).intValue() - ((Number) callsBefore).intValue()).isEqualTo(2);
+    }
+
     private RuleSession createRuleSession(Rule rule) {
         RulesEngine rulesEngine = new RulesEngineBuilder()
                 .withRulesRepository(i -> singletonList(rule))
@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.management;
+
+import com.sabre.oss.yare.core.management.RuleSetInfo;
+import com.sabre.oss.yare.engine.FunctionCacheStats;
+
+import java.util.Map;
+
+/**
+ * JMX management interface of a rules engine, exposing its rule set cache and function result caches.
+ */
+public interface RulesEngineMXBean {
+
+    /**
+     * Return URIs of rule sets currently loaded.
+     *
+     * @return rule set URIs
+     */
+    String[] getRuleSetUris();
+
+    /**
+     * Return loaded rule sets with their rule counts, compile times and weights.
+     *
+     * @return rule set information per URI
+     */
+    Map<String, RuleSetInfo> getRuleSets();
+
+    long getRulesCacheWeight();
+
+    long getRulesCacheMaximumWeight();
+
+    void setRulesCacheMaximumWeight(long maximumWeight);
+
+    long getRulesCacheEvictionCount();
+
+    /**
+     * Return statistics of function result caches, empty when the engine caches results in a custom cache.
+     *
+     * @return statistics per function name
+     */
+    Map<String, FunctionCacheStats> getFunctionCaches();
+
+    boolean evictRuleSet(String uri);
+
+    boolean refreshRuleSet(String uri);
+
+    boolean preloadRuleSet(String uri);
+
+    boolean clearRuleSets();
+
+    void invalidateFunctionCache(String functionName);
+
+    void invalidateFunctionCaches();
+
+    void setFunctionCacheMaximumSize(String functionName, long maximumSize);
+}
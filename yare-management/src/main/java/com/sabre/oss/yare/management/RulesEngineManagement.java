@@ -0,0 +1,189 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.management;
+
+import com.sabre.oss.yare.core.RulesEngine;
+import com.sabre.oss.yare.core.Wrapper;
+import com.sabre.oss.yare.core.management.RuleSetCache;
+import com.sabre.oss.yare.core.management.RuleSetInfo;
+import com.sabre.oss.yare.engine.FunctionCacheStats;
+import com.sabre.oss.yare.engine.ManagedCallInvocationResultCache;
+
+import javax.management.*;
+import java.util.Collections;
+import java.util.Hashtable;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@code RulesEngineManagement} allows inspecting and managing caches of a running rules engine, either directly
+ * or through JMX once registered with {@link #register(MBeanServer, String)}.
+ * <p>
+ * Rule sets can be evicted, refreshed or preloaded per URI and both rule set cache and function result caches
+ * can be resized without restarting the engine.
+ */
+public class RulesEngineManagement implements RulesEngineMXBean {
+    public static final String DOMAIN = "com.sabre.oss.yare";
+
+    private final RuleSetCache ruleSetCache;
+    private final ManagedCallInvocationResultCache functionCache;
+
+    public RulesEngineManagement(RuleSetCache ruleSetCache, ManagedCallInvocationResultCache functionCache) {
+        this.ruleSetCache = Objects.requireNonNull(ruleSetCache);
+        this.functionCache = functionCache;
+    }
+
+    /**
+     * Create management of the given {@code rulesEngine}, which has to expose {@link RuleSetCache}
+     * through {@link Wrapper#unwrap(Class)}.
+     *
+     * @param rulesEngine rules engine
+     * @return management of the engine
+     */
+    public static RulesEngineManagement of(RulesEngine rulesEngine) {
+        if (!(rulesEngine instanceof Wrapper)) {
+            throw new IllegalArgumentException("Rules engine does not expose its internals");
+        }
+        Wrapper wrapper = (Wrapper) rulesEngine;
+        RuleSetCache ruleSetCache = wrapper.unwrap(RuleSetCache.class);
+        if (ruleSetCache == null) {
+            throw new IllegalArgumentException("Rules engine does not expose rule set cache");
+        }
+        return new RulesEngineManagement(ruleSetCache, wrapper.unwrap(ManagedCallInvocationResultCache.class));
+    }
+
+    /**
+     * Return name under which management of the engine identified by {@code engineName} is registered.
+     *
+     * @param engineName name of the engine
+     * @return object name
+     */
+    public static ObjectName objectNameOf(String engineName) {
+        Hashtable<String, String> properties = new Hashtable<>();
+        properties.put("type", "RulesEngine");
+        properties.put("name", ObjectName.quote(engineName));
+        try {
+            return new ObjectName(DOMAIN, properties);
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalArgumentException(String.format("Invalid engine name '%s'", engineName), e);
+        }
+    }
+
+    /**
+     * Register this management as MXBean of the engine identified by {@code engineName}.
+     *
+     * @param server     MBean server
+     * @param engineName name of the engine
+     * @return name the MXBean was registered under
+     */
+    public ObjectName register(MBeanServer server, String engineName) {
+        ObjectName name = objectNameOf(engineName);
+        try {
+            server.registerMBean(this, name);
+        } catch (InstanceAlreadyExistsException | MBeanRegistrationException | NotCompliantMBeanException e) {
+            throw new IllegalStateException(String.format("Unable to register management of engine '%s'", engineName), e);
+        }
+        return name;
+    }
+
+    @Override
+    public String[] getRuleSetUris() {
+        return ruleSetCache.getRuleSets().keySet().stream()
+                .sorted()
+                .toArray(String[]::new);
+    }
+
+    @Override
+    public Map<String, RuleSetInfo> getRuleSets() {
+        return ruleSetCache.getRuleSets();
+    }
+
+    @Override
+    public long getRulesCacheWeight() {
+        return ruleSetCache.getWeight();
+    }
+
+    @Override
+    public long getRulesCacheMaximumWeight() {
+        return ruleSetCache.getMaximumWeight();
+    }
+
+    @Override
+    public void setRulesCacheMaximumWeight(long maximumWeight) {
+        ruleSetCache.setMaximumWeight(maximumWeight);
+    }
+
+    @Override
+    public long getRulesCacheEvictionCount() {
+        return ruleSetCache.getEvictionCount();
+    }
+
+    @Override
+    public Map<String, FunctionCacheStats> getFunctionCaches() {
+        return functionCache != null ? functionCache.getStats() : Collections.emptyMap();
+    }
+
+    @Override
+    public boolean evictRuleSet(String uri) {
+        return ruleSetCache.evict(uri);
+    }
+
+    @Override
+    public boolean refreshRuleSet(String uri) {
+        return ruleSetCache.refresh(uri);
+    }
+
+    @Override
+    public boolean preloadRuleSet(String uri) {
+        return ruleSetCache.preload(uri);
+    }
+
+    @Override
+    public boolean clearRuleSets() {
+        return ruleSetCache.clear();
+    }
+
+    @Override
+    public void invalidateFunctionCache(String functionName) {
+        requireFunctionCache().invalidate(functionName);
+    }
+
+    @Override
+    public void invalidateFunctionCaches() {
+        requireFunctionCache().invalidateAll();
+    }
+
+    @Override
+    public void setFunctionCacheMaximumSize(String functionName, long maximumSize) {
+        requireFunctionCache().setMaximumSize(functionName, maximumSize);
+    }
+
+    private ManagedCallInvocationResultCache requireFunctionCache() {
+        if (functionCache == null) {
+            throw new UnsupportedOperationException("Function result cache of the engine can not be managed");
+        }
+        return functionCache;
+    }
+}
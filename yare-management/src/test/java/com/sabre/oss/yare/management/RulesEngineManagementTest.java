@@ -0,0 +1,179 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.management;
+
+import com.sabre.oss.yare.core.RulesEngine;
+import com.sabre.oss.yare.core.RulesEngineBuilder;
+import com.sabre.oss.yare.core.management.RuleSetInfo;
+import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.dsl.RuleDsl;
+import com.sabre.oss.yare.engine.FunctionCacheStats;
+import com.sabre.oss.yare.engine.executor.DefaultRulesExecutorBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.sabre.oss.yare.dsl.RuleDsl.*;
+import static com.sabre.oss.yare.invoker.java.MethodCallMetadata.method;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RulesEngineManagementTest {
+    private AtomicInteger loads;
+    private RulesEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        loads = new AtomicInteger();
+        Rule rule = RuleDsl.ruleBuilder()
+                .name("even")
+                .fact("item", Item.class)
+                .predicate(
+                        equal(
+                                function("parity", String.class, param("code", value("${item.code}"))),
+                                value("even")
+                        )
+                )
+                .action("collect",
+                        param("context", value("${ctx}")),
+                        param("fact", value("${item}")))
+                .build();
+        engine = new RulesEngineBuilder()
+                .withRulesRepository(uri -> {
+                    loads.incrementAndGet();
+                    return "empty".equals(uri) ? Collections.emptyList() : Collections.singletonList(rule);
+                })
+                .withFunctionMapping("parity", method(this, f -> f.parity(null)))
+                .withActionMapping("collect", method(this, a -> a.collect(null, null)))
+                .withRulesExecutorBuilder(new DefaultRulesExecutorBuilder())
+                .build();
+    }
+
+    @Test
+    void shouldExposeLoadedRuleSetsAndFunctionCaches() {
+        // given
+        RulesEngineManagement management = RulesEngineManagement.of(engine);
+
+        // when
+        management.preloadRuleSet("empty");
+        engine.createSession("items").execute(new ArrayList<>(), Arrays.asList(new Item(1), new Item(2), new Item(2)));
+
+        // then
+        assertThat(management.getRuleSetUris()).containsExactly("empty", "items");
+        RuleSetInfo items = management.getRuleSets().get("items");
+        assertThat(items.getRuleCount()).isEqualTo(1);
+        assertThat(items.getWeight()).isPositive();
+        assertThat(management.getRulesCacheWeight()).isEqualTo(items.getWeight());
+        FunctionCacheStats parity = management.getFunctionCaches().get("parity");
+        assertThat(parity.getHitCount()).isEqualTo(1);
+        assertThat(parity.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEvictRefreshAndPreloadRuleSets() {
+        // given
+        RulesEngineManagement management = RulesEngineManagement.of(engine);
+        management.preloadRuleSet("items");
+
+        // when
+        management.preloadRuleSet("items");
+        management.refreshRuleSet("items");
+        management.evictRuleSet("items");
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(management.getRuleSetUris()).isEmpty();
+    }
+
+    @Test
+    void shouldResizeCaches() {
+        // given
+        RulesEngineManagement management = RulesEngineManagement.of(engine);
+        engine.createSession("items").execute(new ArrayList<>(), Arrays.asList(new Item(1), new Item(2), new Item(3)));
+        management.preloadRuleSet("empty");
+
+        // when
+        management.setFunctionCacheMaximumSize("parity", 1);
+        management.setRulesCacheMaximumWeight(1);
+
+        // then
+        assertThat(management.getFunctionCaches().get("parity").getSize()).isEqualTo(1);
+        assertThat(management.getRulesCacheMaximumWeight()).isEqualTo(1);
+        assertThat(management.getRulesCacheEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldManageEngineThroughJmx() throws Exception {
+        // given
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        ObjectName name = RulesEngineManagement.of(engine).register(server, "test engine");
+
+        // when
+        server.invoke(name, "preloadRuleSet", new Object[]{"items"}, new String[]{String.class.getName()});
+        server.setAttribute(name, new Attribute("RulesCacheMaximumWeight", 100L));
+
+        // then
+        assertThat(name).isEqualTo(new ObjectName("com.sabre.oss.yare:type=RulesEngine,name=\"test engine\""));
+        assertThat((String[]) server.getAttribute(name, "RuleSetUris")).containsExactly("items");
+        assertThat(server.getAttribute(name, "RulesCacheMaximumWeight")).isEqualTo(100L);
+        TabularData ruleSets = (TabularData) server.getAttribute(name, "RuleSets");
+        CompositeData items = (CompositeData) ruleSets.get(new Object[]{"items"}).get("value");
+        assertThat(items.get("ruleCount")).isEqualTo(1);
+        assertThat(items.get("uri")).isEqualTo("items");
+    }
+
+    @Test
+    void shouldRejectEngineNotExposingRuleSetCache() {
+        assertThatThrownBy(() -> RulesEngineManagement.of(uri -> null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    public String parity(Integer code) {
+        return code % 2 == 0 ? "even" : "odd";
+    }
+
+    public void collect(List<Item> context, Item fact) {
+        context.add(fact);
+    }
+
+    public static final class Item {
+        public final Integer code;
+
+        Item(Integer code) {
+            this.code = code;
+        }
+    }
+}
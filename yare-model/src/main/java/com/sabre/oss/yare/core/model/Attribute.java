@@ -28,6 +28,8 @@ import java.lang.reflect.Type;
 import java.util.Objects;
 
 public final class Attribute {
+    private static final Interner<Attribute> INTERNER = new Interner<>();
+
     private final String name;
     private final Type type;
     private final Object value;
@@ -38,6 +40,20 @@ public final class Attribute {
         this.value = value;
     }
 
+    /**
+     * Return {@link Attribute} instance for given name, type and value. Attributes with immutable values
+     * are interned, so equal attributes are shared among all rules defining them.
+     *
+     * @param name  attribute name
+     * @param type  attribute type
+     * @param value attribute value
+     * @return attribute instance
+     */
+    public static Attribute of(String name, Type type, Object value) {
+        Attribute attribute = new Attribute(name, type, value);
+        return Interner.isImmutable(value) ? INTERNER.intern(attribute) : attribute;
+    }
+
     public String getName() {
         return name;
     }
@@ -0,0 +1,177 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.core.model;
+
+import java.util.*;
+
+/**
+ * Immutable, array-backed set of {@link Attribute}s supporting constant time lookup by attribute name.
+ * <p>
+ * Iteration order follows the order of attributes passed during construction. When more than one attribute
+ * share the same name, lookup by name returns the first of them.
+ */
+final class AttributeSet extends AbstractSet<Attribute> {
+    private static final AttributeSet EMPTY = new AttributeSet(new Attribute[0]);
+    private static final int INDEX_THRESHOLD = 8;
+
+    private final Attribute[] attributes;
+    private final int[] index;
+    private Map<String, Object> values;
+
+    private AttributeSet(Attribute[] attributes) {
+        this.attributes = attributes;
+        this.index = attributes.length > INDEX_THRESHOLD ? createIndex(attributes) : null;
+    }
+
+    static AttributeSet of(Collection<Attribute> attributes) {
+        if (attributes instanceof AttributeSet) {
+            return (AttributeSet) attributes;
+        }
+        if (attributes.isEmpty()) {
+            return EMPTY;
+        }
+        Set<Attribute> unique = attributes instanceof Set ? (Set<Attribute>) attributes : new LinkedHashSet<>(attributes);
+        return new AttributeSet(unique.toArray(new Attribute[0]));
+    }
+
+    Attribute get(String name) {
+        if (index == null) {
+            for (Attribute attribute : attributes) {
+                if (Objects.equals(attribute.getName(), name)) {
+                    return attribute;
+                }
+            }
+            return null;
+        }
+        int mask = index.length - 1;
+        for (int slot = hash(name) & mask; index[slot] != 0; slot = (slot + 1) & mask) {
+            Attribute attribute = attributes[index[slot] - 1];
+            if (Objects.equals(attribute.getName(), name)) {
+                return attribute;
+            }
+        }
+        return null;
+    }
+
+    Map<String, Object> asValueMap() {
+        Map<String, Object> map = values;
+        if (map == null) {
+            map = new ValueMap();
+            values = map;
+        }
+        return map;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Attribute)) {
+            return false;
+        }
+        Attribute attribute = (Attribute) o;
+        Attribute candidate = get(attribute.getName());
+        if (attribute.equals(candidate)) {
+            return true;
+        }
+        return candidate != null && Arrays.asList(attributes).contains(attribute);
+    }
+
+    @Override
+    public Iterator<Attribute> iterator() {
+        return Collections.unmodifiableList(Arrays.asList(attributes)).iterator();
+    }
+
+    @Override
+    public int size() {
+        return attributes.length;
+    }
+
+    private static int[] createIndex(Attribute[] attributes) {
+        int capacity = Integer.highestOneBit(attributes.length * 2 - 1) << 1;
+        int[] index = new int[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < attributes.length; i++) {
+            String name = attributes[i].getName();
+            int slot = hash(name) & mask;
+            boolean duplicated = false;
+            while (index[slot] != 0) {
+                if (Objects.equals(attributes[index[slot] - 1].getName(), name)) {
+                    duplicated = true;
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (!duplicated) {
+                index[slot] = i + 1;
+            }
+        }
+        return index;
+    }
+
+    private static int hash(String name) {
+        int hash = Objects.hashCode(name);
+        return hash ^ (hash >>> 16);
+    }
+
+    private final class ValueMap extends AbstractMap<String, Object> {
+
+        @Override
+        public Object get(Object key) {
+            Attribute attribute = key instanceof String ? AttributeSet.this.get((String) key) : null;
+            return attribute != null ? attribute.getValue() : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof String && AttributeSet.this.get((String) key) != null;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<Entry<String, Object>>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    Iterator<Attribute> iterator = AttributeSet.this.iterator();
+                    return new Iterator<Entry<String, Object>>() {
+                        @Override
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            Attribute attribute = iterator.next();
+                            return new SimpleImmutableEntry<>(attribute.getName(), attribute.getValue());
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return attributes.length;
+                }
+            };
+        }
+    }
+}
@@ -25,7 +25,11 @@
 package com.sabre.oss.yare.core.model;
 
 import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public interface Expression {
     /**
@@ -93,6 +97,34 @@ public interface Expression {
     }
 
     interface Operator extends Invocation {
+        String ADD = "add";
+        String SUBTRACT = "subtract";
+        String MULTIPLY = "multiply";
+        String DIVIDE = "divide";
+        String MIN = "min";
+        String MAX = "max";
+        String CONCAT = "concat";
+        String UPPER_CASE = "upper-case";
+        String LOWER_CASE = "lower-case";
+        String LENGTH = "length";
+
+        /**
+         * Names of built-in operators computing values of their operands (arithmetic, string and temporal ones),
+         * used as operands rather than predicates.
+         */
+        Set<String> VALUE_OPERATORS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+                ADD, SUBTRACT, MULTIPLY, DIVIDE, MIN, MAX, CONCAT, UPPER_CASE, LOWER_CASE, LENGTH)));
+
+        /**
+         * Returns type of operator of given name. Type of value operators depends on their operands
+         * and is therefore {@link #UNDEFINED}, other operators are predicates.
+         *
+         * @param call operator name
+         * @return operator type
+         */
+        static Type typeOf(String call) {
+            return VALUE_OPERATORS.contains(call) ? UNDEFINED : Boolean.class;
+        }
     }
 
     interface Function extends Invocation {
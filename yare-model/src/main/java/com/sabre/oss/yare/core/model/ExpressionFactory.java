@@ -32,44 +32,81 @@ import java.util.*;
 import static java.util.Arrays.asList;
 import static java.util.Objects.requireNonNull;
 
+/**
+ * Factory of immutable {@link Expression} instances.
+ * <p>
+ * Expressions consisting only of immutable values are hash-consed: equal sub-trees created for different rules
+ * are represented by the same instance.
+ */
 public final class ExpressionFactory {
+    private static final Interner<InternalOperand<?>> EXPRESSIONS = new Interner<>();
+    private static final Interner<Type> TYPES = new Interner<>();
+
     private ExpressionFactory() {
     }
 
     public static Expression.Action actionOf(String name, String call, Expression... arguments) {
-        return new Action(name, call, asList(arguments));
+        return intern(new Action(name, call, asList(arguments)));
     }
 
     public static Expression.Action actionOf(String name, String call, List<Expression> arguments) {
-        return new Action(name, call, arguments);
+        return intern(new Action(name, call, arguments));
     }
 
     public static Expression.Function functionOf(String name, Type returnType, String call, Expression... arguments) {
-        return new Function(name, returnType, call, asList(arguments));
+        return intern(new Function(name, returnType, call, asList(arguments)));
     }
 
     public static Expression.Function functionOf(String name, Type returnType, String call, List<Expression> arguments) {
-        return new Function(name, returnType, call, arguments);
+        return intern(new Function(name, returnType, call, arguments));
     }
 
     public static Expression.Operator operatorOf(String name, Type returnType, String call, Expression... arguments) {
-        return new Operator(name, returnType, call, asList(arguments));
+        return intern(new Operator(name, returnType, call, asList(arguments)));
     }
 
     public static Expression.Operator operatorOf(String name, Type returnType, String call, List<Expression> arguments) {
-        return new Operator(name, returnType, call, arguments);
+        return intern(new Operator(name, returnType, call, arguments));
     }
 
     public static Expression.Value valueOf(String name, Object nonNullValue) {
-        return new ExpressionFactory.Value(name, determineType(nonNullValue), nonNullValue);
+        return intern(new ExpressionFactory.Value(name, determineType(nonNullValue), nonNullValue));
     }
 
     public static Expression.Value valueOf(String name, Type type, Object value) {
-        return new ExpressionFactory.Value(name, type, value);
+        return intern(new ExpressionFactory.Value(name, type, value));
     }
 
     public static Expression.Values valuesOf(String name, Type type, List<Expression> expressions) {
-        return new ExpressionFactory.Values(name, type, expressions);
+        return intern(new ExpressionFactory.Values(name, type, expressions));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends InternalOperand<?>> T intern(T expression) {
+        return expression.internable
+                ? (T) EXPRESSIONS.intern(expression)
+                : expression;
+    }
+
+    private static boolean isInternable(List<Expression> expressions) {
+        if (expressions == null) {
+            return true;
+        }
+        for (Expression expression : expressions) {
+            if (!(expression instanceof InternalOperand) || !((InternalOperand<?>) expression).internable) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<Expression> copyOf(List<Expression> expressions) {
+        if (expressions == null) {
+            return null;
+        }
+        return expressions.isEmpty()
+                ? Collections.emptyList()
+                : Collections.unmodifiableList(asList(expressions.toArray(new Expression[0])));
     }
 
     private static Type determineType(Object value) {
@@ -83,7 +120,7 @@ public final class ExpressionFactory {
             if (!((Collection) value).isEmpty()) {
                 Object item = ((Collection) value).iterator().next();
                 Class<?> itemClazz = item != null ? item.getClass() : Object.class;
-                return new InternalParameterizedType(null, clazz, itemClazz);
+                return TYPES.intern(new InternalParameterizedType(null, clazz, itemClazz));
             }
         }
         return clazz;
@@ -93,12 +130,14 @@ public final class ExpressionFactory {
         protected final String name;
         protected final Type type;
         protected final V value;
+        final boolean internable;
         private final int hashCode;
 
-        InternalOperand(String name, Type type, V value) {
+        InternalOperand(String name, Type type, V value, boolean internable) {
             this.name = name;
             this.type = requireNonNull(type);
             this.value = value;
+            this.internable = internable;
             this.hashCode = Objects.hash(name, type, value);
         }
 
@@ -138,9 +177,9 @@ public final class ExpressionFactory {
         private final int hashCode;
 
         BaseInvocation(String name, Type type, String value, List<Expression> arguments) {
-            super(name, type, value);
-            this.arguments = arguments == null ? null : Collections.unmodifiableList(arguments);
-            this.hashCode = Objects.hash(super.hashCode(), arguments);
+            super(name, type, value, isInternable(arguments));
+            this.arguments = copyOf(arguments);
+            this.hashCode = Objects.hash(super.hashCode(), this.arguments);
         }
 
         public String getCall() {
@@ -210,7 +249,7 @@ public final class ExpressionFactory {
     static final class Value extends InternalOperand<Object> implements Expression.Value {
 
         Value(String name, Type type, Object value) {
-            super(name, type, value);
+            super(name, type, value, Interner.isImmutable(value));
         }
 
         @Override
@@ -227,7 +266,7 @@ public final class ExpressionFactory {
     static final class Values extends InternalOperand<List<Expression>> implements Expression.Values {
 
         Values(String name, Type type, List<Expression> expressions) {
-            super(name, type, expressions == null ? null : Collections.unmodifiableList(expressions));
+            super(name, type, copyOf(expressions), isInternable(expressions));
         }
 
         @Override
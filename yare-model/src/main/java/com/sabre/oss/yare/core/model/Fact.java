@@ -28,6 +28,8 @@ import java.lang.reflect.Type;
 import java.util.Objects;
 
 public final class Fact {
+    private static final Interner<Fact> INTERNER = new Interner<>();
+
     private final String identifier;
     private final Type type;
 
@@ -36,6 +38,18 @@ public final class Fact {
         this.type = type;
     }
 
+    /**
+     * Return canonical {@link Fact} instance for given identifier and type. Equal facts are shared
+     * among all rules referring to them.
+     *
+     * @param identifier fact identifier
+     * @param type       fact type
+     * @return fact instance
+     */
+    public static Fact of(String identifier, Type type) {
+        return INTERNER.intern(new Fact(identifier, type));
+    }
+
     public String getIdentifier() {
         return identifier;
     }
@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.core.model;
+
+import java.lang.ref.WeakReference;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * {@link Interner} keeps canonical instances of immutable model objects, so equal attributes, facts
+ * and expression sub-trees shared by many rules occupy memory only once.
+ * <p>
+ * Canonical instances are weakly referenced and disappear together with the last rule using them.
+ *
+ * @param <T> type of interned objects
+ */
+final class Interner<T> {
+    private static final int STRIPES = 16;
+
+    private final Stripe<T>[] stripes;
+
+    @SuppressWarnings("unchecked")
+    Interner() {
+        this.stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe<>();
+        }
+    }
+
+    /**
+     * Return canonical instance equal to {@code instance}, registering {@code instance} as canonical
+     * if there is no such instance yet.
+     *
+     * @param instance object to intern
+     * @return canonical instance
+     */
+    T intern(T instance) {
+        if (instance == null) {
+            return null;
+        }
+        int hash = instance.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)].intern(instance);
+    }
+
+    /**
+     * Check whether {@code value} is immutable and therefore may be safely shared between rules.
+     *
+     * @param value value to check
+     * @return true if the value may be interned
+     */
+    static boolean isImmutable(Object value) {
+        if (value == null) {
+            return true;
+        }
+        Class<?> type = value.getClass();
+        return value instanceof String
+                || value instanceof Boolean
+                || value instanceof Character
+                || type == Integer.class || type == Long.class || type == Short.class || type == Byte.class
+                || type == Double.class || type == Float.class
+                || type == BigDecimal.class || type == BigInteger.class
+                || value instanceof Enum
+                || value instanceof Class
+                || type.getName().startsWith("java.time.");
+    }
+
+    private static final class Stripe<T> {
+        private final Map<T, WeakReference<T>> instances = new WeakHashMap<>();
+
+        synchronized T intern(T instance) {
+            WeakReference<T> reference = instances.get(instance);
+            T canonical = reference != null ? reference.get() : null;
+            if (canonical == null) {
+                instances.put(instance, new WeakReference<>(instance));
+                return instance;
+            }
+            return canonical;
+        }
+    }
+}
@@ -26,20 +26,17 @@ package com.sabre.oss.yare.core.model;
 
 import com.sabre.oss.yare.core.model.Expression.Action;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Objects;
-import java.util.Set;
+import java.util.*;
 
 public final class Rule {
-    private final Set<Attribute> attributes;
+    private final AttributeSet attributes;
     private final List<Fact> facts;
     private final Expression predicate;
     private final List<Action> actions;
 
     public Rule(Set<Attribute> attributes, List<Fact> facts, Expression predicate, List<Expression.Action> actions) {
-        this.attributes = Collections.unmodifiableSet(attributes);
-        this.facts = Collections.unmodifiableList(facts);
+        this.attributes = AttributeSet.of(attributes);
+        this.facts = internFacts(facts);
         this.predicate = predicate;
         this.actions = Collections.unmodifiableList(actions);
     }
@@ -49,15 +46,20 @@ public final class Rule {
     }
 
     public boolean containsAttribute(String name) {
-        return attributes.stream()
-                .anyMatch(attr -> attr.getName().equals(name));
+        return attributes.get(name) != null;
     }
 
     public Attribute getAttribute(String name) {
-        return attributes.stream()
-                .filter(attr -> attr.getName().equals(name))
-                .findFirst()
-                .orElse(null);
+        return attributes.get(name);
+    }
+
+    /**
+     * Return read-only view of attribute values keyed by attribute names.
+     *
+     * @return attribute values
+     */
+    public Map<String, Object> getAttributeValues() {
+        return attributes.asValueMap();
     }
 
     public List<Fact> getFacts() {
@@ -84,6 +86,18 @@ public final class Rule {
         return actions;
     }
 
+    private static List<Fact> internFacts(List<Fact> facts) {
+        if (facts.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Fact[] interned = new Fact[facts.size()];
+        for (int i = 0; i < interned.length; i++) {
+            Fact fact = facts.get(i);
+            interned[i] = fact != null ? Fact.of(fact.getIdentifier(), fact.getType()) : null;
+        }
+        return Collections.unmodifiableList(Arrays.asList(interned));
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.core.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AttributeSetTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 8, 9, 100})
+    void shouldBeEqualToHashSetOfSameAttributes(int size) {
+        // given
+        List<Attribute> attributes = createAttributes(size);
+
+        // when
+        AttributeSet attributeSet = AttributeSet.of(attributes);
+
+        // then
+        Set<Attribute> hashSet = new HashSet<>(attributes);
+        assertThat(attributeSet).isEqualTo(hashSet);
+        assertThat(hashSet).isEqualTo(attributeSet);
+        assertThat(attributeSet.hashCode()).isEqualTo(hashSet.hashCode());
+        assertThat(attributeSet).containsExactlyElementsOf(attributes);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 8, 9, 100})
+    void shouldFindEachAttributeByName(int size) {
+        // given
+        List<Attribute> attributes = createAttributes(size);
+
+        // when
+        AttributeSet attributeSet = AttributeSet.of(attributes);
+
+        // then
+        for (Attribute attribute : attributes) {
+            assertThat(attributeSet.get(attribute.getName())).isSameAs(attribute);
+            assertThat(attributeSet.contains(attribute)).isTrue();
+            assertThat(attributeSet.asValueMap()).containsEntry(attribute.getName(), attribute.getValue());
+        }
+        assertThat(attributeSet.get("unknown")).isNull();
+        assertThat(attributeSet.get(null)).isNull();
+        assertThat(attributeSet.contains(new Attribute("attribute0", Integer.class, -1))).isFalse();
+        assertThat(attributeSet.asValueMap()).hasSize(size).doesNotContainKey("unknown");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 8, 9, 100})
+    void shouldReturnFirstOfAttributesWithSameName(int size) {
+        // given
+        List<Attribute> attributes = createAttributes(size);
+        Attribute duplicate = new Attribute("attribute0", String.class, "duplicate");
+        attributes.add(duplicate);
+
+        // when
+        AttributeSet attributeSet = AttributeSet.of(attributes);
+
+        // then
+        assertThat(attributeSet.get("attribute0")).isSameAs(attributes.get(0));
+        assertThat(attributeSet.contains(duplicate)).isTrue();
+        assertThat(attributeSet).hasSize(size + 1);
+    }
+
+    @Test
+    void shouldRemoveEqualAttributes() {
+        // given
+        List<Attribute> attributes = createAttributes(10);
+        attributes.addAll(createAttributes(10));
+
+        // when
+        AttributeSet attributeSet = AttributeSet.of(attributes);
+
+        // then
+        assertThat(attributeSet).hasSize(10);
+        assertThat(attributeSet).isEqualTo(new LinkedHashSet<>(attributes));
+    }
+
+    @Test
+    void shouldShareEmptySet() {
+        // when
+        AttributeSet attributeSet = AttributeSet.of(Collections.emptyList());
+
+        // then
+        assertThat(attributeSet).isEmpty();
+        assertThat(attributeSet).isSameAs(AttributeSet.of(new HashSet<>()));
+        assertThat(attributeSet.get("attribute0")).isNull();
+    }
+
+    private static List<Attribute> createAttributes(int size) {
+        List<Attribute> attributes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            attributes.add(new Attribute("attribute" + i, Integer.class, i));
+        }
+        return attributes;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.core.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpressionFactoryTest {
+
+    @Test
+    void shouldShareEqualExpressionsOfImmutableValues() {
+        // when
+        Expression first = createPredicate("C1");
+        Expression second = createPredicate(new String("C1"));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(createPredicate("C2")).isNotSameAs(first).isNotEqualTo(first);
+    }
+
+    @Test
+    void shouldShareEqualSubTreesOfDifferentExpressions() {
+        // when
+        Expression.Operator first = (Expression.Operator) createPredicate("C1");
+        Expression.Operator second = (Expression.Operator) createPredicate("C2");
+
+        // then
+        assertThat(second.getArguments().get(1)).isSameAs(first.getArguments().get(1));
+        assertThat(second.getArguments().get(0)).isNotSameAs(first.getArguments().get(0));
+    }
+
+    @Test
+    void shouldNotShareExpressionsOfMutableValues() {
+        // when
+        Expression.Value first = ExpressionFactory.valueOf("list", new ArrayList<>(Arrays.asList("a", "b")));
+        Expression.Value second = ExpressionFactory.valueOf("list", new ArrayList<>(Arrays.asList("a", "b")));
+        Expression.Operator firstOperator = ExpressionFactory.operatorOf("contains", Boolean.class, "contains", first, ExpressionFactory.valueOf("v", "a"));
+        Expression.Operator secondOperator = ExpressionFactory.operatorOf("contains", Boolean.class, "contains", second, ExpressionFactory.valueOf("v", "a"));
+
+        // then
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+        assertThat(secondOperator).isEqualTo(firstOperator).isNotSameAs(firstOperator);
+        assertThat(secondOperator.hashCode()).isEqualTo(firstOperator.hashCode());
+    }
+
+    @Test
+    void shouldNotBeAffectedByChangesOfArgumentList() {
+        // given
+        List<Expression> arguments = new ArrayList<>(Arrays.asList(ExpressionFactory.valueOf("a", 1), ExpressionFactory.valueOf("b", 2)));
+        Expression.Operator operator = ExpressionFactory.operatorOf("and", Boolean.class, "and", arguments);
+        int hashCode = operator.hashCode();
+
+        // when
+        arguments.clear();
+
+        // then
+        assertThat(operator.getArguments()).hasSize(2);
+        assertThat(operator.hashCode()).isEqualTo(hashCode);
+        assertThat(ExpressionFactory.operatorOf("and", Boolean.class, "and", ExpressionFactory.valueOf("a", 1), ExpressionFactory.valueOf("b", 2)))
+                .isSameAs(operator);
+    }
+
+    private static Expression createPredicate(String carrier) {
+        return ExpressionFactory.operatorOf("and", Boolean.class, "and",
+                ExpressionFactory.operatorOf("equal", Boolean.class, "equal",
+                        ExpressionFactory.valueOf("carrier", String.class, "${flight.carrier}"),
+                        ExpressionFactory.valueOf("expected", carrier)),
+                ExpressionFactory.operatorOf("greater", Boolean.class, "greater",
+                        ExpressionFactory.valueOf("distance", Integer.class, "${flight.distance}"),
+                        ExpressionFactory.valueOf("minimum", 1000)));
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.core.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InternerTest {
+
+    @Test
+    void shouldReturnFirstOfEqualInstances() {
+        // given
+        Interner<String> interner = new Interner<>();
+        String first = new String("value");
+        String second = new String("value");
+
+        // when
+        String internedFirst = interner.intern(first);
+        String internedSecond = interner.intern(second);
+
+        // then
+        assertThat(internedFirst).isSameAs(first);
+        assertThat(internedSecond).isSameAs(first);
+        assertThat(interner.intern(new String("other"))).isNotSameAs(first);
+        assertThat(interner.intern(null)).isNull();
+    }
+
+    @Test
+    void shouldInternAttributesAndFacts() {
+        // when
+        Attribute attribute = Attribute.of("priority", Long.class, 1L);
+        Fact fact = Fact.of("flight", Object.class);
+
+        // then
+        assertThat(Attribute.of("priority", Long.class, 1L)).isSameAs(attribute);
+        assertThat(Attribute.of("priority", Long.class, 2L)).isNotSameAs(attribute);
+        assertThat(Fact.of("flight", Object.class)).isSameAs(fact);
+        assertThat(Fact.of("flight", String.class)).isNotSameAs(fact);
+    }
+
+    @Test
+    void shouldNotInternAttributesWithMutableValues() {
+        // when
+        Attribute attribute = Attribute.of("dates", ArrayList.class, new ArrayList<>());
+
+        // then
+        assertThat(Attribute.of("dates", ArrayList.class, new ArrayList<>()))
+                .isEqualTo(attribute)
+                .isNotSameAs(attribute);
+    }
+
+    @Test
+    void shouldRecognizeImmutableValues() {
+        assertThat(Interner.isImmutable(null)).isTrue();
+        assertThat(Interner.isImmutable("value")).isTrue();
+        assertThat(Interner.isImmutable(1)).isTrue();
+        assertThat(Interner.isImmutable(String.class)).isTrue();
+        assertThat(Interner.isImmutable(LocalDate.of(2018, 1, 1))).isTrue();
+        assertThat(Interner.isImmutable(new Date())).isFalse();
+        assertThat(Interner.isImmutable(new ArrayList<>())).isFalse();
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.performance.baseline;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares benchmark results stored by JMH in CSV format with a baseline recorded earlier by the same
+ * benchmarks, and reports benchmarks which performed worse than the baseline by more than given threshold.
+ * A benchmark is reported only when, in addition, confidence intervals of both scores (score plus/minus its error)
+ * do not overlap, so noisy benchmarks do not fail the comparison.
+ * <p>
+ * Benchmarks are matched by name and parameters. Benchmarks missing in the baseline, as well as benchmarks
+ * of the baseline missing in the results, are reported too, so the baseline has to be recorded again whenever
+ * benchmarks are added or removed. Scores of throughput mode are expected to decrease, scores of other modes
+ * (time per operation) to increase when performance regresses.
+ */
+public final class BaselineComparison {
+    public static final String BASELINE_PROPERTY = "yare.performance.baseline";
+    public static final String DEFAULT_BASELINE = "benchmarks/baseline";
+    public static final String THRESHOLD_PROPERTY = "yare.performance.threshold";
+    public static final double DEFAULT_THRESHOLD = 0.1;
+
+    private static final String THROUGHPUT_MODE = "thrpt";
+    private static final String PARAM_PREFIX = "Param: ";
+
+    private final double threshold;
+
+    /**
+     * @param threshold allowed relative worsening of score, e.g. {@code 0.1} for 10%
+     */
+    public BaselineComparison(double threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Threshold must not be negative");
+        }
+        this.threshold = threshold;
+    }
+
+    /**
+     * Creates comparison with threshold given by {@value #THRESHOLD_PROPERTY} system property.
+     *
+     * @return baseline comparison
+     */
+    public static BaselineComparison fromSystemProperties() {
+        String threshold = System.getProperty(THRESHOLD_PROPERTY);
+        return new BaselineComparison(threshold != null ? Double.parseDouble(threshold) : DEFAULT_THRESHOLD);
+    }
+
+    public double getThreshold() {
+        return threshold;
+    }
+
+    public Report compare(Path baseline, Path results) throws IOException {
+        return compare(read(baseline), read(results));
+    }
+
+    /**
+     * Compares results with baseline.
+     *
+     * @param baseline scores recorded earlier
+     * @param results  current scores
+     * @return comparison report
+     * @throws IllegalArgumentException if any benchmark was measured in other mode or unit than in the baseline
+     */
+    public Report compare(Map<String, Score> baseline, Map<String, Score> results) {
+        List<Regression> regressions = new ArrayList<>();
+        List<String> newBenchmarks = new ArrayList<>();
+        for (Map.Entry<String, Score> entry : results.entrySet()) {
+            Score base = baseline.get(entry.getKey());
+            Score result = entry.getValue();
+            if (base == null) {
+                newBenchmarks.add(entry.getKey());
+                continue;
+            }
+            if (!base.getMode().equals(result.getMode()) || !base.getUnit().equals(result.getUnit())) {
+                throw new IllegalArgumentException(String.format("Benchmark %s measured as %s %s can't be compared with baseline measured as %s %s",
+                        entry.getKey(), result.getMode(), result.getUnit(), base.getMode(), base.getUnit()));
+            }
+            double change = result.changeFrom(base);
+            if (change > threshold && result.isWorseBeyondError(base)) {
+                regressions.add(new Regression(entry.getKey(), base, result, change));
+            }
+        }
+        List<String> missingBenchmarks = new ArrayList<>();
+        for (String benchmark : baseline.keySet()) {
+            if (!results.containsKey(benchmark)) {
+                missingBenchmarks.add(benchmark);
+            }
+        }
+        return new Report(regressions, newBenchmarks, missingBenchmarks);
+    }
+
+    /**
+     * Reads scores from JMH results in CSV format.
+     *
+     * @param csv results file
+     * @return scores by benchmark name followed by its parameters
+     * @throws IOException if file can't be read
+     */
+    public static Map<String, Score> read(Path csv) throws IOException {
+        List<String> lines = Files.readAllLines(csv, StandardCharsets.UTF_8);
+        Map<String, Score> scores = new LinkedHashMap<>();
+        if (lines.isEmpty()) {
+            return scores;
+        }
+        List<String> header = split(lines.get(0));
+        int benchmark = header.indexOf("Benchmark");
+        int mode = header.indexOf("Mode");
+        int score = header.indexOf("Score");
+        int error = header.indexOf("Score Error (99.9%)");
+        int unit = header.indexOf("Unit");
+        if (benchmark < 0 || mode < 0 || score < 0 || unit < 0) {
+            throw new IllegalArgumentException(String.format("%s is not JMH result in CSV format", csv));
+        }
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            List<String> values = split(line);
+            List<String> params = new ArrayList<>();
+            for (int i = 0; i < header.size() && i < values.size(); i++) {
+                if (header.get(i).startsWith(PARAM_PREFIX) && !values.get(i).isEmpty()) {
+                    params.add(header.get(i).substring(PARAM_PREFIX.length()) + '=' + values.get(i));
+                }
+            }
+            String name = params.isEmpty() ? values.get(benchmark) : values.get(benchmark) + ':' + String.join(",", params);
+            double scoreError = error >= 0 ? Double.parseDouble(values.get(error)) : Double.NaN;
+            scores.put(name, new Score(values.get(mode), Double.parseDouble(values.get(score)), Double.isNaN(scoreError) ? 0 : scoreError,
+                    values.get(unit)));
+        }
+        return scores;
+    }
+
+    private static List<String> split(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (char c : line.toCharArray()) {
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    /**
+     * Compares results file with baseline file and exits with non-zero status when any regression is found.
+     * <p>
+     * Usage: {@code BaselineComparison <baseline.csv> <results.csv> [threshold]}
+     *
+     * @param args command line arguments
+     * @throws IOException if any file can't be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparison <baseline.csv> <results.csv> [threshold]");
+            System.exit(2);
+        }
+        BaselineComparison comparison = args.length > 2
+                ? new BaselineComparison(Double.parseDouble(args[2]))
+                : fromSystemProperties();
+        Report report = comparison.compare(Paths.get(args[0]), Paths.get(args[1]));
+        System.out.println(report);
+        if (!report.isSuccessful()) {
+            System.exit(1);
+        }
+    }
+
+    public static final class Score {
+        private final String mode;
+        private final double value;
+        private final double error;
+        private final String unit;
+
+        public Score(String mode, double value, double error, String unit) {
+            this.mode = mode;
+            this.value = value;
+            this.error = error;
+            this.unit = unit;
+        }
+
+        public String getMode() {
+            return mode;
+        }
+
+        public double getValue() {
+            return value;
+        }
+
+        /**
+         * @return half-width of the confidence interval of the score, zero when JMH could not compute it
+         */
+        public double getError() {
+            return error;
+        }
+
+        public String getUnit() {
+            return unit;
+        }
+
+        double changeFrom(Score baseline) {
+            double change = (value - baseline.value) / baseline.value;
+            return THROUGHPUT_MODE.equals(mode) ? -change : change;
+        }
+
+        boolean isWorseBeyondError(Score baseline) {
+            return THROUGHPUT_MODE.equals(mode)
+                    ? value + error < baseline.value - baseline.error
+                    : value - error > baseline.value + baseline.error;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%.3f +/- %.3f %s", value, error, unit);
+        }
+    }
+
+    public static final class Report {
+        private final List<Regression> regressions;
+        private final List<String> newBenchmarks;
+        private final List<String> missingBenchmarks;
+
+        Report(List<Regression> regressions, List<String> newBenchmarks, List<String> missingBenchmarks) {
+            this.regressions = regressions;
+            this.newBenchmarks = newBenchmarks;
+            this.missingBenchmarks = missingBenchmarks;
+        }
+
+        public List<Regression> getRegressions() {
+            return regressions;
+        }
+
+        /**
+         * @return benchmarks of the results missing in the baseline
+         */
+        public List<String> getNewBenchmarks() {
+            return newBenchmarks;
+        }
+
+        /**
+         * @return benchmarks of the baseline missing in the results
+         */
+        public List<String> getMissingBenchmarks() {
+            return missingBenchmarks;
+        }
+
+        /**
+         * @return {@code true} if there are no regressions and the results cover exactly the benchmarks of the baseline
+         */
+        public boolean isSuccessful() {
+            return regressions.isEmpty() && newBenchmarks.isEmpty() && missingBenchmarks.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder report = new StringBuilder();
+            regressions.forEach(regression -> report.append("Regression ").append(regression).append(System.lineSeparator()));
+            newBenchmarks.forEach(benchmark -> report.append("Not in baseline ").append(benchmark).append(System.lineSeparator()));
+            missingBenchmarks.forEach(benchmark -> report.append("Missing in results ").append(benchmark).append(System.lineSeparator()));
+            return report.length() > 0 ? report.toString() : "No differences";
+        }
+    }
+
+    public static final class Regression {
+        private final String benchmark;
+        private final Score baseline;
+        private final Score result;
+        private final double change;
+
+        Regression(String benchmark, Score baseline, Score result, double change) {
+            this.benchmark = benchmark;
+            this.baseline = baseline;
+            this.result = result;
+            this.change = change;
+        }
+
+        public String getBenchmark() {
+            return benchmark;
+        }
+
+        public Score getBaseline() {
+            return baseline;
+        }
+
+        public Score getResult() {
+            return result;
+        }
+
+        public double getChange() {
+            return change;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %s -> %s (%+.1f%%)", benchmark, baseline, result, change * 100);
+        }
+    }
+}
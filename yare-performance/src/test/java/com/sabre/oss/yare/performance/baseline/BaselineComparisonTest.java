@@ -0,0 +1,180 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.performance.baseline;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BaselineComparisonTest {
+    private static final String HEADER = "\"Benchmark\",\"Mode\",\"Threads\",\"Samples\",\"Score\",\"Score Error (99.9%)\",\"Unit\",\"Param: cached\"";
+
+    @Test
+    void shouldReadScoresOfBenchmarksWithParameters() throws IOException {
+        // given
+        Path csv = write(HEADER,
+                "\"micro.FunctionInvocationTest.functionInvocation\",\"avgt\",1,5,120.5,3.1,\"ns/op\",true",
+                "\"micro.ValueProvidersTest.mapValueProvider\",\"avgt\",1,5,4.25,0.1,\"ns/op\",");
+
+        // when
+        Map<String, BaselineComparison.Score> scores = BaselineComparison.read(csv);
+
+        // then
+        assertThat(scores).containsOnlyKeys("micro.FunctionInvocationTest.functionInvocation:cached=true", "micro.ValueProvidersTest.mapValueProvider");
+        BaselineComparison.Score score = scores.get("micro.FunctionInvocationTest.functionInvocation:cached=true");
+        assertThat(score.getMode()).isEqualTo("avgt");
+        assertThat(score.getValue()).isEqualTo(120.5);
+        assertThat(score.getError()).isEqualTo(3.1);
+        assertThat(score.getUnit()).isEqualTo("ns/op");
+    }
+
+    @Test
+    void shouldReadMissingScoreErrorAsZero() throws IOException {
+        // given
+        Path csv = write(HEADER, "\"a\",\"avgt\",1,1,100.0,NaN,\"ns/op\",");
+
+        // when
+        Map<String, BaselineComparison.Score> scores = BaselineComparison.read(csv);
+
+        // then
+        assertThat(scores.get("a").getError()).isZero();
+    }
+
+    @Test
+    void shouldReportBenchmarksSlowerThanThreshold() throws IOException {
+        // given
+        Path baseline = write(HEADER,
+                "\"a\",\"avgt\",1,5,100.0,1.0,\"ns/op\",",
+                "\"b\",\"avgt\",1,5,100.0,1.0,\"ns/op\",",
+                "\"c\",\"thrpt\",1,5,100.0,1.0,\"ops/ns\",");
+        Path results = write(HEADER,
+                "\"a\",\"avgt\",1,5,109.0,1.0,\"ns/op\",",
+                "\"b\",\"avgt\",1,5,125.0,1.0,\"ns/op\",",
+                "\"c\",\"thrpt\",1,5,80.0,1.0,\"ops/ns\",");
+
+        // when
+        BaselineComparison.Report report = new BaselineComparison(0.1).compare(baseline, results);
+
+        // then
+        assertThat(report.isSuccessful()).isFalse();
+        List<BaselineComparison.Regression> regressions = report.getRegressions();
+        assertThat(regressions).extracting(BaselineComparison.Regression::getBenchmark).containsExactly("b", "c");
+        assertThat(regressions.get(0).getChange()).isEqualTo(0.25);
+        assertThat(regressions.get(1).getChange()).isEqualTo(0.2);
+    }
+
+    @Test
+    void shouldNotReportSlowerBenchmarksWithinScoreError() throws IOException {
+        // given
+        Path baseline = write(HEADER,
+                "\"a\",\"avgt\",1,5,100.0,10.0,\"ns/op\",",
+                "\"b\",\"thrpt\",1,5,100.0,1.0,\"ops/ns\",");
+        Path results = write(HEADER,
+                "\"a\",\"avgt\",1,5,125.0,20.0,\"ns/op\",",
+                "\"b\",\"thrpt\",1,5,80.0,25.0,\"ops/ns\",");
+
+        // when
+        BaselineComparison.Report report = new BaselineComparison(0.1).compare(baseline, results);
+
+        // then
+        assertThat(report.getRegressions()).isEmpty();
+        assertThat(report.isSuccessful()).isTrue();
+    }
+
+    @Test
+    void shouldNotReportImprovements() throws IOException {
+        // given
+        Path baseline = write(HEADER,
+                "\"a\",\"avgt\",1,5,100.0,1.0,\"ns/op\",",
+                "\"b\",\"thrpt\",1,5,100.0,1.0,\"ops/ns\",");
+        Path results = write(HEADER,
+                "\"a\",\"avgt\",1,5,50.0,1.0,\"ns/op\",",
+                "\"b\",\"thrpt\",1,5,200.0,1.0,\"ops/ns\",");
+
+        // when
+        BaselineComparison.Report report = new BaselineComparison(0.0).compare(baseline, results);
+
+        // then
+        assertThat(report.getRegressions()).isEmpty();
+        assertThat(report.isSuccessful()).isTrue();
+    }
+
+    @Test
+    void shouldReportNewAndMissingBenchmarks() throws IOException {
+        // given
+        Path baseline = write(HEADER,
+                "\"a\",\"avgt\",1,5,100.0,1.0,\"ns/op\",",
+                "\"b\",\"avgt\",1,5,100.0,1.0,\"ns/op\",");
+        Path results = write(HEADER,
+                "\"a\",\"avgt\",1,5,100.0,1.0,\"ns/op\",",
+                "\"c\",\"avgt\",1,5,100.0,1.0,\"ns/op\",");
+
+        // when
+        BaselineComparison.Report report = new BaselineComparison(0.1).compare(baseline, results);
+
+        // then
+        assertThat(report.getRegressions()).isEmpty();
+        assertThat(report.getNewBenchmarks()).containsExactly("c");
+        assertThat(report.getMissingBenchmarks()).containsExactly("b");
+        assertThat(report.isSuccessful()).isFalse();
+    }
+
+    @Test
+    void shouldRejectResultsMeasuredInOtherUnit() throws IOException {
+        // given
+        Path baseline = write(HEADER, "\"a\",\"avgt\",1,5,100.0,1.0,\"ns/op\",");
+        Path results = write(HEADER, "\"a\",\"avgt\",1,5,0.1,1.0,\"us/op\",");
+
+        // when / then
+        assertThatThrownBy(() -> new BaselineComparison(0.1).compare(baseline, results))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("us/op");
+    }
+
+    @Test
+    void shouldRejectFileWhichIsNotJmhResult() throws IOException {
+        // given
+        Path csv = write("name,value", "a,1");
+
+        // when / then
+        assertThatThrownBy(() -> BaselineComparison.read(csv))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Path write(String... lines) throws IOException {
+        Path file = Files.createTempFile("benchmark", ".csv");
+        file.toFile().deleteOnExit();
+        return Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8);
+    }
+}
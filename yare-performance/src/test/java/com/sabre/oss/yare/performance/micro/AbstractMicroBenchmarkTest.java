@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.performance.micro;
+
+import com.sabre.oss.yare.performance.baseline.BaselineComparison;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Base of benchmarks measuring single engine components in isolation.
+ * <p>
+ * Results are stored in {@code benchmarks/<benchmark class>.csv} and compared with results recorded earlier
+ * in the directory (or the single results file) given by {@value BaselineComparison#BASELINE_PROPERTY} system property,
+ * {@value BaselineComparison#DEFAULT_BASELINE} directory of this module by default. The test fails when benchmarks
+ * differ from the baseline ones, or when any benchmark performed worse than the baseline by more than
+ * {@value BaselineComparison#THRESHOLD_PROPERTY} (10% by default) beyond the error of both scores.
+ * <p>
+ * Scores depend on the machine, so no baseline is shipped. When the default baseline is missing, results of the run
+ * are recorded as the local baseline and the comparison is skipped; a baseline given explicitly has to exist.
+ */
+public abstract class AbstractMicroBenchmarkTest {
+
+    @Test
+    public void runBenchmarks() throws RunnerException, IOException {
+        Path results = Paths.get("benchmarks", getClass().getSimpleName() + ".csv");
+        Files.createDirectories(results.getParent());
+        Options opt = new OptionsBuilder()
+                .include(getClass().getName() + "\\.")
+                .mode(Mode.AverageTime)
+                .timeUnit(NANOSECONDS)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .threads(1)
+                .warmupForks(0)
+                .forks(1)
+                .shouldFailOnError(true)
+                .result(results.toString())
+                .resultFormat(ResultFormatType.CSV)
+                .jvmArgs("-server", "-Xms1024M", "-Xmx1024M", "-XX:+UseG1GC")
+                .build();
+        new Runner(opt).run();
+
+        Path baseline = getBaseline(results);
+        assumeTrue(baseline != null, String.format("Results %s recorded as local baseline", results));
+        BaselineComparison.Report report = BaselineComparison.fromSystemProperties().compare(baseline, results);
+        assertThat(report.isSuccessful()).as(report.toString()).isTrue();
+    }
+
+    /**
+     * Returns baseline of given results, or null when the default baseline was missing and the results were
+     * recorded as the baseline.
+     */
+    private static Path getBaseline(Path results) throws IOException {
+        String configured = System.getProperty(BaselineComparison.BASELINE_PROPERTY);
+        Path path = Paths.get(configured != null ? configured : BaselineComparison.DEFAULT_BASELINE);
+        if (Files.isDirectory(path) || configured == null) {
+            path = path.resolve(results.getFileName());
+        }
+        if (Files.isRegularFile(path)) {
+            return path;
+        }
+        if (configured != null) {
+            throw new IllegalStateException(String.format("Baseline %s of results %s not found", path, results));
+        }
+        Files.createDirectories(path.getParent());
+        Files.copy(results, path);
+        return null;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.performance.micro;
+
+import com.sabre.oss.yare.core.RuleSession;
+import com.sabre.oss.yare.core.RulesEngine;
+import com.sabre.oss.yare.core.RulesEngineBuilder;
+import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.engine.executor.DefaultRulesExecutorBuilder;
+import com.sabre.oss.yare.performance.config.RuleAndFact;
+import com.sabre.oss.yare.performance.suits.ResultCollectingAction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.sabre.oss.yare.dsl.RuleDsl.*;
+import static com.sabre.oss.yare.invoker.java.MethodCallMetadata.method;
+
+/**
+ * Measures rule sessions grouping session facts by type and iterating over fact tuples, for each kind
+ * of fact tuples formed by the executor: instances of a single type, single instances of several types
+ * and cross product of several types.
+ * <p>
+ * Rule predicates never match, so the results are dominated by grouping and iteration.
+ */
+public class FactTuplesTest extends AbstractMicroBenchmarkTest {
+
+    @Benchmark
+    public List<RuleAndFact> singleType(Context context) {
+        return context.singleTypeSession.execute(new ArrayList<>(), context.singleTypeFacts);
+    }
+
+    @Benchmark
+    public List<RuleAndFact> singleInstance(Context context) {
+        return context.singleInstanceSession.execute(new ArrayList<>(), context.singleInstanceFacts);
+    }
+
+    @Benchmark
+    public List<RuleAndFact> crossProduct(Context context) {
+        return context.crossProductSession.execute(new ArrayList<>(), context.crossProductFacts);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Context {
+        private static final int SECOND_TYPE_INSTANCES = 10;
+
+        @Param({"10", "100"})
+        int numberOfFacts;
+
+        RuleSession singleTypeSession;
+        RuleSession singleInstanceSession;
+        RuleSession crossProductSession;
+        List<Object> singleTypeFacts;
+        List<Object> singleInstanceFacts;
+        List<Object> crossProductFacts;
+
+        @Setup
+        public void setup() {
+            singleTypeSession = createSession(false, ruleBuilder()
+                    .name("flightRule")
+                    .fact("flight", Flight.class)
+                    .predicate(isNull(value("${flight}")))
+                    .action("collect",
+                            param("context", value("${ctx}")),
+                            param("ruleName", value("flightRule")),
+                            param("fact", value("${flight}")))
+                    .build());
+            Rule flightAndPassengerRule = ruleBuilder()
+                    .name("flightAndPassengerRule")
+                    .fact("flight", Flight.class)
+                    .fact("passenger", Passenger.class)
+                    .predicate(isNull(value("${passenger}")))
+                    .action("collect",
+                            param("context", value("${ctx}")),
+                            param("ruleName", value("flightAndPassengerRule")),
+                            param("fact", value("${flight}")))
+                    .build();
+            singleInstanceSession = createSession(false, flightAndPassengerRule);
+            crossProductSession = createSession(true, flightAndPassengerRule);
+
+            singleTypeFacts = new ArrayList<>(numberOfFacts);
+            for (int i = 0; i < numberOfFacts; i++) {
+                singleTypeFacts.add(new Flight());
+            }
+            singleInstanceFacts = new ArrayList<>();
+            singleInstanceFacts.add(new Flight());
+            singleInstanceFacts.add(new Passenger());
+            crossProductFacts = new ArrayList<>(singleTypeFacts);
+            for (int i = 0; i < SECOND_TYPE_INSTANCES; i++) {
+                crossProductFacts.add(new Passenger());
+            }
+        }
+
+        private static RuleSession createSession(boolean crossProductMode, Rule rule) {
+            RulesEngine engine = new RulesEngineBuilder()
+                    .withRulesRepository(uri -> Collections.singletonList(rule))
+                    .withActionMapping("collect", method(new ResultCollectingAction(), action -> action.collect(null, null, null)))
+                    .withRulesExecutorBuilder(new DefaultRulesExecutorBuilder()
+                            .withCrossProductMode(crossProductMode))
+                    .build();
+            return engine.createSession("factTuples");
+        }
+    }
+
+    public static class Flight {
+    }
+
+    public static class Passenger {
+    }
+}
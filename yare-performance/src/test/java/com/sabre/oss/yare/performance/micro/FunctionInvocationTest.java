@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.performance.micro;
+
+import com.sabre.oss.yare.core.RuleSession;
+import com.sabre.oss.yare.core.RulesEngine;
+import com.sabre.oss.yare.core.RulesEngineBuilder;
+import com.sabre.oss.yare.core.feature.Feature;
+import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.dsl.RuleDsl;
+import com.sabre.oss.yare.engine.DefaultCallInvocationResultCache;
+import com.sabre.oss.yare.engine.executor.DefaultRulesExecutorBuilder;
+import com.sabre.oss.yare.engine.executor.ExecutorConfiguration;
+import com.sabre.oss.yare.engine.feature.DefaultEngineFeature;
+import com.sabre.oss.yare.performance.config.RuleAndFact;
+import com.sabre.oss.yare.performance.suits.ResultCollectingAction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.sabre.oss.yare.dsl.RuleDsl.*;
+import static com.sabre.oss.yare.invoker.java.MethodCallMetadata.method;
+
+/**
+ * Measures rule session evaluating a single function predicate, with function results cached
+ * in {@link DefaultCallInvocationResultCache} and without caching.
+ */
+public class FunctionInvocationTest extends AbstractMicroBenchmarkTest {
+
+    @Benchmark
+    public List<RuleAndFact> functionInvocation(Context context) {
+        return context.session.execute(new ArrayList<>(1), context.nextFacts());
+    }
+
+    @State(Scope.Benchmark)
+    public static class Context {
+        private static final int DISTINCT_FACTS = 16;
+
+        @Param({"true", "false"})
+        boolean cached;
+
+        RuleSession session;
+        List<List<Object>> facts;
+        int index;
+
+        @Setup
+        public void setup() {
+            RulesEngine engine = new RulesEngineBuilder()
+                    .withRulesRepository(uri -> Collections.singletonList(createRule()))
+                    .withActionMapping("collect", method(new ResultCollectingAction(), action -> action.collect(null, null, null)))
+                    .withFunctionMapping("checksum", method(new Checksum(), function -> function.compute(null)),
+                            cached ? new Feature[0] : new Feature[]{DefaultEngineFeature.DISABLE_CACHE_FUNCTION_RESULT})
+                    .withRulesExecutorBuilder(new DefaultRulesExecutorBuilder()
+                            .withFunctionResultCache(new DefaultCallInvocationResultCache(ExecutorConfiguration.builder().build())))
+                    .build();
+            session = engine.createSession("functions");
+            facts = new ArrayList<>(DISTINCT_FACTS);
+            for (int i = 0; i < DISTINCT_FACTS; i++) {
+                facts.add(Collections.singletonList(new Booking("PNR" + i)));
+            }
+        }
+
+        List<Object> nextFacts() {
+            index = (index + 1) % DISTINCT_FACTS;
+            return facts.get(index);
+        }
+
+        private static Rule createRule() {
+            return RuleDsl.ruleBuilder()
+                    .name("checksumRule")
+                    .fact("booking", Booking.class)
+                    .predicate(
+                            greaterOrEqual(
+                                    function("checksum", Integer.class,
+                                            param("locator", value("${booking.locator}"))),
+                                    value(0)))
+                    .action("collect",
+                            param("context", value("${ctx}")),
+                            param("ruleName", value("checksumRule")),
+                            param("fact", value("${booking}")))
+                    .build();
+        }
+    }
+
+    public static class Checksum {
+        public Integer compute(String locator) {
+            int checksum = 0;
+            for (int round = 0; round < 512; round++) {
+                for (int i = 0; i < locator.length(); i++) {
+                    checksum = 31 * checksum + (locator.charAt(i) ^ round);
+                }
+            }
+            return checksum & Integer.MAX_VALUE;
+        }
+    }
+
+    public static class Booking {
+        private final String locator;
+
+        public Booking(String locator) {
+            this.locator = locator;
+        }
+
+        public String getLocator() {
+            return locator;
+        }
+    }
+}
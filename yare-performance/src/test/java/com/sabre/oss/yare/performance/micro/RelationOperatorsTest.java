@@ -0,0 +1,249 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.performance.micro;
+
+import com.sabre.oss.yare.core.model.ExpressionFactory;
+import com.sabre.oss.yare.engine.executor.runtime.operator.OperatorFactory;
+import com.sabre.oss.yare.engine.executor.runtime.operator.relation.*;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.Predicate;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.sabre.oss.yare.engine.executor.runtime.value.ValueProviderFactory.createFromConstant;
+
+/**
+ * Measures evaluation of each relation operator with constant operands, so the cost of the operator
+ * itself is not hidden behind fact access.
+ */
+public class RelationOperatorsTest extends AbstractMicroBenchmarkTest {
+
+    @Benchmark
+    public Boolean eqObject(Context context) {
+        return context.eqObject.evaluate(null);
+    }
+
+    @Benchmark
+    public Boolean eqObjectArray(Context context) {
+        return context.eqObjectArray.evaluate(null);
+    }
+
+    @Benchmark
+    public Boolean eqZonedDateTime(Context context) {
+        return context.eqZonedDateTime.evaluate(null);
+    }
+
+    @Benchmark
+    public Boolean eqDynamic(Context context) {
+        return context.eqDynamic.evaluate(null);
+    }
+
+    @Benchmark
+    public Boolean gtComparable(Context context) {
+        return context.gtComparable.evaluate(null);
+    }
+
+    @Benchmark
+    public Boolean gtZonedDateTime(Context context) {
+        return context.gtZonedDateTime.evaluate(null);
+    }
+
+    @Benchmark
+    public Boolean gtDynamic(Context context) {
+        return context.gtDynamic.evaluate(null);
+    }
+
+    @Benchmark
+    public Boolean geComparable(Context context) {
+        return context.geComparable.evaluate(null);
+    }
+
+    @Benchmark
+    public Boolean geZonedDateTime(Context context) {
+        return context.geZonedDateTime.evaluate(null);
+    }
+
+    @Benchmark
+    public Boolean geDynamic(Context context) {
+        return context.geDynamic.evaluate(null);
+    }
+
+    @Benchmark
+    public Boolean ltComparable(Context context) {
+        return context.ltComparable.evaluate(null);
+    }
+
+    @Benchmark
+    public Boolean ltZonedDateTime(Context context) {
+        return context.ltZonedDateTime.evaluate(null);
+    }
+
+    @Benchmark
+    public Boolean ltDynamic(Context context) {
+        return context.ltDynamic.evaluate(null);
+    }
+
+    @Benchmark
+    public Boolean leComparable(Context context) {
+        return context.leComparable.evaluate(null);
+    }
+
+    @Benchmark
+    public Boolean leZonedDateTime(Context context) {
+        return context.leZonedDateTime.evaluate(null);
+    }
+
+    @Benchmark
+    public Boolean leDynamic(Context context) {
+        return context.leDynamic.evaluate(null);
+    }
+
+    @Benchmark
+    public Boolean in(Context context) {
+        return context.in.evaluate(null);
+    }
+
+    @Benchmark
+    public Boolean isNull(Context context) {
+        return context.isNull.evaluate(null);
+    }
+
+    @Benchmark
+    public Boolean isTrue(Context context) {
+        return context.isTrue.evaluate(null);
+    }
+
+    @Benchmark
+    public Boolean isFalse(Context context) {
+        return context.isFalse.evaluate(null);
+    }
+
+    @Benchmark
+    public Boolean matchString(Context context) {
+        return context.matchString.evaluate(null);
+    }
+
+    @Benchmark
+    public Boolean containsAllCollection(Context context) {
+        return context.containsAllCollection.evaluate(null);
+    }
+
+    @Benchmark
+    public Boolean containsAllInstance(Context context) {
+        return context.containsAllInstance.evaluate(null);
+    }
+
+    @Benchmark
+    public Boolean containsAny(Context context) {
+        return context.containsAny.evaluate(null);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Context {
+        Predicate eqObject;
+        Predicate eqObjectArray;
+        Predicate eqZonedDateTime;
+        Predicate eqDynamic;
+        Predicate gtComparable;
+        Predicate gtZonedDateTime;
+        Predicate gtDynamic;
+        Predicate geComparable;
+        Predicate geZonedDateTime;
+        Predicate geDynamic;
+        Predicate ltComparable;
+        Predicate ltZonedDateTime;
+        Predicate ltDynamic;
+        Predicate leComparable;
+        Predicate leZonedDateTime;
+        Predicate leDynamic;
+        Predicate in;
+        Predicate isNull;
+        Predicate isTrue;
+        Predicate isFalse;
+        Predicate matchString;
+        Predicate containsAllCollection;
+        Predicate containsAllInstance;
+        Predicate containsAny;
+
+        @Setup
+        public void setup() {
+            ValueProvider code = createFromConstant(new String("KRK"));
+            ValueProvider otherCode = createFromConstant(new String("KRK"));
+            ValueProvider number = createFromConstant(100L);
+            ValueProvider otherNumber = createFromConstant(50L);
+            ZonedDateTime now = ZonedDateTime.now();
+            ValueProvider time = createFromConstant(now);
+            ValueProvider otherTime = createFromConstant(now.minusHours(1));
+            ValueProvider codes = createFromConstant(codes(0, 20));
+            ValueProvider otherCodes = createFromConstant(codes(10, 15));
+
+            eqObject = new EqObject(code, otherCode);
+            eqObjectArray = new EqObjectArray(createFromConstant(new Object[]{"KRK", 1L}), createFromConstant(new Object[]{"KRK", 1L}));
+            eqZonedDateTime = new EqZonedDateTime(time, createFromConstant(now.withZoneSameInstant(ZoneOffset.UTC)));
+            eqDynamic = new EqDynamic(code, otherCode);
+            gtComparable = new GtComparable(number, otherNumber);
+            gtZonedDateTime = new GtZonedDateTime(time, otherTime);
+            gtDynamic = new GtDynamic(number, otherNumber);
+            geComparable = new GeComparable(number, otherNumber);
+            geZonedDateTime = new GeZonedDateTime(time, otherTime);
+            geDynamic = new GeDynamic(number, otherNumber);
+            ltComparable = new LtComparable(otherNumber, number);
+            ltZonedDateTime = new LtZonedDateTime(otherTime, time);
+            ltDynamic = new LtDynamic(otherNumber, number);
+            leComparable = new LeComparable(otherNumber, number);
+            leZonedDateTime = new LeZonedDateTime(otherTime, time);
+            leDynamic = new LeDynamic(otherNumber, number);
+            in = new In(code, Arrays.asList("WAW", "GDN", "KRK", "WRO"));
+            isNull = create(new IsNull.Factory(), "is-null", code);
+            isTrue = create(new IsTrue.Factory(), "is-true", createFromConstant(Boolean.TRUE));
+            isFalse = create(new IsFalse.Factory(), "is-false", createFromConstant(Boolean.TRUE));
+            matchString = new MatchString(createFromConstant("LO3925"), "[A-Z0-9]{2}\\d{1,4}");
+            containsAllCollection = new ContainsAllCollection(codes, otherCodes);
+            containsAllInstance = new ContainsAllInstance(codes, createFromConstant("C15"));
+            containsAny = new ContainsAny(codes, otherCodes);
+        }
+
+        private static Predicate create(OperatorFactory factory, String call, ValueProvider operand) {
+            return factory.create(null, ExpressionFactory.operatorOf(call, Boolean.class, call, ExpressionFactory.valueOf("operand", Object.class, null)),
+                    new ValueProvider[]{operand});
+        }
+
+        private static List<String> codes(int from, int to) {
+            List<String> codes = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                codes.add("C" + i);
+            }
+            return codes;
+        }
+    }
+}
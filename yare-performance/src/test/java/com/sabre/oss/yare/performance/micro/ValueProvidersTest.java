@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.performance.micro;
+
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.engine.executor.runtime.value.FieldReferringClassFactory;
+import com.sabre.oss.yare.engine.executor.runtime.value.MapValueProvider;
+import com.sabre.oss.yare.engine.executor.runtime.value.PathValueProvider;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compares fact field access by accessors generated at runtime with reflective {@link PathValueProvider}
+ * and with {@link MapValueProvider} reading the same value from a map fact.
+ */
+public class ValueProvidersTest extends AbstractMicroBenchmarkTest {
+
+    @Benchmark
+    public Object generatedAccessor(Context context) {
+        return context.generatedAccessor.get(context.predicateContext);
+    }
+
+    @Benchmark
+    public Object pathValueProvider(Context context) {
+        return context.pathValueProvider.get(context.predicateContext);
+    }
+
+    @Benchmark
+    public Object mapValueProvider(Context context) {
+        return context.mapValueProvider.get(context.predicateContext);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Context {
+        PredicateContext predicateContext;
+        ValueProvider generatedAccessor;
+        ValueProvider pathValueProvider;
+        ValueProvider mapValueProvider;
+
+        @Setup
+        public void setup() {
+            Map<String, Object> facts = new HashMap<>();
+            facts.put("flight", new Flight(new Airport("KRK")));
+            facts.put("flightMap", Collections.singletonMap("origin", "KRK"));
+            predicateContext = new PredicateContext("rule", null, facts, Collections.emptyMap(), null);
+
+            generatedAccessor = FieldReferringClassFactory.create(Flight.class, "flight", "origin.code");
+            pathValueProvider = new PathValueProvider(Flight.class, "flight", "origin.code");
+            mapValueProvider = new MapValueProvider("flightMap", "origin");
+        }
+    }
+
+    public static class Flight {
+        private final Airport origin;
+
+        public Flight(Airport origin) {
+            this.origin = origin;
+        }
+
+        public Airport getOrigin() {
+            return origin;
+        }
+    }
+
+    public static class Airport {
+        private final String code;
+
+        public Airport(String code) {
+            this.code = code;
+        }
+
+        public String getCode() {
+            return code;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.performance.scaling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Collects throughput of benchmarks measured at increasing number of threads and computes scaling efficiency,
+ * i.e. throughput at {@code n} threads divided by {@code n} times throughput at one thread.
+ * Efficiency of {@code 1.0} means linear scaling, efficiency below {@code 1/n} means that adding threads
+ * decreased total throughput.
+ */
+public class ScalingReport {
+    private final Map<String, Map<Integer, Double>> throughputs = new TreeMap<>();
+
+    public void add(String benchmark, int threads, double throughput) {
+        throughputs.computeIfAbsent(benchmark, b -> new TreeMap<>()).put(threads, throughput);
+    }
+
+    public double getThroughput(String benchmark, int threads) {
+        Double throughput = throughputs.getOrDefault(benchmark, new TreeMap<>()).get(threads);
+        return throughput != null ? throughput : Double.NaN;
+    }
+
+    public double getEfficiency(String benchmark, int threads) {
+        return getThroughput(benchmark, threads) / (threads * getThroughput(benchmark, 1));
+    }
+
+    /**
+     * Returns benchmarks which scale worse than given minimal efficiency at any number of threads.
+     *
+     * @param minimalEfficiency minimal acceptable efficiency
+     * @return descriptions of benchmarks below minimal efficiency
+     */
+    public List<String> findBelow(double minimalEfficiency) {
+        List<String> violations = new ArrayList<>();
+        for (Map.Entry<String, Map<Integer, Double>> entry : throughputs.entrySet()) {
+            for (Integer threads : entry.getValue().keySet()) {
+                double efficiency = getEfficiency(entry.getKey(), threads);
+                if (efficiency < minimalEfficiency) {
+                    violations.add(String.format("%s: efficiency %.2f at %d threads", entry.getKey(), efficiency, threads));
+                }
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * Returns report as CSV with throughput and efficiency of each benchmark at each number of threads.
+     *
+     * @return CSV report
+     */
+    public String toCsv() {
+        StringBuilder csv = new StringBuilder("\"Benchmark\",\"Threads\",\"Throughput\",\"Efficiency\"\n");
+        for (Map.Entry<String, Map<Integer, Double>> entry : throughputs.entrySet()) {
+            for (Map.Entry<Integer, Double> measurement : entry.getValue().entrySet()) {
+                csv.append(String.format("\"%s\",%d,%s,%s%n", entry.getKey(), measurement.getKey(), measurement.getValue(),
+                        getEfficiency(entry.getKey(), measurement.getKey())));
+            }
+        }
+        return csv.toString();
+    }
+
+    @Override
+    public String toString() {
+        TreeSet<Integer> threads = new TreeSet<>();
+        throughputs.values().forEach(t -> threads.addAll(t.keySet()));
+        int width = throughputs.keySet().stream().mapToInt(String::length).max().orElse(9);
+        StringBuilder table = new StringBuilder(String.format("%-" + width + "s", "Benchmark"));
+        threads.forEach(t -> table.append(String.format("  %8s", t + "T")));
+        table.append(System.lineSeparator());
+        for (String benchmark : throughputs.keySet()) {
+            table.append(String.format("%-" + width + "s", benchmark));
+            threads.forEach(t -> table.append(String.format("  %7.1f%%", 100 * getEfficiency(benchmark, t))));
+            table.append(System.lineSeparator());
+        }
+        return table.toString();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.performance.scaling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScalingReportTest {
+
+    @Test
+    void shouldComputeEfficiencyRelativeToSingleThread() {
+        // given
+        ScalingReport report = new ScalingReport();
+        report.add("a", 1, 100.0);
+        report.add("a", 2, 200.0);
+        report.add("a", 4, 200.0);
+
+        // when / then
+        assertThat(report.getEfficiency("a", 1)).isEqualTo(1.0);
+        assertThat(report.getEfficiency("a", 2)).isEqualTo(1.0);
+        assertThat(report.getEfficiency("a", 4)).isEqualTo(0.5);
+    }
+
+    @Test
+    void shouldFindBenchmarksScalingBelowMinimalEfficiency() {
+        // given
+        ScalingReport report = new ScalingReport();
+        report.add("linear", 1, 100.0);
+        report.add("linear", 4, 390.0);
+        report.add("contended", 1, 100.0);
+        report.add("contended", 4, 120.0);
+
+        // when
+        List<String> violations = report.findBelow(0.8);
+
+        // then
+        assertThat(violations).containsExactly("contended: efficiency 0.30 at 4 threads");
+    }
+
+    @Test
+    void shouldUseDoublingThreadCountsUpToMaximum() {
+        // when / then
+        assertThat(ThreadScalingTest.getThreadCounts(1)).containsExactly(1);
+        assertThat(ThreadScalingTest.getThreadCounts(8)).containsExactly(1, 2, 4, 8);
+        assertThat(ThreadScalingTest.getThreadCounts(12)).containsExactly(1, 2, 4, 8, 12);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.performance.scaling;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs scenarios of {@link com.sabre.oss.yare.performance.suits.AbstractPerformanceTest} at 1, 2, 4, ... threads
+ * sharing single engine instance and reports throughput scaling efficiency of each scenario.
+ * <p>
+ * Supported system properties:
+ * <ul>
+ * <li>{@value #SCENARIOS_PROPERTY} - regular expression selecting benchmarks, all scenarios by default,</li>
+ * <li>{@value #MAX_THREADS_PROPERTY} - highest number of threads, number of available processors by default,</li>
+ * <li>{@value #NUMBER_OF_RULES_PROPERTY} and {@value #NUMBER_OF_FACTS_PROPERTY} - size of scenarios, 50 by default,</li>
+ * <li>{@value #MINIMAL_EFFICIENCY_PROPERTY} - efficiency below which the test fails, 0 (report only) by default.</li>
+ * </ul>
+ * Results are stored in {@code benchmarks/scaling-results.csv}.
+ */
+public class ThreadScalingTest {
+    static final String SCENARIOS_PROPERTY = "yare.performance.scenarios";
+    static final String MAX_THREADS_PROPERTY = "yare.performance.maxThreads";
+    static final String NUMBER_OF_RULES_PROPERTY = "yare.performance.numberOfRules";
+    static final String NUMBER_OF_FACTS_PROPERTY = "yare.performance.numberOfFacts";
+    static final String MINIMAL_EFFICIENCY_PROPERTY = "yare.performance.minimalScalingEfficiency";
+
+    private static final String DEFAULT_SCENARIOS = "com\\.sabre\\.oss\\.yare\\.performance\\.suits\\..*\\.benchmarkTest$";
+
+    @Test
+    public void runBenchmarks() throws RunnerException, IOException {
+        int maxThreads = Integer.getInteger(MAX_THREADS_PROPERTY, Runtime.getRuntime().availableProcessors());
+        double minimalEfficiency = Double.parseDouble(System.getProperty(MINIMAL_EFFICIENCY_PROPERTY, "0"));
+
+        ScalingReport report = new ScalingReport();
+        for (int threads : getThreadCounts(maxThreads)) {
+            for (RunResult result : new Runner(getOptions(threads)).run()) {
+                report.add(describe(result.getParams()), threads, result.getPrimaryResult().getScore());
+            }
+        }
+
+        Path results = Paths.get("benchmarks", "scaling-results.csv");
+        Files.createDirectories(results.getParent());
+        Files.write(results, report.toCsv().getBytes(StandardCharsets.UTF_8));
+        System.out.println(report);
+        assertThat(report.findBelow(minimalEfficiency)).isEmpty();
+    }
+
+    static List<Integer> getThreadCounts(int maxThreads) {
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int threads = 1; threads < maxThreads; threads *= 2) {
+            threadCounts.add(threads);
+        }
+        threadCounts.add(maxThreads);
+        return threadCounts;
+    }
+
+    private Options getOptions(int threads) {
+        return new OptionsBuilder()
+                .include(System.getProperty(SCENARIOS_PROPERTY, DEFAULT_SCENARIOS))
+                .mode(Mode.Throughput)
+                .timeUnit(SECONDS)
+                .warmupIterations(2)
+                .warmupTime(TimeValue.seconds(2))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(2))
+                .threads(threads)
+                .warmupForks(0)
+                .forks(1)
+                .shouldFailOnError(true)
+                .shouldDoGC(true)
+                .param("numberOfRules", System.getProperty(NUMBER_OF_RULES_PROPERTY, "50"))
+                .param("numberOfFacts", System.getProperty(NUMBER_OF_FACTS_PROPERTY, "50"))
+                .jvmArgs("-server", "-Xms2048M", "-Xmx2048M", "-XX:+UseG1GC")
+                .build();
+    }
+
+    private static String describe(BenchmarkParams params) {
+        String benchmark = params.getBenchmark();
+        String name = benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+        return params.getParamsKeys().isEmpty()
+                ? name
+                : name + params.getParamsKeys().stream()
+                .map(key -> key + '=' + params.getParam(key))
+                .collect(Collectors.joining(",", ":", ""));
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.performance.suits;
+
+import com.sabre.oss.yare.core.call.Argument;
+import com.sabre.oss.yare.core.call.ArgumentValueResolver;
+import com.sabre.oss.yare.core.call.BatchCallable;
+import com.sabre.oss.yare.core.call.ProcessingInvocation;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.invoker.java.js.JavaScriptCallMetadata;
+import jdk.nashorn.api.scripting.NashornScriptEngineFactory;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import javax.script.Invocable;
+import javax.script.ScriptEngine;
+import javax.script.ScriptException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Compares cost of calling JavaScript functions through {@link JavaScriptCallMetadata} invocations, which reuse
+ * compiled scripts, with evaluating the script by a new script engine for each call, and calls made one by one
+ * with calls made in batches.
+ */
+public class JavaScriptInvocationTest extends AbstractPerformanceTest {
+    private static final int BATCH_SIZE = 100;
+    private static final String SCRIPT = "" +
+            "function concat(code, count) {\n" +
+            "    return code.length + count > 0 ? code + count : null;\n" +
+            "}\n";
+
+    @Test
+    @Override
+    public void runBenchmarks() throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(this.getClass().getSimpleName())
+                .mode(Mode.AverageTime)
+                .timeUnit(MICROSECONDS)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(2))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .threads(1)
+                .forks(1)
+                .shouldFailOnError(true)
+                .result("benchmarks/javascript-invocation-results.csv")
+                .resultFormat(ResultFormatType.CSV)
+                .jvmArgs("-server", "-Xms1024M", "-Xmx1024M", "-XX:+UseG1GC")
+                .build();
+        new Runner(opt).run();
+    }
+
+    @Benchmark
+    public Object functionWithInvocation(Context context) {
+        return context.function.proceed(context.processingContext);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public Object functionCallsOneByOne(Context context) {
+        Object result = null;
+        for (Object[] args : context.batch) {
+            result = context.function.call(context.processingContext, args);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public Object functionCallsInBatch(Context context) {
+        return ((BatchCallable) context.function).callBatch(context.batchArguments);
+    }
+
+    @Benchmark
+    public Object functionWithNewScriptEngine(Context context) throws ScriptException, NoSuchMethodException {
+        ScriptEngine scriptEngine = context.scriptEngineFactory.getScriptEngine();
+        scriptEngine.eval(SCRIPT);
+        return ((Invocable) scriptEngine).invokeFunction("concat", context.resolve("code"), context.resolve("count"));
+    }
+
+    @State(Scope.Thread)
+    public static class Context {
+        NashornScriptEngineFactory scriptEngineFactory;
+        ProcessingInvocation<Object> function;
+        PredicateContext processingContext;
+        List<Object[]> batch;
+        List<List<Object>> batchArguments;
+
+        @Setup
+        public void setup() {
+            scriptEngineFactory = new NashornScriptEngineFactory();
+            ArgumentValueResolver resolver = (variableResolver, argument) -> variableResolver.resolve(((Argument.Reference) argument).getReference());
+            function = (ProcessingInvocation<Object>) JavaScriptCallMetadata.js("concat", SCRIPT).getInvocationFactory().create(() -> resolver,
+                    Argument.invocationOf("concat", String.class, "concat", reference("code", String.class), reference("count", Integer.class)));
+
+            Map<String, Object> facts = new HashMap<>();
+            facts.put("code", "KRK");
+            facts.put("count", 3);
+            processingContext = new PredicateContext("rule", new ArrayList<>(), facts, Collections.emptyMap(), null);
+
+            batch = new ArrayList<>(BATCH_SIZE);
+            batchArguments = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                Object[] args = {"KRK", i};
+                batch.add(args);
+                batchArguments.add(Arrays.asList(args));
+            }
+        }
+
+        Object resolve(String name) {
+            return processingContext.resolve(name);
+        }
+
+        private static Argument reference(String name, Class<?> type) {
+            return Argument.referenceOf(name, type, type, name);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.performance.suits;
+
+import com.sabre.oss.yare.core.call.Argument;
+import com.sabre.oss.yare.core.call.ArgumentValueResolver;
+import com.sabre.oss.yare.core.call.ProcessingContext;
+import com.sabre.oss.yare.core.invocation.Invocation;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.invoker.java.MethodCallMetadata;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Compares cost of calling functions and actions through {@link MethodCallMetadata} invocations with calling
+ * the same methods with {@link MethodHandle#invokeWithArguments(Object...)} and directly.
+ */
+public class MethodInvocationTest extends AbstractPerformanceTest {
+
+    @Test
+    @Override
+    public void runBenchmarks() throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(this.getClass().getSimpleName())
+                .mode(Mode.AverageTime)
+                .timeUnit(NANOSECONDS)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .threads(1)
+                .forks(1)
+                .shouldFailOnError(true)
+                .result("benchmarks/method-invocation-results.csv")
+                .resultFormat(ResultFormatType.CSV)
+                .jvmArgs("-server", "-Xms1024M", "-Xmx1024M", "-XX:+UseG1GC")
+                .build();
+        new Runner(opt).run();
+    }
+
+    @Benchmark
+    public Object functionWithInvokeWithArguments(Context context) {
+        return invokeWithArguments(context.functionHandle, context.resolve("code"), context.resolve("count"));
+    }
+
+    @Benchmark
+    public Object functionWithInvocation(Context context) {
+        return context.function.proceed(context.processingContext);
+    }
+
+    @Benchmark
+    public Object functionDirectly(Context context) {
+        return context.target.concat((String) context.resolve("code"), (Integer) context.resolve("count"));
+    }
+
+    @Benchmark
+    public void actionWithInvokeWithArguments(Context context, Blackhole blackhole) {
+        blackhole.consume(invokeWithArguments(context.actionHandle, context.resolve("ctx"), context.resolve("code"), context.resolve("count")));
+    }
+
+    @Benchmark
+    public void actionWithInvocation(Context context, Blackhole blackhole) {
+        blackhole.consume(context.action.proceed(context.processingContext));
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void actionDirectly(Context context) {
+        context.target.collect((List<Object>) context.resolve("ctx"), (String) context.resolve("code"), (Integer) context.resolve("count"));
+    }
+
+    private static Object invokeWithArguments(MethodHandle methodHandle, Object... args) {
+        try {
+            return methodHandle.invokeWithArguments(args);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static class Target {
+
+        public String concat(String code, Integer count) {
+            return code.length() + count > 0 ? code : null;
+        }
+
+        public void collect(List<Object> results, String code, Integer count) {
+            if (results.size() > 1024) {
+                results.clear();
+            }
+            results.add(code);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Context {
+        Target target;
+        MethodHandle functionHandle;
+        MethodHandle actionHandle;
+        Invocation<ProcessingContext, Object> function;
+        Invocation<ProcessingContext, Void> action;
+        PredicateContext processingContext;
+
+        @Setup
+        public void setup() throws ReflectiveOperationException {
+            target = new Target();
+            Method concat = Target.class.getMethod("concat", String.class, Integer.class);
+            Method collect = Target.class.getMethod("collect", List.class, String.class, Integer.class);
+            functionHandle = MethodHandles.publicLookup().unreflect(concat).bindTo(target);
+            actionHandle = MethodHandles.publicLookup().unreflect(collect).bindTo(target);
+
+            ArgumentValueResolver resolver = (variableResolver, argument) -> variableResolver.resolve(((Argument.Reference) argument).getReference());
+            function = MethodCallMetadata.method(target, concat).getInvocationFactory().create(() -> resolver,
+                    Argument.invocationOf("concat", String.class, "concat", reference("code", String.class), reference("count", Integer.class)));
+            action = MethodCallMetadata.method(target, collect).getInvocationFactory().create(() -> resolver,
+                    Argument.invocationOf("collect", void.class, "collect", reference("ctx", List.class), reference("code", String.class),
+                            reference("count", Integer.class)));
+
+            Map<String, Object> facts = new HashMap<>();
+            facts.put("code", "KRK");
+            facts.put("count", 3);
+            processingContext = new PredicateContext("rule", new ArrayList<>(), facts, Collections.emptyMap(), null);
+        }
+
+        Object resolve(String name) {
+            return processingContext.resolve(name);
+        }
+
+        private static Argument reference(String name, Class<?> type) {
+            return Argument.referenceOf(name, type, type, name);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.performance.suits;
+
+import com.sabre.oss.yare.core.model.Attribute;
+import com.sabre.oss.yare.core.model.Expression;
+import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.dsl.RuleDsl;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static com.sabre.oss.yare.dsl.RuleDsl.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that a large repository of rules keeps a single instance of each of the facts, attributes
+ * and predicate sub-trees shared by its rules, and measures the heap retained by its rules.
+ */
+public class RuleModelFootprintTest {
+    private static final int NUMBER_OF_RULES = 100_000;
+    private static final long MAX_RETAINED_BYTES_PER_RULE = 600;
+
+    @Test
+    public void shouldShareModelObjectsOfRules() {
+        // when
+        List<Rule> rules = createRules();
+
+        // then
+        Set<Object> predicates = identitySet();
+        Set<Object> sharedConditions = identitySet();
+        Set<Object> facts = identitySet();
+        Set<Object> attributes = identitySet();
+        for (Rule rule : rules) {
+            Expression.Operator predicate = (Expression.Operator) rule.getPredicate();
+            predicates.add(predicate);
+            sharedConditions.addAll(predicate.getArguments().subList(1, 3));
+            facts.addAll(rule.getFacts());
+            for (Attribute attribute : rule.getAttributes()) {
+                if (!"ruleName".equals(attribute.getName())) {
+                    attributes.add(attribute);
+                }
+            }
+        }
+        assertThat(rules).hasSize(NUMBER_OF_RULES);
+        assertThat(predicates).hasSize(100);
+        assertThat(sharedConditions).hasSize(2);
+        assertThat(facts).hasSize(2);
+        assertThat(attributes).hasSize(11);
+    }
+
+    @Test
+    public void shouldRetainLittleHeapPerRule() {
+        // given
+        long before = usedHeapAfterGc();
+
+        // when
+        List<Rule> rules = createRules();
+
+        // then
+        long retainedPerRule = (usedHeapAfterGc() - before) / rules.size();
+        assertThat(rules).hasSize(NUMBER_OF_RULES);
+        assertThat(retainedPerRule).isLessThan(MAX_RETAINED_BYTES_PER_RULE);
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            used = Math.min(used, memory.getHeapMemoryUsage().getUsed());
+        }
+        return used;
+    }
+
+    private static List<Rule> createRules() {
+        List<Rule> rules = new ArrayList<>(NUMBER_OF_RULES);
+        for (int i = 0; i < NUMBER_OF_RULES; i++) {
+            rules.add(RuleDsl.ruleBuilder()
+                    .name("Rule " + i)
+                    .attribute("priority", (long) (i % 10))
+                    .attribute("active", true)
+                    .fact("flight", Flight.class)
+                    .fact("airline", Airline.class)
+                    .predicate(
+                            and(
+                                    equal(
+                                            value("${flight.carrier}"),
+                                            value("C" + (i % 100))
+                                    ),
+                                    greater(
+                                            value("${flight.distance}"),
+                                            value(1000)
+                                    ),
+                                    containsAny(
+                                            castToCollection(value("${airline.alliances}"), String.class),
+                                            values(String.class, value("Star Alliance"), value("oneworld"))
+                                    )
+                            )
+                    )
+                    .action("collect",
+                            param("context", value("${ctx}")),
+                            param("fact", value("${flight}")))
+                    .build());
+        }
+        return rules;
+    }
+
+    private static Set<Object> identitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    public static class Flight {
+        public String carrier;
+        public Integer distance;
+    }
+
+    public static class Airline {
+        public List<String> alliances;
+    }
+}
@@ -40,7 +40,7 @@ class AttributeConverter {
         if (attribute == null) {
             return null;
         }
-        return new Attribute(
+        return Attribute.of(
                 attribute.getName(),
                 typeConverter.fromString(Type.class, attribute.getType()),
                 attribute.getValue());
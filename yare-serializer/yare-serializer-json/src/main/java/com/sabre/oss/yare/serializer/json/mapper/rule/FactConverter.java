@@ -40,7 +40,7 @@ class FactConverter {
         if (fact == null) {
             return null;
         }
-        return new Fact(
+        return Fact.of(
                 fact.getName(),
                 typeConverter.fromString(Type.class, fact.getType()));
     }
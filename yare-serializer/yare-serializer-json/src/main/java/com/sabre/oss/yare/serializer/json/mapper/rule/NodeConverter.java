@@ -92,7 +92,7 @@ class NodeConverter {
     }
 
     private Converter<Operator> createOperatorConverter() {
-        return (name, input) -> operatorOf(name, Boolean.class, input.getType(), convert(input.getOperands()));
+        return (name, input) -> operatorOf(name, Expression.Operator.typeOf(input.getType()), input.getType(), convert(input.getOperands()));
     }
 
     private Converter<Parameter> createParameterConverter() {
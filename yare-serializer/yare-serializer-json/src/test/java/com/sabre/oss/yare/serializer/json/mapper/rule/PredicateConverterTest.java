@@ -305,5 +305,35 @@ class PredicateConverterTest {
             ));
             assertThat(expression).isEqualTo(expected);
         }
+
+        @Test
+        void shouldConvertValueOperatorWithUndefinedType() {
+            Operator toConvert = new Operator()
+                    .withType("less")
+                    .withOperands(
+                            new Operator()
+                                    .withType("add")
+                                    .withOperands(
+                                            new Value()
+                                                    .withValue("${fact.field}"),
+                                            new Value()
+                                                    .withValue(1)
+                                                    .withType("Integer")),
+                            new Value()
+                                    .withValue(10)
+                                    .withType("Integer")
+                    );
+
+            Expression expression = predicateConverter.convert(toConvert);
+
+            Expression.Operator expected = operatorOf(null, Boolean.class, "less", Arrays.asList(
+                    operatorOf(null, Expression.UNDEFINED, "add", Arrays.asList(
+                            valueOf(null, String.class, "${fact.field}"),
+                            valueOf(null, Integer.class, 1)
+                    )),
+                    valueOf(null, Integer.class, 10)
+            ));
+            assertThat(expression).isEqualTo(expected);
+        }
     }
 }
@@ -72,12 +72,12 @@ class AttributeConverter implements Mapper<AttributeSer, Attribute> {
             attributeValue = type == Expression.Undefined.class ? v : typeConverter.fromString(type, v);
         }
 
-        return new Attribute(name, type, attributeValue);
+        return Attribute.of(name, type, attributeValue);
     }
 
     private Attribute convertCustomValue(String name, CustomValueSer customValue) {
         Type type = getType(customValue.getType());
-        return new Attribute(name, type, customValue.getAny());
+        return Attribute.of(name, type, customValue.getAny());
     }
 
     private Type getType(String type) {
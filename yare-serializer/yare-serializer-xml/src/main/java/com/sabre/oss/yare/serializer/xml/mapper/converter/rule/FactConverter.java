@@ -42,6 +42,6 @@ class FactConverter implements Mapper<FactSer, Fact> {
 
     @Override
     public Fact map(FactSer fact) {
-        return new Fact(fact.getName(), typeConverter.fromString(Type.class, fact.getType()));
+        return Fact.of(fact.getName(), typeConverter.fromString(Type.class, fact.getType()));
     }
 }
@@ -50,6 +50,7 @@ class NodeConverter {
         converterRegistry.add(ValuesSer.class, createValuesConverter());
         converterRegistry.add(FunctionSer.class, createFunctionConverter());
         converterRegistry.add(OperatorSer.class, createOperatorConverter());
+        converterRegistry.add(OperationSer.class, createOperationConverter());
         converterRegistry.add(AndSer.class, createAndConverter());
         converterRegistry.add(OrSer.class, createOrConverter());
         converterRegistry.add(NotSer.class, createNotConverter());
@@ -101,7 +102,11 @@ class NodeConverter {
     }
 
     private Converter<OperatorSer> createOperatorConverter() {
-        return (name, input) -> operatorOf(name, Boolean.class, input.getType(), convert(input.getOperand()));
+        return (name, input) -> operatorOf(name, Expression.Operator.typeOf(input.getType()), input.getType(), convert(input.getOperand()));
+    }
+
+    private Converter<OperationSer> createOperationConverter() {
+        return (name, input) -> operatorOf(name, Expression.Operator.typeOf(input.getType()), input.getType(), convert(input.getOperand()));
     }
 
     private Converter<AndSer> createAndConverter() {
@@ -136,7 +141,8 @@ class NodeConverter {
                 ParameterSer::getValue,
                 ParameterSer::getValues,
                 ParameterSer::getCustomValue,
-                ParameterSer::getFunction);
+                ParameterSer::getFunction,
+                ParameterSer::getOperation);
 
         return (name, input) -> {
             Object p = getters.stream()
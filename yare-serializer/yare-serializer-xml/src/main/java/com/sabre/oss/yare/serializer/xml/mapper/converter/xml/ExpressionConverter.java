@@ -113,6 +113,11 @@ class ExpressionConverter {
                     case "not":
                         return convertNot(arguments.get(0));
                     default:
+                        if (Expression.Operator.VALUE_OPERATORS.contains(call)) {
+                            return new OperationSer()
+                                    .withType(call)
+                                    .withOperand(arguments);
+                        }
                         return new OperatorSer()
                                 .withType(call)
                                 .withOperand(arguments);
@@ -145,6 +150,8 @@ class ExpressionConverter {
             parameterSer.withCustomValue((CustomValueSer) o);
         } else if (o instanceof FunctionSer) {
             parameterSer.withFunction((FunctionSer) o);
+        } else if (o instanceof OperationSer) {
+            parameterSer.withOperation((OperationSer) o);
         }
 
         return parameterSer;
@@ -195,6 +195,20 @@ class RuleToXmlConverterTest {
         assertThat(rule).isEqualTo(validRule);
     }
 
+    @Test
+    void shouldMarshalAndUnmarshalRuleWithOperations() {
+        // given
+        Rule validRule = toRuleConverter.map(TestRuleFactory.constructValidRuleWithOperations());
+
+        // when
+        String data = converter.marshal(validRule);
+        Rule rule = converter.unmarshal(data);
+
+        // then
+        assertThat(data).contains("<yare:Operation type=\"add\">", "<yare:Operation type=\"length\">");
+        assertThat(rule).isEqualTo(validRule);
+    }
+
     @Test
     void shouldUnmarshalRuleConsistentWithSchema() {
         // when
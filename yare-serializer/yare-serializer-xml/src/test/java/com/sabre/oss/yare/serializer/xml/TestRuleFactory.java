@@ -47,6 +47,31 @@ final class TestRuleFactory {
         return new Rule(Collections.emptySet(), Collections.emptyList(), null, Collections.emptyList());
     }
 
+    static RuleSer constructValidRuleWithOperations() {
+        return new RuleSer()
+                .withFact(new FactSer().withName("fact").withType("com.sabre.oss.yare.serializer.xml.fact.SimpleFact"))
+                .withAttribute(new AttributeSer()
+                        .withName("ruleName")
+                        .withValue(new ValueSer()
+                                .withType("String")
+                                .withValue("RuleName")))
+                .withPredicate(new PredicateSer()
+                        .withOperator(new OperatorSer()
+                                .withType("less")
+                                .withOperand(new OperationSer()
+                                        .withType("add")
+                                        .withOperand(new OperationSer()
+                                                .withType("length")
+                                                .withOperand(new ValueSer().withValue("${fact.stringField}")))
+                                        .withOperand(new ValueSer().withType("Integer").withValue("1")))
+                                .withOperand(new ValueSer().withType("Integer").withValue("10"))))
+                .withAction(new ActionSer()
+                        .withName("action")
+                        .withParameter(new ParameterSer()
+                                .withName("param")
+                                .withValue(new ValueSer().withValue("${fact}"))));
+    }
+
     static RuleSer constructValidRuleWithBuildInObjectTypes() {
         return new RuleSer()
                 .withFact(new FactSer().withName("fact").withType("com.sabre.oss.yare.serializer.xml.fact.SimpleFact"))